@@ -22,6 +22,10 @@ public interface Batch {
 
     String HISTORIC_CASE_DELETE_TYPE = "historicCaseDelete";
 
+    String TASK_BULK_ACTION_TYPE = "taskBulkAction";
+
+    String SIGNAL_BROADCAST_TYPE = "signalBroadcast";
+
     String getId();
 
     String getBatchType();
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -112,9 +113,16 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     protected static Map<String, BaseBpmnXMLConverter> convertersToBpmnMap = new HashMap<>();
     protected static Map<Class<? extends BaseElement>, BaseBpmnXMLConverter> convertersToXMLMap = new HashMap<>();
 
+    /**
+     * Compiled schemas by the url of the xsd they were created from. A {@link Schema} is immutable and thread-safe,
+     * so compiling the BPMN xsd once is enough (only the {@link Validator} needs to be created for every validation).
+     */
+    protected static final ConcurrentMap<String, Schema> SCHEMA_CACHE = new ConcurrentHashMap<>();
+
     protected ClassLoader classloader;
     protected List<String> userTaskFormTypes;
     protected List<String> startEventFormTypes;
+    protected boolean skipDiagramInterchange;
 
     protected BpmnEdgeParser bpmnEdgeParser = new BpmnEdgeParser();
     protected BpmnShapeParser bpmnShapeParser = new BpmnShapeParser();
@@ -216,6 +224,14 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
         this.startEventFormTypes = startEventFormTypes;
     }
 
+    /**
+     * When set, the BPMN DI shapes and edges (bounds, waypoints and labels) are skipped while parsing.
+     * The resulting {@link BpmnModel} is complete for execution, but has no graphic info to render it.
+     */
+    public void setSkipDiagramInterchange(boolean skipDiagramInterchange) {
+        this.skipDiagramInterchange = skipDiagramInterchange;
+    }
+
     public void validateModel(InputStreamProvider inputStreamProvider) throws Exception {
         Schema schema = createSchema();
 
@@ -231,19 +247,29 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     }
 
     protected Schema createSchema() throws SAXException {
-        SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = null;
+        URL xsdUrl = null;
         if (classloader != null) {
-            schema = factory.newSchema(classloader.getResource(BPMN_XSD));
+            xsdUrl = classloader.getResource(BPMN_XSD);
         }
 
-        if (schema == null) {
-            schema = factory.newSchema(BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD));
+        if (xsdUrl == null) {
+            xsdUrl = BpmnXMLConverter.class.getClassLoader().getResource(BPMN_XSD);
         }
 
-        if (schema == null) {
+        if (xsdUrl == null) {
             throw new XMLException("BPMN XSD could not be found");
         }
+
+        String cacheKey = xsdUrl.toExternalForm();
+        Schema schema = SCHEMA_CACHE.get(cacheKey);
+        if (schema == null) {
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            schema = factory.newSchema(xsdUrl);
+            Schema existingSchema = SCHEMA_CACHE.putIfAbsent(cacheKey, schema);
+            if (existingSchema != null) {
+                schema = existingSchema;
+            }
+        }
         return schema;
     }
 
@@ -421,10 +447,14 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
                     }
 
                 } else if (ELEMENT_DI_SHAPE.equals(xtr.getLocalName())) {
-                    bpmnShapeParser.parse(xtr, model);
+                    if (!skipDiagramInterchange) {
+                        bpmnShapeParser.parse(xtr, model);
+                    }
 
                 } else if (ELEMENT_DI_EDGE.equals(xtr.getLocalName())) {
-                    bpmnEdgeParser.parse(xtr, model);
+                    if (!skipDiagramInterchange) {
+                        bpmnEdgeParser.parse(xtr, model);
+                    }
 
                 } else {
 
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.editor.language.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+
+import javax.xml.validation.Schema;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.impl.util.io.InputStreamSource;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+
+class DiagramInterchangeConverterTest {
+
+    protected static final String START_EVENT_ID = "sid-F07C46E4-656A-4593-9163-704323134550";
+
+    @Test
+    void convertWithDiagramInterchange() throws Exception {
+        BpmnModel model = readModel(new BpmnXMLConverter());
+
+        assertThat(model.getFlowElement(START_EVENT_ID)).isNotNull();
+        assertThat(model.getLocationMap()).hasSize(7);
+        assertThat(model.getFlowLocationMap()).hasSize(4);
+    }
+
+    @Test
+    void convertWithoutDiagramInterchange() throws Exception {
+        BpmnXMLConverter converter = new BpmnXMLConverter();
+        converter.setSkipDiagramInterchange(true);
+        BpmnModel model = readModel(converter);
+
+        assertThat(model.getFlowElement(START_EVENT_ID)).isNotNull();
+        assertThat(model.getPools()).hasSize(1);
+        assertThat(model.getLocationMap()).isEmpty();
+        assertThat(model.getFlowLocationMap()).isEmpty();
+        assertThat(model.getLabelLocationMap()).isEmpty();
+    }
+
+    @Test
+    void schemaIsCreatedOnce() throws Exception {
+        SchemaExposingBpmnXMLConverter converter = new SchemaExposingBpmnXMLConverter();
+
+        assertThat(converter.createSchema()).isSameAs(new SchemaExposingBpmnXMLConverter().createSchema());
+    }
+
+    protected BpmnModel readModel(BpmnXMLConverter converter) throws Exception {
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream("pool-with-extensions.bpmn")) {
+            return converter.convertToBpmnModel(new InputStreamSource(is), true, true, "UTF-8");
+        }
+    }
+
+    protected static class SchemaExposingBpmnXMLConverter extends BpmnXMLConverter {
+
+        @Override
+        public Schema createSchema() throws SAXException {
+            return super.createSchema();
+        }
+    }
+}
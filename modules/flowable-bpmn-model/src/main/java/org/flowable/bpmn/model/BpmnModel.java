@@ -663,4 +663,40 @@ public class BpmnModel {
     public void setExporterVersion(String exporterVersion) {
         this.exporterVersion = exporterVersion;
     }
+
+    /**
+     * Creates a copy of this model with its own maps and lists. The processes and other elements in them are not copied,
+     * so the copy can get additional entries (e.g. graphic info) without changing this model.
+     */
+    public BpmnModel shallowCopy() {
+        BpmnModel copy = new BpmnModel();
+        copy.definitionsAttributes = new LinkedHashMap<>(definitionsAttributes);
+        copy.processes = new ArrayList<>(processes);
+        copy.locationMap = new LinkedHashMap<>(locationMap);
+        copy.labelLocationMap = new LinkedHashMap<>(labelLocationMap);
+        copy.flowLocationMap = new LinkedHashMap<>(flowLocationMap);
+        copy.edgeMap = new LinkedHashMap<>(edgeMap);
+        copy.signals = new ArrayList<>(signals);
+        copy.messageFlowMap = new LinkedHashMap<>(messageFlowMap);
+        copy.messageMap = new LinkedHashMap<>(messageMap);
+        copy.variableListenerToActivityMap = new HashMap<>(variableListenerToActivityMap);
+        copy.errorMap = new LinkedHashMap<>(errorMap);
+        copy.escalationMap = new LinkedHashMap<>(escalationMap);
+        copy.itemDefinitionMap = new LinkedHashMap<>(itemDefinitionMap);
+        copy.dataStoreMap = new LinkedHashMap<>(dataStoreMap);
+        copy.pools = new ArrayList<>(pools);
+        copy.imports = new ArrayList<>(imports);
+        copy.interfaces = new ArrayList<>(interfaces);
+        copy.globalArtifacts = new ArrayList<>(globalArtifacts);
+        copy.resources = new ArrayList<>(resources);
+        copy.namespaceMap = new LinkedHashMap<>(namespaceMap);
+        copy.targetNamespace = targetNamespace;
+        copy.sourceSystemId = sourceSystemId;
+        copy.userTaskFormTypes = userTaskFormTypes != null ? new ArrayList<>(userTaskFormTypes) : null;
+        copy.startEventFormTypes = startEventFormTypes != null ? new ArrayList<>(startEventFormTypes) : null;
+        copy.eventSupport = eventSupport;
+        copy.exporter = exporter;
+        copy.exporterVersion = exporterVersion;
+        return copy;
+    }
 }
@@ -296,6 +296,7 @@ import org.flowable.identitylink.service.impl.db.IdentityLinkDbSchemaManager;
 import org.flowable.idm.api.IdmEngineConfigurationApi;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.idm.engine.configurator.IdmEngineConfigurator;
+import org.flowable.job.service.ExternalWorkerJobNotifier;
 import org.flowable.job.service.HistoryJobHandler;
 import org.flowable.job.service.InternalJobManager;
 import org.flowable.job.service.InternalJobParentStateResolver;
@@ -317,6 +318,7 @@ import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.job.service.impl.history.async.sink.HistorySink;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.task.service.InternalTaskAssignmentManager;
 import org.flowable.task.service.InternalTaskVariableScopeResolver;
@@ -563,6 +565,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected List<AsyncRunnableExecutionExceptionHandler> customAsyncRunnableExecutionExceptionHandlers;
     protected boolean addDefaultExceptionHandler = true;
     protected FailedJobCommandFactory failedJobCommandFactory;
+    protected ExternalWorkerJobNotifier externalWorkerJobNotifier;
+    protected Duration externalWorkerJobMaxWaitTime = Duration.ofMinutes(1);
     protected InternalJobParentStateResolver internalJobParentStateResolver;
     protected List<String> enabledJobCategories;
     protected String jobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
@@ -677,6 +681,16 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorResetExpiredJobsMaxTimeout = 24 * 60 * 60 * 1000;
 
+    /**
+     * Acquire async and timer jobs with 'for update skip locked' (Postgres and MySQL 8+ only).
+     */
+    protected boolean skipLockedAcquisitionEnabled;
+
+    /**
+     * Reset a page of expired jobs with a single update, keeping their ids, instead of unacquiring every job.
+     */
+    protected boolean bulkResetExpiredJobsEnabled;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -695,6 +709,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
+    protected HistorySink asyncHistorySink;
+    protected boolean isAsyncHistoryDatabaseWriteEnabled = true;
 
     // More info: see similar async executor properties.
     protected int asyncHistoryExecutorNumberOfRetries = 10;
@@ -702,6 +718,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int asyncHistoryExecutorMaxPoolSize = 8;
     protected long asyncHistoryExecutorThreadKeepAliveTime = 5000L;
     protected int asyncHistoryExecutorThreadPoolQueueSize = 2048;
+    /**
+     * The number of acquired history jobs that the default async history executor executes together in one transaction.
+     * Higher values reduce the number of transactions and allow related history data to be written at once.
+     */
+    protected int asyncHistoryExecutorJobBatchSize = 1;
     protected BlockingQueue<Runnable> asyncHistoryExecutorThreadPoolQueue;
     protected long asyncHistoryExecutorSecondsToWaitOnShutdown = 60L;
 
@@ -862,6 +883,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initAsyncHistoryExecutor();
         initScriptingEngines();
         configuratorsAfterInit();
+        afterInitTaskServiceConfiguration();
         afterInitEventRegistryEventBusConsumer();
         
         initHistoryCleaningManager();
@@ -1429,6 +1451,13 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
     
+    public void afterInitTaskServiceConfiguration() {
+        IdmEngineConfigurationApi idmEngineConfiguration = (IdmEngineConfigurationApi) engineConfigurations.get(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG);
+        if (idmEngineConfiguration != null) {
+            this.taskServiceConfiguration.setGroupMembershipCache(idmEngineConfiguration.getGroupMembershipCache());
+        }
+    }
+
     public void afterInitEventRegistryEventBusConsumer() {
         EventRegistryEventConsumer cmmnEventRegistryEventConsumer = null;
         if (eventRegistryEventConsumer != null) {
@@ -1702,6 +1731,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     
     protected void initHistoryJobHandlers() {
         if (isAsyncHistoryEnabled) {
+            if (!isAsyncHistoryDatabaseWriteEnabled && asyncHistorySink == null) {
+                throw new FlowableException("The async history database write can only be disabled when an async history sink is set");
+            }
+
             historyJobHandlers = new HashMap<>();
             
             List<HistoryJsonTransformer> allHistoryJsonTransformers = new ArrayList<>(initDefaultHistoryJsonTransformers());
@@ -1712,11 +1745,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             AsyncHistoryJobHandler asyncHistoryJobHandler = new AsyncHistoryJobHandler(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             allHistoryJsonTransformers.forEach(asyncHistoryJobHandler::addHistoryJsonTransformer);
             asyncHistoryJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobHandler.setHistorySink(asyncHistorySink);
+            asyncHistoryJobHandler.setWriteHistoryToDatabase(isAsyncHistoryDatabaseWriteEnabled);
             historyJobHandlers.put(asyncHistoryJobHandler.getType(), asyncHistoryJobHandler);
 
             AsyncHistoryJobZippedHandler asyncHistoryJobZippedHandler = new AsyncHistoryJobZippedHandler(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             allHistoryJsonTransformers.forEach(asyncHistoryJobZippedHandler::addHistoryJsonTransformer);
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobZippedHandler.setHistorySink(asyncHistorySink);
+            asyncHistoryJobZippedHandler.setWriteHistoryToDatabase(isAsyncHistoryDatabaseWriteEnabled);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
             if (getCustomHistoryJobHandlers() != null) {
@@ -1814,6 +1851,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setSkipLockedAcquisitionEnabled(this.skipLockedAcquisitionEnabled);
+            this.jobServiceConfiguration.setBulkResetExpiredJobsEnabled(this.bulkResetExpiredJobsEnabled);
     
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1845,6 +1884,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.jobServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.jobServiceConfiguration.setBusinessCalendarManager(this.businessCalendarManager);
         this.jobServiceConfiguration.setFailedJobCommandFactory(this.failedJobCommandFactory);
+        this.jobServiceConfiguration.setExternalWorkerJobNotifier(this.externalWorkerJobNotifier);
+        this.jobServiceConfiguration.setExternalWorkerJobMaxWaitTime(this.externalWorkerJobMaxWaitTime);
 
         this.jobServiceConfiguration.init();
         
@@ -1978,6 +2019,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     
                 // Message queue mode
                 defaultAsyncHistoryExecutor.setMessageQueueMode(asyncHistoryExecutorMessageQueueMode);
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorJobBatchSize);
     
                 asyncHistoryExecutor = defaultAsyncHistoryExecutor;
                 
@@ -3219,6 +3261,33 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public ExternalWorkerJobNotifier getExternalWorkerJobNotifier() {
+        return externalWorkerJobNotifier;
+    }
+
+    /**
+     * Sets the {@link ExternalWorkerJobNotifier} that is notified when external worker jobs are created,
+     * e.g. to wake up external workers waiting on other nodes of a cluster.
+     * By default only the external workers waiting in this engine are woken up.
+     */
+    public CmmnEngineConfiguration setExternalWorkerJobNotifier(ExternalWorkerJobNotifier externalWorkerJobNotifier) {
+        this.externalWorkerJobNotifier = externalWorkerJobNotifier;
+        return this;
+    }
+
+    public Duration getExternalWorkerJobMaxWaitTime() {
+        return externalWorkerJobMaxWaitTime;
+    }
+
+    /**
+     * Sets the maximum time an external worker acquire request waits for jobs to be created.
+     * Requests asking for a longer wait time only wait this long. Default 1 minute.
+     */
+    public CmmnEngineConfiguration setExternalWorkerJobMaxWaitTime(Duration externalWorkerJobMaxWaitTime) {
+        this.externalWorkerJobMaxWaitTime = externalWorkerJobMaxWaitTime;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3586,6 +3655,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isSkipLockedAcquisitionEnabled() {
+        return skipLockedAcquisitionEnabled;
+    }
+
+    public CmmnEngineConfiguration setSkipLockedAcquisitionEnabled(boolean skipLockedAcquisitionEnabled) {
+        this.skipLockedAcquisitionEnabled = skipLockedAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isBulkResetExpiredJobsEnabled() {
+        return bulkResetExpiredJobsEnabled;
+    }
+
+    public CmmnEngineConfiguration setBulkResetExpiredJobsEnabled(boolean bulkResetExpiredJobsEnabled) {
+        this.bulkResetExpiredJobsEnabled = bulkResetExpiredJobsEnabled;
+        return this;
+    }
+
     /**
      * @deprecated use {@link AsyncJobExecutorConfiguration#getResetExpiredJobsPageSize()} via {@link #getAsyncExecutorConfiguration()}
      */
@@ -3712,6 +3799,31 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public HistorySink getAsyncHistorySink() {
+        return asyncHistorySink;
+    }
+
+    /**
+     * Sets a {@link HistorySink} to which all history data handled by the async history job handlers is passed.
+     */
+    public CmmnEngineConfiguration setAsyncHistorySink(HistorySink asyncHistorySink) {
+        this.asyncHistorySink = asyncHistorySink;
+        return this;
+    }
+
+    public boolean isAsyncHistoryDatabaseWriteEnabled() {
+        return isAsyncHistoryDatabaseWriteEnabled;
+    }
+
+    /**
+     * When disabled, the async history data is only passed to the {@link #setAsyncHistorySink(HistorySink) async history sink}
+     * and not stored in the history tables. The engine fails to start when this is disabled without an async history sink.
+     */
+    public CmmnEngineConfiguration setAsyncHistoryDatabaseWriteEnabled(boolean isAsyncHistoryDatabaseWriteEnabled) {
+        this.isAsyncHistoryDatabaseWriteEnabled = isAsyncHistoryDatabaseWriteEnabled;
+        return this;
+    }
+
     public int getAsyncHistoryJsonGroupingThreshold() {
         return asyncHistoryJsonGroupingThreshold;
     }
@@ -3787,6 +3899,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getAsyncHistoryExecutorJobBatchSize() {
+        return asyncHistoryExecutorJobBatchSize;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorJobBatchSize(int asyncHistoryExecutorJobBatchSize) {
+        this.asyncHistoryExecutorJobBatchSize = asyncHistoryExecutorJobBatchSize;
+        return this;
+    }
+
     /**
      * @deprecated use {@link AsyncJobExecutorConfiguration#getMaxAsyncJobsDuePerAcquisition()} via {@link #getAsyncHistoryExecutorConfiguration()}
      */
@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.api.delegate.event;
 
+import java.util.function.Supplier;
+
 /**
  * Dispatcher which allows for adding and removing {@link FlowableEventListener} s to the Flowable Engine as well as dispatching {@link FlowableEvent} to all the listeners registered.
  * 
@@ -55,6 +57,37 @@ public interface FlowableEventDispatcher {
      */
     void dispatchEvent(FlowableEvent event, String engineType);
 
+    /**
+     * Dispatches the event created by the given supplier. The event is only created when
+     * {@link #hasListeners(FlowableEventType, String) there are listeners} for the given event type.
+     *
+     * @param eventType
+     *            type of the event that the supplier creates
+     * @param eventSupplier
+     *            creates the event to dispatch
+     * @param engineType
+     *            type of engine to dispatch
+     */
+    default void dispatchEvent(FlowableEventType eventType, Supplier<? extends FlowableEvent> eventSupplier, String engineType) {
+        if (hasListeners(eventType, engineType)) {
+            dispatchEvent(eventSupplier.get(), engineType);
+        }
+    }
+
+    /**
+     * Returns whether an event of the given type, dispatched for the given engine type, could be passed to any listener.
+     * Callers can use this to avoid creating events nobody listens to.
+     * When false is returned, dispatching an event of the given type would have no effect.
+     *
+     * @param eventType
+     *            type of the event
+     * @param engineType
+     *            type of engine to dispatch
+     */
+    default boolean hasListeners(FlowableEventType eventType, String engineType) {
+        return true;
+    }
+
     /**
      * @param enabled
      *            true, if event dispatching should be enabled.
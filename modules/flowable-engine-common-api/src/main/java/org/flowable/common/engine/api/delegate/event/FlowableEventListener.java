@@ -46,6 +46,15 @@ public interface FlowableEventListener {
      * @return if non-null, indicates the point in the lifecycle of the current transaction when the event should be fired.
      */
     String getOnTransaction();
+
+    /**
+     * @return whether this event listener should be invoked on a separate thread once the current transaction has been committed,
+     *         instead of synchronously on the thread dispatching the event. Exceptions thrown by asynchronous listeners are logged and never
+     *         fail the operation. Asynchronous listeners are only invoked asynchronously when the engine has the async event listener bus enabled.
+     */
+    default boolean isAsynchronous() {
+        return false;
+    }
     
     /**
      * The event types that this event listener needs to be registered for
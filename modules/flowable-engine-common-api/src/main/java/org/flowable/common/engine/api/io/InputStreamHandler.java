@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Callback for processing content that is made available as an {@link InputStream}, e.g. content that is streamed from the database.
+ * The stream is only valid during the invocation of {@link #handle(InputStream)} and is closed by the caller afterwards.
+ *
+ * @param <T> the type of the result of the handler
+ */
+@FunctionalInterface
+public interface InputStreamHandler<T> {
+
+    T handle(InputStream inputStream) throws IOException;
+
+}
@@ -85,6 +85,7 @@ import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
 import org.flowable.common.engine.impl.db.MybatisTypeHandlerConfigurator;
 import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
+import org.flowable.common.engine.impl.event.AsyncFlowableEventBus;
 import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
@@ -106,6 +107,9 @@ import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCacheInvalidationBus;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -170,6 +174,19 @@ public abstract class AbstractEngineConfiguration {
     protected int jdbcPingConnectionNotUsedFor;
     protected int jdbcDefaultTransactionIsolationLevel;
     protected DataSource dataSource;
+
+    /**
+     * An optional read-only data source, typically a replica of the primary database, used for queries (list, count, ...) executed as their own command.
+     * Meant to take reporting and history reads away from the primary database, so these queries need to tolerate the replication lag.
+     */
+    protected DataSource readOnlyDataSource;
+
+    /**
+     * When true (the default), queries go to the primary data source once the command they are executed in has written changes,
+     * so the command reads its own writes.
+     */
+    protected boolean readOnlyDataSourceReadYourWrites = true;
+
     protected SchemaManager commonSchemaManager;
     protected SchemaManager schemaManager;
     protected Command<Void> schemaManagementCmd;
@@ -236,6 +253,20 @@ public abstract class AbstractEngineConfiguration {
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
+    /**
+     * The entity types for which the instances fetched by id are kept in a {@link SharedEntityCache}, shared by all transactions.
+     * Only meant for entities that are read a lot and rarely changed (e.g. identity users and groups), see {@link SharedEntityCache}.
+     * By default no shared entity cache is used.
+     */
+    protected Collection<Class<? extends Entity>> sharedEntityCacheEntityClasses;
+    protected int sharedEntityCacheMaxEntriesPerEntityType = 10000;
+    protected SharedEntityCache sharedEntityCache;
+
+    /**
+     * Distributes the invalidations of the {@link SharedEntityCache} to the other nodes. Needs to be set when multiple nodes use the same database.
+     */
+    protected SharedEntityCacheInvalidationBus sharedEntityCacheInvalidationBus;
+
     protected String mybatisMappingFile;
     protected Set<Class<?>> customMybatisMappers;
     protected Set<String> customMybatisXMLMappers;
@@ -255,6 +286,17 @@ public abstract class AbstractEngineConfiguration {
     protected Map<String, List<FlowableEventListener>> typedEventListeners;
     protected List<EventDispatchAction> additionalEventDispatchActions;
 
+    /**
+     * When enabled, event listeners returning true for {@link FlowableEventListener#isAsynchronous()} are invoked after the transaction
+     * has been committed, on the threads of the {@link #asyncEventBus}, instead of synchronously while executing the command.
+     */
+    protected boolean enableAsyncEventListeners;
+    protected int asyncEventListenerThreadCount = 2;
+    protected int asyncEventListenerQueueSize = 1024;
+    protected AsyncFlowableEventBus.OverflowPolicy asyncEventListenerOverflowPolicy = AsyncFlowableEventBus.OverflowPolicy.BLOCK;
+    protected AsyncFlowableEventBus asyncEventBus;
+    protected boolean shutdownAsyncEventBus;
+
     protected LoggingListener loggingListener;
 
     protected boolean transactionsExternallyManaged;
@@ -787,6 +829,16 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
 
+        initSharedEntityCache();
+        if (sharedEntityCache != null) {
+            dbSqlSessionFactory.setSharedEntityCache(sharedEntityCache);
+        }
+
+        if (readOnlyDataSource != null) {
+            dbSqlSessionFactory.setReadOnlyDataSource(readOnlyDataSource);
+            dbSqlSessionFactory.setReadOnlyDataSourceReadYourWrites(readOnlyDataSourceReadYourWrites);
+        }
+
         initDbSqlSessionFactoryEntitySettings();
 
         addSessionFactory(dbSqlSessionFactory);
@@ -796,6 +848,13 @@ public abstract class AbstractEngineConfiguration {
         return new DbSqlSessionFactory(usePrefixId);
     }
 
+    public void initSharedEntityCache() {
+        if (sharedEntityCache == null && sharedEntityCacheEntityClasses != null && !sharedEntityCacheEntityClasses.isEmpty()) {
+            sharedEntityCache = new SharedEntityCacheImpl(sharedEntityCacheEntityClasses, sharedEntityCacheMaxEntriesPerEntityType,
+                    sharedEntityCacheInvalidationBus);
+        }
+    }
+
     protected abstract void initDbSqlSessionFactoryEntitySettings();
 
     protected void defaultInitDbSqlSessionFactoryEntitySettings(List<Class<? extends Entity>> insertOrder, List<Class<? extends Entity>> deleteOrder) {
@@ -1081,6 +1140,11 @@ public abstract class AbstractEngineConfiguration {
     }
 
     public void close() {
+        if (asyncEventBus != null && shutdownAsyncEventBus) {
+            // Only shutdown if it was created by this configuration
+            asyncEventBus.shutdown();
+        }
+
         if (forceCloseMybatisConnectionPool && dataSource instanceof PooledDataSource) {
             /*
              * When the datasource is created by a Flowable engine (i.e. it's an instance of PooledDataSource),
@@ -1171,6 +1235,24 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public DataSource getReadOnlyDataSource() {
+        return readOnlyDataSource;
+    }
+
+    public AbstractEngineConfiguration setReadOnlyDataSource(DataSource readOnlyDataSource) {
+        this.readOnlyDataSource = readOnlyDataSource;
+        return this;
+    }
+
+    public boolean isReadOnlyDataSourceReadYourWrites() {
+        return readOnlyDataSourceReadYourWrites;
+    }
+
+    public AbstractEngineConfiguration setReadOnlyDataSourceReadYourWrites(boolean readOnlyDataSourceReadYourWrites) {
+        this.readOnlyDataSourceReadYourWrites = readOnlyDataSourceReadYourWrites;
+        return this;
+    }
+
     public SchemaManager getSchemaManager() {
         return schemaManager;
     }
@@ -1549,6 +1631,42 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public Collection<Class<? extends Entity>> getSharedEntityCacheEntityClasses() {
+        return sharedEntityCacheEntityClasses;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheEntityClasses(Collection<Class<? extends Entity>> sharedEntityCacheEntityClasses) {
+        this.sharedEntityCacheEntityClasses = sharedEntityCacheEntityClasses;
+        return this;
+    }
+
+    public int getSharedEntityCacheMaxEntriesPerEntityType() {
+        return sharedEntityCacheMaxEntriesPerEntityType;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheMaxEntriesPerEntityType(int sharedEntityCacheMaxEntriesPerEntityType) {
+        this.sharedEntityCacheMaxEntriesPerEntityType = sharedEntityCacheMaxEntriesPerEntityType;
+        return this;
+    }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+        return this;
+    }
+
+    public SharedEntityCacheInvalidationBus getSharedEntityCacheInvalidationBus() {
+        return sharedEntityCacheInvalidationBus;
+    }
+
+    public AbstractEngineConfiguration setSharedEntityCacheInvalidationBus(SharedEntityCacheInvalidationBus sharedEntityCacheInvalidationBus) {
+        this.sharedEntityCacheInvalidationBus = sharedEntityCacheInvalidationBus;
+        return this;
+    }
+
     public boolean isBulkInsertEnabled() {
         return isBulkInsertEnabled;
     }
@@ -1813,6 +1931,51 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isEnableAsyncEventListeners() {
+        return enableAsyncEventListeners;
+    }
+
+    public AbstractEngineConfiguration setEnableAsyncEventListeners(boolean enableAsyncEventListeners) {
+        this.enableAsyncEventListeners = enableAsyncEventListeners;
+        return this;
+    }
+
+    public int getAsyncEventListenerThreadCount() {
+        return asyncEventListenerThreadCount;
+    }
+
+    public AbstractEngineConfiguration setAsyncEventListenerThreadCount(int asyncEventListenerThreadCount) {
+        this.asyncEventListenerThreadCount = asyncEventListenerThreadCount;
+        return this;
+    }
+
+    public int getAsyncEventListenerQueueSize() {
+        return asyncEventListenerQueueSize;
+    }
+
+    public AbstractEngineConfiguration setAsyncEventListenerQueueSize(int asyncEventListenerQueueSize) {
+        this.asyncEventListenerQueueSize = asyncEventListenerQueueSize;
+        return this;
+    }
+
+    public AsyncFlowableEventBus.OverflowPolicy getAsyncEventListenerOverflowPolicy() {
+        return asyncEventListenerOverflowPolicy;
+    }
+
+    public AbstractEngineConfiguration setAsyncEventListenerOverflowPolicy(AsyncFlowableEventBus.OverflowPolicy asyncEventListenerOverflowPolicy) {
+        this.asyncEventListenerOverflowPolicy = asyncEventListenerOverflowPolicy;
+        return this;
+    }
+
+    public AsyncFlowableEventBus getAsyncEventBus() {
+        return asyncEventBus;
+    }
+
+    public AbstractEngineConfiguration setAsyncEventBus(AsyncFlowableEventBus asyncEventBus) {
+        this.asyncEventBus = asyncEventBus;
+        return this;
+    }
+
     public void initEventDispatcher() {
         if (this.eventDispatcher == null) {
             this.eventDispatcher = new FlowableEventDispatcherImpl();
@@ -1822,10 +1985,32 @@ public abstract class AbstractEngineConfiguration {
 
         this.eventDispatcher.setEnabled(enableEventDispatcher);
 
+        initAsyncEventBus();
         initEventListeners();
         initTypedEventListeners();
     }
 
+    protected void initAsyncEventBus() {
+        if (!enableAsyncEventListeners) {
+            return;
+        }
+
+        if (asyncEventBus == null) {
+            asyncEventBus = new AsyncFlowableEventBus(asyncEventListenerThreadCount, asyncEventListenerQueueSize)
+                    .setOverflowPolicy(asyncEventListenerOverflowPolicy)
+                    .setThreadNamePrefix("flowable-" + getEngineName() + "-async-event-listener-");
+            shutdownAsyncEventBus = true;
+        }
+        asyncEventBus.start();
+
+        if (eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            ((FlowableEventDispatcherImpl) eventDispatcher).getEventSupport().setAsyncEventBus(asyncEventBus);
+        } else {
+            logger.warn("Async event listeners are enabled, but the event dispatcher {} does not support them. They will be invoked synchronously",
+                    eventDispatcher.getClass().getName());
+        }
+    }
+
     protected void initEventListeners() {
         if (eventListeners != null) {
             for (FlowableEventListener listenerToAdd : eventListeners) {
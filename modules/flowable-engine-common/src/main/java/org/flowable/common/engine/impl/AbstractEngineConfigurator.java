@@ -257,6 +257,11 @@ public abstract class AbstractEngineConfigurator implements EngineConfigurator {
         } else {
             throw new FlowableException("A datasource is required for initializing the engine ");
         }
+
+        if (engineConfiguration.getReadOnlyDataSource() != null) {
+            targetEngineConfiguration.setReadOnlyDataSource(engineConfiguration.getReadOnlyDataSource());
+            targetEngineConfiguration.setReadOnlyDataSourceReadYourWrites(engineConfiguration.isReadOnlyDataSourceReadYourWrites());
+        }
     }
 
     protected void initDbSqlSessionFactory(AbstractEngineConfiguration engineConfiguration, AbstractEngineConfiguration targetEngineConfiguration) {
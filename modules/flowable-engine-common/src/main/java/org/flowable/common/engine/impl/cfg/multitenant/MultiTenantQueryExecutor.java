@@ -0,0 +1,204 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cfg.multitenant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.query.Query;
+
+/**
+ * Executes queries against the database of every tenant known to the {@link TenantInfoHolder} and gathers the results,
+ * for admin views that need to look across all tenants of a multi schema multi tenant engine.
+ *
+ * Every query is created through the given {@link Supplier} while the tenant is the current one, so it runs in its own command against that tenant's database.
+ * This means these methods must not be called from within a command.
+ *
+ * When an {@link ExecutorService} is set, the tenants are queried in parallel. Otherwise they are queried one after the other on the calling thread.
+ */
+public class MultiTenantQueryExecutor {
+
+    protected TenantInfoHolder tenantInfoHolder;
+    protected ExecutorService executorService;
+
+    public MultiTenantQueryExecutor(TenantInfoHolder tenantInfoHolder) {
+        this(tenantInfoHolder, null);
+    }
+
+    public MultiTenantQueryExecutor(TenantInfoHolder tenantInfoHolder, ExecutorService executorService) {
+        this.tenantInfoHolder = tenantInfoHolder;
+        this.executorService = executorService;
+    }
+
+    /**
+     * Returns the sum of the counts of the query for all tenants.
+     */
+    public long count(Supplier<? extends Query<?, ?>> querySupplier) {
+        long count = 0;
+        for (Long tenantCount : executeForAllTenants(tenantId -> querySupplier.get().count()).values()) {
+            count += tenantCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the results of the query for all tenants, merged in the order of the given comparator.
+     * The query itself should be ordered consistently with the comparator.
+     */
+    public <T> List<T> list(Supplier<? extends Query<?, T>> querySupplier, Comparator<? super T> comparator) {
+        return mergeSorted(executeForAllTenants(tenantId -> querySupplier.get().list()).values(), comparator, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns one page of the results of the query for all tenants, merged in the order of the given comparator.
+     * Every tenant is asked for the first {@code firstResult + maxResults} results, as any of those can end up on the requested page.
+     */
+    public <T> List<T> listPage(Supplier<? extends Query<?, T>> querySupplier, Comparator<? super T> comparator, int firstResult, int maxResults) {
+        if (firstResult < 0 || maxResults < 0) {
+            throw new FlowableIllegalArgumentException("firstResult and maxResults must not be negative");
+        }
+
+        int tenantMaxResults = (int) Math.min((long) firstResult + maxResults, Integer.MAX_VALUE);
+        Map<String, List<T>> results = executeForAllTenants(tenantId -> querySupplier.get().listPage(0, tenantMaxResults));
+        return mergeSorted(results.values(), comparator, firstResult, maxResults);
+    }
+
+    /**
+     * Executes the given function once for every tenant, with that tenant set as the current tenant of the {@link TenantInfoHolder}.
+     *
+     * @return the results by tenant id
+     */
+    public <R> Map<String, R> executeForAllTenants(Function<String, R> function) {
+        Collection<String> tenantIds = new ArrayList<>(tenantInfoHolder.getAllTenants());
+        Map<String, R> results = new LinkedHashMap<>();
+
+        if (executorService == null) {
+            for (String tenantId : tenantIds) {
+                results.put(tenantId, executeForTenant(tenantId, function));
+            }
+            return results;
+        }
+
+        Map<String, Future<R>> futures = new LinkedHashMap<>();
+        for (String tenantId : tenantIds) {
+            futures.put(tenantId, executorService.submit(() -> executeForTenant(tenantId, function)));
+        }
+
+        for (Map.Entry<String, Future<R>> entry : futures.entrySet()) {
+            try {
+                results.put(entry.getKey(), entry.getValue().get());
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlowableException("Interrupted while querying tenant " + entry.getKey(), e);
+
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new FlowableException("Could not query tenant " + entry.getKey(), e.getCause());
+            }
+        }
+        return results;
+    }
+
+    protected <R> R executeForTenant(String tenantId, Function<String, R> function) {
+        String previousTenantId = tenantInfoHolder.getCurrentTenantId();
+        tenantInfoHolder.setCurrentTenantId(tenantId);
+        try {
+            return function.apply(tenantId);
+        } finally {
+            if (previousTenantId != null) {
+                tenantInfoHolder.setCurrentTenantId(previousTenantId);
+            } else {
+                tenantInfoHolder.clearCurrentTenantId();
+            }
+        }
+    }
+
+    /**
+     * K-way merge of the already sorted tenant results, skipping the first {@code firstResult} elements.
+     */
+    protected <T> List<T> mergeSorted(Collection<List<T>> sortedLists, Comparator<? super T> comparator, int firstResult, int maxResults) {
+        PriorityQueue<MergeCursor<T>> queue = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                (first, second) -> comparator.compare(first.current, second.current));
+        for (List<T> sortedList : sortedLists) {
+            Iterator<T> iterator = sortedList.iterator();
+            if (iterator.hasNext()) {
+                queue.add(new MergeCursor<>(iterator));
+            }
+        }
+
+        if (queue.isEmpty() || maxResults == 0) {
+            return Collections.emptyList();
+        }
+
+        List<T> result = new ArrayList<>();
+        int index = 0;
+        while (!queue.isEmpty() && result.size() < maxResults) {
+            MergeCursor<T> cursor = queue.poll();
+            if (index++ >= firstResult) {
+                result.add(cursor.current);
+            }
+            if (cursor.next()) {
+                queue.add(cursor);
+            }
+        }
+        return result;
+    }
+
+    public TenantInfoHolder getTenantInfoHolder() {
+        return tenantInfoHolder;
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    protected static class MergeCursor<T> {
+
+        protected final Iterator<T> iterator;
+        protected T current;
+
+        protected MergeCursor(Iterator<T> iterator) {
+            this.iterator = iterator;
+            this.current = iterator.next();
+        }
+
+        protected boolean next() {
+            if (iterator.hasNext()) {
+                current = iterator.next();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -13,7 +13,8 @@
 
 package org.flowable.common.engine.impl.context;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 import org.flowable.common.engine.impl.cfg.TransactionContext;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -26,10 +27,10 @@ import org.flowable.common.engine.impl.transaction.TransactionContextHolder;
  */
 public class Context {
 
-    protected static ThreadLocal<Stack<CommandContext>> commandContextThreadLocal = new ThreadLocal<>();
+    protected static ThreadLocal<Deque<CommandContext>> commandContextThreadLocal = new ThreadLocal<>();
 
     public static CommandContext getCommandContext() {
-        Stack<CommandContext> stack = getStack(commandContextThreadLocal);
+        Deque<CommandContext> stack = getStack(commandContextThreadLocal);
         if (stack.isEmpty()) {
             return null;
         }
@@ -56,10 +57,11 @@ public class Context {
         TransactionContextHolder.removeTransactionContext();
     }
 
-    protected static <T> Stack<T> getStack(ThreadLocal<Stack<T>> threadLocal) {
-        Stack<T> stack = threadLocal.get();
+    protected static <T> Deque<T> getStack(ThreadLocal<Deque<T>> threadLocal) {
+        // The stack is confined to the current thread, so there is no need for the synchronization of java.util.Stack
+        Deque<T> stack = threadLocal.get();
         if (stack == null) {
-            stack = new Stack<>();
+            stack = new ArrayDeque<>(4);
             threadLocal.set(stack);
         }
         return stack;
@@ -26,6 +26,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.common.engine.impl.util.CollectionUtil;
@@ -163,7 +164,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         if (checkCache) {
 
-            Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
+            Collection<CachedEntity> cachedObjects = findCachedObjects(getManagedEntityClass(), cachedEntityMatcher, parameter);
 
             if ((cachedObjects != null && cachedObjects.size() > 0) || getManagedEntitySubClasses() != null) {
 
@@ -186,7 +187,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
                 if (getManagedEntitySubClasses() != null && cachedEntityMatcher != null) {
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                        Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                        Collection<CachedEntity> subclassCachedObjects = findCachedObjects(entitySubClass, cachedEntityMatcher, parameter);
                         if (subclassCachedObjects != null) {
                             for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
@@ -223,7 +224,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
     @SuppressWarnings("unchecked")
     protected List<EntityImpl> getListFromCache(CachedEntityMatcher<EntityImpl> entityMatcher, Object parameter, boolean includeDeletedEntities) {
-        Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
+        Collection<CachedEntity> cachedObjects = findCachedObjects(getManagedEntityClass(), entityMatcher, parameter);
 
         DbSqlSession dbSqlSession = getDbSqlSession();
 
@@ -240,7 +241,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         if (getManagedEntitySubClasses() != null && entityMatcher != null) {
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                Collection<CachedEntity> subclassCachedObjects = findCachedObjects(entitySubClass, entityMatcher, parameter);
                 if (subclassCachedObjects != null) {
                     for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
@@ -254,6 +255,22 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         return result;
     }
+
+    /**
+     * Returns the cached entities of the given type the matcher needs to check. For an {@link IndexedCachedEntityMatcher}
+     * these are only the entities with the index key of the parameter, otherwise all cached entities of the type.
+     */
+    @SuppressWarnings("unchecked")
+    protected Collection<CachedEntity> findCachedObjects(Class<?> entityClass, CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            IndexedCachedEntityMatcher<EntityImpl> indexedEntityMatcher = (IndexedCachedEntityMatcher<EntityImpl>) cachedEntityMatcher;
+            Object indexKey = indexedEntityMatcher.getIndexKeyForParameter(parameter);
+            if (indexKey != null) {
+                return getEntityCache().findInCacheByIndex(entityClass, indexedEntityMatcher, indexKey);
+            }
+        }
+        return getEntityCache().findInCacheAsCachedObjects(entityClass);
+    }
     
     /**
      * Does a bulk delete, but also uses the provided {@link CachedEntityMatcher}
@@ -30,9 +30,13 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.slf4j.Logger;
@@ -59,15 +63,29 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
 
+    protected SharedEntityCache sharedEntityCache;
+    protected Map<Class<?>, Set<String>> sharedEntityCacheInvalidatedIds = new HashMap<>();
+    protected Set<Class<?>> sharedEntityCacheInvalidatedClasses = new HashSet<>();
+    protected TransactionContext transactionContext;
+    protected boolean sharedEntityCacheCommitInvalidationRegistered;
+
+    protected SqlSession readOnlySqlSession;
+    protected int readOnlyDataSourceScopeDepth;
+    protected boolean changesWritten;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
+        this.sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        this.transactionContext = Context.getTransactionContext();
         this.sqlSession = dbSqlSessionFactory.getSqlSessionFactory().openSession();
     }
 
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache, Connection connection, String catalog, String schema) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
+        this.sharedEntityCache = dbSqlSessionFactory.getSharedEntityCache();
+        this.transactionContext = Context.getTransactionContext();
         this.sqlSession = dbSqlSessionFactory.getSqlSessionFactory().openSession(connection); // Note the use of connection param here, different from other constructor
         this.connectionMetadataDefaultCatalog = catalog;
         this.connectionMetadataDefaultSchema = schema;
@@ -104,6 +122,7 @@ public class DbSqlSession implements Session {
 
     public int update(String statement, Object parameters) {
         String updateStatement = dbSqlSessionFactory.mapStatement(statement);
+        changesWritten = true;
         return getSqlSession().update(updateStatement, parameters);
     }
 
@@ -262,13 +281,13 @@ public class DbSqlSession implements Session {
         }
         
         statement = dbSqlSessionFactory.mapStatement(statement);
-        return sqlSession.selectList(statement, parameter);
+        return getSelectSqlSession().selectList(statement, parameter);
     }
         
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public List selectListWithRawParameter(String statement, Object parameter, boolean useCache) {
         statement = dbSqlSessionFactory.mapStatement(statement);
-        List loadedObjects = sqlSession.selectList(statement, parameter);
+        List loadedObjects = getSelectSqlSession().selectList(statement, parameter);
         if (useCache) {
             return cacheLoadOrStore(loadedObjects, parameter);
         } else {
@@ -278,7 +297,7 @@ public class DbSqlSession implements Session {
     
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
-        Object result = sqlSession.selectOne(statement, parameter);
+        Object result = getSelectSqlSession().selectOne(statement, parameter);
         if (result instanceof Entity) {
             Entity loadedObject = (Entity) result;
             result = cacheLoadOrStore(loadedObject, parameter);
@@ -299,8 +318,19 @@ public class DbSqlSession implements Session {
             if (entity != null) {
                 return entity;
             }
+
+            if (isSharedEntityCacheUsed(entityClass, id)) {
+                entity = sharedEntityCache.get(entityClass, id);
+                if (entity != null) {
+                    entityCache.put(entity, true);
+                    return entity;
+                }
+            }
         }
 
+        long sharedEntityCacheVersion = sharedEntityCache != null ? sharedEntityCache.getVersion() : 0L;
+
+        // Entities are always loaded from the primary data source, also within a read-only data source scope
         String selectStatement = dbSqlSessionFactory.getSelectStatement(entityClass);
         selectStatement = dbSqlSessionFactory.mapStatement(selectStatement);
         entity = (T) sqlSession.selectOne(selectStatement, id);
@@ -309,9 +339,29 @@ public class DbSqlSession implements Session {
         }
 
         entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
+
+        if (isSharedEntityCacheUsed(entityClass, id)) {
+            sharedEntityCache.put(entityClass, entity, sharedEntityCacheVersion);
+        }
         return entity;
     }
 
+    /**
+     * Entities changed in this session are never read from or put in the {@link SharedEntityCache}:
+     * this session sees their uncommitted state, which mustn't be visible to other transactions.
+     */
+    protected boolean isSharedEntityCacheUsed(Class<?> entityClass, String id) {
+        if (sharedEntityCache == null || !sharedEntityCache.isCacheable(entityClass)) {
+            return false;
+        }
+
+        if (sharedEntityCacheInvalidatedClasses.contains(entityClass)) {
+            return false;
+        }
+        Set<String> invalidatedIds = sharedEntityCacheInvalidatedIds.get(entityClass);
+        return invalidatedIds == null || !invalidatedIds.contains(id);
+    }
+
     // internal session cache
     // ///////////////////////////////////////////////////
 
@@ -356,6 +406,16 @@ public class DbSqlSession implements Session {
         determineUpdatedObjects(); // Needs to be done before the removeUnnecessaryOperations, as removeUnnecessaryOperations will remove stuff from the cache
         removeUnnecessaryOperations();
 
+        if (!insertedObjects.isEmpty() || !updatedObjects.isEmpty() || !deletedObjects.isEmpty() || !bulkDeleteOperations.isEmpty()) {
+            changesWritten = true;
+        }
+
+        if (sharedEntityCache != null) {
+            collectSharedEntityCacheInvalidations();
+            invalidateSharedEntityCache();
+            registerSharedEntityCacheCommitInvalidation();
+        }
+
         if (LOGGER.isDebugEnabled()) {
             debugFlush();
         }
@@ -421,6 +481,60 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected void collectSharedEntityCacheInvalidations() {
+        for (Entity updatedObject : updatedObjects) {
+            addSharedEntityCacheInvalidation(updatedObject.getClass(), updatedObject.getId());
+        }
+
+        for (Map<String, Entity> deletedObjectMap : deletedObjects.values()) {
+            for (Entity deletedObject : deletedObjectMap.values()) {
+                addSharedEntityCacheInvalidation(deletedObject.getClass(), deletedObject.getId());
+            }
+        }
+
+        // A bulk delete can remove any entity of its type
+        for (Class<? extends Entity> entityClass : bulkDeleteOperations.keySet()) {
+            if (sharedEntityCache.isCacheable(entityClass)) {
+                sharedEntityCacheInvalidatedClasses.add(entityClass);
+            }
+        }
+    }
+
+    protected void addSharedEntityCacheInvalidation(Class<?> entityClass, String id) {
+        if (id != null && sharedEntityCache.isCacheable(entityClass)) {
+            sharedEntityCacheInvalidatedIds.computeIfAbsent(entityClass, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    protected void invalidateSharedEntityCache() {
+        for (Map.Entry<Class<?>, Set<String>> entry : sharedEntityCacheInvalidatedIds.entrySet()) {
+            if (!sharedEntityCacheInvalidatedClasses.contains(entry.getKey())) {
+                for (String id : entry.getValue()) {
+                    sharedEntityCache.invalidate(entry.getKey(), id);
+                }
+            }
+        }
+
+        for (Class<?> entityClass : sharedEntityCacheInvalidatedClasses) {
+            sharedEntityCache.invalidateAll(entityClass);
+        }
+    }
+
+    /**
+     * Another transaction can still read the old state and put it in the {@link SharedEntityCache} between the flush and the commit,
+     * so the changed entities are invalidated again once the transaction is committed. The transaction is only committed after
+     * this session is closed when it is managed externally (e.g. by Spring or JTA), hence this is done with a transaction listener.
+     */
+    protected void registerSharedEntityCacheCommitInvalidation() {
+        if (sharedEntityCacheCommitInvalidationRegistered || transactionContext == null
+                || (sharedEntityCacheInvalidatedIds.isEmpty() && sharedEntityCacheInvalidatedClasses.isEmpty())) {
+            return;
+        }
+
+        transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> invalidateSharedEntityCache());
+        sharedEntityCacheCommitInvalidationRegistered = true;
+    }
+
     protected void debugFlush() {
         LOGGER.debug("Flushing dbSqlSession");
         int nrOfInserts = 0;
@@ -651,6 +765,15 @@ public class DbSqlSession implements Session {
     @Override
     public void close() {
         sqlSession.close();
+
+        if (readOnlySqlSession != null) {
+            readOnlySqlSession.close();
+        }
+
+        if (sharedEntityCache != null && !sharedEntityCacheCommitInvalidationRegistered) {
+            // Without a transaction context there is no commit to wait for
+            invalidateSharedEntityCache();
+        }
     }
 
     public void commit() {
@@ -661,6 +784,47 @@ public class DbSqlSession implements Session {
         sqlSession.rollback();
     }
 
+    // read-only data source
+    // //////////////////////////////////////////////////////
+
+    /**
+     * Query selects done between this call and the matching {@link #endReadOnlyDataSourceScope()} go to the read-only data source
+     * of the {@link DbSqlSessionFactory}, if one is configured. See {@link #getSelectSqlSession()} for when the primary one is still used.
+     * Loading an entity by id always uses the primary data source.
+     */
+    public void beginReadOnlyDataSourceScope() {
+        readOnlyDataSourceScopeDepth++;
+    }
+
+    public void endReadOnlyDataSourceScope() {
+        readOnlyDataSourceScopeDepth--;
+    }
+
+    /**
+     * Returns the {@link SqlSession} to use for selects: the one of the read-only data source when in a read-only data source scope,
+     * unless this session already wrote changes to the primary data source and the factory requires reading those
+     * (see {@link DbSqlSessionFactory#isReadOnlyDataSourceReadYourWrites()}).
+     */
+    protected SqlSession getSelectSqlSession() {
+        if (readOnlyDataSourceScopeDepth <= 0 || dbSqlSessionFactory.getReadOnlyDataSource() == null) {
+            return sqlSession;
+        }
+
+        if (dbSqlSessionFactory.isReadOnlyDataSourceReadYourWrites() && (changesWritten || !insertedObjects.isEmpty() || !deletedObjects.isEmpty()
+                || !bulkDeleteOperations.isEmpty())) {
+            return sqlSession;
+        }
+
+        if (readOnlySqlSession == null) {
+            readOnlySqlSession = dbSqlSessionFactory.openReadOnlySqlSession();
+        }
+        return readOnlySqlSession;
+    }
+
+    public boolean isChangesWritten() {
+        return changesWritten;
+    }
+
     public <T> T getCustomMapper(Class<T> type) {
         return sqlSession.getMapper(type);
     }
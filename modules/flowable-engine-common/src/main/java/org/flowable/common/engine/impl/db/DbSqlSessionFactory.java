@@ -13,6 +13,7 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -22,6 +23,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
@@ -29,6 +33,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.SharedEntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
 /**
@@ -66,6 +71,11 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
     protected boolean usePrefixId;
+
+    protected SharedEntityCache sharedEntityCache;
+
+    protected DataSource readOnlyDataSource;
+    protected boolean readOnlyDataSourceReadYourWrites = true;
     
     public DbSqlSessionFactory(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
@@ -103,6 +113,35 @@ public class DbSqlSessionFactory implements SessionFactory {
         return new DbSqlSession(this, Context.getCommandContext().getSession(EntityCache.class));
     }
 
+    /**
+     * Opens a {@link SqlSession} on a connection of the read-only data source, sharing the mappings of the primary {@link SqlSessionFactory}.
+     * The session is closed together with the {@link DbSqlSession} that opened it and never commits anything.
+     */
+    public SqlSession openReadOnlySqlSession() {
+        Connection connection = null;
+        try {
+            connection = readOnlyDataSource.getConnection();
+            connection.setReadOnly(true);
+            if (getDatabaseSchema() != null && getDatabaseSchema().length() > 0) {
+                connection.setSchema(getDatabaseSchema());
+            }
+            if (getDatabaseCatalog() != null && getDatabaseCatalog().length() > 0) {
+                connection.setCatalog(getDatabaseCatalog());
+            }
+            return sqlSessionFactory.openSession(connection);
+
+        } catch (SQLException e) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException closeException) {
+                    e.addSuppressed(closeException);
+                }
+            }
+            throw new FlowableException("Could not open a connection to the read-only data source", e);
+        }
+    }
+
     // insert, update and delete statements
     // /////////////////////////////////////
 
@@ -346,4 +385,28 @@ public class DbSqlSessionFactory implements SessionFactory {
     public void setUsePrefixId(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
     }
+
+    public SharedEntityCache getSharedEntityCache() {
+        return sharedEntityCache;
+    }
+
+    public void setSharedEntityCache(SharedEntityCache sharedEntityCache) {
+        this.sharedEntityCache = sharedEntityCache;
+    }
+
+    public DataSource getReadOnlyDataSource() {
+        return readOnlyDataSource;
+    }
+
+    public void setReadOnlyDataSource(DataSource readOnlyDataSource) {
+        this.readOnlyDataSource = readOnlyDataSource;
+    }
+
+    public boolean isReadOnlyDataSourceReadYourWrites() {
+        return readOnlyDataSourceReadYourWrites;
+    }
+
+    public void setReadOnlyDataSourceReadYourWrites(boolean readOnlyDataSourceReadYourWrites) {
+        this.readOnlyDataSourceReadYourWrites = readOnlyDataSourceReadYourWrites;
+    }
 }
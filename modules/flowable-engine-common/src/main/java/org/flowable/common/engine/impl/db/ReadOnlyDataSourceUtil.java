@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.SessionFactory;
+
+/**
+ * Runs reads against the read-only data source of the {@link DbSqlSessionFactory} (e.g. a replica of the primary database),
+ * when one is configured.
+ * <p>
+ * Only a query that is executed as the outermost command is routed to the read-only data source.
+ * Queries executed within another command (e.g. by a service call that reuses the command context) read from the primary data source,
+ * as the surrounding command could depend on data that has not yet reached the replica.
+ * The same goes for a command that joined a transaction that was already active (e.g. a Spring managed transaction of the caller),
+ * as the caller could have changed data in that transaction before.
+ */
+public class ReadOnlyDataSourceUtil {
+
+    public static <T> T executeWithReadOnlyDataSource(CommandContext commandContext, Command<?> command, Supplier<T> reader) {
+        if (!isReadOnlyDataSourceConfigured(commandContext) || !isOutermostCommand(commandContext, command)
+                || commandContext.isExistingTransactionJoined()) {
+            return reader.get();
+        }
+
+        DbSqlSession dbSqlSession = commandContext.getSession(DbSqlSession.class);
+        dbSqlSession.beginReadOnlyDataSourceScope();
+        try {
+            return reader.get();
+        } finally {
+            dbSqlSession.endReadOnlyDataSourceScope();
+        }
+    }
+
+    public static boolean isOutermostCommand(CommandContext commandContext, Command<?> command) {
+        return !commandContext.isReused() && commandContext.getCommand() == command;
+    }
+
+    public static boolean isReadOnlyDataSourceConfigured(CommandContext commandContext) {
+        if (commandContext == null || commandContext.getSessionFactories() == null) {
+            return false;
+        }
+        SessionFactory sessionFactory = commandContext.getSessionFactories().get(DbSqlSession.class);
+        return sessionFactory instanceof DbSqlSessionFactory && ((DbSqlSessionFactory) sessionFactory).getReadOnlyDataSource() != null;
+    }
+}
@@ -0,0 +1,307 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers events to {@link FlowableEventListener#isAsynchronous() asynchronous} event listeners on dedicated threads.
+ *
+ * The bus consists of a number of lanes, each with a bounded queue and a single delivery thread.
+ * Events are assigned to a lane based on their process instance (or scope) id,
+ * hence the events of one process instance are always delivered in the order they were submitted.
+ * When the queue of a lane is full, the {@link OverflowPolicy} decides what happens with the submitted event.
+ */
+public class AsyncFlowableEventBus {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncFlowableEventBus.class);
+
+    public enum OverflowPolicy {
+
+        /**
+         * Wait until there is room in the queue. This slows down the submitting thread, but never loses events.
+         */
+        BLOCK,
+
+        /**
+         * Drop the event and log a warning.
+         */
+        DISCARD,
+
+        /**
+         * Deliver the event on the submitting thread.
+         */
+        CALLER_RUNS
+
+    }
+
+    protected final int queueSize;
+    protected final Lane[] lanes;
+    protected OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    protected String threadNamePrefix = "flowable-async-event-listener-";
+    protected long shutdownTimeoutInMillis = 10000L;
+
+    protected final AtomicLong submittedEvents = new AtomicLong();
+    protected final AtomicLong deliveredEvents = new AtomicLong();
+    protected final AtomicLong failedEvents = new AtomicLong();
+    protected final AtomicLong discardedEvents = new AtomicLong();
+    protected final AtomicLong callerRunsEvents = new AtomicLong();
+
+    protected volatile boolean running;
+
+    public AsyncFlowableEventBus(int numberOfLanes, int queueSize) {
+        if (numberOfLanes <= 0) {
+            throw new FlowableIllegalArgumentException("numberOfLanes must be greater than 0");
+        }
+        if (queueSize <= 0) {
+            throw new FlowableIllegalArgumentException("queueSize must be greater than 0");
+        }
+
+        this.queueSize = queueSize;
+        this.lanes = new Lane[numberOfLanes];
+        for (int i = 0; i < numberOfLanes; i++) {
+            lanes[i] = new Lane(queueSize);
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        for (int i = 0; i < lanes.length; i++) {
+            Thread thread = new Thread(lanes[i], threadNamePrefix + i);
+            thread.setDaemon(true);
+            lanes[i].thread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Stops accepting new events and waits (up to the shutdown timeout) until the events that are already queued have been delivered.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+        }
+
+        long deadline = System.currentTimeMillis() + shutdownTimeoutInMillis;
+        for (Lane lane : lanes) {
+            Thread thread = lane.thread;
+            if (thread == null) {
+                continue;
+            }
+
+            try {
+                thread.join(Math.max(deadline - System.currentTimeMillis(), 1L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (thread.isAlive()) {
+                LOGGER.warn("Async event listener thread {} did not finish within the shutdown timeout, {} queued events are dropped",
+                        thread.getName(), lane.queue.size());
+                thread.interrupt();
+            }
+            lane.thread = null;
+        }
+    }
+
+    public void submit(FlowableEvent event, FlowableEventListener listener) {
+        if (!running) {
+            // Without a running bus nobody is going to pick up the event, so keep the listener working synchronously
+            deliver(new QueuedEvent(event, listener));
+            return;
+        }
+
+        submittedEvents.incrementAndGet();
+        QueuedEvent queuedEvent = new QueuedEvent(event, listener);
+        BlockingQueue<QueuedEvent> queue = getLane(event).queue;
+        if (queue.offer(queuedEvent)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case DISCARD:
+                discardedEvents.incrementAndGet();
+                LOGGER.warn("Async event listener queue is full, discarding event {} for listener {}", event.getType(), listener);
+                break;
+
+            case CALLER_RUNS:
+                callerRunsEvents.incrementAndGet();
+                deliver(queuedEvent);
+                break;
+
+            default:
+                try {
+                    queue.put(queuedEvent);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    discardedEvents.incrementAndGet();
+                    LOGGER.warn("Interrupted while waiting for room in the async event listener queue, discarding event {}", event.getType());
+                }
+        }
+    }
+
+    protected Lane getLane(FlowableEvent event) {
+        String orderingKey = getOrderingKey(event);
+        if (orderingKey == null || lanes.length == 1) {
+            return lanes[0];
+        }
+
+        return lanes[(orderingKey.hashCode() & Integer.MAX_VALUE) % lanes.length];
+    }
+
+    protected String getOrderingKey(FlowableEvent event) {
+        if (event instanceof FlowableEngineEvent) {
+            FlowableEngineEvent engineEvent = (FlowableEngineEvent) event;
+            if (engineEvent.getProcessInstanceId() != null) {
+                return engineEvent.getProcessInstanceId();
+            }
+            return engineEvent.getScopeId();
+        }
+        return null;
+    }
+
+    protected void deliver(QueuedEvent queuedEvent) {
+        try {
+            queuedEvent.listener.onEvent(queuedEvent.event);
+            deliveredEvents.incrementAndGet();
+        } catch (Throwable t) {
+            // There is no transaction left to fail at this point, so exceptions are always logged
+            failedEvents.incrementAndGet();
+            LOGGER.warn("Exception while executing asynchronous event-listener {}", queuedEvent.listener, t);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getNumberOfLanes() {
+        return lanes.length;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * @return the number of events currently waiting for delivery, over all lanes
+     */
+    public int getPendingEvents() {
+        int pending = 0;
+        for (Lane lane : lanes) {
+            pending += lane.queue.size();
+        }
+        return pending;
+    }
+
+    public long getSubmittedEvents() {
+        return submittedEvents.get();
+    }
+
+    public long getDeliveredEvents() {
+        return deliveredEvents.get();
+    }
+
+    public long getFailedEvents() {
+        return failedEvents.get();
+    }
+
+    public long getDiscardedEvents() {
+        return discardedEvents.get();
+    }
+
+    public long getCallerRunsEvents() {
+        return callerRunsEvents.get();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public AsyncFlowableEventBus setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+        return this;
+    }
+
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public AsyncFlowableEventBus setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+        return this;
+    }
+
+    public long getShutdownTimeoutInMillis() {
+        return shutdownTimeoutInMillis;
+    }
+
+    public AsyncFlowableEventBus setShutdownTimeoutInMillis(long shutdownTimeoutInMillis) {
+        this.shutdownTimeoutInMillis = shutdownTimeoutInMillis;
+        return this;
+    }
+
+    protected class Lane implements Runnable {
+
+        protected final BlockingQueue<QueuedEvent> queue;
+        protected volatile Thread thread;
+
+        public Lane(int queueSize) {
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        @Override
+        public void run() {
+            // Keep draining after shutdown was requested, so that already submitted events are not lost
+            while (running || !queue.isEmpty()) {
+                try {
+                    QueuedEvent queuedEvent = queue.poll(100L, TimeUnit.MILLISECONDS);
+                    if (queuedEvent != null) {
+                        deliver(queuedEvent);
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    protected static class QueuedEvent {
+
+        protected final FlowableEvent event;
+        protected final FlowableEventListener listener;
+
+        public QueuedEvent(FlowableEvent event, FlowableEventListener listener) {
+            this.event = event;
+            this.listener = listener;
+        }
+    }
+
+}
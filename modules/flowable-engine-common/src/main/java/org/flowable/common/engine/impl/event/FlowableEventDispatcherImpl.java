@@ -76,6 +76,27 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         }
     }
 
+    @Override
+    public boolean hasListeners(FlowableEventType eventType, String engineType) {
+        if (enabled && eventSupport.hasListeners(eventType)) {
+            return true;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            AbstractEngineConfiguration engineConfiguration = commandContext.getEngineConfigurations().get(engineType);
+            if (engineConfiguration != null && engineConfiguration.getAdditionalEventDispatchActions() != null) {
+                for (EventDispatchAction eventDispatchAction : engineConfiguration.getAdditionalEventDispatchActions()) {
+                    if (eventDispatchAction.hasListeners(commandContext, eventType)) {
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
     public FlowableEventSupport getEventSupport() {
         return eventSupport;
     }
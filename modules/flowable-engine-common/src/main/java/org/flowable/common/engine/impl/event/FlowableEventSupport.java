@@ -13,9 +13,12 @@
 package org.flowable.common.engine.impl.event;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -40,6 +43,11 @@ public class FlowableEventSupport {
     protected List<FlowableEventListener> eventListeners;
     protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
 
+    // Immutable snapshot of the types with at least one typed listener, replaced whenever listeners are added or removed
+    protected volatile Set<FlowableEventType> typesWithListeners = Collections.emptySet();
+
+    protected AsyncFlowableEventBus asyncEventBus;
+
     public FlowableEventSupport() {
         eventListeners = new CopyOnWriteArrayList<>();
         typedListeners = new HashMap<>();
@@ -76,12 +84,20 @@ public class FlowableEventSupport {
         }
     }
 
-    public void removeEventListener(FlowableEventListener listenerToRemove) {
+    public synchronized void removeEventListener(FlowableEventListener listenerToRemove) {
         eventListeners.remove(listenerToRemove);
 
         for (List<FlowableEventListener> listeners : typedListeners.values()) {
             listeners.remove(listenerToRemove);
         }
+        updateTypesWithListeners();
+    }
+
+    /**
+     * Returns whether an event of the given type would be passed to at least one listener.
+     */
+    public boolean hasListeners(FlowableEventType type) {
+        return !eventListeners.isEmpty() || typesWithListeners.contains(type);
     }
 
     public void dispatchEvent(FlowableEvent event) {
@@ -110,7 +126,9 @@ public class FlowableEventSupport {
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
-        if (listener.isFireOnTransactionLifecycleEvent()) {
+        if (asyncEventBus != null && listener.isAsynchronous()) {
+            dispatchAsyncEventListener(event, listener);
+        } else if (listener.isFireOnTransactionLifecycleEvent()) {
             dispatchTransactionEventListener(event, listener);
         } else {
             dispatchNormalEventListener(event, listener);
@@ -131,6 +149,16 @@ public class FlowableEventSupport {
         }
     }
 
+    protected void dispatchAsyncEventListener(FlowableEvent event, FlowableEventListener listener) {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext == null) {
+            asyncEventBus.submit(event, listener);
+        } else {
+            // Committed listeners are executed in the order they were added, which keeps the events of one transaction in order
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, commandContext -> asyncEventBus.submit(event, listener));
+        }
+    }
+
     protected void dispatchTransactionEventListener(FlowableEvent event, FlowableEventListener listener) {
         TransactionContext transactionContext = Context.getTransactionContext();
         if (transactionContext == null) {
@@ -166,5 +194,24 @@ public class FlowableEventSupport {
         if (!listeners.contains(listener)) {
             listeners.add(listener);
         }
+        updateTypesWithListeners();
+    }
+
+    protected synchronized void updateTypesWithListeners() {
+        Set<FlowableEventType> types = new HashSet<>();
+        for (Map.Entry<FlowableEventType, List<FlowableEventListener>> entry : typedListeners.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                types.add(entry.getKey());
+            }
+        }
+        typesWithListeners = Collections.unmodifiableSet(types);
+    }
+
+    public AsyncFlowableEventBus getAsyncEventBus() {
+        return asyncEventBus;
+    }
+
+    public void setAsyncEventBus(AsyncFlowableEventBus asyncEventBus) {
+        this.asyncEventBus = asyncEventBus;
     }
 }
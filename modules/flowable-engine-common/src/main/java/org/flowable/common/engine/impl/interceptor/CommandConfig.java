@@ -25,6 +25,7 @@ public class CommandConfig {
 
     private boolean contextReusePossible;
     private TransactionPropagation propagation;
+    private boolean existingTransactionJoined;
 
     public CommandConfig() {
         this.contextReusePossible = true;
@@ -44,6 +45,7 @@ public class CommandConfig {
     protected CommandConfig(CommandConfig commandConfig) {
         this.contextReusePossible = commandConfig.contextReusePossible;
         this.propagation = commandConfig.propagation;
+        this.existingTransactionJoined = commandConfig.existingTransactionJoined;
     }
 
     public boolean isContextReusePossible() {
@@ -54,12 +56,26 @@ public class CommandConfig {
         return propagation;
     }
 
+    /**
+     * Whether the transaction interceptor joined a transaction that was already active when the command was executed
+     * (e.g. a Spring managed transaction of the caller), instead of starting one for the command.
+     */
+    public boolean isExistingTransactionJoined() {
+        return existingTransactionJoined;
+    }
+
     public CommandConfig setContextReusePossible(boolean contextReusePossible) {
         CommandConfig config = new CommandConfig(this);
         config.contextReusePossible = contextReusePossible;
         return config;
     }
 
+    public CommandConfig existingTransactionJoined() {
+        CommandConfig config = new CommandConfig(this);
+        config.existingTransactionJoined = true;
+        return config;
+    }
+
     public CommandConfig transactionRequired() {
         CommandConfig config = new CommandConfig(this);
         config.propagation = TransactionPropagation.REQUIRED;
@@ -15,9 +15,9 @@ package org.flowable.common.engine.impl.interceptor;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -38,7 +38,7 @@ public class CommandContext {
     private static final Logger LOGGER = LoggerFactory.getLogger(CommandContext.class);
 
     protected Map<String, AbstractEngineConfiguration> engineConfigurations;
-    protected LinkedList<String> engineCfgStack = new LinkedList<>();
+    protected List<String> engineCfgStack = new ArrayList<>(2); // the top of the stack is the last element
     protected Command<?> command;
     protected Map<Class<?>, SessionFactory> sessionFactories;
     protected Map<Class<?>, Session> sessions = new HashMap<>();
@@ -46,7 +46,8 @@ public class CommandContext {
     protected List<CommandContextCloseListener> closeListeners;
     protected Map<String, Object> attributes; // General-purpose storing of anything during the lifetime of a command context
     protected boolean reused;
-    protected LinkedList<Object> resultStack = new LinkedList<>(); // needs to be a stack, as JavaDelegates can do api calls again
+    protected boolean existingTransactionJoined;
+    protected List<Object> resultStack = new ArrayList<>(2); // needs to be a stack, as JavaDelegates can do api calls again
     protected CommandExecutor commandExecutor;
     protected ClassLoader classLoader;
     protected boolean useClassForNameClassLoading;
@@ -297,11 +298,14 @@ public class CommandContext {
     }
 
     public void pushEngineCfgToStack(String engineCfgKey) {
-        engineCfgStack.push(engineCfgKey);
+        engineCfgStack.add(engineCfgKey);
     }
 
     public String popEngineCfgStack() {
-        return engineCfgStack.pop();
+        if (engineCfgStack.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return engineCfgStack.remove(engineCfgStack.size() - 1);
     }
 
     /**
@@ -319,9 +323,10 @@ public class CommandContext {
      * usage and it will be true.
      */
     public boolean isRootUsageOfCurrentEngine() {
-        String currentEngineCfgKey = engineCfgStack.peek();
+        int currentIndex = engineCfgStack.size() - 1;
+        String currentEngineCfgKey = currentIndex >= 0 ? engineCfgStack.get(currentIndex) : null;
         if (currentEngineCfgKey != null) {
-            for (int i = 1; i < engineCfgStack.size(); i++) {
+            for (int i = currentIndex - 1; i >= 0; i--) {
                 if (currentEngineCfgKey.equals(engineCfgStack.get(i))) {
                     return false;
                 }
@@ -400,9 +405,24 @@ public class CommandContext {
     public void setReused(boolean reused) {
         this.reused = reused;
     }
+
+    /**
+     * Whether this command context joined a transaction that was already active when its command was executed.
+     * Data changed by the caller in that transaction is not committed yet.
+     */
+    public boolean isExistingTransactionJoined() {
+        return existingTransactionJoined;
+    }
+
+    public void setExistingTransactionJoined(boolean existingTransactionJoined) {
+        this.existingTransactionJoined = existingTransactionJoined;
+    }
     
     public Object getResult() {
-        return resultStack.pollLast();
+        if (resultStack.isEmpty()) {
+            return null;
+        }
+        return resultStack.remove(resultStack.size() - 1);
     }
 
     public void setResult(Object result) {
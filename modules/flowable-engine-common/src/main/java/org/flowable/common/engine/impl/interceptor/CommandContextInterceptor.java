@@ -85,6 +85,7 @@ public class CommandContextInterceptor extends AbstractCommandInterceptor {
             commandContext.setUseClassForNameClassLoading(useClassForNameClassLoading);
             commandContext.setClock(clock);
             commandContext.setObjectMapper(objectMapper);
+            commandContext.setExistingTransactionJoined(config.isExistingTransactionJoined());
             
         } else {
             LOGGER.debug("Valid context found. Reusing it for the current command '{}'", command.getClass().getCanonicalName());
@@ -63,7 +63,7 @@ public class JtaTransactionInterceptor extends AbstractCommandInterceptor {
             }
             T result;
             try {
-                result = next.execute(config, command, commandExecutor);
+                result = next.execute(isNew ? config : config.existingTransactionJoined(), command, commandExecutor);
             } catch (RuntimeException | Error ex) {
                 doRollback(isNew, ex);
                 throw ex;
@@ -12,7 +12,9 @@
  */
 package org.flowable.common.engine.impl.persistence.cache;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -63,4 +65,32 @@ public interface EntityCache extends Session {
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
     void cacheRemove(Class<?> entityClass, String entityId);
+
+    /**
+     * Returns the {@link CachedEntity} instances of the given type with the given key in the {@link EntityCacheIndex}.
+     * Returns an empty collection if no such instances exist.
+     */
+    default Collection<CachedEntity> findInCacheByIndex(Class<?> entityClass, EntityCacheIndex<?> index, Object indexKey) {
+        Collection<CachedEntity> cachedObjects = findInCacheAsCachedObjects(entityClass);
+        if (cachedObjects == null) {
+            return Collections.emptyList();
+        }
+
+        @SuppressWarnings("unchecked")
+        EntityCacheIndex<Entity> entityIndex = (EntityCacheIndex<Entity>) index;
+        List<CachedEntity> result = new ArrayList<>();
+        for (CachedEntity cachedObject : cachedObjects) {
+            if (indexKey.equals(entityIndex.getIndexKey(cachedObject.getEntity()))) {
+                result.add(cachedObject);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Updates the {@link EntityCacheIndex} keys of the given cached {@link Entity}, after a property used as index key was changed.
+     */
+    default void updateIndexes(Entity entity) {
+        // Nothing is indexed by default
+    }
 }
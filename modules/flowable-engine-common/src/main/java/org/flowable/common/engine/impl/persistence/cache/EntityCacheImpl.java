@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +29,12 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
 
+    /**
+     * The secondary indexes per entity type and index name. An index is only built at the first lookup through it,
+     * and afterwards kept up to date on every change of the cached entities of that type.
+     */
+    protected Map<Class<?>, Map<String, CachedEntityIndex>> cachedIndexes = new HashMap<>();
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
@@ -37,6 +44,13 @@ public class EntityCacheImpl implements EntityCache {
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<String, CachedEntityIndex> classIndexes = cachedIndexes.get(entity.getClass());
+        if (classIndexes != null) {
+            for (CachedEntityIndex index : classIndexes.values()) {
+                index.put(cachedObject);
+            }
+        }
         return cachedObject;
     }
 
@@ -77,6 +91,57 @@ public class EntityCacheImpl implements EntityCache {
             return;
         }
         classCache.remove(entityId);
+
+        Map<String, CachedEntityIndex> classIndexes = cachedIndexes.get(entityClass);
+        if (classIndexes != null) {
+            for (CachedEntityIndex index : classIndexes.values()) {
+                index.remove(entityId);
+            }
+        }
+    }
+
+    @Override
+    public Collection<CachedEntity> findInCacheByIndex(Class<?> entityClass, EntityCacheIndex<?> index, Object indexKey) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return Collections.emptyList();
+        }
+
+        Map<String, CachedEntityIndex> classIndexes = cachedIndexes.get(entityClass);
+        if (classIndexes == null) {
+            classIndexes = new HashMap<>();
+            cachedIndexes.put(entityClass, classIndexes);
+        }
+
+        CachedEntityIndex cachedIndex = classIndexes.get(index.getIndexName());
+        if (cachedIndex == null) {
+            cachedIndex = new CachedEntityIndex(index);
+            for (CachedEntity cachedObject : classCache.values()) {
+                cachedIndex.put(cachedObject);
+            }
+            classIndexes.put(index.getIndexName(), cachedIndex);
+        }
+
+        return cachedIndex.get(indexKey);
+    }
+
+    @Override
+    public void updateIndexes(Entity entity) {
+        Map<String, CachedEntityIndex> classIndexes = cachedIndexes.get(entity.getClass());
+        if (classIndexes == null) {
+            return;
+        }
+
+        Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
+        CachedEntity cachedObject = classCache != null ? classCache.get(entity.getId()) : null;
+        if (cachedObject == null || cachedObject.getEntity() != entity) {
+            // Only the instance in the cache is indexed
+            return;
+        }
+
+        for (CachedEntityIndex index : classIndexes.values()) {
+            index.put(cachedObject);
+        }
     }
 
     @Override
@@ -122,4 +187,51 @@ public class EntityCacheImpl implements EntityCache {
     public void flush() {
 
     }
+
+    protected static class CachedEntityIndex {
+
+        protected EntityCacheIndex<Entity> index;
+        protected Map<Object, Map<String, CachedEntity>> cachedObjectsByKey = new HashMap<>();
+        protected Map<String, Object> keysById = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        public CachedEntityIndex(EntityCacheIndex<?> index) {
+            this.index = (EntityCacheIndex<Entity>) index;
+        }
+
+        public void put(CachedEntity cachedObject) {
+            String id = cachedObject.getEntity().getId();
+            remove(id);
+
+            Object key = index.getIndexKey(cachedObject.getEntity());
+            if (key != null) {
+                Map<String, CachedEntity> keyCache = cachedObjectsByKey.get(key);
+                if (keyCache == null) {
+                    keyCache = new LinkedHashMap<>();
+                    cachedObjectsByKey.put(key, keyCache);
+                }
+                keyCache.put(id, cachedObject);
+                keysById.put(id, key);
+            }
+        }
+
+        public void remove(String id) {
+            Object key = keysById.remove(id);
+            if (key != null) {
+                Map<String, CachedEntity> keyCache = cachedObjectsByKey.get(key);
+                keyCache.remove(id);
+                if (keyCache.isEmpty()) {
+                    cachedObjectsByKey.remove(key);
+                }
+            }
+        }
+
+        public Collection<CachedEntity> get(Object key) {
+            Map<String, CachedEntity> keyCache = cachedObjectsByKey.get(key);
+            if (keyCache == null) {
+                return Collections.emptyList();
+            }
+            return new ArrayList<>(keyCache.values());
+        }
+    }
 }
@@ -0,0 +1,33 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * A secondary index of the {@link EntityCache}: groups the cached entities of a type by a key derived from the entity
+ * (e.g. the parent execution id), so they can be found without going through all cached entities of that type.
+ *
+ * Indexes are identified by their name: all indexes with the same name must return the same key for an entity.
+ * Entities changing a property used as index key need to call {@link EntityCache#updateIndexes(Entity)}.
+ */
+public interface EntityCacheIndex<EntityImpl extends Entity> {
+
+    String getIndexName();
+
+    /**
+     * Returns the key under which the entity is indexed, or null if the entity shouldn't be indexed.
+     */
+    Object getIndexKey(EntityImpl entity);
+
+}
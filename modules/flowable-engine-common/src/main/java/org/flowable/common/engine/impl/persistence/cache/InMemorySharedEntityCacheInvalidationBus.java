@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A {@link SharedEntityCacheInvalidationBus} delivering the invalidations to the listeners in the same JVM.
+ * Useful for tests, or when multiple engines on the same database run in one JVM.
+ */
+public class InMemorySharedEntityCacheInvalidationBus implements SharedEntityCacheInvalidationBus {
+
+    protected List<SharedEntityCacheInvalidationListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publishInvalidation(Class<?> entityClass, String entityId) {
+        for (SharedEntityCacheInvalidationListener listener : listeners) {
+            listener.onInvalidation(entityClass, entityId);
+        }
+    }
+
+    @Override
+    public void addInvalidationListener(SharedEntityCacheInvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    public List<SharedEntityCacheInvalidationListener> getListeners() {
+        return listeners;
+    }
+}
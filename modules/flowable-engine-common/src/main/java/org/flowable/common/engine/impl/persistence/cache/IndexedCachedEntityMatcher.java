@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * A {@link CachedEntityMatcher} that only retains entities with a given {@link EntityCacheIndex} key.
+ * The cache lookups then only need to check the entities indexed under the key of the query parameter.
+ */
+public interface IndexedCachedEntityMatcher<EntityImpl extends Entity> extends CachedEntityMatcher<EntityImpl>, EntityCacheIndex<EntityImpl> {
+
+    /**
+     * Returns the index key of the entities that can be retained for the given query parameter,
+     * or null when all the cached entities need to be checked.
+     */
+    default Object getIndexKeyForParameter(Object parameter) {
+        return parameter;
+    }
+
+}
@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * A cache of {@link Entity} instances shared by all transactions (a second level cache, next to the {@link EntityCache} of one command).
+ * It is only used for the entity types it is enabled for, when fetching an entity by id.
+ *
+ * The cache never hands out the instance it keeps, every lookup returns a copy that can be changed by the command using it.
+ * Changes done through an entity are invalidated when flushing them. Changes done with a custom update statement are not noticed,
+ * so this cache should only be enabled for entity types that are read a lot and only changed through their entity.
+ */
+public interface SharedEntityCache {
+
+    /**
+     * Returns whether entities of the given type are kept in the cache.
+     */
+    boolean isCacheable(Class<?> entityClass);
+
+    /**
+     * Returns a copy of the cached entity of the given type with the given id, or null if it isn't cached.
+     */
+    <T extends Entity> T get(Class<T> entityClass, String id);
+
+    /**
+     * Returns the current version of the cache, which changes on every invalidation.
+     * Entities read from the database need to be put with the version from before the read, so stale reads are not cached.
+     */
+    long getVersion();
+
+    /**
+     * Caches a copy of the given entity, unless the cache was invalidated since the given version.
+     */
+    void put(Class<?> entityClass, Entity entity, long version);
+
+    /**
+     * Removes the entity of the given type with the given id from this cache and the caches of the other nodes.
+     */
+    void invalidate(Class<?> entityClass, String id);
+
+    /**
+     * Removes all entities of the given type from this cache and the caches of the other nodes.
+     */
+    void invalidateAll(Class<?> entityClass);
+
+    /**
+     * Removes all entities from this cache, without notifying the other nodes.
+     */
+    void clear();
+
+}
@@ -0,0 +1,270 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link SharedEntityCache}, keeping the entities of the enabled types in memory up to a maximum number per type.
+ *
+ * The cached entities and the copies handed out are deep copies, made through reflection: dates, arrays, collections, maps,
+ * {@link ByteArrayRef} fields and referenced entities are copied, so no mutable state is shared between the cache and the
+ * commands reading from it. Entities with field values of other mutable types can't be copied and are not cached.
+ */
+public class SharedEntityCacheImpl implements SharedEntityCache, SharedEntityCacheInvalidationListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedEntityCacheImpl.class);
+
+    protected Set<Class<?>> cacheableEntityClasses;
+    protected int maxEntriesPerEntityType;
+    protected SharedEntityCacheInvalidationBus invalidationBus;
+
+    protected Map<Class<?>, Map<String, Entity>> cachedEntities = new ConcurrentHashMap<>();
+    protected Map<Class<?>, List<Field>> entityFields = new ConcurrentHashMap<>();
+    protected AtomicLong version = new AtomicLong();
+
+    public SharedEntityCacheImpl(Collection<Class<? extends Entity>> cacheableEntityClasses, int maxEntriesPerEntityType,
+            SharedEntityCacheInvalidationBus invalidationBus) {
+        this.cacheableEntityClasses = new HashSet<>(cacheableEntityClasses);
+        this.maxEntriesPerEntityType = maxEntriesPerEntityType;
+        this.invalidationBus = invalidationBus;
+
+        if (invalidationBus != null) {
+            invalidationBus.addInvalidationListener(this);
+        }
+    }
+
+    @Override
+    public boolean isCacheable(Class<?> entityClass) {
+        return cacheableEntityClasses.contains(entityClass);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> T get(Class<T> entityClass, String id) {
+        Map<String, Entity> classCache = cachedEntities.get(entityClass);
+        if (classCache == null) {
+            return null;
+        }
+
+        Entity entity = classCache.get(id);
+        if (entity == null) {
+            return null;
+        }
+        return (T) copyEntity(entity);
+    }
+
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Override
+    public void put(Class<?> entityClass, Entity entity, long version) {
+        if (!isCacheable(entityClass) || entity.getId() == null) {
+            return;
+        }
+
+        Map<String, Entity> classCache = cachedEntities.computeIfAbsent(entityClass, key -> new ConcurrentHashMap<>());
+        if (classCache.size() >= maxEntriesPerEntityType && !classCache.containsKey(entity.getId())) {
+            return;
+        }
+
+        Entity copy;
+        try {
+            copy = copyEntity(entity);
+        } catch (FlowableException e) {
+            LOGGER.debug("Not caching entity {} of type {}", entity.getId(), entityClass, e);
+            return;
+        }
+
+        classCache.put(entity.getId(), copy);
+
+        // An invalidation between the read and the put could have removed the entity before it was put,
+        // in that case the entity read is possibly stale and can't be kept
+        if (this.version.get() != version) {
+            classCache.remove(entity.getId());
+        }
+    }
+
+    @Override
+    public void invalidate(Class<?> entityClass, String id) {
+        evict(entityClass, id);
+        if (invalidationBus != null) {
+            invalidationBus.publishInvalidation(entityClass, id);
+        }
+    }
+
+    @Override
+    public void invalidateAll(Class<?> entityClass) {
+        evict(entityClass, null);
+        if (invalidationBus != null) {
+            invalidationBus.publishInvalidation(entityClass, null);
+        }
+    }
+
+    @Override
+    public void onInvalidation(Class<?> entityClass, String entityId) {
+        evict(entityClass, entityId);
+    }
+
+    protected void evict(Class<?> entityClass, String id) {
+        version.incrementAndGet();
+
+        Map<String, Entity> classCache = cachedEntities.get(entityClass);
+        if (classCache != null) {
+            if (id != null) {
+                classCache.remove(id);
+            } else {
+                classCache.clear();
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        version.incrementAndGet();
+        cachedEntities.clear();
+    }
+
+    protected Entity copyEntity(Entity entity) {
+        return (Entity) copyValue(entity, new IdentityHashMap<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Object copyValue(Object value, Map<Object, Object> copies) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+
+        // Values referenced more than once (or cyclic entity references) are copied only once
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+
+        if (value instanceof Date) {
+            copy = ((Date) value).clone();
+
+        } else if (value instanceof byte[]) {
+            copy = ((byte[]) value).clone();
+
+        } else if (value instanceof ByteArrayRef) {
+            copy = ((ByteArrayRef) value).copy();
+
+        } else if (value instanceof Entity) {
+            copy = newInstance(value.getClass(), null);
+            copies.put(value, copy);
+            for (Field field : getEntityFields(value.getClass())) {
+                try {
+                    field.set(copy, copyValue(field.get(value), copies));
+                } catch (IllegalAccessException e) {
+                    throw new FlowableException("Could not copy field " + field.getName() + " of entity " + value, e);
+                }
+            }
+
+        } else if (value instanceof Map) {
+            Map<Object, Object> mapCopy = (Map<Object, Object>) newInstance(value.getClass(), LinkedHashMap.class);
+            copies.put(value, mapCopy);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                mapCopy.put(copyValue(entry.getKey(), copies), copyValue(entry.getValue(), copies));
+            }
+            copy = mapCopy;
+
+        } else if (value instanceof Collection) {
+            Class<?> fallbackClass = value instanceof Set ? LinkedHashSet.class : ArrayList.class;
+            Collection<Object> collectionCopy = (Collection<Object>) newInstance(value.getClass(), fallbackClass);
+            copies.put(value, collectionCopy);
+            for (Object element : (Collection<?>) value) {
+                collectionCopy.add(copyValue(element, copies));
+            }
+            copy = collectionCopy;
+
+        } else {
+            throw new FlowableException("Value of type " + value.getClass().getName() + " can't be copied for the shared entity cache");
+        }
+
+        copies.put(value, copy);
+        return copy;
+    }
+
+    protected boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Character || value instanceof Enum
+                || value instanceof Class || value instanceof UUID
+                || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Double || value instanceof Float || value instanceof BigDecimal || value instanceof BigInteger;
+    }
+
+    protected Object newInstance(Class<?> clazz, Class<?> fallbackClass) {
+        try {
+            return clazz.getDeclaredConstructor().newInstance();
+
+        } catch (ReflectiveOperationException e) {
+            // Unmodifiable or otherwise special collections (e.g. Arrays.asList) don't have a public no-arg constructor
+            if (fallbackClass != null) {
+                return newInstance(fallbackClass, null);
+            }
+            throw new FlowableException("Could not create a copy of " + clazz.getName() + " for the shared entity cache", e);
+        }
+    }
+
+    protected List<Field> getEntityFields(Class<?> entityClass) {
+        return entityFields.computeIfAbsent(entityClass, key -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> clazz = key; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields;
+        });
+    }
+
+    public Set<Class<?>> getCacheableEntityClasses() {
+        return cacheableEntityClasses;
+    }
+
+    public int getMaxEntriesPerEntityType() {
+        return maxEntriesPerEntityType;
+    }
+
+    public SharedEntityCacheInvalidationBus getInvalidationBus() {
+        return invalidationBus;
+    }
+}
@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+/**
+ * Distributes the invalidations of a {@link SharedEntityCache} to the caches of all nodes using the same database.
+ * Implementations typically publish to a messaging system and call the listeners for the invalidations received from it.
+ */
+public interface SharedEntityCacheInvalidationBus {
+
+    /**
+     * Publishes that the entity of the given type with the given id needs to be invalidated.
+     * A null id means that all entities of the type need to be invalidated.
+     */
+    void publishInvalidation(Class<?> entityClass, String entityId);
+
+    void addInvalidationListener(SharedEntityCacheInvalidationListener listener);
+
+}
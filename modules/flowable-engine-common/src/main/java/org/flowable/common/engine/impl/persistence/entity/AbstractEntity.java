@@ -12,7 +12,14 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.util.Objects;
+
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.HasRevision;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheIndex;
 
 /**
  * Abstract superclass for the common properties of all {@link Entity} implementations.
@@ -94,4 +101,23 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     public void setOriginalPersistentState(Object persistentState) {
         this.originalPersistentState = persistentState;
     }
+
+    /**
+     * To be called by the setters of properties used as {@link EntityCacheIndex} key,
+     * so the entity cache of the current command can move the entity to its new key.
+     */
+    protected void indexedPropertyChanged(Object oldValue, Object newValue) {
+        if (id == null || Objects.equals(oldValue, newValue)) {
+            return;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            // Don't open an entity cache just for this: an entity that isn't cached isn't indexed either
+            Session entityCache = commandContext.getSessions().get(EntityCache.class);
+            if (entityCache != null) {
+                ((EntityCache) entityCache).updateIndexes(this);
+            }
+        }
+    }
 }
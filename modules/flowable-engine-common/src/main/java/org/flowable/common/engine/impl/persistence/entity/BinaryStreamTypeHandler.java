@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeReference;
+
+/**
+ * MyBatis TypeHandler that reads a binary column as an {@link InputStream}, without loading the complete column value in memory.
+ * <p>
+ * Contrary to the default {@link org.apache.ibatis.type.BlobInputStreamTypeHandler} this uses {@link ResultSet#getBinaryStream(String)},
+ * which works for all the binary column types that are used for the BYTES_ column (e.g. also for the BYTEA column on Postgres).
+ * The returned stream is only valid as long as the result set is positioned on the row it was read from.
+ */
+public class BinaryStreamTypeHandler extends TypeReference<InputStream> implements TypeHandler<InputStream> {
+
+    @Override
+    public void setParameter(PreparedStatement ps, int i, InputStream parameter, JdbcType jdbcType) throws SQLException {
+        if (parameter == null) {
+            ps.setNull(i, jdbcType != null ? jdbcType.TYPE_CODE : Types.BLOB);
+        } else {
+            ps.setBinaryStream(i, parameter);
+        }
+    }
+
+    @Override
+    public InputStream getResult(ResultSet rs, String columnName) throws SQLException {
+        return rs.getBinaryStream(columnName);
+    }
+
+    @Override
+    public InputStream getResult(ResultSet rs, int columnIndex) throws SQLException {
+        return rs.getBinaryStream(columnIndex);
+    }
+
+    @Override
+    public InputStream getResult(CallableStatement cs, int columnIndex) throws SQLException {
+        // Callable statements have no getBinaryStream, the bytes of output parameters are read in memory instead
+        byte[] bytes = cs.getBytes(columnIndex);
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
+}
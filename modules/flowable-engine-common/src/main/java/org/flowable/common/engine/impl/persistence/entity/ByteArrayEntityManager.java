@@ -14,6 +14,8 @@ package org.flowable.common.engine.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.common.engine.api.io.InputStreamHandler;
+
 /**
  * @author Joram Barrez
  */
@@ -30,4 +32,13 @@ public interface ByteArrayEntityManager extends EntityManager<ByteArrayEntity> {
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
+    /**
+     * Passes the bytes of the {@link ByteArrayEntity} with the given id as a stream to the given handler, without loading all the bytes in memory
+     * (when supported by the JDBC driver). When the entity has already been loaded or changed in the current command context, the bytes of that
+     * entity are used instead.
+     * 
+     * @return the result of the handler or null if there is no {@link ByteArrayEntity} with the given id (in which case the handler is not invoked)
+     */
+    <T> T readBytesAsStream(String byteArrayEntityId, InputStreamHandler<T> inputStreamHandler);
+
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.function.Supplier;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.api.io.InputStreamHandler;
 import org.flowable.common.engine.impl.persistence.entity.data.ByteArrayDataManager;
 /**
  * @author Joram Barrez
@@ -43,6 +44,11 @@ public class ByteArrayEntityManagerImpl
         dataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
 
+    @Override
+    public <T> T readBytesAsStream(String byteArrayEntityId, InputStreamHandler<T> inputStreamHandler) {
+        return dataManager.readBytesAsStream(byteArrayEntityId, inputStreamHandler);
+    }
+
     @Override
     protected FlowableEventDispatcher getEventDispatcher() {
         return eventDispatcherSupplier.get();
@@ -12,9 +12,14 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.io.InputStreamHandler;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.context.Context;
@@ -61,6 +66,41 @@ public class ByteArrayRef implements Serializable {
         return (entity != null ? entity.getBytes() : null);
     }
 
+    /**
+     * Passes the content of the referenced byte array as a stream to the given handler.
+     * Contrary to {@link #getBytes(String)}, the bytes are not kept in memory when they haven't been loaded before,
+     * which makes this method the preferred way of reading large values.
+     *
+     * @return the result of the handler or null when there is no byte array (in which case the handler is not invoked)
+     */
+    public <T> T readBytes(String engineType, InputStreamHandler<T> inputStreamHandler) {
+        if (entity != null) {
+            byte[] bytes = entity.getBytes();
+            if (bytes == null) {
+                return null;
+            }
+
+            try (InputStream inputStream = new ByteArrayInputStream(bytes)) {
+                return inputStreamHandler.handle(inputStream);
+            } catch (IOException e) {
+                throw new FlowableException("Could not read byte array content", e);
+            }
+        }
+
+        if (id == null) {
+            return null;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            return getEngineConfiguration(engineType).getByteArrayEntityManager().readBytesAsStream(id, inputStreamHandler);
+        } else if (commandExecutor != null) {
+            return commandExecutor.execute(context -> getEngineConfiguration(engineType).getByteArrayEntityManager().readBytesAsStream(id, inputStreamHandler));
+        } else {
+            throw new IllegalStateException("Cannot read byte array. There is no command context and there is no command Executor");
+        }
+    }
+
     /**
      * Returns the byte array from the {@link #getBytes(String)} method as {@link StandardCharsets#UTF_8} {@link String}.
      *
@@ -14,6 +14,7 @@ package org.flowable.common.engine.impl.persistence.entity.data;
 
 import java.util.List;
 
+import org.flowable.common.engine.api.io.InputStreamHandler;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
 
 /**
@@ -25,4 +26,6 @@ public interface ByteArrayDataManager extends DataManager<ByteArrayEntity> {
 
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
 
+    <T> T readBytesAsStream(String byteArrayEntityId, InputStreamHandler<T> inputStreamHandler);
+
 }
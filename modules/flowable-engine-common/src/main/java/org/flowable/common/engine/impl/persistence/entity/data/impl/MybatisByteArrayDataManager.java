@@ -12,10 +12,19 @@
  */
 package org.flowable.common.engine.impl.persistence.entity.data.impl;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.io.InputStreamHandler;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntity;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityImpl;
 import org.flowable.common.engine.impl.persistence.entity.data.ByteArrayDataManager;
@@ -52,8 +61,59 @@ public class MybatisByteArrayDataManager extends AbstractDataManager<ByteArrayEn
         getDbSqlSession().delete("deleteByteArrayNoRevisionCheck", byteArrayEntityId, ByteArrayEntityImpl.class);
     }
 
+    @Override
+    public <T> T readBytesAsStream(String byteArrayEntityId, InputStreamHandler<T> inputStreamHandler) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+
+        // Changes that are not flushed yet (or an entity that was already fetched) take precedence over what is in the database
+        ByteArrayEntity cachedEntity = getEntityCache().findInCache(getManagedEntityClass(), byteArrayEntityId);
+        if (cachedEntity != null) {
+            if (dbSqlSession.isEntityToBeDeleted(cachedEntity) || cachedEntity.getBytes() == null) {
+                return null;
+            }
+            return handleInputStream(new ByteArrayInputStream(cachedEntity.getBytes()), inputStreamHandler);
+        }
+
+        StreamingResultHandler<T> resultHandler = new StreamingResultHandler<>(inputStreamHandler);
+        String statement = dbSqlSession.getDbSqlSessionFactory().mapStatement("selectByteArrayBytesAsStream");
+        dbSqlSession.getSqlSession().select(statement, byteArrayEntityId, resultHandler);
+        return resultHandler.result;
+    }
+
+    protected <T> T handleInputStream(InputStream inputStream, InputStreamHandler<T> inputStreamHandler) {
+        try (InputStream stream = inputStream) {
+            return inputStreamHandler.handle(stream);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read byte array content", e);
+        }
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return idGenerator;
     }
+
+    /**
+     * The stream returned by the JDBC driver is only valid while the current row is being processed,
+     * hence why the {@link InputStreamHandler} is invoked from within the {@link ResultHandler}.
+     */
+    protected class StreamingResultHandler<T> implements ResultHandler<Map<String, Object>> {
+
+        protected InputStreamHandler<T> inputStreamHandler;
+        protected T result;
+
+        public StreamingResultHandler(InputStreamHandler<T> inputStreamHandler) {
+            this.inputStreamHandler = inputStreamHandler;
+        }
+
+        @Override
+        public void handleResult(ResultContext<? extends Map<String, Object>> resultContext) {
+            Map<String, Object> row = resultContext.getResultObject();
+            InputStream inputStream = row != null ? (InputStream) row.get("bytes") : null;
+            if (inputStream != null) {
+                result = handleInputStream(inputStream, inputStreamHandler);
+            }
+            resultContext.stop();
+        }
+    }
 }
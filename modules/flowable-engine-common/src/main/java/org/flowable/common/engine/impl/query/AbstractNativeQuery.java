@@ -18,6 +18,7 @@ import java.util.Map;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.query.NativeQuery;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.ReadOnlyDataSourceUtil;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
@@ -104,6 +105,10 @@ public abstract class AbstractNativeQuery<T extends NativeQuery<?, ?>, U> extend
 
     @Override
     public Object execute(CommandContext commandContext) {
+        return ReadOnlyDataSourceUtil.executeWithReadOnlyDataSource(commandContext, this, () -> executeForResultType(commandContext));
+    }
+
+    protected Object executeForResultType(CommandContext commandContext) {
         if (resultType == ResultType.LIST) {
             return executeList(commandContext, generateParameterMap());
         } else if (resultType == ResultType.LIST_PAGE) {
@@ -22,6 +22,7 @@ import org.flowable.common.engine.api.query.QueryProperty;
 import org.flowable.common.engine.impl.Direction;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.ListQueryParameterObject;
+import org.flowable.common.engine.impl.db.ReadOnlyDataSourceUtil;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
@@ -158,6 +159,10 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     @Override
     public Object execute(CommandContext commandContext) {
         checkQueryOk();
+        return ReadOnlyDataSourceUtil.executeWithReadOnlyDataSource(commandContext, this, () -> executeForResultType(commandContext));
+    }
+
+    protected Object executeForResultType(CommandContext commandContext) {
         if (resultType == ResultType.LIST) {
             return executeList(commandContext);
         } else if (resultType == ResultType.SINGLE_RESULT) {
@@ -12,7 +12,8 @@
  */
 package org.flowable.common.engine.impl.transaction;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 import org.flowable.common.engine.impl.cfg.TransactionContext;
 
@@ -24,10 +25,10 @@ import org.flowable.common.engine.impl.cfg.TransactionContext;
  */
 public class TransactionContextHolder {
 
-    protected static ThreadLocal<Stack<TransactionContext>> transactionContextThreadLocal = new ThreadLocal<>();
+    protected static ThreadLocal<Deque<TransactionContext>> transactionContextThreadLocal = new ThreadLocal<>();
 
     public static TransactionContext getTransactionContext() {
-        Stack<TransactionContext> stack = getStack(transactionContextThreadLocal);
+        Deque<TransactionContext> stack = getStack(transactionContextThreadLocal);
         if (stack.isEmpty()) {
             return null;
         }
@@ -46,10 +47,11 @@ public class TransactionContextHolder {
         return !getStack(transactionContextThreadLocal).isEmpty();
     }
 
-    protected static <T> Stack<T> getStack(ThreadLocal<Stack<T>> threadLocal) {
-        Stack<T> stack = threadLocal.get();
+    protected static <T> Deque<T> getStack(ThreadLocal<Deque<T>> threadLocal) {
+        // The stack is confined to the current thread, so there is no need for the synchronization of java.util.Stack
+        Deque<T> stack = threadLocal.get();
         if (stack == null) {
-            stack = new Stack<>();
+            stack = new ArrayDeque<>(4);
             threadLocal.set(stack);
         }
         return stack;
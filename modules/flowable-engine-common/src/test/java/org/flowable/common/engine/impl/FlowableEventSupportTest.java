@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
@@ -30,6 +32,7 @@ import org.flowable.common.engine.impl.cfg.TransactionContext;
 import org.flowable.common.engine.impl.cfg.TransactionListener;
 import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.event.AsyncFlowableEventBus;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
 import org.junit.jupiter.api.Test;
 
@@ -480,6 +483,117 @@ class FlowableEventSupportTest {
 
     }
 
+    @Test
+    void hasListenersShouldReflectRegisteredListeners() {
+        TestFlowableEventType testEventType = new TestFlowableEventType("test");
+        TestFlowableEventType otherTestEventType = new TestFlowableEventType("otherTest");
+        assertThat(flowableEventSupport.hasListeners(testEventType)).isFalse();
+
+        TestFlowableEventListener testListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(testListener, testEventType);
+        assertThat(flowableEventSupport.hasListeners(testEventType)).isTrue();
+        assertThat(flowableEventSupport.hasListeners(otherTestEventType)).isFalse();
+
+        TestFlowableEventListener globalListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(globalListener);
+        assertThat(flowableEventSupport.hasListeners(otherTestEventType)).isTrue();
+
+        flowableEventSupport.removeEventListener(globalListener);
+        flowableEventSupport.removeEventListener(testListener);
+        assertThat(flowableEventSupport.hasListeners(testEventType)).isFalse();
+        assertThat(flowableEventSupport.hasListeners(otherTestEventType)).isFalse();
+    }
+
+    @Test
+    void asynchronousListenersShouldBeInvokedOnTheAsyncEventBusAfterCommit() {
+        AsyncFlowableEventBus asyncEventBus = new AsyncFlowableEventBus(2, 16);
+        asyncEventBus.start();
+        flowableEventSupport.setAsyncEventBus(asyncEventBus);
+
+        TestFlowableEventListener asyncListener = new TestFlowableEventListener();
+        asyncListener.setAsynchronous(true);
+        flowableEventSupport.addEventListener(asyncListener);
+
+        TestFlowableEventListener normalListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(normalListener);
+
+        try {
+            TestTransactionContext transactionContext = new TestTransactionContext();
+            Context.setTransactionContext(transactionContext);
+            TestFlowableEvent firstEvent = new TestFlowableEvent(new TestFlowableEventType("first"));
+            TestFlowableEvent secondEvent = new TestFlowableEvent(new TestFlowableEventType("second"));
+
+            flowableEventSupport.dispatchEvent(firstEvent);
+            flowableEventSupport.dispatchEvent(secondEvent);
+
+            assertThat(normalListener.getReceivedEvents()).containsExactly(firstEvent, secondEvent);
+            assertThat(asyncListener.getReceivedEvents()).isEmpty();
+            assertThat(asyncEventBus.getSubmittedEvents()).isZero();
+
+            transactionContext.getTransactionStateListeners().get(TransactionState.COMMITTED)
+                .forEach(transactionListener -> transactionListener.execute(null));
+
+            // Shutting down waits for the queued events to be delivered
+            asyncEventBus.shutdown();
+
+            assertThat(asyncListener.getReceivedEvents()).containsExactly(firstEvent, secondEvent);
+            assertThat(asyncListener.getReceivingThreads())
+                .doesNotContain(Thread.currentThread());
+            assertThat(asyncEventBus.getSubmittedEvents()).isEqualTo(2);
+            assertThat(asyncEventBus.getDeliveredEvents()).isEqualTo(2);
+            assertThat(asyncEventBus.getPendingEvents()).isZero();
+        } finally {
+            Context.removeTransactionContext();
+            asyncEventBus.shutdown();
+        }
+    }
+
+    @Test
+    void asyncEventBusShouldApplyOverflowPolicyWhenQueueIsFull() {
+        AsyncFlowableEventBus asyncEventBus = new AsyncFlowableEventBus(1, 1)
+            .setOverflowPolicy(AsyncFlowableEventBus.OverflowPolicy.DISCARD);
+        asyncEventBus.start();
+
+        CountDownLatch blockingListenerStarted = new CountDownLatch(1);
+        CountDownLatch releaseBlockingListener = new CountDownLatch(1);
+        TestFlowableEventListener blockingListener = new TestFlowableEventListener() {
+
+            @Override
+            public void onEvent(FlowableEvent event) {
+                super.onEvent(event);
+                blockingListenerStarted.countDown();
+                try {
+                    releaseBlockingListener.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        try {
+            asyncEventBus.submit(new TestFlowableEvent(new TestFlowableEventType("first")), blockingListener);
+            assertThat(blockingListenerStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // The lane thread is busy with the first event, the second one fills the queue and the third one overflows
+            asyncEventBus.submit(new TestFlowableEvent(new TestFlowableEventType("second")), blockingListener);
+            asyncEventBus.submit(new TestFlowableEvent(new TestFlowableEventType("third")), blockingListener);
+
+            assertThat(asyncEventBus.getDiscardedEvents()).isEqualTo(1);
+            assertThat(asyncEventBus.getPendingEvents()).isEqualTo(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            releaseBlockingListener.countDown();
+            asyncEventBus.shutdown();
+        }
+
+        assertThat(blockingListener.getReceivedEvents())
+            .extracting(event -> event.getType().name())
+            .containsExactly("first", "second");
+        assertThat(asyncEventBus.getSubmittedEvents()).isEqualTo(3);
+        assertThat(asyncEventBus.getDeliveredEvents()).isEqualTo(2);
+    }
+
     private static class TestFlowableEventType implements FlowableEventType {
 
         protected final String name;
@@ -525,7 +639,9 @@ class FlowableEventSupportTest {
     private static class TestFlowableEventListener extends AbstractFlowableEventListener {
 
         protected final List<FlowableEvent> receivedEvents = new ArrayList<>();
+        protected final List<Thread> receivingThreads = new ArrayList<>();
         protected boolean failOnException;
+        protected boolean asynchronous;
         protected RuntimeException exceptionToThrow;
 
         protected FlowableEventType eventType;
@@ -541,6 +657,7 @@ class FlowableEventSupportTest {
         @Override
         public void onEvent(FlowableEvent event) {
             receivedEvents.add(event);
+            receivingThreads.add(Thread.currentThread());
             if (exceptionToThrow != null) {
                 throw exceptionToThrow;
             }
@@ -556,10 +673,23 @@ class FlowableEventSupportTest {
             return eventType == null ? super.getTypes() : Collections.singleton(eventType);
         }
 
+        @Override
+        public boolean isAsynchronous() {
+            return asynchronous;
+        }
+
         public List<FlowableEvent> getReceivedEvents() {
             return receivedEvents;
         }
 
+        public List<Thread> getReceivingThreads() {
+            return receivingThreads;
+        }
+
+        public void setAsynchronous(boolean asynchronous) {
+            this.asynchronous = asynchronous;
+        }
+
         public void setFailOnException(boolean failOnException) {
             this.failOnException = failOnException;
         }
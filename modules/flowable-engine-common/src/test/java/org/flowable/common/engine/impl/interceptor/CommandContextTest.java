@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.NoSuchElementException;
+
+import org.flowable.common.engine.impl.context.Context;
+import org.junit.jupiter.api.Test;
+
+class CommandContextTest {
+
+    @Test
+    void rootUsageOfCurrentEngine() {
+        CommandContext commandContext = new CommandContext(null);
+        assertThat(commandContext.isRootUsageOfCurrentEngine()).isTrue();
+
+        commandContext.pushEngineCfgToStack("cmmn");
+        assertThat(commandContext.isRootUsageOfCurrentEngine()).isTrue();
+
+        commandContext.pushEngineCfgToStack("bpmn");
+        assertThat(commandContext.isRootUsageOfCurrentEngine()).isTrue();
+
+        commandContext.pushEngineCfgToStack("cmmn");
+        assertThat(commandContext.isRootUsageOfCurrentEngine()).isFalse();
+
+        assertThat(commandContext.popEngineCfgStack()).isEqualTo("cmmn");
+        assertThat(commandContext.isRootUsageOfCurrentEngine()).isTrue();
+        assertThat(commandContext.popEngineCfgStack()).isEqualTo("bpmn");
+        assertThat(commandContext.popEngineCfgStack()).isEqualTo("cmmn");
+
+        assertThatThrownBy(commandContext::popEngineCfgStack)
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void resultsAreReturnedInReverseOrder() {
+        CommandContext commandContext = new CommandContext(null);
+        commandContext.setResult("outer");
+        commandContext.setResult(null);
+        commandContext.setResult("inner");
+
+        assertThat(commandContext.getResult()).isEqualTo("inner");
+        assertThat(commandContext.getResult()).isNull();
+        assertThat(commandContext.getResult()).isEqualTo("outer");
+        assertThat(commandContext.getResult()).isNull();
+    }
+
+    @Test
+    void nestedCommandContexts() {
+        CommandContext outer = new CommandContext(null);
+        CommandContext inner = new CommandContext(null);
+
+        assertThat(Context.getCommandContext()).isNull();
+        try {
+            Context.setCommandContext(outer);
+            assertThat(Context.getCommandContext()).isSameAs(outer);
+
+            Context.setCommandContext(inner);
+            assertThat(Context.getCommandContext()).isSameAs(inner);
+
+            Context.removeCommandContext();
+            assertThat(Context.getCommandContext()).isSameAs(outer);
+        } finally {
+            Context.removeCommandContext();
+        }
+
+        assertThat(Context.getCommandContext()).isNull();
+    }
+}
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheImplTest {
+
+    protected EntityCacheImpl entityCache = new EntityCacheImpl();
+    protected ParentIdIndex parentIdIndex = new ParentIdIndex();
+
+    @Test
+    void findInCacheByIndex() {
+        entityCache.put(new TestEntity("1", "parent1"), false);
+        entityCache.put(new TestEntity("2", "parent1"), false);
+        entityCache.put(new TestEntity("3", "parent2"), false);
+        entityCache.put(new TestEntity("4", null), false);
+
+        assertThat(findIdsByParentId("parent1")).containsExactlyInAnyOrder("1", "2");
+        assertThat(findIdsByParentId("parent2")).containsExactly("3");
+        assertThat(findIdsByParentId("unknown")).isEmpty();
+
+        // Entities put after the index was built are indexed as well
+        entityCache.put(new TestEntity("5", "parent2"), false);
+        assertThat(findIdsByParentId("parent2")).containsExactlyInAnyOrder("3", "5");
+    }
+
+    @Test
+    void findInCacheByIndexAfterRemove() {
+        entityCache.put(new TestEntity("1", "parent1"), false);
+        entityCache.put(new TestEntity("2", "parent1"), false);
+        assertThat(findIdsByParentId("parent1")).containsExactlyInAnyOrder("1", "2");
+
+        entityCache.cacheRemove(TestEntity.class, "1");
+        assertThat(findIdsByParentId("parent1")).containsExactly("2");
+    }
+
+    @Test
+    void findInCacheByIndexAfterReplace() {
+        entityCache.put(new TestEntity("1", "parent1"), false);
+        assertThat(findIdsByParentId("parent1")).containsExactly("1");
+
+        entityCache.put(new TestEntity("1", "parent2"), false);
+        assertThat(findIdsByParentId("parent1")).isEmpty();
+        assertThat(findIdsByParentId("parent2")).containsExactly("1");
+    }
+
+    @Test
+    void updateIndexes() {
+        TestEntity entity = new TestEntity("1", "parent1");
+        entityCache.put(entity, false);
+        assertThat(findIdsByParentId("parent1")).containsExactly("1");
+
+        entity.parentId = "parent2";
+        entityCache.updateIndexes(entity);
+        assertThat(findIdsByParentId("parent1")).isEmpty();
+        assertThat(findIdsByParentId("parent2")).containsExactly("1");
+
+        // An instance that isn't the cached one doesn't change the index
+        entityCache.updateIndexes(new TestEntity("1", "parent3"));
+        assertThat(findIdsByParentId("parent2")).containsExactly("1");
+        assertThat(findIdsByParentId("parent3")).isEmpty();
+    }
+
+    @Test
+    void findInCacheByIndexWithoutCachedEntities() {
+        assertThat(entityCache.findInCacheByIndex(TestEntity.class, parentIdIndex, "parent1")).isEmpty();
+    }
+
+    protected Collection<String> findIdsByParentId(String parentId) {
+        return entityCache.findInCacheByIndex(TestEntity.class, parentIdIndex, parentId).stream()
+                .map(cachedEntity -> cachedEntity.getEntity().getId())
+                .collect(Collectors.toList());
+    }
+
+    protected static class TestEntity extends AbstractEntity {
+
+        protected String parentId;
+
+        public TestEntity(String id, String parentId) {
+            this.id = id;
+            this.parentId = parentId;
+        }
+
+        @Override
+        public Object getPersistentState() {
+            return parentId;
+        }
+    }
+
+    protected static class ParentIdIndex implements EntityCacheIndex<TestEntity> {
+
+        @Override
+        public String getIndexName() {
+            return "parentId";
+        }
+
+        @Override
+        public Object getIndexKey(TestEntity entity) {
+            return entity.parentId;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.entity.AbstractEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityImpl;
+import org.junit.jupiter.api.Test;
+
+class SharedEntityCacheImplTest {
+
+    @Test
+    void getReturnsCopy() {
+        SharedEntityCacheImpl cache = createCache(null);
+        cache.put(PropertyEntityImpl.class, createProperty("name", "value"), cache.getVersion());
+
+        PropertyEntity property = cache.get(PropertyEntityImpl.class, "name");
+        assertThat(property).isNotNull();
+        assertThat(property.getValue()).isEqualTo("value");
+        assertThat(property.getRevision()).isEqualTo(2);
+
+        property.setValue("changed");
+        assertThat(cache.get(PropertyEntityImpl.class, "name").getValue()).isEqualTo("value");
+        assertThat(cache.get(PropertyEntityImpl.class, "name")).isNotSameAs(cache.get(PropertyEntityImpl.class, "name"));
+    }
+
+    @Test
+    void getReturnsDeepCopy() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(Collections.singletonList(TestEntity.class), 10, null);
+        TestEntity entity = new TestEntity();
+        entity.setId("test");
+        entity.date = new Date(1000L);
+        entity.names = new ArrayList<>(Arrays.asList("a", "b"));
+        entity.values = new HashMap<>();
+        entity.values.put("key", new Date(2000L));
+        entity.parent = entity;
+        cache.put(TestEntity.class, entity, cache.getVersion());
+
+        entity.date.setTime(5000L);
+        entity.names.add("c");
+        ((Date) entity.values.get("key")).setTime(5000L);
+
+        TestEntity copy = cache.get(TestEntity.class, "test");
+        assertThat(copy.date).isEqualTo(new Date(1000L));
+        assertThat(copy.names).containsExactly("a", "b");
+        assertThat(copy.values).containsEntry("key", new Date(2000L));
+        assertThat(copy.parent).isSameAs(copy);
+
+        copy.date.setTime(6000L);
+        copy.names.clear();
+        copy.values.clear();
+        TestEntity otherCopy = cache.get(TestEntity.class, "test");
+        assertThat(otherCopy.date).isEqualTo(new Date(1000L));
+        assertThat(otherCopy.names).containsExactly("a", "b");
+        assertThat(otherCopy.values).containsEntry("key", new Date(2000L));
+    }
+
+    @Test
+    void entityWithValueThatCantBeCopiedIsNotCached() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(Collections.singletonList(TestEntity.class), 10, null);
+        TestEntity entity = new TestEntity();
+        entity.setId("test");
+        entity.other = new StringBuilder("mutable");
+        cache.put(TestEntity.class, entity, cache.getVersion());
+
+        assertThat(cache.get(TestEntity.class, "test")).isNull();
+    }
+
+    @Test
+    void onlyCacheableTypesAreCached() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(Collections.emptyList(), 10, null);
+        cache.put(PropertyEntityImpl.class, createProperty("name", "value"), cache.getVersion());
+
+        assertThat(cache.isCacheable(PropertyEntityImpl.class)).isFalse();
+        assertThat(cache.get(PropertyEntityImpl.class, "name")).isNull();
+    }
+
+    @Test
+    void putIsIgnoredAfterInvalidation() {
+        SharedEntityCacheImpl cache = createCache(null);
+        long version = cache.getVersion();
+
+        cache.invalidate(PropertyEntityImpl.class, "other");
+        cache.put(PropertyEntityImpl.class, createProperty("name", "value"), version);
+        assertThat(cache.get(PropertyEntityImpl.class, "name")).isNull();
+
+        cache.put(PropertyEntityImpl.class, createProperty("name", "value"), cache.getVersion());
+        assertThat(cache.get(PropertyEntityImpl.class, "name")).isNotNull();
+    }
+
+    @Test
+    void maxEntriesPerEntityType() {
+        SharedEntityCacheImpl cache = new SharedEntityCacheImpl(Collections.singletonList(PropertyEntityImpl.class), 1, null);
+        cache.put(PropertyEntityImpl.class, createProperty("name1", "value1"), cache.getVersion());
+        cache.put(PropertyEntityImpl.class, createProperty("name2", "value2"), cache.getVersion());
+
+        assertThat(cache.get(PropertyEntityImpl.class, "name1")).isNotNull();
+        assertThat(cache.get(PropertyEntityImpl.class, "name2")).isNull();
+    }
+
+    @Test
+    void invalidationIsPublishedToOtherCaches() {
+        InMemorySharedEntityCacheInvalidationBus bus = new InMemorySharedEntityCacheInvalidationBus();
+        SharedEntityCacheImpl cache1 = createCache(bus);
+        SharedEntityCacheImpl cache2 = createCache(bus);
+
+        cache1.put(PropertyEntityImpl.class, createProperty("name1", "value1"), cache1.getVersion());
+        cache1.put(PropertyEntityImpl.class, createProperty("name2", "value2"), cache1.getVersion());
+        cache2.put(PropertyEntityImpl.class, createProperty("name1", "value1"), cache2.getVersion());
+        cache2.put(PropertyEntityImpl.class, createProperty("name2", "value2"), cache2.getVersion());
+
+        cache1.invalidate(PropertyEntityImpl.class, "name1");
+        assertThat(cache1.get(PropertyEntityImpl.class, "name1")).isNull();
+        assertThat(cache2.get(PropertyEntityImpl.class, "name1")).isNull();
+        assertThat(cache2.get(PropertyEntityImpl.class, "name2")).isNotNull();
+
+        cache2.invalidateAll(PropertyEntityImpl.class);
+        assertThat(cache1.get(PropertyEntityImpl.class, "name2")).isNull();
+        assertThat(cache2.get(PropertyEntityImpl.class, "name2")).isNull();
+    }
+
+    protected SharedEntityCacheImpl createCache(SharedEntityCacheInvalidationBus bus) {
+        return new SharedEntityCacheImpl(Collections.singletonList(PropertyEntityImpl.class), 10, bus);
+    }
+
+    protected PropertyEntity createProperty(String name, String value) {
+        PropertyEntityImpl property = new PropertyEntityImpl();
+        property.setName(name);
+        property.setValue(value);
+        property.setRevision(2);
+        return property;
+    }
+
+    public static class TestEntity extends AbstractEntity {
+
+        protected Date date;
+        protected List<String> names;
+        protected Map<String, Object> values;
+        protected TestEntity parent;
+        protected Object other;
+
+        @Override
+        public String getIdPrefix() {
+            return null;
+        }
+
+        @Override
+        public Object getPersistentState() {
+            return new HashMap<>();
+        }
+    }
+}
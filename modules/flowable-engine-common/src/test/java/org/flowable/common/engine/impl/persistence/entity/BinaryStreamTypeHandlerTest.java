@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+class BinaryStreamTypeHandlerTest {
+
+    protected BinaryStreamTypeHandler typeHandler = new BinaryStreamTypeHandler();
+
+    @Test
+    void getResultFromResultSet() throws Exception {
+        byte[] bytes = "content".getBytes(StandardCharsets.UTF_8);
+        ResultSet resultSet = createStub(ResultSet.class, Collections.singletonMap("getBinaryStream", new ByteArrayInputStream(bytes)));
+
+        assertThat(typeHandler.getResult(resultSet, "BYTES_")).hasBinaryContent(bytes);
+        assertThat(typeHandler.getResult(resultSet, 1)).isNotNull();
+    }
+
+    @Test
+    void getResultFromCallableStatement() throws Exception {
+        byte[] bytes = "content".getBytes(StandardCharsets.UTF_8);
+        CallableStatement statement = createStub(CallableStatement.class, Collections.singletonMap("getBytes", bytes));
+        assertThat(typeHandler.getResult(statement, 1)).hasBinaryContent(bytes);
+
+        CallableStatement nullStatement = createStub(CallableStatement.class, Collections.singletonMap("getBytes", null));
+        assertThat(typeHandler.getResult(nullStatement, 1)).isNull();
+    }
+
+    @Test
+    void streamResultMapUsesTypeHandler() throws Exception {
+        Configuration configuration = new Configuration();
+        String resource = "org/flowable/common/db/mapping/entity/ByteArray.xml";
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(resource)) {
+            new XMLMapperBuilder(inputStream, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+
+        ResultMap resultMap = configuration.getResultMap(ByteArrayEntityImpl.class.getName() + ".byteArrayBytesStreamResultMap");
+        // When the result type has a type handler itself, MyBatis would use that one instead of the one of the result mapping
+        assertThat(configuration.getTypeHandlerRegistry().hasTypeHandler(resultMap.getType())).isFalse();
+        assertThat(resultMap.getResultMappings())
+                .extracting(ResultMapping::getColumn, mapping -> mapping.getTypeHandler().getClass())
+                .containsExactly(tuple("BYTES_", BinaryStreamTypeHandler.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <T> T createStub(Class<T> type, Map<String, Object> results) {
+        return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            if (results.containsKey(method.getName())) {
+                return results.get(method.getName());
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
@@ -25,8 +25,10 @@ import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.api.io.InputStreamHandler;
 import org.flowable.engine.runtime.ActivityInstance;
 import org.flowable.engine.runtime.ActivityInstanceQuery;
+import org.flowable.engine.runtime.BulkProcessInstanceBuilder;
 import org.flowable.engine.runtime.ChangeActivityStateBuilder;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.runtime.Execution;
@@ -37,6 +39,7 @@ import org.flowable.engine.runtime.NativeProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.flowable.engine.runtime.SignalBroadcastBuilder;
 import org.flowable.engine.task.Event;
 import org.flowable.entitylink.api.EntityLink;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
@@ -61,6 +64,21 @@ public interface RuntimeService {
      */
     ProcessInstanceBuilder createProcessInstanceBuilder();
 
+    /**
+     * Create a {@link BulkProcessInstanceBuilder}, that allows to start many process instances of the same process definition,
+     * sharing one transaction per chunk of process instances instead of one transaction per process instance.
+     */
+    BulkProcessInstanceBuilder createBulkProcessInstanceBuilder();
+
+    /**
+     * Create a {@link SignalBroadcastBuilder}, that allows to broadcast a signal to a large number of subscriptions
+     * in batches executed by the async job executor, instead of triggering all of them in the calling transaction.
+     *
+     * @param signalName
+     *     the name of the signal event
+     */
+    SignalBroadcastBuilder createSignalBroadcastBuilder(String signalName);
+
     /**
      * Starts a new process instance in the latest version of the process definition with the given key.
      *
@@ -712,6 +730,23 @@ public interface RuntimeService {
      */
     VariableInstance getVariableInstance(String executionId, String variableName);
 
+    /**
+     * Passes the binary content of a variable as a stream to the given handler, without deserializing the value and without keeping the whole content in memory.
+     * This is mainly useful for large serializable, byte array or json values. Searching for the variable is done in all scopes that are visible to the given execution
+     * (including parent scopes). The stream is only valid while the handler is executed.
+     *
+     * @param executionId
+     *     id of execution, cannot be null.
+     * @param variableName
+     *     name of variable, cannot be null.
+     * @param inputStreamHandler
+     *     handler that reads the content, cannot be null.
+     * @return the result of the handler or null if the variable is undefined or isn't stored as binary content.
+     * @throws FlowableObjectNotFoundException
+     *     when no execution is found for the given executionId.
+     */
+    <T> T readVariableContent(String executionId, String variableName, InputStreamHandler<T> inputStreamHandler);
+
     /**
      * The variable value. Searching for the variable is done in all scopes that are visible to the given execution (including parent scopes). Returns null when no variable value is found with the
      * given name or when the value is set to null. Throws ClassCastException when cannot cast variable to given class
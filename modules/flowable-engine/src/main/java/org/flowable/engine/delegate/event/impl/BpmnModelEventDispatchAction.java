@@ -17,6 +17,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -28,6 +29,10 @@ public class BpmnModelEventDispatchAction implements EventDispatchAction {
 
     @Override
     public void dispatchEvent(CommandContext commandContext, FlowableEventSupport eventSupport, FlowableEvent event) {
+        if (commandContext != null && !CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableProcessDefinitionEventListeners()) {
+            return;
+        }
+
         if (event.getType() == FlowableEngineEventType.ENTITY_DELETED && event instanceof FlowableEntityEvent) {
             FlowableEntityEvent entityEvent = (FlowableEntityEvent) event;
             if (entityEvent.getEntity() instanceof ProcessDefinition) {
@@ -45,6 +50,12 @@ public class BpmnModelEventDispatchAction implements EventDispatchAction {
         }
     }
     
+    @Override
+    public boolean hasListeners(CommandContext commandContext, FlowableEventType eventType) {
+        // Whether a process definition has listeners for the type is only known once the event is created
+        return CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableProcessDefinitionEventListeners();
+    }
+
     /**
      * In case no process-context is active, this method attempts to extract a process-definition based on the event. In case it's an event related to an entity, this can be deducted by inspecting the
      * entity, without additional queries to the database.
@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.bulk.BulkTaskActionBatchConstants;
+import org.flowable.engine.impl.bulk.CreateBulkTaskActionBatchCmd;
+import org.flowable.engine.task.BulkTaskActionBuilder;
+import org.flowable.task.api.TaskQuery;
+
+public class BulkTaskActionBuilderImpl implements BulkTaskActionBuilder {
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    protected CommandExecutor commandExecutor;
+
+    protected Set<String> taskIds;
+    protected TaskQuery taskQuery;
+    protected Map<String, Object> variables;
+    protected Map<String, Map<String, Object>> taskVariables;
+    protected int batchSize = DEFAULT_BATCH_SIZE;
+    protected String batchName;
+    protected String action;
+    protected String userId;
+
+    public BulkTaskActionBuilderImpl(CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    @Override
+    public BulkTaskActionBuilder taskIds(Collection<String> taskIds) {
+        if (taskIds == null) {
+            throw new FlowableIllegalArgumentException("taskIds is null");
+        }
+        if (this.taskIds == null) {
+            this.taskIds = new LinkedHashSet<>();
+        }
+        this.taskIds.addAll(taskIds);
+        return this;
+    }
+
+    @Override
+    public BulkTaskActionBuilder taskQuery(TaskQuery taskQuery) {
+        this.taskQuery = taskQuery;
+        return this;
+    }
+
+    @Override
+    public BulkTaskActionBuilder variables(Map<String, Object> variables) {
+        this.variables = variables;
+        return this;
+    }
+
+    @Override
+    public BulkTaskActionBuilder taskVariables(String taskId, Map<String, Object> variables) {
+        if (this.taskVariables == null) {
+            this.taskVariables = new HashMap<>();
+        }
+        this.taskVariables.put(taskId, variables);
+        return this;
+    }
+
+    @Override
+    public BulkTaskActionBuilder batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new FlowableIllegalArgumentException("batchSize has to be larger than 0");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public BulkTaskActionBuilder batchName(String batchName) {
+        this.batchName = batchName;
+        return this;
+    }
+
+    @Override
+    public String complete() {
+        this.action = BulkTaskActionBatchConstants.ACTION_COMPLETE;
+        return commandExecutor.execute(new CreateBulkTaskActionBatchCmd(this));
+    }
+
+    @Override
+    public String claim(String userId) {
+        if (userId == null) {
+            throw new FlowableIllegalArgumentException("userId is null");
+        }
+        this.action = BulkTaskActionBatchConstants.ACTION_CLAIM;
+        this.userId = userId;
+        return commandExecutor.execute(new CreateBulkTaskActionBatchCmd(this));
+    }
+
+    public Set<String> getTaskIds() {
+        return taskIds;
+    }
+
+    public TaskQuery getTaskQuery() {
+        return taskQuery;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    public Map<String, Map<String, Object>> getTaskVariables() {
+        return taskVariables;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public String getBatchName() {
+        return batchName;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+}
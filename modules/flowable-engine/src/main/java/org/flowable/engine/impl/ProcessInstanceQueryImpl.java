@@ -15,23 +15,31 @@ package org.flowable.engine.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryValue;
+import org.flowable.variable.service.InternalVariableInstanceQuery;
+import org.flowable.variable.service.VariableService;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tom Baeyens
@@ -75,6 +83,7 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     protected IdentityLinkQueryObject involvedGroupIdentityLink;
     protected SuspensionState suspensionState;
     protected boolean includeProcessVariables;
+    protected Collection<String> processVariableNames;
     protected boolean withJobException;
     protected String name;
     protected String nameLike;
@@ -500,6 +509,16 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return this;
     }
 
+    @Override
+    public ProcessInstanceQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.processVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public ProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit) {
         return this;
@@ -851,7 +870,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
             processEngineConfiguration.getProcessInstanceQueryInterceptor().beforeProcessInstanceQueryExecute(this);
         }
         
-        if (includeProcessVariables) {
+        if (isFetchIncludedVariablesSeparately()) {
+            processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceByQueryCriteria(this);
+            addIncludedVariables(processInstances);
+        } else if (includeProcessVariables) {
             processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceAndVariablesByQueryCriteria(this);
         } else {
             processInstances = processEngineConfiguration.getExecutionEntityManager().findProcessInstanceByQueryCriteria(this);
@@ -870,9 +892,46 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return processInstances;
     }
 
+    /**
+     * Fetches the process variables of the given page of process instances in chunks of ids,
+     * the joined variant returns one row per variable instead of one per process instance.
+     */
+    protected void addIncludedVariables(List<ProcessInstance> processInstances) {
+        if (processInstances.isEmpty()) {
+            return;
+        }
+
+        Map<String, ExecutionEntity> processInstancesById = new HashMap<>();
+        for (ProcessInstance processInstance : processInstances) {
+            processInstancesById.put(processInstance.getId(), (ExecutionEntity) processInstance);
+        }
+
+        VariableService variableService = processEngineConfiguration.getVariableServiceConfiguration().getVariableService();
+        for (List<String> processInstanceIds : CollectionUtil.partition(processInstancesById.keySet(), AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+            InternalVariableInstanceQuery query = variableService.createInternalVariableInstanceQuery()
+                    .executionIds(processInstanceIds)
+                    .withoutTaskId();
+            if (processVariableNames != null) {
+                query.names(processVariableNames);
+            }
+
+            for (VariableInstanceEntity variable : query.list()) {
+                ExecutionEntity processInstance = processInstancesById.get(variable.getExecutionId());
+                if (processInstance != null) {
+                    processInstance.getQueryVariables().add(variable);
+                }
+            }
+        }
+    }
+
+    public boolean isFetchIncludedVariablesSeparately() {
+        return includeProcessVariables && (processVariableNames != null
+                || (processEngineConfiguration != null && processEngineConfiguration.getPerformanceSettings().isEnableSeparateIncludedVariablesFetch()));
+    }
+
     @Override
     public void enhanceCachedValue(ExecutionEntity processInstance) {
-        if (includeProcessVariables) {
+        if (includeProcessVariables && !isFetchIncludedVariablesSeparately()) {
             processInstance.getQueryVariables().addAll(processEngineConfiguration.getVariableServiceConfiguration()
                     .getVariableService().findVariableInstancesByExecutionId(processInstance.getId()));
         }
@@ -1054,6 +1113,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return includeProcessVariables;
     }
 
+    public Collection<String> getProcessVariableNames() {
+        return processVariableNames;
+    }
+
     public boolean iswithException() {
         return withJobException;
     }
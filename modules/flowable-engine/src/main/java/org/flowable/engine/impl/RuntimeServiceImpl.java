@@ -25,6 +25,7 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.api.io.InputStreamHandler;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.form.FormData;
@@ -63,6 +64,7 @@ import org.flowable.engine.impl.cmd.GetStartFormCmd;
 import org.flowable.engine.impl.cmd.GetStartFormModelCmd;
 import org.flowable.engine.impl.cmd.HasExecutionVariableCmd;
 import org.flowable.engine.impl.cmd.MessageEventReceivedCmd;
+import org.flowable.engine.impl.cmd.ReadExecutionVariableContentCmd;
 import org.flowable.engine.impl.cmd.RemoveEventConsumerCommand;
 import org.flowable.engine.impl.cmd.RemoveEventListenerCommand;
 import org.flowable.engine.impl.cmd.RemoveExecutionVariablesCmd;
@@ -74,10 +76,16 @@ import org.flowable.engine.impl.cmd.SignalEventReceivedCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceAsyncCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceByMessageCmd;
 import org.flowable.engine.impl.cmd.StartProcessInstanceCmd;
+import org.flowable.engine.impl.cmd.StartProcessInstancesCmd;
 import org.flowable.engine.impl.cmd.SuspendProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.TriggerCmd;
+import org.flowable.engine.impl.runtime.BulkProcessInstanceBuilderImpl;
+import org.flowable.engine.impl.runtime.BulkProcessInstanceBuilderImpl.ProcessInstanceToStart;
 import org.flowable.engine.impl.runtime.ChangeActivityStateBuilderImpl;
 import org.flowable.engine.impl.runtime.ProcessInstanceBuilderImpl;
+import org.flowable.engine.impl.runtime.SignalBroadcastBuilderImpl;
+import org.flowable.engine.impl.signal.CreateSignalBroadcastBatchCmd;
+import org.flowable.engine.runtime.BulkProcessInstanceBuilder;
 import org.flowable.engine.runtime.ChangeActivityStateBuilder;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.runtime.Execution;
@@ -87,6 +95,7 @@ import org.flowable.engine.runtime.NativeProcessInstanceQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.flowable.engine.runtime.SignalBroadcastBuilder;
 import org.flowable.engine.task.Event;
 import org.flowable.entitylink.api.EntityLink;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
@@ -281,6 +290,11 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         return commandExecutor.execute(new GetExecutionVariableInstanceCmd(executionId, variableName, false));
     }
 
+    @Override
+    public <T> T readVariableContent(String executionId, String variableName, InputStreamHandler<T> inputStreamHandler) {
+        return commandExecutor.execute(new ReadExecutionVariableContentCmd<>(executionId, variableName, false, inputStreamHandler));
+    }
+
     @Override
     public <T> T getVariable(String executionId, String variableName, Class<T> variableClass) {
         return variableClass.cast(getVariable(executionId, variableName));
@@ -742,6 +756,16 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         return new ProcessInstanceBuilderImpl(this);
     }
 
+    @Override
+    public BulkProcessInstanceBuilder createBulkProcessInstanceBuilder() {
+        return new BulkProcessInstanceBuilderImpl(this);
+    }
+
+    @Override
+    public SignalBroadcastBuilder createSignalBroadcastBuilder(String signalName) {
+        return new SignalBroadcastBuilderImpl(this, signalName);
+    }
+
     @Override
     public ChangeActivityStateBuilder createChangeActivityStateBuilder() {
         return new ChangeActivityStateBuilderImpl(this);
@@ -767,6 +791,33 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         }
     }
 
+    public String broadcastSignal(SignalBroadcastBuilderImpl signalBroadcastBuilder) {
+        return commandExecutor.execute(new CreateSignalBroadcastBatchCmd(signalBroadcastBuilder));
+    }
+
+    public List<ProcessInstance> startProcessInstances(BulkProcessInstanceBuilderImpl bulkProcessInstanceBuilder) {
+        if (bulkProcessInstanceBuilder.getProcessDefinitionId() == null && bulkProcessInstanceBuilder.getProcessDefinitionKey() == null) {
+            throw new FlowableIllegalArgumentException("No processDefinitionId nor processDefinitionKey provided");
+        }
+
+        List<ProcessInstanceToStart> processInstancesToStart = bulkProcessInstanceBuilder.getProcessInstances();
+        if (processInstancesToStart.isEmpty()) {
+            throw new FlowableIllegalArgumentException("No process instances to start provided");
+        }
+
+        // Every chunk is started in its own transaction, so a failure only rolls back the process instances of that chunk
+        int chunkSize = bulkProcessInstanceBuilder.getChunkSize();
+        List<ProcessInstance> processInstances = new ArrayList<>(processInstancesToStart.size());
+        for (int fromIndex = 0; fromIndex < processInstancesToStart.size(); fromIndex += chunkSize) {
+            int toIndex = Math.min(fromIndex + chunkSize, processInstancesToStart.size());
+            processInstances.addAll(commandExecutor.execute(new StartProcessInstancesCmd(bulkProcessInstanceBuilder.getProcessDefinitionKey(),
+                    bulkProcessInstanceBuilder.getProcessDefinitionId(), bulkProcessInstanceBuilder.getTenantId(),
+                    bulkProcessInstanceBuilder.isFallbackToDefaultTenant(), bulkProcessInstanceBuilder.getVariables(),
+                    new ArrayList<>(processInstancesToStart.subList(fromIndex, toIndex)))));
+        }
+        return processInstances;
+    }
+
     public ProcessInstance startProcessInstanceAsync(ProcessInstanceBuilderImpl processInstanceBuilder) {
         if (processInstanceBuilder.getProcessDefinitionId() != null || processInstanceBuilder.getProcessDefinitionKey() != null) {
             return (ProcessInstance) commandExecutor.execute(new StartProcessInstanceAsyncCmd(processInstanceBuilder));
@@ -71,6 +71,7 @@ import org.flowable.engine.impl.cmd.SetTaskVariablesCmd;
 import org.flowable.engine.impl.persistence.entity.CommentEntity;
 import org.flowable.engine.runtime.DataObject;
 import org.flowable.engine.task.Attachment;
+import org.flowable.engine.task.BulkTaskActionBuilder;
 import org.flowable.engine.task.Comment;
 import org.flowable.engine.task.Event;
 import org.flowable.form.api.FormInfo;
@@ -598,4 +599,9 @@ public class TaskServiceImpl extends CommonEngineServiceImpl<ProcessEngineConfig
         return new TaskCompletionBuilderImpl(commandExecutor);
     }
 
+    @Override
+    public BulkTaskActionBuilder createBulkTaskActionBuilder() {
+        return new BulkTaskActionBuilderImpl(commandExecutor);
+    }
+
 }
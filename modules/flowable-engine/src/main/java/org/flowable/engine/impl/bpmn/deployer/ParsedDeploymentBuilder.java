@@ -22,9 +22,11 @@ import org.flowable.common.engine.api.repository.EngineDeployment;
 import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -91,6 +93,12 @@ public class ParsedDeploymentBuilder {
             // On redeploy, we assume it is validated at the first deploy
             bpmnParse.setValidateSchema(false);
             bpmnParse.setValidateProcess(false);
+
+            // The model is only loaded for execution, the diagram interchange is parsed when the model is requested
+            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+            if (processEngineConfiguration != null && processEngineConfiguration.isEnableLazyDiagramInterchange()) {
+                bpmnParse.setSkipDiagramInterchange(true);
+            }
         }
 
         try {
@@ -34,6 +34,7 @@ public abstract class AbstractClassDelegate extends AbstractBpmnActivityBehavior
     protected String serviceTaskId;
     protected String className;
     protected List<FieldDeclaration> fieldDeclarations;
+    protected transient volatile DelegateInstanceFactory delegateInstanceFactory;
 
     public AbstractClassDelegate(String className, List<FieldDeclaration> fieldDeclarations) {
         this.className = className;
@@ -46,9 +47,24 @@ public abstract class AbstractClassDelegate extends AbstractBpmnActivityBehavior
     }
 
     protected Object instantiateDelegate(String className, List<FieldDeclaration> fieldDeclarations) {
+        if (className.equals(this.className) && fieldDeclarations == this.fieldDeclarations) {
+            return getDelegateInstanceFactory().createInstance();
+        }
         return AbstractClassDelegate.defaultInstantiateDelegate(className, fieldDeclarations);
     }
 
+    /**
+     * Returns the factory for the configured class, (re)creating it when the class name changed (e.g. through a dynamic BPMN override).
+     */
+    protected DelegateInstanceFactory getDelegateInstanceFactory() {
+        DelegateInstanceFactory factory = delegateInstanceFactory;
+        if (factory == null || !factory.getClassName().equals(className)) {
+            factory = new DelegateInstanceFactory(className, fieldDeclarations);
+            delegateInstanceFactory = factory;
+        }
+        return factory;
+    }
+
     // --HELPER METHODS (also usable by external classes)
     // ----------------------------------------
 
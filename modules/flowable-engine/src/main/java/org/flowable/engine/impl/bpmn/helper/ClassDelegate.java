@@ -68,6 +68,7 @@ public class ClassDelegate extends AbstractClassDelegate implements TaskListener
     protected List<MapExceptionEntry> mapExceptions;
     protected CustomPropertiesResolver customPropertiesResolverInstance;
     protected boolean triggerable;
+    protected transient volatile Object listenerInstance;
 
     public ClassDelegate(String className, List<FieldDeclaration> fieldDeclarations, Expression skipExpression) {
         super(className, fieldDeclarations);
@@ -133,7 +134,7 @@ public class ClassDelegate extends AbstractClassDelegate implements TaskListener
     }
 
     protected ExecutionListener getExecutionListenerInstance() {
-        Object delegateInstance = instantiateDelegate(className, fieldDeclarations);
+        Object delegateInstance = getListenerDelegateInstance();
         if (delegateInstance instanceof ExecutionListener) {
             return (ExecutionListener) delegateInstance;
         } else if (delegateInstance instanceof JavaDelegate) {
@@ -162,7 +163,7 @@ public class ClassDelegate extends AbstractClassDelegate implements TaskListener
     }
 
     protected TaskListener getTaskListenerInstance() {
-        Object delegateInstance = instantiateDelegate(className, fieldDeclarations);
+        Object delegateInstance = getListenerDelegateInstance();
         if (delegateInstance instanceof TaskListener) {
             return (TaskListener) delegateInstance;
         } else {
@@ -179,6 +180,24 @@ public class ClassDelegate extends AbstractClassDelegate implements TaskListener
         }
     }
 
+    /**
+     * Execution and task listeners are instantiated for every notification, unless
+     * {@link org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl#isEnableClassDelegateListenerInstanceReuse()} is set,
+     * in which case a single instance is shared like it's done for the activity behavior of a service task.
+     */
+    protected Object getListenerDelegateInstance() {
+        if (!CommandContextUtil.getProcessEngineConfiguration().isEnableClassDelegateListenerInstanceReuse()) {
+            return instantiateDelegate(className, fieldDeclarations);
+        }
+
+        Object instance = listenerInstance;
+        if (instance == null) {
+            instance = instantiateDelegate(className, fieldDeclarations);
+            listenerInstance = instance;
+        }
+        return instance;
+    }
+
     // Activity Behavior
     @Override
     public void execute(DelegateExecution execution) {
@@ -0,0 +1,144 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bpmn.helper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.util.ReflectUtil;
+import org.flowable.engine.impl.bpmn.parser.FieldDeclaration;
+
+/**
+ * Creates the delegate instances of an {@link AbstractClassDelegate}.
+ * <p>
+ * The delegate class, its no-arg constructor and the setters or fields targeted by the field declarations are looked up once
+ * and kept as {@link MethodHandle}s, so creating an instance afterwards doesn't need any class loading or reflective lookup.
+ * The lookup itself happens on first use and not when parsing, as the delegate class doesn't need to be available when deploying.
+ */
+public class DelegateInstanceFactory {
+
+    protected final String className;
+    protected final Class<?> delegateClass;
+    protected final MethodHandle constructor;
+    protected final List<FieldInjector> fieldInjectors;
+
+    public DelegateInstanceFactory(String className, List<FieldDeclaration> fieldDeclarations) {
+        this.className = className;
+        this.delegateClass = ReflectUtil.loadClass(className);
+        this.constructor = resolveConstructor(delegateClass);
+        this.fieldInjectors = resolveFieldInjectors(delegateClass, fieldDeclarations);
+    }
+
+    public Object createInstance() {
+        Object instance;
+        try {
+            instance = constructor.invoke();
+        } catch (Throwable e) {
+            throw new FlowableException("couldn't instantiate class " + className, e);
+        }
+
+        for (FieldInjector fieldInjector : fieldInjectors) {
+            fieldInjector.inject(instance);
+        }
+        return instance;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public Class<?> getDelegateClass() {
+        return delegateClass;
+    }
+
+    protected MethodHandle resolveConstructor(Class<?> delegateClass) {
+        try {
+            Constructor<?> declaredConstructor = delegateClass.getDeclaredConstructor();
+            declaredConstructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(declaredConstructor);
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            throw new FlowableException("couldn't instantiate class " + className, e);
+        }
+    }
+
+    protected List<FieldInjector> resolveFieldInjectors(Class<?> delegateClass, List<FieldDeclaration> fieldDeclarations) {
+        if (fieldDeclarations == null || fieldDeclarations.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<FieldInjector> injectors = new ArrayList<>(fieldDeclarations.size());
+        for (FieldDeclaration fieldDeclaration : fieldDeclarations) {
+            injectors.add(resolveFieldInjector(delegateClass, fieldDeclaration));
+        }
+        return injectors;
+    }
+
+    // Mirrors the lookup order of ReflectUtil#invokeSetterOrField: a compatible setter first, the field otherwise
+    protected FieldInjector resolveFieldInjector(Class<?> delegateClass, FieldDeclaration fieldDeclaration) {
+        String name = fieldDeclaration.getName();
+        Object value = fieldDeclaration.getValue();
+        try {
+            Method setterMethod = ReflectUtil.getSetter(name, delegateClass, value.getClass());
+            if (setterMethod != null) {
+                setterMethod.setAccessible(true);
+                return new FieldInjector(name, value, MethodHandles.lookup().unreflect(setterMethod));
+            }
+
+            Field field = ReflectUtil.getField(name, delegateClass);
+            if (field == null) {
+                throw new FlowableIllegalArgumentException("Field definition uses non-existent field '" + name + "' of class " + className);
+            }
+            if (!field.getType().isAssignableFrom(value.getClass())) {
+                throw new FlowableIllegalArgumentException("Incompatible type set on field declaration '" + name
+                        + "' for class " + className
+                        + ". Declared value has type " + value.getClass().getName()
+                        + ", while expecting " + field.getType().getName());
+            }
+
+            field.setAccessible(true);
+            return new FieldInjector(name, value, MethodHandles.lookup().unreflectSetter(field));
+
+        } catch (IllegalAccessException e) {
+            throw new FlowableException("Illegal access when calling '" + name + "' on class " + className, e);
+        }
+    }
+
+    protected class FieldInjector {
+
+        protected final String name;
+        protected final Object value;
+        protected final MethodHandle setter;
+
+        protected FieldInjector(String name, Object value, MethodHandle setter) {
+            this.name = name;
+            this.value = value;
+            this.setter = setter;
+        }
+
+        protected void inject(Object target) {
+            try {
+                setter.invoke(target, value);
+            } catch (Throwable e) {
+                throw new FlowableException("Exception while invoking '" + name + "' on class " + className, e);
+            }
+        }
+    }
+}
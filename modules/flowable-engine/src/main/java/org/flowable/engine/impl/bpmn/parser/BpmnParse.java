@@ -79,6 +79,7 @@ public class BpmnParse implements BpmnXMLConstants {
 
     protected boolean validateSchema = true;
     protected boolean validateProcess = true;
+    protected boolean skipDiagramInterchange;
 
     protected StreamSource streamSource;
     protected String sourceSystemId;
@@ -136,6 +137,7 @@ public class BpmnParse implements BpmnXMLConstants {
 
             ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
             BpmnXMLConverter converter = new BpmnXMLConverter();
+            converter.setSkipDiagramInterchange(skipDiagramInterchange);
 
             boolean enableSafeBpmnXml = false;
             String encoding = null;
@@ -434,6 +436,14 @@ public class BpmnParse implements BpmnXMLConstants {
         this.validateProcess = validateProcess;
     }
 
+    public boolean isSkipDiagramInterchange() {
+        return skipDiagramInterchange;
+    }
+
+    public void setSkipDiagramInterchange(boolean skipDiagramInterchange) {
+        this.skipDiagramInterchange = skipDiagramInterchange;
+    }
+
     public List<ProcessDefinitionEntity> getProcessDefinitions() {
         return processDefinitions;
     }
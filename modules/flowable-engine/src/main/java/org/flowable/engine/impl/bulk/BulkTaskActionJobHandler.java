@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bulk;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Completes or claims the tasks of one batch part of a {@link Batch#TASK_BULK_ACTION_TYPE} batch.
+ */
+public class BulkTaskActionJobHandler implements JobHandler {
+
+    public static final String TYPE = "bulk-task-action";
+
+    protected static final TypeReference<Map<String, Object>> VARIABLES_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = engineConfiguration.getBatchServiceConfiguration().getBatchService();
+        ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
+
+        BatchPart batchPart = batchService.getBatchPart(configuration);
+        if (batchPart == null) {
+            throw new FlowableIllegalArgumentException("There is no batch part with the id " + configuration);
+        }
+
+        Batch batch = batchService.getBatch(batchPart.getBatchId());
+        JsonNode batchDocument = readJson(batch.getBatchDocumentJson(ScopeTypes.BPMN), objectMapper);
+        JsonNode partDocument = readJson(batchPart.getResultDocumentJson(ScopeTypes.BPMN), objectMapper);
+
+        String action = batchDocument.path("action").textValue();
+        String userId = batchDocument.path("userId").textValue();
+        Map<String, Object> sharedVariables = readVariables(batchDocument.path("variables"), objectMapper);
+
+        TaskService taskService = engineConfiguration.getTaskService();
+        CommandExecutor commandExecutor = engineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = commandExecutor.getDefaultConfig().transactionRequiresNew();
+        String status = BulkTaskActionBatchConstants.STATUS_COMPLETED;
+        ObjectNode resultNode = objectMapper.createObjectNode();
+
+        for (JsonNode taskIdNode : partDocument.path("taskIds")) {
+            String taskId = taskIdNode.textValue();
+            try {
+                // Each task gets its own transaction, so the changes of a failing task are rolled back
+                // without affecting the other tasks or the result of this batch part
+                commandExecutor.execute(commandConfig, taskCommandContext -> {
+                    if (BulkTaskActionBatchConstants.ACTION_CLAIM.equals(action)) {
+                        taskService.claim(taskId, userId);
+                    } else {
+                        taskService.complete(taskId, getVariables(sharedVariables, partDocument.path("taskVariables").path(taskId), objectMapper));
+                    }
+                    return null;
+                });
+                resultNode.withArray("taskIdsSucceeded").add(taskId);
+
+            } catch (RuntimeException ex) {
+                status = BulkTaskActionBatchConstants.STATUS_FAILED;
+                resultNode.withArray("taskIdsFailed")
+                        .addObject()
+                        .put("id", taskId)
+                        .put("error", ex.getMessage())
+                        .put("stacktrace", ExceptionUtils.getStackTrace(ex));
+            }
+        }
+
+        batchService.completeBatchPart(batchPart.getId(), status, resultNode.toString());
+    }
+
+    protected Map<String, Object> getVariables(Map<String, Object> sharedVariables, JsonNode taskVariablesNode, ObjectMapper objectMapper) {
+        Map<String, Object> taskVariables = readVariables(taskVariablesNode, objectMapper);
+        if (taskVariables == null) {
+            return sharedVariables;
+        } else if (sharedVariables == null) {
+            return taskVariables;
+        }
+
+        Map<String, Object> variables = new HashMap<>(sharedVariables);
+        variables.putAll(taskVariables);
+        return variables;
+    }
+
+    protected Map<String, Object> readVariables(JsonNode variablesNode, ObjectMapper objectMapper) {
+        if (variablesNode == null || !variablesNode.isObject()) {
+            return null;
+        }
+        return objectMapper.convertValue(variablesNode, VARIABLES_TYPE);
+    }
+
+    protected JsonNode readJson(String json, ObjectMapper objectMapper) {
+        if (json == null) {
+            throw new FlowableIllegalArgumentException("Bulk task action batch document is missing");
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Failed to read json", e);
+        }
+    }
+}
@@ -0,0 +1,470 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bulk;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryDateUtil;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.task.api.DelegationState;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.TaskQueryImpl;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Creates the batch parts of a {@link Batch#TASK_BULK_ACTION_TYPE} batch, each with its own {@link BulkTaskActionJobHandler} job.
+ * The task ids of the batch document are partitioned first, then the tasks of the query are paged through ordered by id,
+ * continuing after the last id of the previous page so tasks already completed or claimed by other batch parts don't shift the pages.
+ *
+ * At most {@link ProcessEngineConfigurationImpl#getBulkTaskActionMaxBatchPartsPerJob()} batch parts are created in one transaction,
+ * when there are more tasks a new job of this type continues the partitioning.
+ */
+public class BulkTaskActionPartitionJobHandler implements JobHandler {
+
+    public static final String TYPE = "bulk-task-action-partition";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = engineConfiguration.getBatchServiceConfiguration().getBatchService();
+        ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
+
+        Batch batch = batchService.getBatch(configuration);
+        if (batch == null) {
+            throw new FlowableIllegalArgumentException("There is no batch with the id " + configuration);
+        }
+
+        ObjectNode batchDocument = (ObjectNode) readJson(batch.getBatchDocumentJson(ScopeTypes.BPMN), objectMapper);
+        int batchSize = batchDocument.path("batchSize").intValue();
+        JsonNode taskIdsNode = batchDocument.path("taskIds");
+        int nextTaskIdIndex = batchDocument.path("nextTaskIdIndex").intValue();
+        String lastQueryTaskId = batchDocument.path("lastQueryTaskId").textValue();
+        int numberOfBatchParts = batchDocument.path("numberOfBatchParts").intValue();
+        long numberOfTasks = batchDocument.path("numberOfTasks").longValue();
+
+        TaskQueryImpl query = null;
+        JsonNode queryNode = batchDocument.path("query");
+        if (queryNode.isObject()) {
+            query = createQuery(queryNode, engineConfiguration);
+        }
+
+        int maxBatchPartsPerJob = engineConfiguration.getBulkTaskActionMaxBatchPartsPerJob();
+        boolean hasMoreTasks = true;
+        for (int i = 0; i < maxBatchPartsPerJob && hasMoreTasks; i++) {
+            List<String> partTaskIds = new ArrayList<>(batchSize);
+            if (nextTaskIdIndex < taskIdsNode.size()) {
+                int endIndex = Math.min(nextTaskIdIndex + batchSize, taskIdsNode.size());
+                for (int index = nextTaskIdIndex; index < endIndex; index++) {
+                    partTaskIds.add(taskIdsNode.get(index).textValue());
+                }
+                nextTaskIdIndex = endIndex;
+                hasMoreTasks = nextTaskIdIndex < taskIdsNode.size() || query != null;
+
+            } else if (query != null) {
+                List<Task> tasks = query.taskIdGreaterThan(lastQueryTaskId).listPage(0, batchSize);
+                Set<String> explicitTaskIds = getTaskIds(taskIdsNode);
+                for (Task task : tasks) {
+                    // Tasks that were also passed by id are already part of another batch part
+                    if (!explicitTaskIds.contains(task.getId())) {
+                        partTaskIds.add(task.getId());
+                    }
+                }
+                if (!tasks.isEmpty()) {
+                    lastQueryTaskId = tasks.get(tasks.size() - 1).getId();
+                }
+                hasMoreTasks = tasks.size() == batchSize;
+
+            } else {
+                hasMoreTasks = false;
+            }
+
+            if (!partTaskIds.isEmpty()) {
+                createBatchPart(batch, numberOfBatchParts, partTaskIds, batchDocument.path("taskVariables"), engineConfiguration);
+                numberOfBatchParts++;
+                numberOfTasks += partTaskIds.size();
+            }
+        }
+
+        batchDocument.put("nextTaskIdIndex", nextTaskIdIndex);
+        if (lastQueryTaskId != null) {
+            batchDocument.put("lastQueryTaskId", lastQueryTaskId);
+        }
+        batchDocument.put("numberOfBatchParts", numberOfBatchParts);
+        batchDocument.put("numberOfTasks", numberOfTasks);
+
+        if (hasMoreTasks) {
+            scheduleAsyncJob(TYPE, batch.getId(), engineConfiguration);
+        } else {
+            batchDocument.put("partitioningCompleted", true);
+        }
+
+        ((BatchEntity) batch).setBatchDocumentJson(batchDocument.toString(), ScopeTypes.BPMN);
+    }
+
+    protected void createBatchPart(Batch batch, int partIndex, List<String> partTaskIds, JsonNode taskVariablesNode,
+            ProcessEngineConfigurationImpl engineConfiguration) {
+
+        BatchPart batchPart = engineConfiguration.getManagementService().createBatchPartBuilder(batch)
+                .type(BulkTaskActionBatchConstants.BATCH_PART_TYPE)
+                .searchKey(Integer.toString(partIndex))
+                .status(BulkTaskActionBatchConstants.STATUS_WAITING)
+                .create();
+
+        ObjectNode partDocument = engineConfiguration.getObjectMapper().createObjectNode();
+        ArrayNode taskIdsNode = partDocument.putArray("taskIds");
+        for (String taskId : partTaskIds) {
+            taskIdsNode.add(taskId);
+
+            JsonNode variablesNode = taskVariablesNode.path(taskId);
+            if (variablesNode.isObject()) {
+                partDocument.with("taskVariables").set(taskId, variablesNode);
+            }
+        }
+
+        // The part is only inserted on flush, so its document can still be set here
+        ((BatchPartEntity) batchPart).setResultDocumentJson(partDocument.toString(), ScopeTypes.BPMN);
+
+        scheduleAsyncJob(BulkTaskActionJobHandler.TYPE, batchPart.getId(), engineConfiguration);
+    }
+
+    protected Set<String> getTaskIds(JsonNode taskIdsNode) {
+        Set<String> taskIds = new HashSet<>();
+        for (JsonNode taskIdNode : taskIdsNode) {
+            taskIds.add(taskIdNode.textValue());
+        }
+        return taskIds;
+    }
+
+    protected TaskQueryImpl createQuery(JsonNode queryNode, ProcessEngineConfigurationImpl engineConfiguration) {
+        TaskQueryImpl query = (TaskQueryImpl) engineConfiguration.getTaskService().createTaskQuery();
+        populateQuery(queryNode, query);
+        query.orderByTaskId().asc();
+        return query;
+    }
+
+    protected void populateQuery(JsonNode queryNode, TaskQueryImpl query) {
+        Iterator<Map.Entry<String, JsonNode>> fieldIterator = queryNode.fields();
+        while (fieldIterator.hasNext()) {
+            Map.Entry<String, JsonNode> field = fieldIterator.next();
+            String property = field.getKey();
+            JsonNode value = field.getValue();
+            switch (property) {
+                case "taskId":
+                    query.taskId(value.textValue());
+                    break;
+                case "name":
+                    query.taskName(value.textValue());
+                    break;
+                case "nameLike":
+                    query.taskNameLike(value.textValue());
+                    break;
+                case "nameLikeIgnoreCase":
+                    query.taskNameLikeIgnoreCase(value.textValue());
+                    break;
+                case "nameList":
+                    query.taskNameIn(asStringList(value));
+                    break;
+                case "nameListIgnoreCase":
+                    query.taskNameInIgnoreCase(asStringList(value));
+                    break;
+                case "description":
+                    query.taskDescription(value.textValue());
+                    break;
+                case "descriptionLike":
+                    query.taskDescriptionLike(value.textValue());
+                    break;
+                case "descriptionLikeIgnoreCase":
+                    query.taskDescriptionLikeIgnoreCase(value.textValue());
+                    break;
+                case "priority":
+                    query.taskPriority(value.intValue());
+                    break;
+                case "minPriority":
+                    query.taskMinPriority(value.intValue());
+                    break;
+                case "maxPriority":
+                    query.taskMaxPriority(value.intValue());
+                    break;
+                case "assignee":
+                    query.taskAssignee(value.textValue());
+                    break;
+                case "assigneeLike":
+                    query.taskAssigneeLike(value.textValue());
+                    break;
+                case "assigneeLikeIgnoreCase":
+                    query.taskAssigneeLikeIgnoreCase(value.textValue());
+                    break;
+                case "assigneeIds":
+                    query.taskAssigneeIds(asStringList(value));
+                    break;
+                case "owner":
+                    query.taskOwner(value.textValue());
+                    break;
+                case "ownerLike":
+                    query.taskOwnerLike(value.textValue());
+                    break;
+                case "ownerLikeIgnoreCase":
+                    query.taskOwnerLikeIgnoreCase(value.textValue());
+                    break;
+                case "unassigned":
+                    query.taskUnassigned();
+                    break;
+                case "withAssignee":
+                    query.taskAssigned();
+                    break;
+                case "noDelegationState":
+                    query.taskDelegationState(null);
+                    break;
+                case "delegationState":
+                    query.taskDelegationState(DelegationState.valueOf(value.textValue()));
+                    break;
+                case "candidateUser":
+                    query.taskCandidateUser(value.textValue());
+                    break;
+                case "candidateGroup":
+                    query.taskCandidateGroup(value.textValue());
+                    break;
+                case "candidateGroups":
+                    query.taskCandidateGroupIn(asStringList(value));
+                    break;
+                case "ignoreAssigneeValue":
+                    query.ignoreAssigneeValue();
+                    break;
+                case "candidateOrAssigned":
+                    query.taskCandidateOrAssigned(value.textValue());
+                    break;
+                case "involvedUser":
+                    query.taskInvolvedUser(value.textValue());
+                    break;
+                case "involvedGroups":
+                    query.taskInvolvedGroups(asStringList(value));
+                    break;
+                case "tenantId":
+                    query.taskTenantId(value.textValue());
+                    break;
+                case "tenantIdLike":
+                    query.taskTenantIdLike(value.textValue());
+                    break;
+                case "withoutTenantId":
+                    query.taskWithoutTenantId();
+                    break;
+                case "processInstanceId":
+                    query.processInstanceId(value.textValue());
+                    break;
+                case "processInstanceIds":
+                    query.processInstanceIdIn(asStringList(value));
+                    break;
+                case "withoutProcessInstanceId":
+                    query.withoutProcessInstanceId();
+                    break;
+                case "executionId":
+                    query.executionId(value.textValue());
+                    break;
+                case "processInstanceIdWithChildren":
+                    query.processInstanceIdWithChildren(value.textValue());
+                    break;
+                case "caseInstanceIdWithChildren":
+                    query.caseInstanceIdWithChildren(value.textValue());
+                    break;
+                case "scopeId":
+                    query.scopeId(value.textValue());
+                    break;
+                case "subScopeId":
+                    query.subScopeId(value.textValue());
+                    break;
+                case "scopeType":
+                    query.scopeType(value.textValue());
+                    break;
+                case "scopeDefinitionId":
+                    query.scopeDefinitionId(value.textValue());
+                    break;
+                case "propagatedStageInstanceId":
+                    query.propagatedStageInstanceId(value.textValue());
+                    break;
+                case "withoutScopeId":
+                    query.withoutScopeId();
+                    break;
+                case "createTime":
+                    query.taskCreatedOn(AsyncHistoryDateUtil.parseDate(value.textValue()));
+                    break;
+                case "createTimeBefore":
+                    query.taskCreatedBefore(AsyncHistoryDateUtil.parseDate(value.textValue()));
+                    break;
+                case "createTimeAfter":
+                    query.taskCreatedAfter(AsyncHistoryDateUtil.parseDate(value.textValue()));
+                    break;
+                case "category":
+                    query.taskCategory(value.textValue());
+                    break;
+                case "withFormKey":
+                    query.taskWithFormKey();
+                    break;
+                case "formKey":
+                    query.taskFormKey(value.textValue());
+                    break;
+                case "taskDefinitionId":
+                    query.taskDefinitionId(value.textValue());
+                    break;
+                case "key":
+                    query.taskDefinitionKey(value.textValue());
+                    break;
+                case "keyLike":
+                    query.taskDefinitionKeyLike(value.textValue());
+                    break;
+                case "keys":
+                    query.taskDefinitionKeys(asStringList(value));
+                    break;
+                case "processDefinitionKey":
+                    query.processDefinitionKey(value.textValue());
+                    break;
+                case "processDefinitionKeyLike":
+                    query.processDefinitionKeyLike(value.textValue());
+                    break;
+                case "processDefinitionKeyLikeIgnoreCase":
+                    query.processDefinitionKeyLikeIgnoreCase(value.textValue());
+                    break;
+                case "processDefinitionKeys":
+                    query.processDefinitionKeyIn(asStringList(value));
+                    break;
+                case "processDefinitionId":
+                    query.processDefinitionId(value.textValue());
+                    break;
+                case "processDefinitionName":
+                    query.processDefinitionName(value.textValue());
+                    break;
+                case "processDefinitionNameLike":
+                    query.processDefinitionNameLike(value.textValue());
+                    break;
+                case "processCategoryInList":
+                    query.processCategoryIn(asStringList(value));
+                    break;
+                case "processCategoryNotInList":
+                    query.processCategoryNotIn(asStringList(value));
+                    break;
+                case "deploymentId":
+                    query.deploymentId(value.textValue());
+                    break;
+                case "deploymentIds":
+                    query.deploymentIdIn(asStringList(value));
+                    break;
+                case "cmmnDeploymentId":
+                    query.cmmnDeploymentId(value.textValue());
+                    break;
+                case "cmmnDeploymentIds":
+                    query.cmmnDeploymentIdIn(asStringList(value));
+                    break;
+                case "processInstanceBusinessKey":
+                    query.processInstanceBusinessKey(value.textValue());
+                    break;
+                case "processInstanceBusinessKeyLike":
+                    query.processInstanceBusinessKeyLike(value.textValue());
+                    break;
+                case "processInstanceBusinessKeyLikeIgnoreCase":
+                    query.processInstanceBusinessKeyLikeIgnoreCase(value.textValue());
+                    break;
+                case "caseDefinitionKey":
+                    query.caseDefinitionKey(value.textValue());
+                    break;
+                case "caseDefinitionKeyLike":
+                    query.caseDefinitionKeyLike(value.textValue());
+                    break;
+                case "caseDefinitionKeyLikeIgnoreCase":
+                    query.caseDefinitionKeyLikeIgnoreCase(value.textValue());
+                    break;
+                case "caseDefinitionKeys":
+                    query.caseDefinitionKeyIn(asStringList(value));
+                    break;
+                case "dueDate":
+                    query.taskDueDate(AsyncHistoryDateUtil.parseDate(value.textValue()));
+                    break;
+                case "dueBefore":
+                    query.taskDueBefore(AsyncHistoryDateUtil.parseDate(value.textValue()));
+                    break;
+                case "dueAfter":
+                    query.taskDueAfter(AsyncHistoryDateUtil.parseDate(value.textValue()));
+                    break;
+                case "withoutDueDate":
+                    query.withoutTaskDueDate();
+                    break;
+                case "suspended":
+                    query.suspended();
+                    break;
+                case "active":
+                    query.active();
+                    break;
+                case "excludeSubtasks":
+                    query.excludeSubtasks();
+                    break;
+                default:
+                    throw new FlowableIllegalArgumentException("Query property " + property + " is not supported");
+            }
+        }
+    }
+
+    protected List<String> asStringList(JsonNode node) {
+        List<String> values = new ArrayList<>(node.size());
+        for (JsonNode element : node) {
+            values.add(element.textValue());
+        }
+        return values;
+    }
+
+    protected void scheduleAsyncJob(String jobHandlerType, String jobHandlerConfiguration, ProcessEngineConfigurationImpl engineConfiguration) {
+        JobService jobService = engineConfiguration.getJobServiceConfiguration().getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(jobHandlerType);
+        job.setJobHandlerConfiguration(jobHandlerConfiguration);
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+
+    protected JsonNode readJson(String json, ObjectMapper objectMapper) {
+        if (json == null) {
+            throw new FlowableIllegalArgumentException("Bulk task action batch document is missing");
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Failed to read json", e);
+        }
+    }
+}
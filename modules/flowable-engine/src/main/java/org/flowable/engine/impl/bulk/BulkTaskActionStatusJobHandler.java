@@ -0,0 +1,128 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bulk;
+
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchPartQuery;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Repeating timer job completing a {@link Batch#TASK_BULK_ACTION_TYPE} batch once all its batch parts are created and done.
+ */
+public class BulkTaskActionStatusJobHandler implements JobHandler {
+
+    public static final String TYPE = "bulk-task-action-status";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ManagementService managementService = engineConfiguration.getManagementService();
+        Batch batch = managementService.createBatchQuery()
+                .batchId(configuration)
+                .singleResult();
+
+        if (batch == null) {
+            throw new FlowableIllegalArgumentException("There is no batch with the id " + configuration);
+        }
+
+        if (batch.getCompleteTime() != null) {
+            job.setRepeat(null);
+            return;
+        }
+
+        JsonNode batchDocument = readJson(batch.getBatchDocumentJson(ScopeTypes.BPMN), engineConfiguration.getObjectMapper());
+        if (batchDocument == null || !batchDocument.path("partitioningCompleted").booleanValue()) {
+            return;
+        }
+
+        long totalBatchParts = createStatusQuery(batch, managementService).count();
+        long totalCompleted = createStatusQuery(batch, managementService).completed().count();
+
+        if (totalBatchParts == totalCompleted) {
+            List<BatchPart> failedParts = createStatusQuery(batch, managementService)
+                    .status(BulkTaskActionBatchConstants.STATUS_FAILED)
+                    .list();
+            if (failedParts.isEmpty()) {
+                completeBatch(batch, BulkTaskActionBatchConstants.STATUS_COMPLETED, engineConfiguration);
+            } else {
+                completeBatchFail(batch, failedParts, engineConfiguration);
+            }
+
+            job.setRepeat(null);
+        }
+    }
+
+    protected BatchPartQuery createStatusQuery(Batch batch, ManagementService managementService) {
+        return managementService.createBatchPartQuery()
+                .batchId(batch.getId())
+                .type(BulkTaskActionBatchConstants.BATCH_PART_TYPE);
+    }
+
+    protected void completeBatch(Batch batch, String status, ProcessEngineConfigurationImpl engineConfiguration) {
+        engineConfiguration.getBatchServiceConfiguration()
+                .getBatchService()
+                .completeBatch(batch.getId(), status);
+    }
+
+    protected void completeBatchFail(Batch batch, List<BatchPart> failedParts, ProcessEngineConfigurationImpl engineConfiguration) {
+        completeBatch(batch, BulkTaskActionBatchConstants.STATUS_FAILED, engineConfiguration);
+
+        long totalFailedTasks = 0;
+        ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
+        for (BatchPart failedPart : failedParts) {
+            JsonNode node = readJson(failedPart.getResultDocumentJson(ScopeTypes.BPMN), objectMapper);
+            if (node != null) {
+                totalFailedTasks += node.path("taskIdsFailed").size();
+            }
+        }
+
+        ObjectNode batchDocument = (ObjectNode) readJson(batch.getBatchDocumentJson(ScopeTypes.BPMN), objectMapper);
+        batchDocument.put("numberOfFailedTasks", totalFailedTasks);
+
+        ((BatchEntity) batch).setBatchDocumentJson(batchDocument.toString(), ScopeTypes.BPMN);
+    }
+
+    protected JsonNode readJson(String json, ObjectMapper objectMapper) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Failed to read json", e);
+        }
+    }
+}
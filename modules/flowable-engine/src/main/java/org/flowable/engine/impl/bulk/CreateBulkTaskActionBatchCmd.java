@@ -0,0 +1,235 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bulk;
+
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.putIfNotNull;
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.putIfNotNullOrEmpty;
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.putIfTrue;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.common.engine.impl.db.SuspensionState;
+import org.flowable.common.engine.impl.identity.Authentication;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.BulkTaskActionBuilderImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.task.service.impl.TaskQueryImpl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Creates a batch completing or claiming the tasks of a {@link BulkTaskActionBuilderImpl}.
+ * The task ids and the task query are stored in the batch document, the batch parts are created by {@link BulkTaskActionPartitionJobHandler} jobs.
+ */
+public class CreateBulkTaskActionBatchCmd implements Command<String> {
+
+    protected BulkTaskActionBuilderImpl builder;
+
+    public CreateBulkTaskActionBatchCmd(BulkTaskActionBuilderImpl builder) {
+        this.builder = builder;
+    }
+
+    @Override
+    public String execute(CommandContext commandContext) {
+        if (builder.getTaskIds() == null && builder.getTaskQuery() == null) {
+            throw new FlowableIllegalArgumentException("Either taskIds or taskQuery is required");
+        }
+
+        ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = engineConfiguration.getBatchServiceConfiguration().getBatchService();
+        ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
+
+        ObjectNode batchConfiguration = objectMapper.createObjectNode();
+        batchConfiguration.put("action", builder.getAction());
+        if (builder.getUserId() != null) {
+            batchConfiguration.put("userId", builder.getUserId());
+        }
+        batchConfiguration.put("batchSize", builder.getBatchSize());
+        if (builder.getVariables() != null && !builder.getVariables().isEmpty()) {
+            batchConfiguration.set("variables", objectMapper.valueToTree(builder.getVariables()));
+        }
+
+        Set<String> taskIds = builder.getTaskIds() != null ? new LinkedHashSet<>(builder.getTaskIds()) : new LinkedHashSet<>();
+        if (!taskIds.isEmpty()) {
+            ArrayNode taskIdsNode = batchConfiguration.putArray("taskIds");
+            taskIds.forEach(taskIdsNode::add);
+        }
+
+        Map<String, Map<String, Object>> taskVariables = builder.getTaskVariables();
+        if (taskVariables != null && !taskVariables.isEmpty()) {
+            batchConfiguration.set("taskVariables", objectMapper.valueToTree(taskVariables));
+        }
+
+        if (builder.getTaskQuery() != null) {
+            populateQueryNode(batchConfiguration.putObject("query"), (TaskQueryImpl) builder.getTaskQuery());
+        }
+
+        boolean withoutTasks = taskIds.isEmpty() && builder.getTaskQuery() == null;
+        batchConfiguration.put("numberOfTasks", 0);
+        batchConfiguration.put("numberOfBatchParts", 0);
+        batchConfiguration.put("partitioningCompleted", withoutTasks);
+
+        Batch batch = batchService.createBatchBuilder()
+                .batchType(Batch.TASK_BULK_ACTION_TYPE)
+                .searchKey(builder.getBatchName())
+                .searchKey2(Authentication.getAuthenticatedUserId())
+                .status(BulkTaskActionBatchConstants.STATUS_IN_PROGRESS)
+                .batchDocumentJson(batchConfiguration.toString())
+                .create();
+
+        if (withoutTasks) {
+            batchService.completeBatch(batch.getId(), BulkTaskActionBatchConstants.STATUS_COMPLETED);
+            return batch.getId();
+        }
+
+        JobService jobService = engineConfiguration.getJobServiceConfiguration().getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(BulkTaskActionPartitionJobHandler.TYPE);
+        job.setJobHandlerConfiguration(batch.getId());
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+
+        scheduleStatusJob(engineConfiguration, batch);
+
+        return batch.getId();
+    }
+
+    protected void populateQueryNode(ObjectNode queryNode, TaskQueryImpl query) {
+        // The query is executed again by the partition jobs, so criteria that can't be stored would silently select other tasks
+        if (!query.getQueryVariableValues().isEmpty()) {
+            throw new FlowableIllegalArgumentException("Variable criteria are not supported by the task query of a bulk task action");
+        }
+        if (!query.getOrQueryObjects().isEmpty()) {
+            throw new FlowableIllegalArgumentException("Or criteria are not supported by the task query of a bulk task action");
+        }
+
+        putIfNotNull(queryNode, "taskId", query.getTaskId());
+        putIfNotNull(queryNode, "name", query.getName());
+        putIfNotNull(queryNode, "nameLike", query.getNameLike());
+        putIfNotNull(queryNode, "nameLikeIgnoreCase", query.getNameLikeIgnoreCase());
+        putIfNotNullOrEmpty(queryNode, "nameList", query.getNameList());
+        putIfNotNullOrEmpty(queryNode, "nameListIgnoreCase", query.getNameListIgnoreCase());
+        putIfNotNull(queryNode, "description", query.getDescription());
+        putIfNotNull(queryNode, "descriptionLike", query.getDescriptionLike());
+        putIfNotNull(queryNode, "descriptionLikeIgnoreCase", query.getDescriptionLikeIgnoreCase());
+        putIfNotNull(queryNode, "priority", query.getPriority());
+        putIfNotNull(queryNode, "minPriority", query.getMinPriority());
+        putIfNotNull(queryNode, "maxPriority", query.getMaxPriority());
+        putIfNotNull(queryNode, "assignee", query.getAssignee());
+        putIfNotNull(queryNode, "assigneeLike", query.getAssigneeLike());
+        putIfNotNull(queryNode, "assigneeLikeIgnoreCase", query.getAssigneeLikeIgnoreCase());
+        putIfNotNullOrEmpty(queryNode, "assigneeIds", query.getAssigneeIds());
+        putIfNotNull(queryNode, "owner", query.getOwner());
+        putIfNotNull(queryNode, "ownerLike", query.getOwnerLike());
+        putIfNotNull(queryNode, "ownerLikeIgnoreCase", query.getOwnerLikeIgnoreCase());
+        putIfTrue(queryNode, "unassigned", query.isUnassigned());
+        putIfTrue(queryNode, "withAssignee", query.isWithAssignee());
+        putIfTrue(queryNode, "noDelegationState", query.isNoDelegationState());
+        if (query.getDelegationState() != null) {
+            queryNode.put("delegationState", query.getDelegationState().name());
+        }
+        putIfNotNull(queryNode, "candidateUser", query.getCandidateUser());
+        putIfNotNull(queryNode, "candidateGroup", query.getCandidateGroup());
+        if (query.getCandidateUser() == null && query.getCandidateGroup() == null && query.getUserIdForCandidateAndAssignee() == null) {
+            // Otherwise the candidate groups are resolved from the user again when executing the query
+            putIfNotNullOrEmpty(queryNode, "candidateGroups", query.getCandidateGroups());
+        }
+        putIfTrue(queryNode, "ignoreAssigneeValue", query.isIgnoreAssigneeValue());
+        putIfNotNull(queryNode, "candidateOrAssigned", query.getUserIdForCandidateAndAssignee());
+        putIfNotNull(queryNode, "involvedUser", query.getInvolvedUser());
+        putIfNotNullOrEmpty(queryNode, "involvedGroups", query.getInvolvedGroups());
+        putIfNotNull(queryNode, "tenantId", query.getTenantId());
+        putIfNotNull(queryNode, "tenantIdLike", query.getTenantIdLike());
+        putIfTrue(queryNode, "withoutTenantId", query.isWithoutTenantId());
+        putIfNotNull(queryNode, "processInstanceId", query.getProcessInstanceId());
+        putIfNotNullOrEmpty(queryNode, "processInstanceIds", query.getProcessInstanceIds());
+        putIfTrue(queryNode, "withoutProcessInstanceId", query.isWithoutProcessInstanceId());
+        putIfNotNull(queryNode, "executionId", query.getExecutionId());
+        putIfNotNull(queryNode, "processInstanceIdWithChildren", query.getProcessInstanceIdWithChildren());
+        putIfNotNull(queryNode, "caseInstanceIdWithChildren", query.getCaseInstanceIdWithChildren());
+        putIfNotNull(queryNode, "scopeId", query.getScopeId());
+        putIfNotNull(queryNode, "subScopeId", query.getSubScopeId());
+        putIfNotNull(queryNode, "scopeType", query.getScopeType());
+        putIfNotNull(queryNode, "scopeDefinitionId", query.getScopeDefinitionId());
+        putIfNotNull(queryNode, "propagatedStageInstanceId", query.getPropagatedStageInstanceId());
+        putIfTrue(queryNode, "withoutScopeId", query.isWithoutScopeId());
+        putIfNotNull(queryNode, "createTime", query.getCreateTime());
+        putIfNotNull(queryNode, "createTimeBefore", query.getCreateTimeBefore());
+        putIfNotNull(queryNode, "createTimeAfter", query.getCreateTimeAfter());
+        putIfNotNull(queryNode, "category", query.getCategory());
+        putIfTrue(queryNode, "withFormKey", query.isWithFormKey());
+        putIfNotNull(queryNode, "formKey", query.getFormKey());
+        putIfNotNull(queryNode, "taskDefinitionId", query.getTaskDefinitionId());
+        putIfNotNull(queryNode, "key", query.getKey());
+        putIfNotNull(queryNode, "keyLike", query.getKeyLike());
+        putIfNotNullOrEmpty(queryNode, "keys", query.getKeys());
+        putIfNotNull(queryNode, "processDefinitionKey", query.getProcessDefinitionKey());
+        putIfNotNull(queryNode, "processDefinitionKeyLike", query.getProcessDefinitionKeyLike());
+        putIfNotNull(queryNode, "processDefinitionKeyLikeIgnoreCase", query.getProcessDefinitionKeyLikeIgnoreCase());
+        putIfNotNullOrEmpty(queryNode, "processDefinitionKeys", query.getProcessDefinitionKeys());
+        putIfNotNull(queryNode, "processDefinitionId", query.getProcessDefinitionId());
+        putIfNotNull(queryNode, "processDefinitionName", query.getProcessDefinitionName());
+        putIfNotNull(queryNode, "processDefinitionNameLike", query.getProcessDefinitionNameLike());
+        putIfNotNullOrEmpty(queryNode, "processCategoryInList", query.getProcessCategoryInList());
+        putIfNotNullOrEmpty(queryNode, "processCategoryNotInList", query.getProcessCategoryNotInList());
+        putIfNotNull(queryNode, "deploymentId", query.getDeploymentId());
+        putIfNotNullOrEmpty(queryNode, "deploymentIds", query.getDeploymentIds());
+        putIfNotNull(queryNode, "cmmnDeploymentId", query.getCmmnDeploymentId());
+        putIfNotNullOrEmpty(queryNode, "cmmnDeploymentIds", query.getCmmnDeploymentIds());
+        putIfNotNull(queryNode, "processInstanceBusinessKey", query.getProcessInstanceBusinessKey());
+        putIfNotNull(queryNode, "processInstanceBusinessKeyLike", query.getProcessInstanceBusinessKeyLike());
+        putIfNotNull(queryNode, "processInstanceBusinessKeyLikeIgnoreCase", query.getProcessInstanceBusinessKeyLikeIgnoreCase());
+        putIfNotNull(queryNode, "caseDefinitionKey", query.getCaseDefinitionKey());
+        putIfNotNull(queryNode, "caseDefinitionKeyLike", query.getCaseDefinitionKeyLike());
+        putIfNotNull(queryNode, "caseDefinitionKeyLikeIgnoreCase", query.getCaseDefinitionKeyLikeIgnoreCase());
+        putIfNotNullOrEmpty(queryNode, "caseDefinitionKeys", query.getCaseDefinitionKeys());
+        putIfNotNull(queryNode, "dueDate", query.getDueDate());
+        putIfNotNull(queryNode, "dueBefore", query.getDueBefore());
+        putIfNotNull(queryNode, "dueAfter", query.getDueAfter());
+        putIfTrue(queryNode, "withoutDueDate", query.isWithoutDueDate());
+        putIfTrue(queryNode, "suspended", SuspensionState.SUSPENDED.equals(query.getSuspensionState()));
+        putIfTrue(queryNode, "active", SuspensionState.ACTIVE.equals(query.getSuspensionState()));
+        putIfTrue(queryNode, "excludeSubtasks", query.isExcludeSubtasks());
+    }
+
+    protected void scheduleStatusJob(ProcessEngineConfigurationImpl engineConfiguration, Batch batch) {
+        TimerJobService timerJobService = engineConfiguration.getJobServiceConfiguration().getTimerJobService();
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(Job.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(BulkTaskActionStatusJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(batch.getId());
+
+        BusinessCalendar businessCalendar = engineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(engineConfiguration.getBatchStatusTimeCycleConfig()));
+        timerJob.setRepeat(engineConfiguration.getBatchStatusTimeCycleConfig());
+
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+}
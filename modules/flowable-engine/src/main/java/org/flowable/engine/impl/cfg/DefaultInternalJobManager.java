@@ -13,11 +13,19 @@
 
 package org.flowable.engine.impl.cfg;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Event;
@@ -28,7 +36,9 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.impl.calendar.BusinessCalendar;
 import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.logging.LoggingSessionConstants;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.jobexecutor.TimerEventHandler;
 import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
@@ -49,6 +59,8 @@ import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.service.VariableService;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Tijs Rademakers
@@ -69,6 +81,64 @@ public class DefaultInternalJobManager extends ScopeAwareInternalJobManager {
         return null;
     }
 
+    @Override
+    protected Map<String, Map<String, Object>> resolveVariablesInternal(Collection<? extends Job> jobs, Collection<String> variableNames) {
+        if (variableNames.isEmpty()) {
+            // The query ignores an empty names filter and would return all variables instead of none
+            Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+            for (Job job : jobs) {
+                variablesByJobId.put(job.getId(), Collections.emptyMap());
+            }
+            return variablesByJobId;
+        }
+
+        // Collect the execution hierarchy of every job, ordered from the process instance down to the job execution
+        Map<String, List<String>> executionHierarchyByJobId = new HashMap<>();
+        Set<String> executionIds = new HashSet<>();
+        for (Job job : jobs) {
+            if (job.getExecutionId() != null) {
+                LinkedList<String> executionHierarchy = new LinkedList<>();
+                ExecutionEntity execution = getExecutionEntityManager().findById(job.getExecutionId());
+                while (execution != null) {
+                    executionHierarchy.addFirst(execution.getId());
+                    execution = execution.getParent();
+                }
+                executionHierarchyByJobId.put(job.getId(), executionHierarchy);
+                executionIds.addAll(executionHierarchy);
+            }
+        }
+
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        if (executionIds.isEmpty()) {
+            return variablesByJobId;
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByExecutionId = new HashMap<>();
+        VariableService variableService = processEngineConfiguration.getVariableServiceConfiguration().getVariableService();
+        for (List<String> executionIdsPart : CollectionUtil.partition(executionIds, AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+            List<VariableInstanceEntity> variableInstances = variableService.createInternalVariableInstanceQuery()
+                    .executionIds(executionIdsPart)
+                    .withoutTaskId()
+                    .names(variableNames)
+                    .list();
+            for (VariableInstanceEntity variableInstance : variableInstances) {
+                variablesByExecutionId.computeIfAbsent(variableInstance.getExecutionId(), key -> new ArrayList<>()).add(variableInstance);
+            }
+        }
+
+        for (Map.Entry<String, List<String>> entry : executionHierarchyByJobId.entrySet()) {
+            // Variables of child executions shadow the variables of their parents
+            Map<String, Object> variables = new HashMap<>();
+            for (String executionId : entry.getValue()) {
+                for (VariableInstanceEntity variableInstance : variablesByExecutionId.getOrDefault(executionId, Collections.emptyList())) {
+                    variables.put(variableInstance.getName(), variableInstance.getValue());
+                }
+            }
+            variablesByJobId.put(entry.getKey(), variables);
+        }
+        return variablesByJobId;
+    }
+
     @Override
     protected boolean handleJobInsertInternal(Job job) {
         // add link to execution
@@ -61,6 +61,14 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * If true, queries including variables (e.g. process instance or task queries with includeProcessVariables()) first fetch the page of
+     * process instances or tasks and then fetch the variables of that page with a separate query, instead of joining the variable table.
+     * The join returns one row per variable, which gets expensive when the query results have many variables.
+     * Queries restricting the included variables to certain names always fetch them separately.
+     */
+    protected boolean enableSeparateIncludedVariablesFetch = false;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -109,4 +117,12 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableSeparateIncludedVariablesFetch() {
+        return enableSeparateIncludedVariablesFetch;
+    }
+
+    public void setEnableSeparateIncludedVariablesFetch(boolean enableSeparateIncludedVariablesFetch) {
+        this.enableSeparateIncludedVariablesFetch = enableSeparateIncludedVariablesFetch;
+    }
+
 }
@@ -217,6 +217,9 @@ import org.flowable.engine.impl.db.EntityDependencyOrder;
 import org.flowable.engine.impl.db.ProcessDbSchemaManager;
 import org.flowable.engine.impl.delegate.JsonVariableAggregator;
 import org.flowable.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
+import org.flowable.engine.impl.bulk.BulkTaskActionJobHandler;
+import org.flowable.engine.impl.bulk.BulkTaskActionPartitionJobHandler;
+import org.flowable.engine.impl.bulk.BulkTaskActionStatusJobHandler;
 import org.flowable.engine.impl.delete.ComputeDeleteHistoricProcessInstanceIdsJobHandler;
 import org.flowable.engine.impl.delete.ComputeDeleteHistoricProcessInstanceStatusJobHandler;
 import org.flowable.engine.impl.delete.DeleteHistoricProcessInstanceIdsJobHandler;
@@ -359,6 +362,9 @@ import org.flowable.engine.impl.persistence.entity.data.impl.MybatisProcessDefin
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisResourceDataManager;
 import org.flowable.engine.impl.repository.DefaultProcessDefinitionLocalizationManager;
 import org.flowable.engine.impl.scripting.VariableScopeResolverFactory;
+import org.flowable.engine.impl.signal.SignalBroadcastJobHandler;
+import org.flowable.engine.impl.signal.SignalBroadcastPartitionJobHandler;
+import org.flowable.engine.impl.signal.SignalBroadcastStatusJobHandler;
 import org.flowable.engine.impl.util.ProcessInstanceHelper;
 import org.flowable.engine.impl.variable.BpmnAggregatedVariableType;
 import org.flowable.engine.impl.variable.ParallelMultiInstanceLoopVariableType;
@@ -386,6 +392,7 @@ import org.flowable.identitylink.service.impl.db.IdentityLinkDbSchemaManager;
 import org.flowable.idm.api.IdmEngineConfigurationApi;
 import org.flowable.idm.engine.configurator.IdmEngineConfigurator;
 import org.flowable.image.impl.DefaultProcessDiagramGenerator;
+import org.flowable.job.service.ExternalWorkerJobNotifier;
 import org.flowable.job.service.HistoryJobHandler;
 import org.flowable.job.service.HistoryJobProcessor;
 import org.flowable.job.service.InternalJobCompatibilityManager;
@@ -409,6 +416,7 @@ import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.job.service.impl.history.async.sink.HistorySink;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.task.api.TaskQueryInterceptor;
 import org.flowable.task.api.history.HistoricTaskQueryInterceptor;
@@ -532,6 +540,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
+    protected HistorySink asyncHistorySink;
+    protected boolean isAsyncHistoryDatabaseWriteEnabled = true;
 
     // Change Tenant ID Manager
 
@@ -681,6 +691,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorResetExpiredJobsMaxTimeout = 24 * 60 * 60 * 1000;
 
+    /**
+     * Whether the async and timer job acquisition queries lock the rows they return with 'for update skip locked'.
+     * Concurrent executors then skip each other's jobs instead of failing the acquisition with an optimistic locking exception.
+     * Only applied on Postgres and MySQL, the latter requires MySQL 8 or newer.
+     */
+    protected boolean skipLockedAcquisitionEnabled;
+
+    /**
+     * Whether expired jobs are reset with one update statement per page instead of being unacquired one by one.
+     * Reset jobs keep their id. Not used when the job manager needs to send a message for every unacquired job.
+     */
+    protected boolean bulkResetExpiredJobsEnabled;
+
     /**
      * Experimental!
      * <p>
@@ -698,6 +721,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryExecutorMaxPoolSize = 8;
     protected long asyncHistoryExecutorThreadKeepAliveTime = 5000L;
     protected int asyncHistoryExecutorThreadPoolQueueSize = 2048;
+    /**
+     * The number of acquired history jobs that the default async history executor executes together in one transaction.
+     * Higher values reduce the number of transactions and allow related history data to be written at once.
+     */
+    protected int asyncHistoryExecutorJobBatchSize = 1;
     protected BlockingQueue<Runnable> asyncHistoryExecutorThreadPoolQueue;
     protected long asyncHistoryExecutorSecondsToWaitOnShutdown = 60L;
 
@@ -707,6 +735,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected String batchStatusTimeCycleConfig = "30 * * * * ?";
 
+    /**
+     * The number of process instances migrated by a single batch part (and its job) when batch migrating the process instances of a process definition.
+     * With the default of 1, every process instance gets its own batch part and job.
+     */
+    protected int processInstanceMigrationBatchPartSize = 1;
+
+    /**
+     * The maximum number of batch parts created by a single job when partitioning the subscriptions of a signal broadcast batch.
+     * When there are more subscriptions, a new job continues the partitioning, so a single transaction doesn't get too large.
+     */
+    protected int signalBroadcastMaxBatchPartsPerJob = 10;
+
+    /**
+     * The maximum number of batch parts created by a single job when partitioning the tasks of a bulk task action batch.
+     */
+    protected int bulkTaskActionMaxBatchPartsPerJob = 10;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -824,6 +869,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected List<EventHandler> customEventHandlers;
 
     protected FailedJobCommandFactory failedJobCommandFactory;
+    protected ExternalWorkerJobNotifier externalWorkerJobNotifier;
+    protected Duration externalWorkerJobMaxWaitTime = Duration.ofMinutes(1);
 
     protected FormFieldHandler formFieldHandler;
     protected boolean isFormFieldValidationEnabled;
@@ -843,6 +890,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean enableSafeBpmnXml;
 
+    /**
+     * Set this to true to skip parsing the BPMN DI (shapes, edges and labels) when an already deployed process definition is loaded into the process definition cache.
+     * The graphic info is then only parsed when the model is requested through {@link org.flowable.engine.RepositoryService#getBpmnModel(String)}.
+     * Useful for large generated models, where the diagram interchange makes up a large part of the xml but is not needed for execution.
+     */
+    protected boolean enableLazyDiagramInterchange;
+
+    /**
+     * Set this to true to share one instance of a class based execution or task listener (flowable:class) per process definition,
+     * instead of creating and injecting a new instance for every notification.
+     * Only enable this when the listener implementations don't keep any state between invocations.
+     */
+    protected boolean enableClassDelegateListenerInstanceReuse;
+
     /**
      * The following settings will determine the amount of entities loaded at once when the engine needs to load multiple entities (eg. when suspending a process definition with all its process
      * instances).
@@ -856,6 +917,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean enableDatabaseEventLogging;
     protected boolean enableHistoricTaskLogging;
 
+    /**
+     * Whether the event listeners defined in process definitions (the extensionElements/eventListener elements) are notified.
+     * When disabled and no event listeners are registered on the engine, entity and variable events are not created at all.
+     */
+    protected boolean enableProcessDefinitionEventListeners = true;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -1583,6 +1650,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.taskServiceConfiguration.setEnableTaskRelationshipCounts(this.performanceSettings.isEnableTaskRelationshipCounts());
         this.taskServiceConfiguration.setEnableLocalization(this.performanceSettings.isEnableLocalization());
+        this.taskServiceConfiguration.setEnableSeparateIncludedVariablesFetch(this.performanceSettings.isEnableSeparateIncludedVariablesFetch());
         this.taskServiceConfiguration.setTaskQueryInterceptor(this.taskQueryInterceptor);
         this.taskServiceConfiguration.setHistoricTaskQueryInterceptor(this.historicTaskQueryInterceptor);
 
@@ -1627,6 +1695,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setSkipLockedAcquisitionEnabled(this.skipLockedAcquisitionEnabled);
+            this.jobServiceConfiguration.setBulkResetExpiredJobsEnabled(this.bulkResetExpiredJobsEnabled);
 
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1668,6 +1738,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.jobServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.jobServiceConfiguration.setBusinessCalendarManager(this.businessCalendarManager);
         this.jobServiceConfiguration.setFailedJobCommandFactory(this.failedJobCommandFactory);
+        this.jobServiceConfiguration.setExternalWorkerJobNotifier(this.externalWorkerJobNotifier);
+        this.jobServiceConfiguration.setExternalWorkerJobMaxWaitTime(this.externalWorkerJobMaxWaitTime);
         
         this.jobServiceConfiguration.init();
 
@@ -1733,6 +1805,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (engineConfigurations.containsKey(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG)) {
             IdmEngineConfigurationApi idmEngineConfiguration = (IdmEngineConfigurationApi) engineConfigurations.get(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG);
             this.taskServiceConfiguration.setIdmIdentityService(idmEngineConfiguration.getIdmIdentityService());
+            this.taskServiceConfiguration.setGroupMembershipCache(idmEngineConfiguration.getGroupMembershipCache());
         }
     }
     
@@ -2092,6 +2165,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         DeleteHistoricProcessInstanceIdsStatusJobHandler deleteHistoricProcessInstanceStatusJobHandler = new DeleteHistoricProcessInstanceIdsStatusJobHandler();
         jobHandlers.put(deleteHistoricProcessInstanceStatusJobHandler.getType(), deleteHistoricProcessInstanceStatusJobHandler);
 
+        BulkTaskActionPartitionJobHandler bulkTaskActionPartitionJobHandler = new BulkTaskActionPartitionJobHandler();
+        jobHandlers.put(bulkTaskActionPartitionJobHandler.getType(), bulkTaskActionPartitionJobHandler);
+
+        BulkTaskActionJobHandler bulkTaskActionJobHandler = new BulkTaskActionJobHandler();
+        jobHandlers.put(bulkTaskActionJobHandler.getType(), bulkTaskActionJobHandler);
+
+        BulkTaskActionStatusJobHandler bulkTaskActionStatusJobHandler = new BulkTaskActionStatusJobHandler();
+        jobHandlers.put(bulkTaskActionStatusJobHandler.getType(), bulkTaskActionStatusJobHandler);
+
+        SignalBroadcastPartitionJobHandler signalBroadcastPartitionJobHandler = new SignalBroadcastPartitionJobHandler();
+        jobHandlers.put(signalBroadcastPartitionJobHandler.getType(), signalBroadcastPartitionJobHandler);
+
+        SignalBroadcastJobHandler signalBroadcastJobHandler = new SignalBroadcastJobHandler();
+        jobHandlers.put(signalBroadcastJobHandler.getType(), signalBroadcastJobHandler);
+
+        SignalBroadcastStatusJobHandler signalBroadcastStatusJobHandler = new SignalBroadcastStatusJobHandler();
+        jobHandlers.put(signalBroadcastStatusJobHandler.getType(), signalBroadcastStatusJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -2102,6 +2193,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected void initHistoryJobHandlers() {
         if (isAsyncHistoryEnabled) {
+            if (!isAsyncHistoryDatabaseWriteEnabled && asyncHistorySink == null) {
+                throw new FlowableException("The async history database write can only be disabled when an async history sink is set");
+            }
+
             historyJobHandlers = new HashMap<>();
 
             List<HistoryJsonTransformer> allHistoryJsonTransformers = new ArrayList<>(initDefaultHistoryJsonTransformers());
@@ -2112,11 +2207,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             AsyncHistoryJobHandler asyncHistoryJobHandler = new AsyncHistoryJobHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             allHistoryJsonTransformers.forEach(asyncHistoryJobHandler::addHistoryJsonTransformer);
             asyncHistoryJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobHandler.setHistorySink(asyncHistorySink);
+            asyncHistoryJobHandler.setWriteHistoryToDatabase(isAsyncHistoryDatabaseWriteEnabled);
             historyJobHandlers.put(asyncHistoryJobHandler.getType(), asyncHistoryJobHandler);
 
             AsyncHistoryJobZippedHandler asyncHistoryJobZippedHandler = new AsyncHistoryJobZippedHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             allHistoryJsonTransformers.forEach(asyncHistoryJobZippedHandler::addHistoryJsonTransformer);
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            asyncHistoryJobZippedHandler.setHistorySink(asyncHistorySink);
+            asyncHistoryJobZippedHandler.setWriteHistoryToDatabase(isAsyncHistoryDatabaseWriteEnabled);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
             if (getCustomHistoryJobHandlers() != null) {
@@ -2268,6 +2367,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
                 // Message queue mode
                 defaultAsyncHistoryExecutor.setMessageQueueMode(asyncHistoryExecutorMessageQueueMode);
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorJobBatchSize);
 
                 asyncHistoryExecutor = defaultAsyncHistoryExecutor;
 
@@ -3767,6 +3867,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ExternalWorkerJobNotifier getExternalWorkerJobNotifier() {
+        return externalWorkerJobNotifier;
+    }
+
+    /**
+     * Sets the {@link ExternalWorkerJobNotifier} that is notified when external worker jobs are created,
+     * e.g. to wake up external workers waiting on other nodes of a cluster.
+     * By default only the external workers waiting in this engine are woken up.
+     */
+    public ProcessEngineConfigurationImpl setExternalWorkerJobNotifier(ExternalWorkerJobNotifier externalWorkerJobNotifier) {
+        this.externalWorkerJobNotifier = externalWorkerJobNotifier;
+        return this;
+    }
+
+    public Duration getExternalWorkerJobMaxWaitTime() {
+        return externalWorkerJobMaxWaitTime;
+    }
+
+    /**
+     * Sets the maximum time an external worker acquire request waits for jobs to be created.
+     * Requests asking for a longer wait time only wait this long. Default 1 minute.
+     */
+    public ProcessEngineConfigurationImpl setExternalWorkerJobMaxWaitTime(Duration externalWorkerJobMaxWaitTime) {
+        this.externalWorkerJobMaxWaitTime = externalWorkerJobMaxWaitTime;
+        return this;
+    }
+
     public int getBatchSizeProcessInstances() {
         return batchSizeProcessInstances;
     }
@@ -3866,6 +3993,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableLazyDiagramInterchange() {
+        return enableLazyDiagramInterchange;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableLazyDiagramInterchange(boolean enableLazyDiagramInterchange) {
+        this.enableLazyDiagramInterchange = enableLazyDiagramInterchange;
+        return this;
+    }
+
+    public boolean isEnableClassDelegateListenerInstanceReuse() {
+        return enableClassDelegateListenerInstanceReuse;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableClassDelegateListenerInstanceReuse(boolean enableClassDelegateListenerInstanceReuse) {
+        this.enableClassDelegateListenerInstanceReuse = enableClassDelegateListenerInstanceReuse;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setEventDispatcher(FlowableEventDispatcher eventDispatcher) {
         this.eventDispatcher = eventDispatcher;
@@ -3890,6 +4035,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableProcessDefinitionEventListeners() {
+        return enableProcessDefinitionEventListeners;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessDefinitionEventListeners(boolean enableProcessDefinitionEventListeners) {
+        this.enableProcessDefinitionEventListeners = enableProcessDefinitionEventListeners;
+        return this;
+    }
+
     public ProcessValidator getProcessValidator() {
         return processValidator;
     }
@@ -4031,6 +4185,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableSeparateIncludedVariablesFetch(boolean enableSeparateIncludedVariablesFetch) {
+        this.performanceSettings.setEnableSeparateIncludedVariablesFetch(enableSeparateIncludedVariablesFetch);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -4368,6 +4527,31 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public HistorySink getAsyncHistorySink() {
+        return asyncHistorySink;
+    }
+
+    /**
+     * Sets a {@link HistorySink} to which all history data handled by the async history job handlers is passed.
+     */
+    public ProcessEngineConfigurationImpl setAsyncHistorySink(HistorySink asyncHistorySink) {
+        this.asyncHistorySink = asyncHistorySink;
+        return this;
+    }
+
+    public boolean isAsyncHistoryDatabaseWriteEnabled() {
+        return isAsyncHistoryDatabaseWriteEnabled;
+    }
+
+    /**
+     * When disabled, the async history data is only passed to the {@link #setAsyncHistorySink(HistorySink) async history sink}
+     * and not stored in the history tables. The engine fails to start when this is disabled without an async history sink.
+     */
+    public ProcessEngineConfigurationImpl setAsyncHistoryDatabaseWriteEnabled(boolean isAsyncHistoryDatabaseWriteEnabled) {
+        this.isAsyncHistoryDatabaseWriteEnabled = isAsyncHistoryDatabaseWriteEnabled;
+        return this;
+    }
+
     public int getAsyncHistoryJsonGroupingThreshold() {
         return asyncHistoryJsonGroupingThreshold;
     }
@@ -5011,6 +5195,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isSkipLockedAcquisitionEnabled() {
+        return skipLockedAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setSkipLockedAcquisitionEnabled(boolean skipLockedAcquisitionEnabled) {
+        this.skipLockedAcquisitionEnabled = skipLockedAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isBulkResetExpiredJobsEnabled() {
+        return bulkResetExpiredJobsEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setBulkResetExpiredJobsEnabled(boolean bulkResetExpiredJobsEnabled) {
+        this.bulkResetExpiredJobsEnabled = bulkResetExpiredJobsEnabled;
+        return this;
+    }
+
     public ExecuteAsyncRunnableFactory getAsyncExecutorExecuteAsyncRunnableFactory() {
         return asyncExecutorExecuteAsyncRunnableFactory;
     }
@@ -5145,6 +5347,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncHistoryExecutorJobBatchSize() {
+        return asyncHistoryExecutorJobBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorJobBatchSize(int asyncHistoryExecutorJobBatchSize) {
+        this.asyncHistoryExecutorJobBatchSize = asyncHistoryExecutorJobBatchSize;
+        return this;
+    }
+
     public BlockingQueue<Runnable> getAsyncHistoryExecutorThreadPoolQueue() {
         return asyncHistoryExecutorThreadPoolQueue;
     }
@@ -5431,4 +5642,31 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.batchStatusTimeCycleConfig = batchStatusTimeCycleConfig;
     }
 
+    public int getProcessInstanceMigrationBatchPartSize() {
+        return processInstanceMigrationBatchPartSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceMigrationBatchPartSize(int processInstanceMigrationBatchPartSize) {
+        this.processInstanceMigrationBatchPartSize = processInstanceMigrationBatchPartSize;
+        return this;
+    }
+
+    public int getSignalBroadcastMaxBatchPartsPerJob() {
+        return signalBroadcastMaxBatchPartsPerJob;
+    }
+
+    public ProcessEngineConfigurationImpl setSignalBroadcastMaxBatchPartsPerJob(int signalBroadcastMaxBatchPartsPerJob) {
+        this.signalBroadcastMaxBatchPartsPerJob = signalBroadcastMaxBatchPartsPerJob;
+        return this;
+    }
+
+    public int getBulkTaskActionMaxBatchPartsPerJob() {
+        return bulkTaskActionMaxBatchPartsPerJob;
+    }
+
+    public ProcessEngineConfigurationImpl setBulkTaskActionMaxBatchPartsPerJob(int bulkTaskActionMaxBatchPartsPerJob) {
+        this.bulkTaskActionMaxBatchPartsPerJob = bulkTaskActionMaxBatchPartsPerJob;
+        return this;
+    }
+
 }
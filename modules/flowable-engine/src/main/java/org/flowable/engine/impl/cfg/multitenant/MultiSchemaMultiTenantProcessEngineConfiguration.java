@@ -16,6 +16,7 @@ import java.util.concurrent.ExecutorService;
 
 import javax.sql.DataSource;
 
+import org.flowable.common.engine.impl.cfg.multitenant.MultiTenantQueryExecutor;
 import org.flowable.common.engine.impl.cfg.multitenant.TenantAwareDataSource;
 import org.flowable.common.engine.impl.cfg.multitenant.TenantInfoHolder;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -53,6 +54,9 @@ import org.flowable.job.service.impl.asyncexecutor.multitenant.TenantAwareAsyncE
  * the job execution is done using a process engine shared {@link ExecutorService}. The {@link AsyncExecutor} needs to be injected using the {@link #setAsyncExecutor(AsyncExecutor)} method on this
  * class.
  * 
+ * - Queries spanning all tenants (e.g. for admin views) can be done with the {@link MultiTenantQueryExecutor} returned by {@link #getMultiTenantQueryExecutor()},
+ * which queries every tenant database and merges the sorted results.
+ * 
  * databasetype
  * 
  * @author Joram Barrez
@@ -60,6 +64,7 @@ import org.flowable.job.service.impl.asyncexecutor.multitenant.TenantAwareAsyncE
 public class MultiSchemaMultiTenantProcessEngineConfiguration extends ProcessEngineConfigurationImpl {
 
     protected TenantInfoHolder tenantInfoHolder;
+    protected MultiTenantQueryExecutor multiTenantQueryExecutor;
     protected boolean booted;
 
     public MultiSchemaMultiTenantProcessEngineConfiguration(TenantInfoHolder tenantInfoHolder) {
@@ -196,4 +201,16 @@ public class MultiSchemaMultiTenantProcessEngineConfiguration extends ProcessEng
     public TenantInfoHolder getTenantInfoHolder() {
         return tenantInfoHolder;
     }
+
+    public MultiTenantQueryExecutor getMultiTenantQueryExecutor() {
+        if (multiTenantQueryExecutor == null) {
+            multiTenantQueryExecutor = new MultiTenantQueryExecutor(tenantInfoHolder);
+        }
+        return multiTenantQueryExecutor;
+    }
+
+    public MultiSchemaMultiTenantProcessEngineConfiguration setMultiTenantQueryExecutor(MultiTenantQueryExecutor multiTenantQueryExecutor) {
+        this.multiTenantQueryExecutor = multiTenantQueryExecutor;
+        return this;
+    }
 }
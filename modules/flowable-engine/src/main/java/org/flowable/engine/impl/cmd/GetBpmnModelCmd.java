@@ -14,11 +14,19 @@ package org.flowable.engine.impl.cmd;
 
 import java.io.Serializable;
 
+import org.flowable.bpmn.converter.BpmnXMLConverter;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.util.io.BytesStreamSource;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.entity.ResourceEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.repository.ProcessDefinition;
 
 /**
  * @author Joram Barrez
@@ -39,6 +47,56 @@ public class GetBpmnModelCmd implements Command<BpmnModel>, Serializable {
             throw new FlowableIllegalArgumentException("processDefinitionId is null");
         }
 
-        return ProcessDefinitionUtil.getBpmnModel(processDefinitionId);
+        BpmnModel bpmnModel = ProcessDefinitionUtil.getBpmnModel(processDefinitionId);
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (processEngineConfiguration.isEnableLazyDiagramInterchange() && bpmnModel != null && bpmnModel.getLocationMap().isEmpty()) {
+            ProcessDefinition processDefinition = ProcessDefinitionUtil.getProcessDefinition(processDefinitionId);
+            if (processDefinition.hasGraphicalNotation()) {
+                bpmnModel = loadDiagramInterchange(bpmnModel, processDefinition, processEngineConfiguration, commandContext);
+            }
+        }
+
+        return bpmnModel;
+    }
+
+    /**
+     * Returns a copy of the cached model with the diagram interchange info that was skipped when the model was put in the
+     * process definition cache. The cached model is shared by other threads and is never changed: the copy replaces it in
+     * the cache entry instead, so the graphic info is parsed only once and all later lookups get the complete model.
+     */
+    protected BpmnModel loadDiagramInterchange(BpmnModel bpmnModel, ProcessDefinition processDefinition,
+            ProcessEngineConfigurationImpl processEngineConfiguration, CommandContext commandContext) {
+
+        ResourceEntity resource = CommandContextUtil.getResourceEntityManager(commandContext)
+                .findResourceByDeploymentIdAndResourceName(processDefinition.getDeploymentId(), processDefinition.getResourceName());
+        if (resource == null) {
+            return bpmnModel;
+        }
+
+        BpmnXMLConverter converter = new BpmnXMLConverter();
+        BytesStreamSource streamSource = new BytesStreamSource(resource.getBytes());
+        BpmnModel diagramModel;
+        if (processEngineConfiguration.getXmlEncoding() != null) {
+            diagramModel = converter.convertToBpmnModel(streamSource, false, processEngineConfiguration.isEnableSafeBpmnXml(),
+                    processEngineConfiguration.getXmlEncoding());
+        } else {
+            diagramModel = converter.convertToBpmnModel(streamSource, false, processEngineConfiguration.isEnableSafeBpmnXml());
+        }
+
+        BpmnModel bpmnModelWithDiagramInterchange = bpmnModel.shallowCopy();
+        bpmnModelWithDiagramInterchange.getLocationMap().putAll(diagramModel.getLocationMap());
+        bpmnModelWithDiagramInterchange.getLabelLocationMap().putAll(diagramModel.getLabelLocationMap());
+        bpmnModelWithDiagramInterchange.getFlowLocationMap().putAll(diagramModel.getFlowLocationMap());
+        bpmnModelWithDiagramInterchange.getEdgeMap().putAll(diagramModel.getEdgeMap());
+
+        DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = processEngineConfiguration.getProcessDefinitionCache();
+        ProcessDefinitionCacheEntry cacheEntry = processDefinitionCache.get(processDefinition.getId());
+        if (cacheEntry != null && cacheEntry.getBpmnModel() == bpmnModel) {
+            processDefinitionCache.add(processDefinition.getId(),
+                    new ProcessDefinitionCacheEntry(cacheEntry.getProcessDefinition(), bpmnModelWithDiagramInterchange, cacheEntry.getProcess()));
+        }
+
+        return bpmnModelWithDiagramInterchange;
     }
-}
\ No newline at end of file
+}
@@ -14,6 +14,7 @@
 package org.flowable.engine.impl.cmd;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.flowable.batch.api.Batch;
@@ -34,6 +35,9 @@ public class GetProcessInstanceMigrationBatchResultCmd implements Command<Proces
 
     public static final String BATCH_RESULT_STATUS_LABEL = "resultStatus";
     public static final String BATCH_RESULT_MESSAGE_LABEL = "resultMessage";
+    public static final String BATCH_RESULT_PROCESS_INSTANCES_LABEL = "processInstances";
+    public static final String BATCH_RESULT_PROCESS_INSTANCE_ID_LABEL = "processInstanceId";
+    public static final String BATCH_PART_PROCESS_INSTANCE_IDS_LABEL = "processInstanceIds";
 
     protected String batchId;
 
@@ -53,7 +57,13 @@ public class GetProcessInstanceMigrationBatchResultCmd implements Command<Proces
             List<BatchPart> batchParts = batchService.findBatchPartsByBatchId(batch.getId());
             if (batchParts != null && !batchParts.isEmpty()) {
                 for (BatchPart batchPart : batchParts) {
-                    result.addMigrationPart(convertFromBatchPart(batchPart, objectMapper));
+                    if (batchPart.getScopeId() == null) {
+                        for (ProcessInstanceBatchMigrationPartResult partResult : convertFromMultiProcessInstanceBatchPart(batchPart, objectMapper)) {
+                            result.addMigrationPart(partResult);
+                        }
+                    } else {
+                        result.addMigrationPart(convertFromBatchPart(batchPart, objectMapper));
+                    }
                 }
             }
             return result;
@@ -105,4 +115,53 @@ public class GetProcessInstanceMigrationBatchResultCmd implements Command<Proces
         
         return partResult;
     }
+
+    /**
+     * A batch part without scope id migrates several process instances, which are reported as separate part results.
+     */
+    protected List<ProcessInstanceBatchMigrationPartResult> convertFromMultiProcessInstanceBatchPart(BatchPart batchPart, ObjectMapper objectMapper) {
+        List<ProcessInstanceBatchMigrationPartResult> partResults = new ArrayList<>();
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        String documentJson = batchPart.getResultDocumentJson(processEngineConfiguration.getEngineCfgKey());
+        if (documentJson == null) {
+            return partResults;
+        }
+
+        JsonNode documentNode;
+        try {
+            documentNode = objectMapper.readTree(documentJson);
+        } catch (IOException e) {
+            throw new FlowableException("Error reading batch part " + batchPart.getId());
+        }
+
+        if (batchPart.getCompleteTime() == null) {
+            for (JsonNode processInstanceIdNode : documentNode.path(BATCH_PART_PROCESS_INSTANCE_IDS_LABEL)) {
+                ProcessInstanceBatchMigrationPartResult partResult = createPartResult(batchPart, processInstanceIdNode.asText());
+                partResult.setResult(batchPart.getStatus());
+                partResults.add(partResult);
+            }
+
+        } else {
+            for (JsonNode processInstanceNode : documentNode.path(BATCH_RESULT_PROCESS_INSTANCES_LABEL)) {
+                ProcessInstanceBatchMigrationPartResult partResult = createPartResult(batchPart, processInstanceNode.path(BATCH_RESULT_PROCESS_INSTANCE_ID_LABEL).asText());
+                partResult.setStatus(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+                partResult.setResult(processInstanceNode.path(BATCH_RESULT_STATUS_LABEL).asText());
+                if (processInstanceNode.has(BATCH_RESULT_MESSAGE_LABEL)) {
+                    partResult.setMigrationMessage(processInstanceNode.get(BATCH_RESULT_MESSAGE_LABEL).asText());
+                }
+                partResults.add(partResult);
+            }
+        }
+
+        return partResults;
+    }
+
+    protected ProcessInstanceBatchMigrationPartResult createPartResult(BatchPart batchPart, String processInstanceId) {
+        ProcessInstanceBatchMigrationPartResult partResult = new ProcessInstanceBatchMigrationPartResult();
+        partResult.setBatchId(batchPart.getId());
+        partResult.setProcessInstanceId(processInstanceId);
+        partResult.setSourceProcessDefinitionId(batchPart.getBatchSearchKey());
+        partResult.setTargetProcessDefinitionId(batchPart.getBatchSearchKey2());
+        return partResult;
+    }
 }
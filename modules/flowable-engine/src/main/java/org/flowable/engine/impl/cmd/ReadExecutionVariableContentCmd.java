@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.io.InputStreamHandler;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Streams the binary content of a variable to an {@link InputStreamHandler}, without deserializing the variable value.
+ */
+public class ReadExecutionVariableContentCmd<T> implements Command<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    protected String executionId;
+    protected String variableName;
+    protected boolean isLocal;
+    protected InputStreamHandler<T> inputStreamHandler;
+
+    public ReadExecutionVariableContentCmd(String executionId, String variableName, boolean isLocal, InputStreamHandler<T> inputStreamHandler) {
+        this.executionId = executionId;
+        this.variableName = variableName;
+        this.isLocal = isLocal;
+        this.inputStreamHandler = inputStreamHandler;
+    }
+
+    @Override
+    public T execute(CommandContext commandContext) {
+        if (executionId == null) {
+            throw new FlowableIllegalArgumentException("executionId is null");
+        }
+        if (variableName == null) {
+            throw new FlowableIllegalArgumentException("variableName is null");
+        }
+        if (inputStreamHandler == null) {
+            throw new FlowableIllegalArgumentException("inputStreamHandler is null");
+        }
+
+        ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(executionId);
+
+        if (execution == null) {
+            throw new FlowableObjectNotFoundException("execution " + executionId + " doesn't exist", Execution.class);
+        }
+
+        VariableInstance variableInstance;
+        if (isLocal) {
+            variableInstance = execution.getVariableInstanceLocal(variableName, false);
+        } else {
+            variableInstance = execution.getVariableInstance(variableName, false);
+        }
+
+        // Transient variables are never stored as a byte array
+        if (!(variableInstance instanceof VariableInstanceEntity)) {
+            return null;
+        }
+
+        ByteArrayRef byteArrayRef = ((VariableInstanceEntity) variableInstance).getByteArrayRef();
+        if (byteArrayRef == null) {
+            return null;
+        }
+
+        return byteArrayRef.readBytes(ScopeTypes.BPMN, inputStreamHandler);
+    }
+}
@@ -17,6 +17,7 @@ import java.io.Serializable;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.BpmnModel;
@@ -250,7 +251,20 @@ public class StartProcessInstanceCmd<T> implements Command<ProcessInstance>, Ser
     }
 
     protected ProcessDefinition getProcessDefinition(ProcessEngineConfigurationImpl processEngineConfiguration, CommandContext commandContext) {
-        DeploymentManager deploymentCache = CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentManager();
+        return findProcessDefinition(processDefinitionId, processDefinitionKey, processDefinitionParentDeploymentId, tenantId, fallbackToDefaultTenant,
+                definitionTenantOverride -> overrideDefinitionTenantId = definitionTenantOverride, processEngineConfiguration);
+    }
+
+    /**
+     * Finds the process definition to start by id, or by key within the parent deployment and tenant.
+     * When the definition of the default tenant is used for the given tenant, that tenant is passed to the override consumer,
+     * so the process instance can still be created in it.
+     */
+    protected static ProcessDefinition findProcessDefinition(String processDefinitionId, String processDefinitionKey, String processDefinitionParentDeploymentId,
+            String tenantId, boolean fallbackToDefaultTenant, Consumer<String> overrideDefinitionTenantIdConsumer,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        DeploymentManager deploymentCache = processEngineConfiguration.getDeploymentManager();
         ProcessDefinitionEntityManager processDefinitionEntityManager = processEngineConfiguration.getProcessDefinitionEntityManager();
 
         // Find the process definition
@@ -293,7 +307,7 @@ public class StartProcessInstanceCmd<T> implements Command<ProcessInstance>, Ser
                     if (StringUtils.isNotEmpty(defaultTenant)) {
                         processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, defaultTenant);
                         if (processDefinition != null) {
-                            overrideDefinitionTenantId = tenantId;
+                            overrideDefinitionTenantIdConsumer.accept(tenantId);
                         }
                         
                     } else {
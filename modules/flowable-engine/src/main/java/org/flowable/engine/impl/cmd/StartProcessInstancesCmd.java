@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.runtime.BulkProcessInstanceBuilderImpl.ProcessInstanceToStart;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.ProcessInstanceHelper;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+
+/**
+ * Starts a number of process instances of the same process definition in one transaction.
+ * The process definition is resolved once and all process instances are flushed together when the command context closes.
+ */
+public class StartProcessInstancesCmd implements Command<List<ProcessInstance>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String processDefinitionKey;
+    protected String processDefinitionId;
+    protected String tenantId;
+    protected boolean fallbackToDefaultTenant;
+    protected String overrideDefinitionTenantId;
+    protected Map<String, Object> variables;
+    protected List<ProcessInstanceToStart> processInstances;
+
+    public StartProcessInstancesCmd(String processDefinitionKey, String processDefinitionId, String tenantId, boolean fallbackToDefaultTenant,
+            Map<String, Object> variables, List<ProcessInstanceToStart> processInstances) {
+        this.processDefinitionKey = processDefinitionKey;
+        this.processDefinitionId = processDefinitionId;
+        this.tenantId = tenantId;
+        this.fallbackToDefaultTenant = fallbackToDefaultTenant;
+        this.variables = variables;
+        this.processInstances = processInstances;
+    }
+
+    @Override
+    public List<ProcessInstance> execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ProcessInstanceHelper processInstanceHelper = processEngineConfiguration.getProcessInstanceHelper();
+
+        ProcessDefinition processDefinition = StartProcessInstanceCmd.findProcessDefinition(processDefinitionId, processDefinitionKey, null,
+                tenantId, fallbackToDefaultTenant, definitionTenantOverride -> overrideDefinitionTenantId = definitionTenantOverride,
+                processEngineConfiguration);
+
+        List<ProcessInstance> startedProcessInstances = new ArrayList<>(processInstances.size());
+        for (ProcessInstanceToStart processInstanceToStart : processInstances) {
+            startedProcessInstances.add(processInstanceHelper.createProcessInstance(processDefinition, processInstanceToStart.getBusinessKey(), null, null,
+                    overrideDefinitionTenantId, null, getVariables(processInstanceToStart), null,
+                    null, null, null, null, null, true));
+        }
+
+        return startedProcessInstances;
+    }
+
+    protected Map<String, Object> getVariables(ProcessInstanceToStart processInstanceToStart) {
+        if (variables == null || variables.isEmpty()) {
+            return processInstanceToStart.getVariables();
+        }
+
+        Map<String, Object> processInstanceVariables = new HashMap<>(variables);
+        if (processInstanceToStart.getVariables() != null) {
+            processInstanceVariables.putAll(processInstanceToStart.getVariables());
+        }
+        return processInstanceVariables;
+    }
+}
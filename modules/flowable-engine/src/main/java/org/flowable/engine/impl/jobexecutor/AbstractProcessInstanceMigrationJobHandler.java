@@ -25,6 +25,9 @@ public abstract class AbstractProcessInstanceMigrationJobHandler implements JobH
 
     public static final String BATCH_RESULT_STATUS_LABEL = "resultStatus";
     public static final String BATCH_RESULT_MESSAGE_LABEL = "resultMessage";
+    public static final String BATCH_RESULT_PROCESS_INSTANCES_LABEL = "processInstances";
+    public static final String BATCH_RESULT_PROCESS_INSTANCE_ID_LABEL = "processInstanceId";
+    public static final String BATCH_PART_PROCESS_INSTANCE_IDS_LABEL = "processInstanceIds";
 
     protected static final String CFG_LABEL_BATCH_ID = "batchId";
     protected static final String CFG_LABEL_BATCH_PART_ID = "batchPartId";
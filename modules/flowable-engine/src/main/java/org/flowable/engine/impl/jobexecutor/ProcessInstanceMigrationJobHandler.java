@@ -12,11 +12,16 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
+import java.io.IOException;
+import java.util.List;
+
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.ManagementService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationDocumentImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -26,6 +31,8 @@ import org.flowable.engine.migration.ProcessInstanceMigrationManager;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.variable.api.delegate.VariableScope;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public class ProcessInstanceMigrationJobHandler extends AbstractProcessInstanceMigrationJobHandler {
@@ -41,17 +48,21 @@ public class ProcessInstanceMigrationJobHandler extends AbstractProcessInstanceM
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
         BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
-        ProcessInstanceMigrationManager processInstanceMigrationManager = processEngineConfiguration.getProcessInstanceMigrationManager();
 
         String batchPartId = getBatchPartIdFromHandlerCfg(configuration);
         BatchPart batchPart = batchService.getBatchPart(batchPartId);
         Batch batch = batchService.getBatch(batchPart.getBatchId());
         ProcessInstanceMigrationDocument migrationDocument = ProcessInstanceMigrationDocumentImpl.fromJson(batch.getBatchDocumentJson(processEngineConfiguration.getEngineCfgKey()));
 
+        if (batchPart.getScopeId() == null) {
+            migrateProcessInstances(batch, batchPart, migrationDocument, processEngineConfiguration);
+            return;
+        }
+
         String exceptionMessage = null;
         try {
-            processInstanceMigrationManager.migrateProcessInstance(batchPart.getScopeId(), migrationDocument, commandContext);
-        } catch (FlowableException e) {
+            migrateProcessInstance(batchPart.getScopeId(), migrationDocument, processEngineConfiguration);
+        } catch (RuntimeException e) {
             exceptionMessage = e.getMessage();
         }
 
@@ -64,6 +75,88 @@ public class ProcessInstanceMigrationJobHandler extends AbstractProcessInstanceM
         }
     }
 
+    protected void migrateProcessInstances(Batch batch, BatchPart batchPart, ProcessInstanceMigrationDocument migrationDocument,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        JsonNode batchPartDocument = readJson(batchPart.getResultDocumentJson(processEngineConfiguration.getEngineCfgKey()));
+
+        String status = ProcessInstanceBatchMigrationResult.RESULT_SUCCESS;
+        ObjectNode resultNode = getObjectMapper().createObjectNode();
+        ArrayNode processInstancesNode = resultNode.putArray(BATCH_RESULT_PROCESS_INSTANCES_LABEL);
+        for (JsonNode processInstanceIdNode : batchPartDocument.path(BATCH_PART_PROCESS_INSTANCE_IDS_LABEL)) {
+            String processInstanceId = processInstanceIdNode.asText();
+            ObjectNode processInstanceNode = processInstancesNode.addObject();
+            processInstanceNode.put(BATCH_RESULT_PROCESS_INSTANCE_ID_LABEL, processInstanceId);
+            try {
+                migrateProcessInstance(processInstanceId, migrationDocument, processEngineConfiguration);
+                processInstanceNode.put(BATCH_RESULT_STATUS_LABEL, ProcessInstanceBatchMigrationResult.RESULT_SUCCESS);
+            } catch (RuntimeException e) {
+                status = ProcessInstanceBatchMigrationResult.RESULT_FAIL;
+                processInstanceNode.put(BATCH_RESULT_STATUS_LABEL, ProcessInstanceBatchMigrationResult.RESULT_FAIL);
+                processInstanceNode.put(BATCH_RESULT_MESSAGE_LABEL, e.getMessage());
+            }
+        }
+        resultNode.put(BATCH_RESULT_STATUS_LABEL, status);
+
+        BatchService batchService = processEngineConfiguration.getBatchServiceConfiguration().getBatchService();
+        batchService.completeBatchPart(batchPart.getId(), status, resultNode.toString());
+
+        completeBatchIfLastBatchPart(batch, processEngineConfiguration);
+    }
+
+    /**
+     * Migrates the process instance in a new transaction, so a failed migration is rolled back completely
+     * while the result of the batch part is still stored by the transaction of the job.
+     */
+    protected void migrateProcessInstance(String processInstanceId, ProcessInstanceMigrationDocument migrationDocument,
+            ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        ProcessInstanceMigrationManager processInstanceMigrationManager = processEngineConfiguration.getProcessInstanceMigrationManager();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(commandExecutor.getDefaultConfig().transactionRequiresNew(), commandContext -> {
+            processInstanceMigrationManager.migrateProcessInstance(processInstanceId, migrationDocument, commandContext);
+            return null;
+        });
+    }
+
+    /**
+     * Completes the batch when all other batch parts are already completed, so the batch doesn't have to wait for the next run of the
+     * {@link ProcessInstanceMigrationStatusJobHandler}. When the last batch parts complete concurrently, none of them sees the others
+     * as completed and the status job completes the batch instead.
+     * Only done for batch parts grouping several process instances, for single process instance parts the two count queries
+     * would cost more than the status job saves.
+     */
+    protected void completeBatchIfLastBatchPart(Batch batch, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        ManagementService managementService = processEngineConfiguration.getManagementService();
+        long totalBatchParts = managementService.createBatchPartQuery().batchId(batch.getId()).count();
+        // The batch part completed by this job is not flushed yet, so it isn't counted as completed
+        long completedBatchParts = managementService.createBatchPartQuery().batchId(batch.getId()).completed().count();
+        if (completedBatchParts + 1 == totalBatchParts) {
+            processEngineConfiguration.getBatchServiceConfiguration().getBatchService()
+                    .completeBatch(batch.getId(), ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+        }
+    }
+
+    public static String getBatchPartDocumentForProcessInstanceIds(List<String> processInstanceIds) {
+        ObjectNode batchPartDocument = getObjectMapper().createObjectNode();
+        ArrayNode processInstanceIdsNode = batchPartDocument.putArray(BATCH_PART_PROCESS_INSTANCE_IDS_LABEL);
+        for (String processInstanceId : processInstanceIds) {
+            processInstanceIdsNode.add(processInstanceId);
+        }
+        return batchPartDocument.toString();
+    }
+
+    protected static JsonNode readJson(String json) {
+        if (json == null) {
+            throw new FlowableException("Batch part document with the process instances to migrate is missing");
+        }
+        try {
+            return getObjectMapper().readTree(json);
+        } catch (IOException e) {
+            throw new FlowableException("Error reading batch part document", e);
+        }
+    }
+
     protected static String prepareResultAsJsonString(String exceptionMessage) {
         ObjectNode objectNode = getObjectMapper().createObjectNode();
         if (exceptionMessage == null) {
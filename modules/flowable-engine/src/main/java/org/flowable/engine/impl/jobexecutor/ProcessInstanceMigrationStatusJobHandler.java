@@ -12,13 +12,11 @@
  */
 package org.flowable.engine.impl.jobexecutor;
 
-import java.util.List;
-
 import org.flowable.batch.api.Batch;
-import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
 import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.ManagementService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.migration.ProcessInstanceBatchMigrationResult;
@@ -42,30 +40,32 @@ public class ProcessInstanceMigrationStatusJobHandler extends AbstractProcessIns
         String batchId = getBatchIdFromHandlerCfg(configuration);
         Batch batch = batchService.getBatch(batchId);
         
-        List<BatchPart> batchParts = batchService.findBatchPartsByBatchId(batchId);
-        int completedBatchParts = 0;
-        int failedBatchParts = 0;
-        for (BatchPart batchPart : batchParts) {
-            if (batchPart.getCompleteTime() != null) {
-                completedBatchParts++;
-                
-                if (ProcessInstanceBatchMigrationResult.RESULT_FAIL.equals(batchPart.getStatus())) {
-                    failedBatchParts++;
-                }
-            }
+        if (batch.getCompleteTime() != null) {
+            // Already completed by the job of the last batch part
+            job.setRepeat(null);
+            return;
         }
         
-        if (completedBatchParts == batchParts.size()) {
+        // Counting instead of fetching the batch parts, as there can be one batch part per migrated process instance
+        ManagementService managementService = processEngineConfiguration.getManagementService();
+        long totalBatchParts = managementService.createBatchPartQuery().batchId(batchId).count();
+        long completedBatchParts = managementService.createBatchPartQuery().batchId(batchId).completed().count();
+        
+        if (completedBatchParts == totalBatchParts) {
             batchService.completeBatch(batch.getId(), ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
             job.setRepeat(null);
         
         } else {
-            if (batchParts.size() == 0) {
+            if (totalBatchParts == 0) {
                 updateBatchStatus(batch, "No batch parts", batchService);
                 job.setRepeat(null);
             
             } else {
-                int completedPercentage = completedBatchParts / batchParts.size() * 100;
+                long failedBatchParts = managementService.createBatchPartQuery().batchId(batchId)
+                        .status(ProcessInstanceBatchMigrationResult.RESULT_FAIL)
+                        .completed()
+                        .count();
+                long completedPercentage = completedBatchParts * 100 / totalBatchParts;
                 updateBatchStatus(batch, completedPercentage + "% completed, " + failedBatchParts + " failed", batchService);
             }
         }
@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.CallActivity;
@@ -330,16 +331,39 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
             .create();
         
         JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
-        for (ProcessInstance processInstance : processInstances) {
-            BatchPart batchPart = batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
-                            processInstance.getId(), null, ScopeTypes.BPMN);
+        int batchPartSize = processEngineConfiguration.getProcessInstanceMigrationBatchPartSize();
+        if (batchPartSize <= 1) {
+            for (ProcessInstance processInstance : processInstances) {
+                BatchPart batchPart = batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
+                                processInstance.getId(), null, ScopeTypes.BPMN);
+                
+                JobEntity job = jobService.createJob();
+                job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
+                job.setProcessInstanceId(processInstance.getId());
+                job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
+                jobService.createAsyncJob(job, false);
+                jobService.scheduleAsyncJob(job);
+            }
             
-            JobEntity job = jobService.createJob();
-            job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
-            job.setProcessInstanceId(processInstance.getId());
-            job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
-            jobService.createAsyncJob(job, false);
-            jobService.scheduleAsyncJob(job);
+        } else {
+            // A batch part without scope id migrates all the process instances listed in its document
+            for (int fromIndex = 0; fromIndex < processInstances.size(); fromIndex += batchPartSize) {
+                List<String> processInstanceIds = new ArrayList<>(batchPartSize);
+                for (ProcessInstance processInstance : processInstances.subList(fromIndex, Math.min(fromIndex + batchPartSize, processInstances.size()))) {
+                    processInstanceIds.add(processInstance.getId());
+                }
+                
+                BatchPartEntity batchPart = (BatchPartEntity) batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
+                                null, null, ScopeTypes.BPMN);
+                batchPart.setResultDocumentJson(ProcessInstanceMigrationJobHandler.getBatchPartDocumentForProcessInstanceIds(processInstanceIds),
+                                processEngineConfiguration.getEngineCfgKey());
+                
+                JobEntity job = jobService.createJob();
+                job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
+                job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
+                jobService.createAsyncJob(job, false);
+                jobService.scheduleAsyncJob(job);
+            }
         }
         
         if (!processInstances.isEmpty()) {
@@ -494,7 +494,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     public void setProcessInstance(ExecutionEntity processInstance) {
         this.processInstance = (ExecutionEntityImpl) processInstance;
         if (processInstance != null) {
-            this.processInstanceId = this.processInstance.getId();
+            setProcessInstanceId(this.processInstance.getId());
         }
     }
 
@@ -523,9 +523,9 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.parent = (ExecutionEntityImpl) parent;
 
         if (parent != null) {
-            this.parentId = parent.getId();
+            setParentId(parent.getId());
         } else {
-            this.parentId = null;
+            setParentId(null);
         }
     }
 
@@ -979,7 +979,9 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        String oldProcessInstanceId = this.processInstanceId;
         this.processInstanceId = processInstanceId;
+        indexedPropertyChanged(oldProcessInstanceId, processInstanceId);
     }
 
     @Override
@@ -989,7 +991,9 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setParentId(String parentId) {
+        String oldParentId = this.parentId;
         this.parentId = parentId;
+        indexedPropertyChanged(oldParentId, parentId);
     }
 
     @Override
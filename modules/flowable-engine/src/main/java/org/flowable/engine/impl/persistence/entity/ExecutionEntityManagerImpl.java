@@ -306,8 +306,10 @@ public class ExecutionEntityManagerImpl
         }
 
         // Fire events
-        if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processInstanceExecution),
+        FlowableEventDispatcher eventDispatcher = getEventDispatcher();
+        if (eventDispatcher != null && eventDispatcher.isEnabled()
+                && eventDispatcher.hasListeners(FlowableEngineEventType.ENTITY_CREATED, engineConfiguration.getEngineCfgKey())) {
+            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processInstanceExecution),
                     engineConfiguration.getEngineCfgKey());
         }
 
@@ -338,11 +340,15 @@ public class ExecutionEntityManagerImpl
             LOGGER.debug("Child execution {} created with parent {}", childExecution, parentExecutionEntity.getId());
         }
 
-        if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
-            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, childExecution),
-                    engineConfiguration.getEngineCfgKey());
-            getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, childExecution),
-                    engineConfiguration.getEngineCfgKey());
+        FlowableEventDispatcher eventDispatcher = getEventDispatcher();
+        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            String engineCfgKey = engineConfiguration.getEngineCfgKey();
+            if (eventDispatcher.hasListeners(FlowableEngineEventType.ENTITY_CREATED, engineCfgKey)) {
+                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, childExecution), engineCfgKey);
+            }
+            if (eventDispatcher.hasListeners(FlowableEngineEventType.ENTITY_INITIALIZED, engineCfgKey)) {
+                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, childExecution), engineCfgKey);
+            }
         }
 
         return childExecution;
@@ -13,12 +13,13 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByParentExecutionIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByParentExecutionIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
@@ -26,4 +27,14 @@ public class ExecutionsByParentExecutionIdEntityMatcher extends CachedEntityMatc
         return entity.getParentId() != null && entity.getParentId().equals(parameter);
     }
 
+    @Override
+    public String getIndexName() {
+        return "parentId";
+    }
+
+    @Override
+    public Object getIndexKey(ExecutionEntity entity) {
+        return entity.getParentId();
+    }
+
 }
\ No newline at end of file
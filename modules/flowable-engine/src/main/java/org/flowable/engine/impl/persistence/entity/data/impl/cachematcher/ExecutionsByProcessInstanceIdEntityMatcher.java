@@ -13,12 +13,13 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByProcessInstanceIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByProcessInstanceIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
@@ -28,4 +29,14 @@ public class ExecutionsByProcessInstanceIdEntityMatcher extends CachedEntityMatc
                 && entity.getParentId() != null;
     }
 
+    @Override
+    public String getIndexName() {
+        return "processInstanceId";
+    }
+
+    @Override
+    public Object getIndexKey(ExecutionEntity entity) {
+        return entity.getProcessInstanceId();
+    }
+
 }
\ No newline at end of file
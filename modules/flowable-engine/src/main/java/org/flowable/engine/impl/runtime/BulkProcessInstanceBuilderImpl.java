@@ -0,0 +1,158 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.RuntimeServiceImpl;
+import org.flowable.engine.runtime.BulkProcessInstanceBuilder;
+import org.flowable.engine.runtime.ProcessInstance;
+
+public class BulkProcessInstanceBuilderImpl implements BulkProcessInstanceBuilder {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    protected RuntimeServiceImpl runtimeService;
+
+    protected String processDefinitionId;
+    protected String processDefinitionKey;
+    protected String tenantId;
+    protected boolean fallbackToDefaultTenant;
+    protected Map<String, Object> variables;
+    protected List<ProcessInstanceToStart> processInstances = new ArrayList<>();
+    protected int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    public BulkProcessInstanceBuilderImpl(RuntimeServiceImpl runtimeService) {
+        this.runtimeService = runtimeService;
+    }
+
+    @Override
+    public BulkProcessInstanceBuilder processDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceBuilder processDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceBuilder fallbackToDefaultTenant() {
+        this.fallbackToDefaultTenant = true;
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceBuilder variables(Map<String, Object> variables) {
+        if (this.variables == null) {
+            this.variables = new HashMap<>();
+        }
+        if (variables != null) {
+            this.variables.putAll(variables);
+        }
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceBuilder variable(String variableName, Object value) {
+        if (this.variables == null) {
+            this.variables = new HashMap<>();
+        }
+        this.variables.put(variableName, value);
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceBuilder addProcessInstance(Map<String, Object> variables) {
+        return addProcessInstance(null, variables);
+    }
+
+    @Override
+    public BulkProcessInstanceBuilder addProcessInstance(String businessKey, Map<String, Object> variables) {
+        processInstances.add(new ProcessInstanceToStart(businessKey, variables));
+        return this;
+    }
+
+    @Override
+    public BulkProcessInstanceBuilder chunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new FlowableIllegalArgumentException("chunkSize must be greater than 0");
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    @Override
+    public List<ProcessInstance> start() {
+        return runtimeService.startProcessInstances(this);
+    }
+
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public String getProcessDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public boolean isFallbackToDefaultTenant() {
+        return fallbackToDefaultTenant;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    public List<ProcessInstanceToStart> getProcessInstances() {
+        return processInstances;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public static class ProcessInstanceToStart {
+
+        protected final String businessKey;
+        protected final Map<String, Object> variables;
+
+        public ProcessInstanceToStart(String businessKey, Map<String, Object> variables) {
+            this.businessKey = businessKey;
+            this.variables = variables;
+        }
+
+        public String getBusinessKey() {
+            return businessKey;
+        }
+
+        public Map<String, Object> getVariables() {
+            return variables;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.runtime;
+
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.RuntimeServiceImpl;
+import org.flowable.engine.runtime.SignalBroadcastBuilder;
+
+public class SignalBroadcastBuilderImpl implements SignalBroadcastBuilder {
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    protected RuntimeServiceImpl runtimeService;
+
+    protected String signalName;
+    protected Map<String, Object> variables;
+    protected String tenantId;
+    protected int batchSize = DEFAULT_BATCH_SIZE;
+    protected String idempotencyKey;
+
+    public SignalBroadcastBuilderImpl(RuntimeServiceImpl runtimeService, String signalName) {
+        this.runtimeService = runtimeService;
+        this.signalName = signalName;
+    }
+
+    @Override
+    public SignalBroadcastBuilder variables(Map<String, Object> variables) {
+        this.variables = variables;
+        return this;
+    }
+
+    @Override
+    public SignalBroadcastBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public SignalBroadcastBuilder batchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new FlowableIllegalArgumentException("batchSize has to be larger than 0");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public SignalBroadcastBuilder idempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+        return this;
+    }
+
+    @Override
+    public String broadcast() {
+        return runtimeService.broadcastSignal(this);
+    }
+
+    public String getSignalName() {
+        return signalName;
+    }
+
+    public Map<String, Object> getVariables() {
+        return variables;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+}
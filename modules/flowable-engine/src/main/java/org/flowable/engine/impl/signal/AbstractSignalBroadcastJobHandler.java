@@ -0,0 +1,47 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.signal;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public abstract class AbstractSignalBroadcastJobHandler implements JobHandler {
+
+    protected JsonNode readJson(String json, ObjectMapper objectMapper) {
+        if (json == null) {
+            throw new FlowableIllegalArgumentException("Signal broadcast batch document is missing");
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Failed to read json", e);
+        }
+    }
+
+    protected void scheduleAsyncJob(String jobHandlerType, String jobHandlerConfiguration, ProcessEngineConfigurationImpl engineConfiguration) {
+        JobService jobService = engineConfiguration.getJobServiceConfiguration().getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(jobHandlerType);
+        job.setJobHandlerConfiguration(jobHandlerConfiguration);
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+    }
+}
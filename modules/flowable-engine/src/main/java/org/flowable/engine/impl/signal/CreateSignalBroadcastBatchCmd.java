@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.signal;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.runtime.SignalBroadcastBuilderImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Records a signal broadcast as a batch. The subscriptions are only looked up by the {@link SignalBroadcastPartitionJobHandler} job,
+ * so the calling transaction doesn't depend on the number of subscriptions.
+ */
+public class CreateSignalBroadcastBatchCmd implements Command<String> {
+
+    protected SignalBroadcastBuilderImpl builder;
+
+    public CreateSignalBroadcastBatchCmd(SignalBroadcastBuilderImpl builder) {
+        this.builder = builder;
+    }
+
+    @Override
+    public String execute(CommandContext commandContext) {
+        if (builder.getSignalName() == null) {
+            throw new FlowableIllegalArgumentException("signalName is null");
+        }
+
+        ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = engineConfiguration.getBatchServiceConfiguration().getBatchService();
+
+        if (builder.getIdempotencyKey() != null) {
+            // Best effort only: a concurrent transaction can create a batch with the same key between this query and the insert below
+            Batch existingBatch = engineConfiguration.getManagementService().createBatchQuery()
+                    .batchType(Batch.SIGNAL_BROADCAST_TYPE)
+                    .searchKey2(builder.getIdempotencyKey())
+                    .singleResult();
+            if (existingBatch != null) {
+                return existingBatch.getId();
+            }
+        }
+
+        ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
+        ObjectNode batchConfiguration = objectMapper.createObjectNode();
+        batchConfiguration.put("signalName", builder.getSignalName());
+        if (builder.getTenantId() != null) {
+            batchConfiguration.put("tenantId", builder.getTenantId());
+        }
+        batchConfiguration.put("batchSize", builder.getBatchSize());
+        if (builder.getVariables() != null && !builder.getVariables().isEmpty()) {
+            batchConfiguration.set("variables", objectMapper.valueToTree(builder.getVariables()));
+        }
+        batchConfiguration.put("numberOfSubscriptions", 0);
+        batchConfiguration.put("numberOfBatchParts", 0);
+        batchConfiguration.put("partitioningCompleted", false);
+
+        Batch batch = batchService.createBatchBuilder()
+                .batchType(Batch.SIGNAL_BROADCAST_TYPE)
+                .searchKey(builder.getSignalName())
+                .searchKey2(builder.getIdempotencyKey())
+                .tenantId(builder.getTenantId())
+                .status(SignalBroadcastBatchConstants.STATUS_IN_PROGRESS)
+                .batchDocumentJson(batchConfiguration.toString())
+                .create();
+
+        JobService jobService = engineConfiguration.getJobServiceConfiguration().getJobService();
+        JobEntity job = jobService.createJob();
+        job.setJobHandlerType(SignalBroadcastPartitionJobHandler.TYPE);
+        job.setJobHandlerConfiguration(batch.getId());
+        jobService.createAsyncJob(job, false);
+        jobService.scheduleAsyncJob(job);
+
+        scheduleStatusJob(engineConfiguration, batch);
+
+        return batch.getId();
+    }
+
+    protected void scheduleStatusJob(ProcessEngineConfigurationImpl engineConfiguration, Batch batch) {
+        TimerJobService timerJobService = engineConfiguration.getJobServiceConfiguration().getTimerJobService();
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(Job.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(SignalBroadcastStatusJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(batch.getId());
+
+        BusinessCalendar businessCalendar = engineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(engineConfiguration.getBatchStatusTimeCycleConfig()));
+        timerJob.setRepeat(engineConfiguration.getBatchStatusTimeCycleConfig());
+
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+}
@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.signal;
+
+import java.util.Map;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.EventSubscriptionUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.eventsubscription.service.EventSubscriptionService;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Triggers the subscriptions of one batch part of a {@link Batch#SIGNAL_BROADCAST_TYPE} batch.
+ * Subscriptions that no longer exist when the job runs are skipped.
+ */
+public class SignalBroadcastJobHandler extends AbstractSignalBroadcastJobHandler {
+
+    public static final String TYPE = "signal-broadcast";
+
+    protected static final TypeReference<Map<String, Object>> VARIABLES_TYPE = new TypeReference<Map<String, Object>>() {};
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = engineConfiguration.getBatchServiceConfiguration().getBatchService();
+        EventSubscriptionService eventSubscriptionService = engineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService();
+        ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
+
+        BatchPart batchPart = batchService.getBatchPart(configuration);
+        if (batchPart == null) {
+            throw new FlowableIllegalArgumentException("There is no batch part with the id " + configuration);
+        }
+
+        Batch batch = batchService.getBatch(batchPart.getBatchId());
+        JsonNode batchDocument = readJson(batch.getBatchDocumentJson(ScopeTypes.BPMN), objectMapper);
+        JsonNode partDocument = readJson(batchPart.getResultDocumentJson(ScopeTypes.BPMN), objectMapper);
+
+        String signalName = batchDocument.path("signalName").textValue();
+        JsonNode variablesNode = batchDocument.path("variables");
+        Map<String, Object> payload = variablesNode.isObject() ? objectMapper.convertValue(variablesNode, VARIABLES_TYPE) : null;
+
+        String status = SignalBroadcastBatchConstants.STATUS_COMPLETED;
+        ObjectNode resultNode = objectMapper.createObjectNode();
+
+        CommandExecutor commandExecutor = engineConfiguration.getCommandExecutor();
+        CommandConfig commandConfig = commandExecutor.getDefaultConfig().transactionRequiresNew();
+
+        for (JsonNode subscriptionIdNode : partDocument.path("subscriptionIds")) {
+            String subscriptionId = subscriptionIdNode.textValue();
+            try {
+                // Each subscription is triggered in its own transaction, so a continuation failing halfway is rolled back
+                // without affecting the other subscriptions or the result of this batch part
+                boolean triggered = commandExecutor.execute(commandConfig, subscriptionCommandContext -> {
+                    EventSubscriptionEntity eventSubscription = eventSubscriptionService.findById(subscriptionId);
+                    if (!(eventSubscription instanceof SignalEventSubscriptionEntity)
+                            || !((SignalEventSubscriptionEntity) eventSubscription).isGlobalScoped()) {
+                        return false;
+                    }
+
+                    triggerSubscription((SignalEventSubscriptionEntity) eventSubscription, signalName, payload, engineConfiguration,
+                            subscriptionCommandContext);
+                    return true;
+                });
+
+                if (triggered) {
+                    resultNode.withArray("subscriptionIdsSucceeded").add(subscriptionId);
+                } else {
+                    resultNode.withArray("subscriptionIdsSkipped").add(subscriptionId);
+                }
+
+            } catch (RuntimeException ex) {
+                status = SignalBroadcastBatchConstants.STATUS_FAILED;
+                resultNode.withArray("subscriptionIdsFailed")
+                        .addObject()
+                        .put("id", subscriptionId)
+                        .put("error", ex.getMessage())
+                        .put("stacktrace", ExceptionUtils.getStackTrace(ex));
+            }
+        }
+
+        resultNode.set("subscriptionIds", partDocument.path("subscriptionIds"));
+        batchService.completeBatchPart(batchPart.getId(), status, resultNode.toString());
+    }
+
+    protected void triggerSubscription(SignalEventSubscriptionEntity signalEventSubscription, String signalName, Map<String, Object> payload,
+            ProcessEngineConfigurationImpl engineConfiguration, CommandContext commandContext) {
+
+        if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, signalEventSubscription.getProcessDefinitionId())) {
+            Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+            compatibilityHandler.signalEventReceived(signalEventSubscription, payload, false);
+
+        } else {
+            engineConfiguration.getEventDispatcher().dispatchEvent(
+                    FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscription.getActivityId(), signalName,
+                            payload, signalEventSubscription.getExecutionId(), signalEventSubscription.getProcessInstanceId(),
+                            signalEventSubscription.getProcessDefinitionId()), engineConfiguration.getEngineCfgKey());
+
+            EventSubscriptionUtil.eventReceived(signalEventSubscription, payload, false);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.signal;
+
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.batch.service.impl.persistence.entity.BatchPartEntity;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.eventsubscription.service.EventSubscriptionService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Pages through the subscriptions of a {@link Batch#SIGNAL_BROADCAST_TYPE} batch, ordered by id and continuing after the last id
+ * of the previous page, and creates a batch part with its own {@link SignalBroadcastJobHandler} job for every page.
+ *
+ * At most {@link #getMaxBatchPartsPerJob()} batch parts are created in one transaction, when there are more subscriptions a new job
+ * of this type continues the paging.
+ */
+public class SignalBroadcastPartitionJobHandler extends AbstractSignalBroadcastJobHandler {
+
+    public static final String TYPE = "signal-broadcast-partition";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = engineConfiguration.getBatchServiceConfiguration().getBatchService();
+        EventSubscriptionService eventSubscriptionService = engineConfiguration.getEventSubscriptionServiceConfiguration().getEventSubscriptionService();
+        ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
+
+        Batch batch = batchService.getBatch(configuration);
+        if (batch == null) {
+            throw new FlowableIllegalArgumentException("There is no batch with the id " + configuration);
+        }
+
+        ObjectNode batchDocument = (ObjectNode) readJson(batch.getBatchDocumentJson(ScopeTypes.BPMN), objectMapper);
+        String signalName = batchDocument.path("signalName").textValue();
+        String tenantId = batchDocument.path("tenantId").textValue();
+        int batchSize = batchDocument.path("batchSize").intValue();
+        String lastSubscriptionId = batchDocument.path("lastSubscriptionId").textValue();
+        int numberOfBatchParts = batchDocument.path("numberOfBatchParts").intValue();
+        long numberOfSubscriptions = batchDocument.path("numberOfSubscriptions").longValue();
+
+        int maxBatchPartsPerJob = engineConfiguration.getSignalBroadcastMaxBatchPartsPerJob();
+        boolean hasMoreSubscriptions = true;
+        for (int i = 0; i < maxBatchPartsPerJob && hasMoreSubscriptions; i++) {
+            List<String> subscriptionIds = eventSubscriptionService.findSignalEventSubscriptionIdsByEventName(signalName, tenantId,
+                    lastSubscriptionId, batchSize);
+
+            if (!subscriptionIds.isEmpty()) {
+                createBatchPart(batch, numberOfBatchParts, subscriptionIds, engineConfiguration);
+                lastSubscriptionId = subscriptionIds.get(subscriptionIds.size() - 1);
+                numberOfBatchParts++;
+                numberOfSubscriptions += subscriptionIds.size();
+            }
+
+            hasMoreSubscriptions = subscriptionIds.size() == batchSize;
+        }
+
+        if (lastSubscriptionId != null) {
+            batchDocument.put("lastSubscriptionId", lastSubscriptionId);
+        }
+        batchDocument.put("numberOfBatchParts", numberOfBatchParts);
+        batchDocument.put("numberOfSubscriptions", numberOfSubscriptions);
+
+        if (hasMoreSubscriptions) {
+            scheduleAsyncJob(TYPE, batch.getId(), engineConfiguration);
+        } else {
+            batchDocument.put("partitioningCompleted", true);
+        }
+
+        ((BatchEntity) batch).setBatchDocumentJson(batchDocument.toString(), ScopeTypes.BPMN);
+    }
+
+    protected void createBatchPart(Batch batch, int partIndex, List<String> subscriptionIds, ProcessEngineConfigurationImpl engineConfiguration) {
+        BatchPart batchPart = engineConfiguration.getManagementService().createBatchPartBuilder(batch)
+                .type(SignalBroadcastBatchConstants.BATCH_PART_TYPE)
+                .searchKey(Integer.toString(partIndex))
+                .status(SignalBroadcastBatchConstants.STATUS_WAITING)
+                .create();
+
+        ObjectNode partDocument = engineConfiguration.getObjectMapper().createObjectNode();
+        ArrayNode subscriptionIdsNode = partDocument.putArray("subscriptionIds");
+        subscriptionIds.forEach(subscriptionIdsNode::add);
+        ((BatchPartEntity) batchPart).setResultDocumentJson(partDocument.toString(), ScopeTypes.BPMN);
+
+        scheduleAsyncJob(SignalBroadcastJobHandler.TYPE, batchPart.getId(), engineConfiguration);
+    }
+}
@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.signal;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchPartQuery;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Repeating timer job completing a {@link Batch#SIGNAL_BROADCAST_TYPE} batch once all its subscriptions are partitioned
+ * and all its batch parts are done.
+ */
+public class SignalBroadcastStatusJobHandler extends AbstractSignalBroadcastJobHandler {
+
+    public static final String TYPE = "signal-broadcast-status";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ManagementService managementService = engineConfiguration.getManagementService();
+        ObjectMapper objectMapper = engineConfiguration.getObjectMapper();
+
+        Batch batch = managementService.createBatchQuery()
+                .batchId(configuration)
+                .singleResult();
+
+        if (batch == null) {
+            throw new FlowableIllegalArgumentException("There is no batch with the id " + configuration);
+        }
+
+        if (batch.getCompleteTime() != null) {
+            job.setRepeat(null);
+            return;
+        }
+
+        ObjectNode batchDocument = (ObjectNode) readJson(batch.getBatchDocumentJson(ScopeTypes.BPMN), objectMapper);
+        if (!batchDocument.path("partitioningCompleted").booleanValue()) {
+            return;
+        }
+
+        long totalBatchParts = createStatusQuery(batch, managementService).count();
+        long totalCompleted = createStatusQuery(batch, managementService).completed().count();
+        if (totalBatchParts != totalCompleted) {
+            return;
+        }
+
+        long numberOfFailedSubscriptions = 0;
+        for (BatchPart failedPart : createStatusQuery(batch, managementService).status(SignalBroadcastBatchConstants.STATUS_FAILED).list()) {
+            JsonNode resultNode = readJson(failedPart.getResultDocumentJson(ScopeTypes.BPMN), objectMapper);
+            numberOfFailedSubscriptions += resultNode.path("subscriptionIdsFailed").size();
+        }
+
+        String status;
+        if (numberOfFailedSubscriptions > 0) {
+            status = SignalBroadcastBatchConstants.STATUS_FAILED;
+            batchDocument.put("numberOfFailedSubscriptions", numberOfFailedSubscriptions);
+            ((BatchEntity) batch).setBatchDocumentJson(batchDocument.toString(), ScopeTypes.BPMN);
+        } else {
+            status = SignalBroadcastBatchConstants.STATUS_COMPLETED;
+        }
+
+        engineConfiguration.getBatchServiceConfiguration()
+                .getBatchService()
+                .completeBatch(batch.getId(), status);
+
+        job.setRepeat(null);
+    }
+
+    protected BatchPartQuery createStatusQuery(Batch batch, ManagementService managementService) {
+        return managementService.createBatchPartQuery()
+                .batchId(batch.getId())
+                .type(SignalBroadcastBatchConstants.BATCH_PART_TYPE);
+    }
+}
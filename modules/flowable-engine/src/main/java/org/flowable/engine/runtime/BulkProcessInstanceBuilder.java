@@ -0,0 +1,89 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+
+/**
+ * Helper for starting many process instances of the same process definition at once.
+ *
+ * An instance can be obtained through {@link org.flowable.engine.RuntimeService#createBulkProcessInstanceBuilder()}.
+ *
+ * The process instances are started in chunks of {@link #chunkSize(int)} process instances.
+ * All process instances of one chunk are started in the same transaction, which means that either all or none of them are started.
+ * The process definition is only looked up once per chunk and the data of all process instances of one chunk is flushed together,
+ * using bulk inserts when these are enabled.
+ */
+public interface BulkProcessInstanceBuilder {
+
+    /**
+     * Set the id of the process definition
+     */
+    BulkProcessInstanceBuilder processDefinitionId(String processDefinitionId);
+
+    /**
+     * Set the key of the process definition, latest version of the process definition with the given key. If processDefinitionId was set this will be ignored
+     */
+    BulkProcessInstanceBuilder processDefinitionKey(String processDefinitionKey);
+
+    /**
+     * Set the tenantId to use when looking up the process definition by key
+     */
+    BulkProcessInstanceBuilder tenantId(String tenantId);
+
+    /**
+     * If no process definition is found for the given tenant, fall back to the process definition of the default tenant
+     */
+    BulkProcessInstanceBuilder fallbackToDefaultTenant();
+
+    /**
+     * Sets variables that are passed to every process instance. Variables given for a specific process instance take precedence.
+     */
+    BulkProcessInstanceBuilder variables(Map<String, Object> variables);
+
+    /**
+     * Adds a variable that is passed to every process instance. A variable given for a specific process instance takes precedence.
+     */
+    BulkProcessInstanceBuilder variable(String variableName, Object value);
+
+    /**
+     * Adds a process instance to start with the given variables.
+     */
+    BulkProcessInstanceBuilder addProcessInstance(Map<String, Object> variables);
+
+    /**
+     * Adds a process instance to start with the given business key and variables.
+     */
+    BulkProcessInstanceBuilder addProcessInstance(String businessKey, Map<String, Object> variables);
+
+    /**
+     * Sets the maximum number of process instances that are started in one transaction. Defaults to 100.
+     */
+    BulkProcessInstanceBuilder chunkSize(int chunkSize);
+
+    /**
+     * Start the process instances.
+     *
+     * @return the started process instances, in the order they were added
+     * @throws FlowableIllegalArgumentException
+     *             if processDefinitionKey and processDefinitionId are null, or no process instance was added
+     * @throws FlowableObjectNotFoundException
+     *             when no process definition is deployed with the given processDefinitionKey or processDefinitionId
+     */
+    List<ProcessInstance> start();
+
+}
@@ -13,6 +13,7 @@
 package org.flowable.engine.runtime;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -357,6 +358,12 @@ public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, Proces
      */
     ProcessInstanceQuery includeProcessVariables();
 
+    /**
+     * Include the process variables with the given names in the process query result.
+     * The variables are fetched with a separate query for the process instances of the result page, instead of joining them into the process instance query.
+     */
+    ProcessInstanceQuery includeProcessVariables(Collection<String> variableNames);
+
     /**
      * Limit process instance variables
      * @deprecated no longer needed, this is a noop
@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import java.util.Map;
+
+/**
+ * Broadcasts a signal to all the waiting executions and signal start events, using a batch instead of one transaction.
+ *
+ * An instance can be obtained through {@link org.flowable.engine.RuntimeService#createSignalBroadcastBuilder(String)}.
+ *
+ * The signal is recorded once as a batch. Async jobs then page through the subscriptions to the signal (ordered by id)
+ * and split them in batch parts of {@link #batchSize(int)} subscriptions. Every batch part is triggered by its own async job,
+ * so the subscriptions are triggered in parallel by the job executor, each batch part in its own transaction.
+ * The progress can be followed through the batch parts of the returned batch.
+ *
+ * Only the subscriptions that exist when the paging reaches them are triggered.
+ * The variables are stored as JSON in the batch, hence only values that can be represented as JSON are supported.
+ */
+public interface SignalBroadcastBuilder {
+
+    /**
+     * Variables that are passed to every execution or process instance triggered by the signal.
+     */
+    SignalBroadcastBuilder variables(Map<String, Object> variables);
+
+    /**
+     * Only triggers the subscriptions of the given tenant.
+     */
+    SignalBroadcastBuilder tenantId(String tenantId);
+
+    /**
+     * The maximum number of subscriptions triggered in one batch part. Defaults to 100.
+     */
+    SignalBroadcastBuilder batchSize(int batchSize);
+
+    /**
+     * When a signal broadcast batch with the same idempotency key already exists, no new broadcast is done and the id of the existing batch is returned.
+     * This is a best effort check: there is no unique constraint on the key, so two broadcasts with the same key in concurrent transactions
+     * can both create a batch. It protects against retries of a broadcast that already committed, not against concurrent duplicates.
+     */
+    SignalBroadcastBuilder idempotencyKey(String idempotencyKey);
+
+    /**
+     * Creates the batch broadcasting the signal.
+     *
+     * @return the id of the batch
+     */
+    String broadcast();
+
+}
@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.task;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.flowable.task.api.TaskQuery;
+
+/**
+ * Builder for completing or claiming many tasks at once, using a batch.
+ *
+ * An instance can be obtained through {@link org.flowable.engine.TaskService#createBulkTaskActionBuilder()}.
+ *
+ * The tasks are split in batch parts of {@link #batchSize(int)} tasks. Every batch part is executed by its own async job,
+ * hence in its own transaction and potentially on another node. The outcome of every task is stored in the result of its batch part,
+ * a task that fails does not prevent the other tasks of the batch part from being completed or claimed.
+ *
+ * The variables are stored as JSON in the batch, hence only values that can be represented as JSON are supported.
+ */
+public interface BulkTaskActionBuilder {
+
+    /**
+     * The ids of the tasks to complete or claim.
+     */
+    BulkTaskActionBuilder taskIds(Collection<String> taskIds);
+
+    /**
+     * A query selecting the tasks to complete or claim. The query is stored in the batch and executed page by page by async jobs,
+     * so tasks matching it when these jobs run are included. Variable and or criteria are not supported.
+     */
+    BulkTaskActionBuilder taskQuery(TaskQuery taskQuery);
+
+    /**
+     * Variables that are passed when completing every task.
+     */
+    BulkTaskActionBuilder variables(Map<String, Object> variables);
+
+    /**
+     * Variables that are passed when completing the task with the given id. These take precedence over the variables passed to every task.
+     */
+    BulkTaskActionBuilder taskVariables(String taskId, Map<String, Object> variables);
+
+    /**
+     * The maximum number of tasks handled in one batch part. Defaults to 100.
+     */
+    BulkTaskActionBuilder batchSize(int batchSize);
+
+    /**
+     * The name of the batch, stored as its search key.
+     */
+    BulkTaskActionBuilder batchName(String batchName);
+
+    /**
+     * Completes the tasks asynchronously.
+     *
+     * @return the id of the batch tracking the progress
+     */
+    String complete();
+
+    /**
+     * Claims the tasks asynchronously for the given user.
+     *
+     * @return the id of the batch tracking the progress
+     */
+    String claim(String userId);
+
+}
@@ -34,6 +34,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.repository.Model;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.test.Deployment;
@@ -345,6 +346,43 @@ public class RepositoryServiceTest extends PluggableFlowableTestCase {
         assertThat(endEvent.getIncomingFlows()).hasSize(1);
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/repository/RepositoryServiceTest.testGetBpmnModel.bpmn")
+    public void testGetBpmnModelWithLazyDiagramInterchange() {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+        assertThat(processDefinition.hasGraphicalNotation()).isTrue();
+
+        boolean originalEnableLazyDiagramInterchange = processEngineConfiguration.isEnableLazyDiagramInterchange();
+        processEngineConfiguration.setEnableLazyDiagramInterchange(true);
+        try {
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+
+            // Loading the process definition for execution skips the diagram interchange
+            BpmnModel cachedBpmnModel = managementService.executeCommand(commandContext -> ProcessDefinitionUtil.getBpmnModel(processDefinition.getId()));
+            assertThat(cachedBpmnModel.getProcesses()).hasSize(1);
+            assertThat(cachedBpmnModel.getLocationMap()).isEmpty();
+            assertThat(cachedBpmnModel.getFlowLocationMap()).isEmpty();
+
+            // Requesting the model loads it in a copy, the model that was shared through the cache isn't changed
+            BpmnModel bpmnModel = repositoryService.getBpmnModel(processDefinition.getId());
+            assertThat(bpmnModel).isNotSameAs(cachedBpmnModel);
+            assertThat(bpmnModel.getLocationMap()).isNotEmpty();
+            assertThat(bpmnModel.getFlowLocationMap()).isNotEmpty();
+            assertThat(bpmnModel.getProcesses()).containsExactlyElementsOf(cachedBpmnModel.getProcesses());
+            assertThat(cachedBpmnModel.getLocationMap()).isEmpty();
+            assertThat(cachedBpmnModel.getFlowLocationMap()).isEmpty();
+
+            // The copy replaces the model in the cache
+            assertThat(managementService.executeCommand(commandContext -> ProcessDefinitionUtil.getBpmnModel(processDefinition.getId())))
+                    .isSameAs(bpmnModel);
+            assertThat(repositoryService.getBpmnModel(processDefinition.getId())).isSameAs(bpmnModel);
+
+        } finally {
+            processEngineConfiguration.setEnableLazyDiagramInterchange(originalEnableLazyDiagramInterchange);
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+        }
+    }
+
     /**
      * This test was added due to issues with unzip of JDK 7, where the default is changed to UTF8 instead of the platform encoding (which is, in fact, good). However, some platforms do not create
      * UTF8-compatible ZIP files.
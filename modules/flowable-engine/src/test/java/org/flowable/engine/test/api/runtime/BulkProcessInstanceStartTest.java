@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+class BulkProcessInstanceStartTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    void testStartProcessInstancesInChunks() {
+        Map<String, Object> firstVariables = new HashMap<>();
+        firstVariables.put("claimId", 1);
+        firstVariables.put("source", "first");
+
+        List<ProcessInstance> processInstances = runtimeService.createBulkProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("source", "bulk")
+                .addProcessInstance("claim-1", firstVariables)
+                .addProcessInstance("claim-2", Collections.singletonMap("claimId", 2))
+                .addProcessInstance(Collections.singletonMap("claimId", 3))
+                .chunkSize(2)
+                .start();
+
+        assertThat(processInstances)
+                .extracting(ProcessInstance::getBusinessKey)
+                .containsExactly("claim-1", "claim-2", null);
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(3);
+        assertThat(taskService.createTaskQuery().count()).isEqualTo(3);
+
+        assertThat(processInstances)
+                .extracting(processInstance -> runtimeService.getVariable(processInstance.getId(), "claimId"),
+                        processInstance -> runtimeService.getVariable(processInstance.getId(), "source"))
+                .containsExactly(
+                        tuple(1, "first"),
+                        tuple(2, "bulk"),
+                        tuple(3, "bulk")
+                );
+    }
+
+    @Test
+    void testStartProcessInstancesWithUnknownDefinition() {
+        assertThatThrownBy(() -> runtimeService.createBulkProcessInstanceBuilder()
+                .processDefinitionKey("unknown")
+                .addProcessInstance(null)
+                .start())
+                .isInstanceOf(FlowableObjectNotFoundException.class);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    void testStartProcessInstancesWithoutInstances() {
+        assertThatThrownBy(() -> runtimeService.createBulkProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .start())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("No process instances to start provided");
+
+        assertThatThrownBy(() -> runtimeService.createBulkProcessInstanceBuilder().chunkSize(0))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("chunkSize must be greater than 0");
+    }
+}
@@ -26,8 +26,10 @@
 package org.flowable.engine.test.api.runtime.migration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
@@ -35,6 +37,8 @@ import java.util.List;
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
@@ -285,6 +289,117 @@ public class ProcessInstanceMigrationBatchTest extends PluggableFlowableTestCase
         managementService.deleteBatch(migrationBatch.getId());
     }
 
+    @Test
+    public void testProcessMigrationBatchWithMultipleProcessInstancesPerBatchPart() {
+        int originalBatchPartSize = processEngineConfiguration.getProcessInstanceMigrationBatchPartSize();
+        processEngineConfiguration.setProcessInstanceMigrationBatchPartSize(2);
+        try {
+            ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy",
+                    "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+            ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("MP");
+            ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("MP");
+            ProcessInstance processInstance3 = runtimeService.startProcessInstanceByKey("MP");
+
+            // The first process instance can't be migrated, as the new version has no userTask2Id
+            completeTask(taskService.createTaskQuery().processInstanceId(processInstance1.getId()).singleResult());
+
+            ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy",
+                    "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+
+            Batch migrationBatch = processMigrationService.createProcessInstanceMigrationBuilder()
+                    .migrateToProcessDefinition(version2ProcessDef.getId())
+                    .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+            assertThat(managementService.createBatchPartQuery().batchId(migrationBatch.getId()).list())
+                    .hasSize(2)
+                    .allSatisfy(batchPart -> assertThat(batchPart.getScopeId()).isNull());
+
+            ProcessInstanceBatchMigrationResult migrationResult = processMigrationService.getResultsOfBatchProcessInstanceMigration(migrationBatch.getId());
+            assertThat(migrationResult.getWaitingMigrationParts())
+                    .extracting(ProcessInstanceBatchMigrationPartResult::getProcessInstanceId)
+                    .containsExactlyInAnyOrder(processInstance1.getId(), processInstance2.getId(), processInstance3.getId());
+
+            JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 5000L, 500L, true);
+
+            List<Job> timerJobs = managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).list();
+            for (Job timerJob : timerJobs) {
+                Job executableJob = managementService.moveTimerToExecutableJob(timerJob.getId());
+                managementService.executeJob(executableJob.getId());
+            }
+            assertThat(managementService.createTimerJobQuery().handlerType(ProcessInstanceMigrationStatusJobHandler.TYPE).count()).isZero();
+
+            migrationResult = processMigrationService.getResultsOfBatchProcessInstanceMigration(migrationBatch.getId());
+            assertThat(migrationResult.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+            assertThat(migrationResult.getCompleteTime()).isNotNull();
+            assertThat(migrationResult.getWaitingMigrationParts()).isEmpty();
+            assertThat(migrationResult.getSuccessfulMigrationParts())
+                    .extracting(ProcessInstanceBatchMigrationPartResult::getProcessInstanceId)
+                    .containsExactlyInAnyOrder(processInstance2.getId(), processInstance3.getId());
+            assertThat(migrationResult.getFailedMigrationParts())
+                    .extracting(ProcessInstanceBatchMigrationPartResult::getProcessInstanceId, ProcessInstanceBatchMigrationPartResult::getMigrationMessage)
+                    .containsExactly(tuple(processInstance1.getId(), "Migration Activity mapping missing for activity definition Id:'userTask2Id' or its MI Parent"));
+
+            assertThat(taskService.createTaskQuery().processInstanceId(processInstance1.getId()).singleResult().getProcessDefinitionId())
+                    .isEqualTo(version1ProcessDef.getId());
+            assertThat(taskService.createTaskQuery().processInstanceId(processInstance2.getId()).singleResult().getProcessDefinitionId())
+                    .isEqualTo(version2ProcessDef.getId());
+            assertThat(taskService.createTaskQuery().processInstanceId(processInstance3.getId()).singleResult().getProcessDefinitionId())
+                    .isEqualTo(version2ProcessDef.getId());
+
+            completeProcessInstanceTasks(processInstance1.getId());
+            completeProcessInstanceTasks(processInstance2.getId());
+            completeProcessInstanceTasks(processInstance3.getId());
+        } finally {
+            processEngineConfiguration.setProcessInstanceMigrationBatchPartSize(originalBatchPartSize);
+        }
+    }
+
+    @Test
+    public void testProcessMigrationBatchWithRuntimeExceptionPerProcessInstance() {
+        int originalBatchPartSize = processEngineConfiguration.getProcessInstanceMigrationBatchPartSize();
+        processEngineConfiguration.setProcessInstanceMigrationBatchPartSize(2);
+        try {
+            ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy",
+                    "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+            ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("MP", Collections.singletonMap("failMigration", true));
+            ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("MP");
+
+            ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy",
+                    "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+            Batch migrationBatch = processMigrationService.createProcessInstanceMigrationBuilder()
+                    .migrateToProcessDefinition(version2ProcessDef.getId())
+                    .preUpgradeJavaDelegate(FailingPreUpgradeDelegate.class.getName())
+                    .batchMigrateProcessInstances(version1ProcessDef.getId());
+
+            JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 5000L, 500L, true);
+
+            // The exception only fails the migration of its own process instance, the batch part job itself isn't retried
+            assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+
+            ProcessInstanceBatchMigrationResult migrationResult = processMigrationService.getResultsOfBatchProcessInstanceMigration(migrationBatch.getId());
+            assertThat(migrationResult.getStatus()).isEqualTo(ProcessInstanceBatchMigrationResult.STATUS_COMPLETED);
+            assertThat(migrationResult.getSuccessfulMigrationParts())
+                    .extracting(ProcessInstanceBatchMigrationPartResult::getProcessInstanceId)
+                    .containsExactly(processInstance2.getId());
+            assertThat(migrationResult.getFailedMigrationParts())
+                    .extracting(ProcessInstanceBatchMigrationPartResult::getProcessInstanceId, ProcessInstanceBatchMigrationPartResult::getMigrationMessage)
+                    .containsExactly(tuple(processInstance1.getId(), "Pre upgrade failed"));
+
+            assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance1.getId()).singleResult().getProcessDefinitionId())
+                    .isEqualTo(version1ProcessDef.getId());
+            assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance2.getId()).singleResult().getProcessDefinitionId())
+                    .isEqualTo(version2ProcessDef.getId());
+
+            completeProcessInstanceTasks(processInstance1.getId());
+            completeProcessInstanceTasks(processInstance2.getId());
+        } finally {
+            processEngineConfiguration.setProcessInstanceMigrationBatchPartSize(originalBatchPartSize);
+        }
+    }
+
     @Test
     public void testProcessMigrationBatchTwentyMixedSuccessAndFails() {
         // Deploy first version of the process
@@ -473,4 +588,13 @@ public class ProcessInstanceMigrationBatchTest extends PluggableFlowableTestCase
         managementService.deleteBatch(migrationBatch.getId());
     }
 
-}
\ No newline at end of file
+    public static class FailingPreUpgradeDelegate implements JavaDelegate {
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            if (Boolean.TRUE.equals(execution.getVariable("failMigration"))) {
+                throw new IllegalStateException("Pre upgrade failed");
+            }
+        }
+    }
+}
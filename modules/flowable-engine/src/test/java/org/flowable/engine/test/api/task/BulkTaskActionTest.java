@@ -0,0 +1,315 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.JavaDelegate;
+import org.flowable.engine.impl.bulk.BulkTaskActionBatchConstants;
+import org.flowable.engine.impl.bulk.BulkTaskActionJobHandler;
+import org.flowable.engine.impl.bulk.BulkTaskActionPartitionJobHandler;
+import org.flowable.engine.impl.bulk.BulkTaskActionStatusJobHandler;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import net.javacrumbs.jsonunit.core.Option;
+
+public class BulkTaskActionTest extends PluggableFlowableTestCase {
+
+    protected Collection<String> batchesToRemove = new HashSet<>();
+
+    @AfterEach
+    void tearDown() {
+        batchesToRemove.forEach(managementService::deleteBatch);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkCompleteTasks() {
+        List<String> taskIds = startOneTaskProcesses(5);
+
+        String batchId = taskService.createBulkTaskActionBuilder()
+                .taskIds(taskIds)
+                .variables(Collections.singletonMap("approved", true))
+                .batchSize(2)
+                .complete();
+        batchesToRemove.add(batchId);
+
+        Batch batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+        assertThat(batch.getBatchType()).isEqualTo(Batch.TASK_BULK_ACTION_TYPE);
+        assertThat(batch.getStatus()).isEqualTo(BulkTaskActionBatchConstants.STATUS_IN_PROGRESS);
+        assertThatJson(batch.getBatchDocumentJson(ScopeTypes.BPMN))
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("{ action: 'complete', numberOfTasks: 0, batchSize: 2, variables: { approved: true }, partitioningCompleted: false }");
+
+        // The batch parts are created by an async job, not in the transaction creating the batch
+        assertThat(managementService.createBatchPartQuery().batchId(batchId).count()).isZero();
+        Job partitionJob = managementService.createJobQuery().singleResult();
+        assertThat(partitionJob.getJobHandlerType()).isEqualTo(BulkTaskActionPartitionJobHandler.TYPE);
+        managementService.executeJob(partitionJob.getId());
+
+        batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+        assertThatJson(batch.getBatchDocumentJson(ScopeTypes.BPMN))
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("{ numberOfTasks: 5, numberOfBatchParts: 3, partitioningCompleted: true }");
+        assertThat(managementService.createBatchPartQuery().batchId(batchId).list())
+                .hasSize(3)
+                .allSatisfy(part -> assertThat(part.getStatus()).isEqualTo(BulkTaskActionBatchConstants.STATUS_WAITING));
+        assertThat(managementService.createJobQuery().list())
+                .hasSize(3)
+                .allSatisfy(job -> assertThat(job.getJobHandlerType()).isEqualTo(BulkTaskActionJobHandler.TYPE));
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        assertThat(taskService.createTaskQuery().count()).isZero();
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(managementService.createBatchPartQuery().batchId(batchId).list())
+                .extracting(BatchPart::getStatus)
+                .containsOnly(BulkTaskActionBatchConstants.STATUS_COMPLETED);
+
+        executeStatusJob(batchId);
+
+        batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+        assertThat(batch.getStatus()).isEqualTo(BulkTaskActionBatchConstants.STATUS_COMPLETED);
+        assertThat(batch.getCompleteTime()).isNotNull();
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkClaimTasksWithQuery() {
+        startOneTaskProcesses(3);
+
+        String batchId = taskService.createBulkTaskActionBuilder()
+                .taskQuery(taskService.createTaskQuery().processDefinitionKey("oneTaskProcess"))
+                .claim("kermit");
+        batchesToRemove.add(batchId);
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        assertThat(taskService.createTaskQuery().list())
+                .hasSize(3)
+                .extracting(Task::getAssignee)
+                .containsOnly("kermit");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkClaimTasksWithQueryOverMultiplePartitionJobs() {
+        int originalMaxBatchPartsPerJob = processEngineConfiguration.getBulkTaskActionMaxBatchPartsPerJob();
+        try {
+            processEngineConfiguration.setBulkTaskActionMaxBatchPartsPerJob(2);
+            List<String> taskIds = startOneTaskProcesses(7);
+            taskService.claim(taskIds.get(3), "fozzie");
+
+            String batchId = taskService.createBulkTaskActionBuilder()
+                    .taskQuery(taskService.createTaskQuery().processDefinitionKey("oneTaskProcess").taskUnassigned())
+                    .batchSize(2)
+                    .claim("kermit");
+            batchesToRemove.add(batchId);
+
+            // Claimed tasks no longer match the query, paging by task id makes sure none of the others is skipped
+            waitForJobExecutorToProcessAllJobs(10000, 200);
+
+            assertThat(taskService.createTaskQuery().taskAssignee("kermit").count()).isEqualTo(6);
+            assertThat(taskService.createTaskQuery().taskId(taskIds.get(3)).singleResult().getAssignee()).isEqualTo("fozzie");
+            assertThat(managementService.createBatchPartQuery().batchId(batchId).count()).isEqualTo(3);
+
+            Batch batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+            assertThatJson(batch.getBatchDocumentJson(ScopeTypes.BPMN))
+                    .when(Option.IGNORING_EXTRA_FIELDS)
+                    .isEqualTo("{ numberOfTasks: 6, numberOfBatchParts: 3, partitioningCompleted: true }");
+
+            executeStatusJob(batchId);
+
+            batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+            assertThat(batch.getStatus()).isEqualTo(BulkTaskActionBatchConstants.STATUS_COMPLETED);
+
+        } finally {
+            processEngineConfiguration.setBulkTaskActionMaxBatchPartsPerJob(originalMaxBatchPartsPerJob);
+        }
+    }
+
+    @Test
+    public void testBulkActionWithUnsupportedQuery() {
+        assertThatThrownBy(() -> taskService.createBulkTaskActionBuilder()
+                .taskQuery(taskService.createTaskQuery().processVariableValueEquals("approved", true))
+                .complete())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("Variable criteria are not supported by the task query of a bulk task action");
+
+        assertThat(managementService.createBatchQuery().count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testBulkClaimAlreadyClaimedTask() {
+        List<String> taskIds = startOneTaskProcesses(2);
+        taskService.claim(taskIds.get(0), "fozzie");
+
+        String batchId = taskService.createBulkTaskActionBuilder()
+                .taskIds(taskIds)
+                .claim("kermit");
+        batchesToRemove.add(batchId);
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        BatchPart batchPart = managementService.createBatchPartQuery().batchId(batchId).singleResult();
+        assertThat(batchPart.getStatus()).isEqualTo(BulkTaskActionBatchConstants.STATUS_FAILED);
+        assertThatJson(batchPart.getResultDocumentJson(ScopeTypes.BPMN))
+                .inPath("taskIdsSucceeded")
+                .isEqualTo("['" + taskIds.get(1) + "']");
+        assertThatJson(batchPart.getResultDocumentJson(ScopeTypes.BPMN))
+                .inPath("taskIdsFailed[0].id")
+                .isEqualTo("'" + taskIds.get(0) + "'");
+
+        executeStatusJob(batchId);
+
+        Batch batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+        assertThat(batch.getStatus()).isEqualTo(BulkTaskActionBatchConstants.STATUS_FAILED);
+        assertThatJson(batch.getBatchDocumentJson(ScopeTypes.BPMN))
+                .inPath("numberOfFailedTasks")
+                .isEqualTo(1);
+        assertThat(taskService.createTaskQuery().taskId(taskIds.get(0)).singleResult().getAssignee()).isEqualTo("fozzie");
+    }
+
+    @Test
+    @Deployment
+    public void testFailingTaskIsRolledBack() {
+        List<String> processInstanceIds = new ArrayList<>();
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("failingTaskProcess",
+                    Collections.singletonMap("approved", i == 0)).getId();
+            processInstanceIds.add(processInstanceId);
+            taskIds.add(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+        }
+
+        String batchId = taskService.createBulkTaskActionBuilder()
+                .taskIds(taskIds)
+                .variables(Collections.singletonMap("completedBy", "kermit"))
+                .complete();
+        batchesToRemove.add(batchId);
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        BatchPart batchPart = managementService.createBatchPartQuery().batchId(batchId).singleResult();
+        assertThat(batchPart.getStatus()).isEqualTo(BulkTaskActionBatchConstants.STATUS_FAILED);
+        assertThatJson(batchPart.getResultDocumentJson(ScopeTypes.BPMN))
+                .inPath("taskIdsSucceeded")
+                .isEqualTo("['" + taskIds.get(1) + "']");
+
+        // The variables of the failed completion are rolled back together with the completion itself
+        assertThat(taskService.createTaskQuery().taskId(taskIds.get(0)).singleResult()).isNotNull();
+        assertThat(runtimeService.getVariable(processInstanceIds.get(0), "completedBy")).isNull();
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceIds.get(1)).count()).isZero();
+    }
+
+    @Test
+    @Deployment
+    public void testTaskFailingWithRuntimeException() {
+        List<String> processInstanceIds = new ArrayList<>();
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("runtimeExceptionProcess",
+                    Collections.singletonMap("fail", i == 0)).getId();
+            processInstanceIds.add(processInstanceId);
+            taskIds.add(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+        }
+
+        String batchId = taskService.createBulkTaskActionBuilder()
+                .taskIds(taskIds)
+                .complete();
+        batchesToRemove.add(batchId);
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        // A non Flowable exception only fails the task it was thrown for, the part job itself is not retried
+        BatchPart batchPart = managementService.createBatchPartQuery().batchId(batchId).singleResult();
+        assertThat(batchPart.getStatus()).isEqualTo(BulkTaskActionBatchConstants.STATUS_FAILED);
+        assertThatJson(batchPart.getResultDocumentJson(ScopeTypes.BPMN))
+                .inPath("taskIdsSucceeded")
+                .isEqualTo("['" + taskIds.get(1) + "']");
+        assertThatJson(batchPart.getResultDocumentJson(ScopeTypes.BPMN))
+                .inPath("taskIdsFailed[0].id")
+                .isEqualTo("'" + taskIds.get(0) + "'");
+        assertThat(managementService.createDeadLetterJobQuery().count()).isZero();
+
+        assertThat(taskService.createTaskQuery().taskId(taskIds.get(0)).singleResult()).isNotNull();
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceIds.get(1)).count()).isZero();
+    }
+
+    @Test
+    public void testBulkActionWithoutTasks() {
+        assertThatThrownBy(() -> taskService.createBulkTaskActionBuilder().complete())
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("Either taskIds or taskQuery is required");
+
+        assertThatThrownBy(() -> taskService.createBulkTaskActionBuilder().batchSize(0))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+
+        String batchId = taskService.createBulkTaskActionBuilder()
+                .taskIds(Collections.emptyList())
+                .complete();
+        batchesToRemove.add(batchId);
+
+        Batch batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+        assertThat(batch.getStatus()).isEqualTo(BulkTaskActionBatchConstants.STATUS_COMPLETED);
+        assertThat(managementService.createJobQuery().count()).isZero();
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+    }
+
+    protected List<String> startOneTaskProcesses(int numberOfInstances) {
+        List<String> taskIds = new ArrayList<>();
+        for (int i = 0; i < numberOfInstances; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+            taskIds.add(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+        }
+        return taskIds;
+    }
+
+    protected void executeStatusJob(String batchId) {
+        Job timer = managementService.createTimerJobQuery().singleResult();
+        assertThat(timer.getJobHandlerType()).isEqualTo(BulkTaskActionStatusJobHandler.TYPE);
+        assertThat(timer.getJobHandlerConfiguration()).isEqualTo(batchId);
+        managementService.moveTimerToExecutableJob(timer.getId());
+        managementService.executeJob(timer.getId());
+    }
+
+    public static class FailingDelegate implements JavaDelegate {
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            if (Boolean.TRUE.equals(execution.getVariable("fail"))) {
+                throw new IllegalStateException("Failing task completion");
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.idm.api.GroupMembershipCache;
+import org.flowable.idm.engine.IdmEngineConfiguration;
+import org.flowable.idm.engine.impl.cache.DefaultGroupMembershipCache;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TaskQueryGroupMembershipCacheTest extends PluggableFlowableTestCase {
+
+    protected IdmEngineConfiguration idmEngineConfiguration;
+    protected GroupMembershipCache originalGroupMembershipCache;
+    protected GroupMembershipCache groupMembershipCache;
+    protected String taskId;
+
+    @BeforeEach
+    public void setUp() {
+        idmEngineConfiguration = (IdmEngineConfiguration) processEngineConfiguration.getEngineConfigurations()
+                .get(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG);
+        originalGroupMembershipCache = idmEngineConfiguration.getGroupMembershipCache();
+        groupMembershipCache = new DefaultGroupMembershipCache(10, 60000L, idmEngineConfiguration::getClock);
+        idmEngineConfiguration.setGroupMembershipCache(groupMembershipCache);
+        processEngineConfiguration.getTaskServiceConfiguration().setGroupMembershipCache(groupMembershipCache);
+
+        identityService.saveUser(identityService.newUser("kermit"));
+        identityService.saveGroup(identityService.newGroup("management"));
+
+        Task task = taskService.newTask();
+        task.setName("managementTask");
+        taskService.saveTask(task);
+        taskId = task.getId();
+        taskService.addCandidateGroup(taskId, "management");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        idmEngineConfiguration.setGroupMembershipCache(originalGroupMembershipCache);
+        processEngineConfiguration.getTaskServiceConfiguration().setGroupMembershipCache(originalGroupMembershipCache);
+
+        identityService.deleteUser("kermit");
+        identityService.deleteGroup("management");
+        taskService.deleteTask(taskId, true);
+    }
+
+    @Test
+    public void testCandidateUserQuerySeesMembershipChange() {
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").list()).isEmpty();
+        assertThat(groupMembershipCache.getGroupIds("kermit")).isEmpty();
+
+        identityService.createMembership("kermit", "management");
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").list())
+                .extracting(Task::getId)
+                .containsExactly(taskId);
+        assertThat(taskService.createTaskQuery().taskCandidateOrAssigned("kermit").list())
+                .extracting(Task::getId)
+                .containsExactly(taskId);
+
+        identityService.deleteMembership("kermit", "management");
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").list()).isEmpty();
+        assertThat(taskService.createTaskQuery().taskCandidateOrAssigned("kermit").list()).isEmpty();
+    }
+
+    @Test
+    public void testMembershipsCachedBeforeCommitAreInvalidated() {
+        managementService.executeCommand(commandContext -> {
+            identityService.createMembership("kermit", "management");
+
+            // A query in another transaction doesn't see the membership yet and caches the groups from before the change
+            groupMembershipCache.put("kermit", Collections.emptyList());
+            return null;
+        });
+
+        assertThat(groupMembershipCache.getGroupIds("kermit")).isNull();
+        assertThat(taskService.createTaskQuery().taskCandidateUser("kermit").list())
+                .extracting(Task::getId)
+                .containsExactly(taskId);
+
+        identityService.deleteMembership("kermit", "management");
+    }
+
+}
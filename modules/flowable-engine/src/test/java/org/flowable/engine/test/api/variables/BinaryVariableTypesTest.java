@@ -0,0 +1,190 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntityImpl;
+import org.flowable.variable.service.impl.types.BinaryJsonType;
+import org.flowable.variable.service.impl.types.BinaryObjectType;
+import org.flowable.variable.service.impl.types.NullType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class BinaryVariableTypesTest extends PluggableFlowableTestCase {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+    protected BinaryJsonType binaryJsonType;
+    protected BinaryObjectType binaryObjectType;
+
+    @BeforeEach
+    void registerTypes() {
+        binaryJsonType = new BinaryJsonType(objectMapper, 1024, true);
+        binaryObjectType = new BinaryObjectType(objectMapper, 1024, true, Collections.singleton(TestCustomer.class));
+        processEngineConfiguration.getVariableTypes().addType(binaryJsonType, 0);
+        processEngineConfiguration.getVariableTypes().addType(binaryObjectType, 0);
+    }
+
+    @AfterEach
+    void removeTypes() {
+        processEngineConfiguration.getVariableTypes().removeType(binaryJsonType);
+        processEngineConfiguration.getVariableTypes().removeType(binaryObjectType);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testJsonVariable() {
+        ObjectNode customer = objectMapper.createObjectNode();
+        customer.put("name", "Kermit");
+        customer.put("notes", StringUtils.repeat("frog ", 1000));
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", customer)
+                .start();
+
+        try {
+            VariableInstance variableInstance = runtimeService.getVariableInstance(processInstance.getId(), "customer");
+            assertThat(variableInstance.getTypeName()).isEqualTo(BinaryJsonType.TYPE_NAME);
+            assertThat(variableInstance.getValue()).isEqualTo(customer);
+
+            // The value is larger than the threshold and is therefore stored compressed
+            byte[] storedBytes = managementService.executeCommand(commandContext -> ((VariableInstanceEntity) runtimeService
+                    .getVariableInstance(processInstance.getId(), "customer")).getBytes());
+            assertThat(storedBytes.length).isLessThan(customer.toString().length());
+
+            ObjectNode updatedCustomer = customer.deepCopy();
+            updatedCustomer.put("name", "Fozzie");
+            runtimeService.setVariable(processInstance.getId(), "customer", updatedCustomer);
+            assertThat(((JsonNode) runtimeService.getVariable(processInstance.getId(), "customer")).path("name").asText()).isEqualTo("Fozzie");
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                HistoricVariableInstance historicVariableInstance = historyService.createHistoricVariableInstanceQuery()
+                        .processInstanceId(processInstance.getId())
+                        .variableName("customer")
+                        .singleResult();
+                assertThat(historicVariableInstance.getVariableTypeName()).isEqualTo(BinaryJsonType.TYPE_NAME);
+                assertThat(historicVariableInstance.getValue()).isEqualTo(updatedCustomer);
+            }
+
+        } finally {
+            deleteProcessInstance(processInstance.getId());
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testObjectVariable() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("customer", new TestCustomer("Kermit", 7))
+                .start();
+
+        try {
+            VariableInstance variableInstance = runtimeService.getVariableInstance(processInstance.getId(), "customer");
+            assertThat(variableInstance.getTypeName()).isEqualTo(BinaryObjectType.TYPE_NAME);
+            assertThat(variableInstance.getValue())
+                    .isInstanceOfSatisfying(TestCustomer.class, customer -> {
+                        assertThat(customer.getName()).isEqualTo("Kermit");
+                        assertThat(customer.getAge()).isEqualTo(7);
+                    });
+
+            // Changes to the deserialized object are detected and stored at the end of the command
+            managementService.executeCommand(commandContext -> {
+                TestCustomer customer = (TestCustomer) runtimeService.getVariable(processInstance.getId(), "customer");
+                customer.setAge(8);
+                return null;
+            });
+            assertThat(runtimeService.getVariable(processInstance.getId(), "customer", TestCustomer.class).getAge()).isEqualTo(8);
+
+        } finally {
+            deleteProcessInstance(processInstance.getId());
+        }
+    }
+
+    @Test
+    void testObjectOfUnregisteredClassIsNotDeserialized() {
+        VariableInstanceEntityImpl valueFields = new VariableInstanceEntityImpl();
+        valueFields.setName("customer");
+        byte[] bytes = binaryObjectType.serialize(new TestCustomer("Kermit", 7), valueFields);
+
+        valueFields.setTextValue2(ArrayList.class.getName());
+        assertThatThrownBy(() -> binaryObjectType.deserialize(bytes, valueFields))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("is not registered");
+    }
+
+    @Test
+    void testNullIsNotStoredAsJson() {
+        assertThat(binaryJsonType.isAbleToStore(null)).isFalse();
+        assertThat(processEngineConfiguration.getVariableTypes().findVariableType(null).getTypeName()).isEqualTo(NullType.TYPE_NAME);
+    }
+
+    protected void deleteProcessInstance(String processInstanceId) {
+        // The instance is deleted before the types are removed, otherwise the variables can't be deleted anymore
+        runtimeService.deleteProcessInstance(processInstanceId, "test");
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            historyService.deleteHistoricProcessInstance(processInstanceId);
+        }
+    }
+
+    public static class TestCustomer {
+
+        protected String name;
+        protected int age;
+
+        public TestCustomer() {
+        }
+
+        public TestCustomer(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class IncludedVariablesSeparateFetchTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    void setUp() {
+        processEngineConfiguration.setEnableSeparateIncludedVariablesFetch(true);
+        processEngineConfiguration.getTaskServiceConfiguration().setEnableSeparateIncludedVariablesFetch(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processEngineConfiguration.setEnableSeparateIncludedVariablesFetch(false);
+        processEngineConfiguration.getTaskServiceConfiguration().setEnableSeparateIncludedVariablesFetch(false);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testProcessInstanceQueryIncludeProcessVariables() {
+        List<String> processInstanceIds = startProcessInstances(5);
+
+        List<ProcessInstance> processInstances = runtimeService.createProcessInstanceQuery()
+                .includeProcessVariables()
+                .orderByProcessInstanceId().asc()
+                .listPage(1, 2);
+
+        assertThat(processInstances)
+                .extracting(ProcessInstance::getId)
+                .containsExactlyElementsOf(processInstanceIds.stream().sorted().skip(1).limit(2).collect(Collectors.toList()));
+        for (ProcessInstance processInstance : processInstances) {
+            assertThat(processInstance.getProcessVariables())
+                    .containsOnly(entry("name", "instance-" + processInstance.getBusinessKey()), entry("counter", Integer.valueOf(processInstance.getBusinessKey())),
+                            entry("other", "value"));
+        }
+
+        processInstances = runtimeService.createProcessInstanceQuery()
+                .includeProcessVariables(Arrays.asList("name", "counter"))
+                .list();
+
+        assertThat(processInstances).hasSize(5);
+        for (ProcessInstance processInstance : processInstances) {
+            assertThat(processInstance.getProcessVariables()).containsOnlyKeys("name", "counter");
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testTaskQueryIncludeVariables() {
+        startProcessInstances(3);
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.setVariableLocal(task.getId(), "localName", "local-" + task.getId());
+            taskService.setVariableLocal(task.getId(), "otherLocal", "value");
+        }
+
+        List<Task> tasks = taskService.createTaskQuery()
+                .includeProcessVariables()
+                .includeTaskLocalVariables()
+                .includeIdentityLinks()
+                .list();
+
+        assertThat(tasks).hasSize(3);
+        for (Task task : tasks) {
+            assertThat(task.getProcessVariables()).containsOnlyKeys("name", "counter", "other");
+            assertThat(task.getTaskLocalVariables())
+                    .containsOnly(entry("localName", "local-" + task.getId()), entry("otherLocal", "value"));
+        }
+
+        tasks = taskService.createTaskQuery()
+                .includeProcessVariables(Arrays.asList("name"))
+                .includeTaskLocalVariables(Arrays.asList("localName"))
+                .listPage(0, 2);
+
+        assertThat(tasks).hasSize(2);
+        for (Task task : tasks) {
+            assertThat(task.getProcessVariables()).containsOnlyKeys("name");
+            assertThat(task.getTaskLocalVariables()).containsOnly(entry("localName", "local-" + task.getId()));
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testVariableNamesWithoutSeparateFetchConfigured() {
+        tearDown();
+        startProcessInstances(2);
+
+        List<ProcessInstance> processInstances = runtimeService.createProcessInstanceQuery()
+                .includeProcessVariables(Arrays.asList("other"))
+                .list();
+
+        assertThat(processInstances)
+                .extracting(ProcessInstance::getProcessVariables)
+                .containsOnly(Collections.singletonMap("other", "value"));
+
+        List<Task> tasks = taskService.createTaskQuery()
+                .includeProcessVariables(Arrays.asList("counter"))
+                .list();
+
+        assertThat(tasks)
+                .extracting(task -> task.getProcessVariables().keySet())
+                .containsOnly(Collections.singleton("counter"));
+    }
+
+    protected List<String> startProcessInstances(int numberOfInstances) {
+        String[] processInstanceIds = new String[numberOfInstances];
+        for (int i = 0; i < numberOfInstances; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("name", "instance-" + i);
+            variables.put("counter", i);
+            variables.put("other", "value");
+            processInstanceIds[i] = runtimeService.startProcessInstanceByKey("oneTaskProcess", Integer.toString(i), variables).getId();
+        }
+        return Arrays.asList(processInstanceIds);
+    }
+}
@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+public class VariableContentStreamingTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testReadByteArrayVariableContent() {
+        String content = StringUtils.repeat("Flowable ", 10000);
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("document", content.getBytes(StandardCharsets.UTF_8))
+                .variable("name", "Kermit")
+                .start();
+
+        String readContent = runtimeService.readVariableContent(processInstance.getId(), "document",
+                inputStream -> IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+        assertThat(readContent).isEqualTo(content);
+
+        // Variables that are not stored as a byte array and unknown variables have no content
+        assertThat(runtimeService.readVariableContent(processInstance.getId(), "name", inputStream -> "invoked")).isNull();
+        assertThat(runtimeService.readVariableContent(processInstance.getId(), "unknown", inputStream -> "invoked")).isNull();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testReadUpdatedVariableContentWithinSameCommand() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("document", "first".getBytes(StandardCharsets.UTF_8))
+                .start();
+
+        String readContent = managementService.executeCommand(commandContext -> {
+            runtimeService.setVariable(processInstance.getId(), "document", "second".getBytes(StandardCharsets.UTF_8));
+            return runtimeService.readVariableContent(processInstance.getId(), "document",
+                    inputStream -> IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+        });
+        assertThat(readContent).isEqualTo("second");
+    }
+
+    @Test
+    void testReadVariableContentUnexistingExecution() {
+        assertThatThrownBy(() -> runtimeService.readVariableContent("unexisting", "document", inputStream -> null))
+                .isInstanceOf(FlowableObjectNotFoundException.class);
+    }
+}
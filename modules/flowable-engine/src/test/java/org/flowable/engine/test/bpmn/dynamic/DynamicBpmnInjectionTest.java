@@ -175,6 +175,37 @@ public class DynamicBpmnInjectionTest extends PluggableFlowableTestCase {
         assertProcessEnded(processInstance.getId());  
     }
 
+    @Test
+    @org.flowable.engine.test.Deployment(resources = "org/flowable/engine/test/bpmn/dynamic/DynamicBpmnInjectionTest.testOneTaskDi.bpmn20.xml")
+    public void testInjectUserTaskWithLazyDiagramInterchange() {
+        boolean originalEnableLazyDiagramInterchange = processEngineConfiguration.isEnableLazyDiagramInterchange();
+        processEngineConfiguration.setEnableLazyDiagramInterchange(true);
+        try {
+            // The process definition is loaded in the cache without diagram interchange when starting the process instance
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+            DynamicUserTaskBuilder taskBuilder = new DynamicUserTaskBuilder();
+            taskBuilder.id("custom_task")
+                .name("My injected task")
+                .assignee("kermit");
+            dynamicBpmnService.injectUserTaskInProcessInstance(processInstance.getId(), taskBuilder);
+
+            Task injectedTask = taskService.createTaskQuery().taskName("My injected task").singleResult();
+            assertThat(injectedTask).isNotNull();
+            deploymentIdsForAutoCleanup.add(repositoryService.getProcessDefinition(injectedTask.getProcessDefinitionId()).getDeploymentId()); // For auto-cleanup
+
+            BpmnModel bpmnModel = repositoryService.getBpmnModel(injectedTask.getProcessDefinitionId());
+            assertThat(bpmnModel.getGraphicInfo("startEvent1")).isNotNull();
+            assertThat(bpmnModel.getGraphicInfo("theTask")).isNotNull();
+            assertThat(bpmnModel.getGraphicInfo("custom_task")).isNotNull();
+
+        } finally {
+            processEngineConfiguration.setEnableLazyDiagramInterchange(originalEnableLazyDiagramInterchange);
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+        }
+    }
+
     @Test
     public void testInjectParallelTaskNoJoin() {
         deployOneTaskTestProcess();
@@ -0,0 +1,188 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.event.signal;
+
+import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.impl.signal.SignalBroadcastBatchConstants;
+import org.flowable.engine.impl.signal.SignalBroadcastPartitionJobHandler;
+import org.flowable.engine.impl.signal.SignalBroadcastStatusJobHandler;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import net.javacrumbs.jsonunit.core.Option;
+
+public class SignalBroadcastTest extends PluggableFlowableTestCase {
+
+    protected Collection<String> batchesToRemove = new HashSet<>();
+
+    @AfterEach
+    void tearDown() {
+        batchesToRemove.forEach(managementService::deleteBatch);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml")
+    public void testBroadcastSignal() {
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+
+        String batchId = runtimeService.createSignalBroadcastBuilder("alert")
+                .variables(Collections.singletonMap("alerted", true))
+                .batchSize(2)
+                .broadcast();
+        batchesToRemove.add(batchId);
+
+        Batch batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+        assertThat(batch.getBatchType()).isEqualTo(Batch.SIGNAL_BROADCAST_TYPE);
+        assertThat(batch.getStatus()).isEqualTo(SignalBroadcastBatchConstants.STATUS_IN_PROGRESS);
+        assertThat(batch.getBatchSearchKey()).isEqualTo("alert");
+
+        // The subscriptions are only looked up by an async job
+        assertThat(managementService.createBatchPartQuery().batchId(batchId).count()).isZero();
+        assertThat(managementService.createJobQuery().singleResult().getJobHandlerType()).isEqualTo(SignalBroadcastPartitionJobHandler.TYPE);
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(5);
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(managementService.createBatchPartQuery().batchId(batchId).list())
+                .hasSize(3)
+                .extracting(BatchPart::getStatus)
+                .containsOnly(SignalBroadcastBatchConstants.STATUS_COMPLETED);
+
+        batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+        assertThatJson(batch.getBatchDocumentJson(ScopeTypes.BPMN))
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("{ signalName: 'alert', batchSize: 2, numberOfSubscriptions: 5, numberOfBatchParts: 3, partitioningCompleted: true }");
+
+        executeStatusJob(batchId);
+
+        batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+        assertThat(batch.getStatus()).isEqualTo(SignalBroadcastBatchConstants.STATUS_COMPLETED);
+        assertThat(batch.getCompleteTime()).isNotNull();
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml")
+    public void testBroadcastSignalWithIdempotencyKey() {
+        runtimeService.startProcessInstanceByKey("catchSignal");
+
+        String batchId = runtimeService.createSignalBroadcastBuilder("alert")
+                .idempotencyKey("alert-1")
+                .broadcast();
+        batchesToRemove.add(batchId);
+
+        assertThat(runtimeService.createSignalBroadcastBuilder("alert").idempotencyKey("alert-1").broadcast()).isEqualTo(batchId);
+        assertThat(managementService.createBatchQuery().batchType(Batch.SIGNAL_BROADCAST_TYPE).count()).isEqualTo(1);
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml")
+    public void testBroadcastSignalWithMaxBatchPartsPerJob() {
+        int originalMaxBatchPartsPerJob = processEngineConfiguration.getSignalBroadcastMaxBatchPartsPerJob();
+        processEngineConfiguration.setSignalBroadcastMaxBatchPartsPerJob(1);
+        try {
+            for (int i = 0; i < 5; i++) {
+                runtimeService.startProcessInstanceByKey("catchSignal");
+            }
+
+            String batchId = runtimeService.createSignalBroadcastBuilder("alert")
+                    .batchSize(2)
+                    .broadcast();
+            batchesToRemove.add(batchId);
+
+            Job partitionJob = managementService.createJobQuery().handlerType(SignalBroadcastPartitionJobHandler.TYPE).singleResult();
+            managementService.executeJob(partitionJob.getId());
+
+            // Only one batch part is created, another partition job continues with the remaining subscriptions
+            assertThat(managementService.createBatchPartQuery().batchId(batchId).count()).isEqualTo(1);
+            assertThat(managementService.createJobQuery().handlerType(SignalBroadcastPartitionJobHandler.TYPE).list())
+                    .extracting(Job::getId)
+                    .hasSize(1)
+                    .doesNotContain(partitionJob.getId());
+
+            waitForJobExecutorToProcessAllJobs(10000, 200);
+
+            assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+            assertThat(managementService.createBatchPartQuery().batchId(batchId).count()).isEqualTo(3);
+
+        } finally {
+            processEngineConfiguration.setSignalBroadcastMaxBatchPartsPerJob(originalMaxBatchPartsPerJob);
+        }
+    }
+
+    @Test
+    @Deployment
+    public void testFailingContinuationIsRolledBack() {
+        String failingProcessInstanceId = runtimeService.startProcessInstanceByKey("failingContinuation", Collections.singletonMap("fail", true)).getId();
+        String processInstanceId = runtimeService.startProcessInstanceByKey("failingContinuation", Collections.singletonMap("fail", false)).getId();
+        String failingSubscriptionId = runtimeService.createEventSubscriptionQuery().processInstanceId(failingProcessInstanceId).singleResult().getId();
+
+        String batchId = runtimeService.createSignalBroadcastBuilder("alert").broadcast();
+        batchesToRemove.add(batchId);
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        BatchPart batchPart = managementService.createBatchPartQuery().batchId(batchId).singleResult();
+        assertThat(batchPart.getStatus()).isEqualTo(SignalBroadcastBatchConstants.STATUS_FAILED);
+        assertThatJson(batchPart.getResultDocumentJson(ScopeTypes.BPMN))
+                .inPath("subscriptionIdsFailed[0].id")
+                .isEqualTo("'" + failingSubscriptionId + "'");
+
+        // The continuation of the failed subscription is rolled back, so the process instance is still waiting for the signal
+        assertThat(runtimeService.createEventSubscriptionQuery().processInstanceId(failingProcessInstanceId).singleResult()).isNotNull();
+        assertThat(runtimeService.getVariable(failingProcessInstanceId, "continued")).isNull();
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).count()).isZero();
+    }
+
+    @Test
+    public void testBroadcastSignalWithoutSubscriptions() {
+        String batchId = runtimeService.createSignalBroadcastBuilder("alert").broadcast();
+        batchesToRemove.add(batchId);
+
+        waitForJobExecutorToProcessAllJobs(10000, 200);
+
+        assertThat(managementService.createBatchPartQuery().batchId(batchId).count()).isZero();
+
+        executeStatusJob(batchId);
+
+        Batch batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+        assertThat(batch.getStatus()).isEqualTo(SignalBroadcastBatchConstants.STATUS_COMPLETED);
+    }
+
+    protected void executeStatusJob(String batchId) {
+        Job timer = managementService.createTimerJobQuery().singleResult();
+        assertThat(timer.getJobHandlerType()).isEqualTo(SignalBroadcastStatusJobHandler.TYPE);
+        assertThat(timer.getJobHandlerConfiguration()).isEqualTo(batchId);
+        managementService.moveTimerToExecutableJob(timer.getId());
+        managementService.executeJob(timer.getId());
+    }
+}
@@ -0,0 +1,168 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.AbstractCommandInterceptor;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReadOnlyDataSourceTest {
+
+    protected static final String JDBC_URL = "jdbc:h2:mem:flowable-read-only-data-source;DB_CLOSE_DELAY=1000";
+
+    protected CountingDataSource readOnlyDataSource;
+    protected CallerTransactionInterceptor callerTransactionInterceptor;
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void setUp() {
+        readOnlyDataSource = new CountingDataSource();
+        callerTransactionInterceptor = new CallerTransactionInterceptor();
+
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl(JDBC_URL);
+        processEngineConfiguration.setReadOnlyDataSource(readOnlyDataSource);
+        processEngineConfiguration.setCustomPreCommandInterceptors(Collections.singletonList(callerTransactionInterceptor));
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        processEngine.getRepositoryService().createDeploymentQuery().list()
+                .forEach(deployment -> processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true));
+        processEngine.close();
+    }
+
+    @Test
+    public void testQueriesUseReadOnlyDataSource() {
+        processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+        readOnlyDataSource.connections.set(0);
+
+        assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().count()).isEqualTo(1);
+        assertThat(processEngine.getTaskService().createTaskQuery().list()).hasSize(1);
+        assertThat(processEngine.getHistoryService().createHistoricProcessInstanceQuery().list()).hasSize(1);
+
+        // every query is its own command and gets its own read-only connection
+        assertThat(readOnlyDataSource.connections.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void testQueriesAfterWritesUsePrimaryDataSource() {
+        readOnlyDataSource.connections.set(0);
+        long count = processEngine.getManagementService().executeCommand(commandContext -> {
+            processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+            return processEngine.getRuntimeService().createProcessInstanceQuery().count();
+        });
+
+        assertThat(count).isEqualTo(1);
+        assertThat(readOnlyDataSource.connections.get()).isZero();
+    }
+
+    @Test
+    public void testQueriesWithinCommandUsePrimaryDataSource() {
+        processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+        readOnlyDataSource.connections.set(0);
+
+        // The query reuses the command context of the surrounding command, which could depend on data not yet on the replica
+        long count = processEngine.getManagementService().executeCommand(commandContext -> processEngine.getRuntimeService().createProcessInstanceQuery().count());
+
+        assertThat(count).isEqualTo(1);
+        assertThat(readOnlyDataSource.connections.get()).isZero();
+    }
+
+    @Test
+    public void testQueriesJoiningCallerTransactionUsePrimaryDataSource() {
+        callerTransactionInterceptor.callerTransactionActive = true;
+
+        // Like a Spring @Transactional method that starts a process instance and then queries it:
+        // the query is the outermost command, but the caller's transaction isn't committed yet
+        processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+        readOnlyDataSource.connections.set(0);
+
+        assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().count()).isEqualTo(1);
+        assertThat(processEngine.getTaskService().createTaskQuery().list()).hasSize(1);
+        assertThat(readOnlyDataSource.connections.get()).isZero();
+    }
+
+    @Test
+    public void testSelectByIdUsesPrimaryDataSource() {
+        String processInstanceId = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess").getId();
+        readOnlyDataSource.connections.set(0);
+
+        ExecutionEntity processInstance = processEngine.getManagementService().executeCommand(commandContext -> {
+            DbSqlSession dbSqlSession = commandContext.getSession(DbSqlSession.class);
+            dbSqlSession.beginReadOnlyDataSourceScope();
+            try {
+                return dbSqlSession.selectById(ExecutionEntityImpl.class, processInstanceId);
+            } finally {
+                dbSqlSession.endReadOnlyDataSourceScope();
+            }
+        });
+
+        assertThat(processInstance).isNotNull();
+        assertThat(readOnlyDataSource.connections.get()).isZero();
+    }
+
+    /**
+     * Passes commands on like a transaction interceptor that joins a transaction the caller has already started.
+     */
+    protected static class CallerTransactionInterceptor extends AbstractCommandInterceptor {
+
+        protected volatile boolean callerTransactionActive;
+
+        @Override
+        public <T> T execute(CommandConfig config, Command<T> command, CommandExecutor commandExecutor) {
+            if (callerTransactionActive && config.getTransactionPropagation() == TransactionPropagation.REQUIRED) {
+                return next.execute(config.existingTransactionJoined(), command, commandExecutor);
+            }
+            return next.execute(config, command, commandExecutor);
+        }
+    }
+
+    protected static class CountingDataSource extends UnpooledDataSource {
+
+        protected final AtomicInteger connections = new AtomicInteger();
+
+        public CountingDataSource() {
+            super("org.h2.Driver", JDBC_URL, "sa", "");
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            connections.incrementAndGet();
+            return super.getConnection();
+        }
+    }
+}
@@ -15,13 +15,18 @@ package org.flowable.engine.test.cfg.multitenant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
 
+import org.flowable.common.engine.impl.cfg.multitenant.MultiTenantQueryExecutor;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.cfg.multitenant.MultiSchemaMultiTenantProcessEngineConfiguration;
 import org.flowable.engine.repository.Deployment;
@@ -106,6 +111,48 @@ public class MultiTenantProcessEngineTest {
         runProcessInstanceTest();
     }
 
+    @Test
+    public void testQueryAllTenants() {
+        setupProcessEngine(false);
+
+        startProcessInstances("joram");
+        startProcessInstances("joram");
+        startProcessInstances("raphael");
+        startProcessInstances("tony");
+
+        MultiTenantQueryExecutor queryExecutor = config.getMultiTenantQueryExecutor();
+        assertQueryAllTenants(queryExecutor);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            assertQueryAllTenants(new MultiTenantQueryExecutor(tenantInfoHolder, executorService));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    protected void assertQueryAllTenants(MultiTenantQueryExecutor queryExecutor) {
+        assertThat(queryExecutor.count(() -> processEngine.getRuntimeService().createProcessInstanceQuery())).isEqualTo(8);
+        assertThat(queryExecutor.count(() -> processEngine.getRuntimeService().createProcessInstanceQuery().processDefinitionKey("jobTest"))).isEqualTo(4);
+
+        List<ProcessInstance> processInstances = queryExecutor.list(
+                () -> processEngine.getRuntimeService().createProcessInstanceQuery().orderByProcessInstanceId().asc(),
+                Comparator.comparing(ProcessInstance::getId));
+        List<String> processInstanceIds = processInstances.stream().map(ProcessInstance::getId).collect(Collectors.toList());
+        assertThat(processInstanceIds)
+                .hasSize(8)
+                .isSorted();
+
+        List<ProcessInstance> page = queryExecutor.listPage(
+                () -> processEngine.getRuntimeService().createProcessInstanceQuery().orderByProcessInstanceId().asc(),
+                Comparator.comparing(ProcessInstance::getId), 3, 4);
+        assertThat(page)
+                .extracting(ProcessInstance::getId)
+                .containsExactlyElementsOf(processInstanceIds.subList(3, 7));
+
+        assertThat(tenantInfoHolder.getCurrentTenantId()).isNull();
+    }
+
     protected void runProcessInstanceTest() throws InterruptedException {
         // Generate data
         startProcessInstances("joram");
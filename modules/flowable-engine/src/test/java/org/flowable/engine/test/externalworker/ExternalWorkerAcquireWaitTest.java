@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.externalworker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.AcquiredExternalWorkerJob;
+import org.flowable.job.service.ExternalWorkerJobNotifier;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
+import org.flowable.job.service.impl.externalworker.ExternalWorkerJobWaitRegistry;
+import org.junit.jupiter.api.Test;
+
+public class ExternalWorkerAcquireWaitTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testWaitingAcquireIsWokenUpWhenJobIsCreated() throws Exception {
+        ExternalWorkerJobWaitRegistry waitRegistry = processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobWaitRegistry();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            long start = System.currentTimeMillis();
+            Future<List<AcquiredExternalWorkerJob>> acquiredJobsFuture = executorService.submit(() -> managementService.createExternalWorkerJobAcquireBuilder()
+                    .topic("simple", Duration.ofMinutes(30))
+                    .maxWaitTime(Duration.ofSeconds(30))
+                    .acquireAndLock(1, "testWorker"));
+
+            waitForWaiter(waitRegistry, "simple");
+
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+            List<AcquiredExternalWorkerJob> acquiredJobs = acquiredJobsFuture.get(20, TimeUnit.SECONDS);
+            assertThat(acquiredJobs)
+                    .extracting(AcquiredExternalWorkerJob::getProcessInstanceId)
+                    .containsExactly(processInstance.getId());
+            assertThat(System.currentTimeMillis() - start).isLessThan(Duration.ofSeconds(30).toMillis());
+            assertThat(waitRegistry.getNumberOfWaiters("simple")).isZero();
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void testWaitingAcquireReturnsEmptyAfterMaxWaitTime() {
+        long start = System.currentTimeMillis();
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("unknownTopic", Duration.ofMinutes(30))
+                .maxWaitTime(Duration.ofMillis(200))
+                .acquireAndLock(1, "testWorker");
+
+        assertThat(acquiredJobs).isEmpty();
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(200);
+        assertThat(processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobWaitRegistry().getNumberOfWaiters("unknownTopic"))
+                .isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testWaitingAcquireIsWokenUpByAdditionalWaitRegistry() throws Exception {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        ExternalWorkerJobNotifier originalNotifier = jobServiceConfiguration.getExternalWorkerJobNotifier();
+        // Simulates a job created by another engine, which only notifies the waiters of that engine
+        jobServiceConfiguration.setExternalWorkerJobNotifier(topic -> { });
+        ExternalWorkerJobWaitRegistry otherEngineWaitRegistry = new ExternalWorkerJobWaitRegistry();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            ExternalWorkerJobAcquireBuilderImpl acquireBuilder = (ExternalWorkerJobAcquireBuilderImpl) managementService.createExternalWorkerJobAcquireBuilder();
+            acquireBuilder.addWaitRegistry(otherEngineWaitRegistry);
+            Future<List<AcquiredExternalWorkerJob>> acquiredJobsFuture = executorService.submit(() -> acquireBuilder
+                    .topic("simple", Duration.ofMinutes(30))
+                    .maxWaitTime(Duration.ofSeconds(30))
+                    .acquireAndLock(1, "testWorker"));
+
+            waitForWaiter(otherEngineWaitRegistry, "simple");
+            assertThat(jobServiceConfiguration.getExternalWorkerJobWaitRegistry().getNumberOfWaiters("simple")).isEqualTo(1);
+
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+            otherEngineWaitRegistry.jobsAvailable("simple");
+
+            assertThat(acquiredJobsFuture.get(20, TimeUnit.SECONDS))
+                    .extracting(AcquiredExternalWorkerJob::getProcessInstanceId)
+                    .containsExactly(processInstance.getId());
+            assertThat(otherEngineWaitRegistry.getNumberOfWaiters("simple")).isZero();
+            assertThat(jobServiceConfiguration.getExternalWorkerJobWaitRegistry().getNumberOfWaiters("simple")).isZero();
+
+        } finally {
+            jobServiceConfiguration.setExternalWorkerJobNotifier(originalNotifier);
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void testWaitTimeIsCappedByEngineMaxWaitTime() {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        Duration originalMaxWaitTime = jobServiceConfiguration.getExternalWorkerJobMaxWaitTime();
+        jobServiceConfiguration.setExternalWorkerJobMaxWaitTime(Duration.ofMillis(200));
+        try {
+            long start = System.currentTimeMillis();
+            List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                    .topic("unknownTopic", Duration.ofMinutes(30))
+                    .maxWaitTime(Duration.ofMinutes(5))
+                    .acquireAndLock(1, "testWorker");
+
+            assertThat(acquiredJobs).isEmpty();
+            assertThat(System.currentTimeMillis() - start)
+                    .isGreaterThanOrEqualTo(200)
+                    .isLessThan(Duration.ofSeconds(30).toMillis());
+
+        } finally {
+            jobServiceConfiguration.setExternalWorkerJobMaxWaitTime(originalMaxWaitTime);
+        }
+    }
+
+    protected void waitForWaiter(ExternalWorkerJobWaitRegistry waitRegistry, String topic) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (waitRegistry.getNumberOfWaiters(topic) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -20,10 +20,14 @@ import static org.assertj.core.api.Assertions.tuple;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -198,6 +202,93 @@ public class ExternalWorkerServiceTaskTest extends PluggableFlowableTestCase {
                 );
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWithVariableNames() {
+        ProcessInstance processInstance1 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .variable("age", 30)
+                .variable("address", "Sesame Street")
+                .start();
+
+        ProcessInstance processInstance2 = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "gonzo")
+                .start();
+
+        ExternalWorkerJob externalWorkerJob = managementService.createExternalWorkerJobQuery().processInstanceId(processInstance2.getId()).singleResult();
+        runtimeService.setVariableLocal(externalWorkerJob.getExecutionId(), "age", 40);
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .variableNames(Arrays.asList("name", "age"))
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId)
+                .containsExactlyInAnyOrder(processInstance1.getId(), processInstance2.getId());
+
+        Map<String, AcquiredExternalWorkerJob> acquiredJobsByProcessInstanceId = acquiredJobs.stream()
+                .collect(Collectors.toMap(AcquiredExternalWorkerJob::getProcessInstanceId, Function.identity()));
+        assertThat(acquiredJobsByProcessInstanceId.get(processInstance1.getId()).getVariables())
+                .containsOnly(
+                        entry("name", "kermit"),
+                        entry("age", 30)
+                );
+        assertThat(acquiredJobsByProcessInstanceId.get(processInstance2.getId()).getVariables())
+                .containsOnly(
+                        entry("name", "gonzo"),
+                        entry("age", 40)
+                );
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWithEmptyVariableNames() {
+        runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .start();
+
+        ExternalWorkerJob externalWorkerJob = managementService.createExternalWorkerJobQuery().singleResult();
+        Map<String, Map<String, Object>> variablesByJobId = managementService.executeCommand(commandContext -> processEngineConfiguration
+                .getInternalJobManager().resolveVariables(Collections.singletonList(externalWorkerJob), Collections.emptyList()));
+        assertThat(variablesByJobId).containsOnlyKeys(externalWorkerJob.getId());
+        assertThat(variablesByJobId.get(externalWorkerJob.getId())).isEmpty();
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .variableNames(Collections.emptyList())
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs).hasSize(1);
+        assertThat(acquiredJobs.get(0).getVariables()).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAcquireWithoutVariables() {
+        runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("simpleExternalWorker")
+                .variable("name", "kermit")
+                .start();
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(30))
+                .withoutVariables()
+                .acquireAndLock(4, "testWorker");
+
+        assertThat(acquiredJobs).hasSize(1);
+        assertThat(acquiredJobs.get(0).getVariables()).isEmpty();
+
+        assertThatThrownBy(() -> managementService.createExternalWorkerJobAcquireBuilder()
+                .withoutVariables()
+                .variableNames(Collections.singleton("name")))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessage("Cannot combine withoutVariables() with variableNames(Collection) in the same query");
+    }
+
     @Test
     @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
     void testExternalWorkerJobDeadLetterWithVariables() {
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.FixedValue;
+import org.flowable.engine.impl.bpmn.helper.DelegateInstanceFactory;
+import org.flowable.engine.impl.bpmn.parser.FieldDeclaration;
+import org.junit.jupiter.api.Test;
+
+class DelegateInstanceFactoryTest {
+
+    @Test
+    void createInstanceInjectsFields() {
+        DelegateInstanceFactory factory = new DelegateInstanceFactory(FieldInjectedDelegate.class.getName(), Arrays.asList(
+                new FieldDeclaration("viaSetter", Expression.class.getName(), new FixedValue("setter")),
+                new FieldDeclaration("viaField", Expression.class.getName(), new FixedValue("field"))
+        ));
+
+        assertThat(factory.getDelegateClass()).isEqualTo(FieldInjectedDelegate.class);
+
+        FieldInjectedDelegate first = (FieldInjectedDelegate) factory.createInstance();
+        FieldInjectedDelegate second = (FieldInjectedDelegate) factory.createInstance();
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.setterCalled).isTrue();
+        assertThat(first.viaSetter.getValue(null)).isEqualTo("setter");
+        assertThat(first.viaField.getValue(null)).isEqualTo("field");
+        assertThat(second.viaField.getValue(null)).isEqualTo("field");
+    }
+
+    @Test
+    void createInstanceOfNonPublicClass() {
+        DelegateInstanceFactory factory = new DelegateInstanceFactory(PackagePrivateDelegate.class.getName(), null);
+
+        assertThat(factory.createInstance()).isInstanceOf(PackagePrivateDelegate.class);
+    }
+
+    @Test
+    void nonExistingField() {
+        assertThatThrownBy(() -> new DelegateInstanceFactory(FieldInjectedDelegate.class.getName(),
+                Collections.singletonList(new FieldDeclaration("unknown", Expression.class.getName(), new FixedValue("value")))))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("non-existent field 'unknown'");
+    }
+
+    @Test
+    void incompatibleFieldType() {
+        assertThatThrownBy(() -> new DelegateInstanceFactory(FieldInjectedDelegate.class.getName(),
+                Collections.singletonList(new FieldDeclaration("number", Expression.class.getName(), new FixedValue("value")))))
+                .isInstanceOf(FlowableIllegalArgumentException.class)
+                .hasMessageContaining("Incompatible type set on field declaration 'number'");
+    }
+
+    public static class FieldInjectedDelegate {
+
+        protected Expression viaSetter;
+        protected boolean setterCalled;
+        private Expression viaField;
+        protected Integer number;
+
+        public void setViaSetter(Expression viaSetter) {
+            this.viaSetter = viaSetter;
+            this.setterCalled = true;
+        }
+    }
+
+    static class PackagePrivateDelegate {
+
+    }
+}
@@ -0,0 +1,192 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.AcquireJobsRunnableConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AcquireTimerJobsRunnable;
+import org.flowable.job.service.impl.asyncexecutor.AcquireTimerLifecycleListener;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+class AcquireTimerJobsLookaheadTest extends JobExecutorTestCase {
+
+    protected ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void shutdownExecutorService() {
+        executorService.shutdownNow();
+        processEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    void timerJobWithinLookaheadIsMovedWhenDue() throws InterruptedException {
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+        String jobId = scheduleTweetTimer(Date.from(now.plusSeconds(10)));
+
+        TestAcquireTimerJobsRunnable runnable = createRunnable(AcquireJobsRunnableConfiguration.DEFAULT, null);
+        CompletableFuture.runAsync(runnable, executorService);
+
+        try {
+            // The timer job is not due yet, but is acquired because it is due within the lookahead time
+            waitFor(() -> ((TimerJobEntity) managementService.createTimerJobQuery().jobId(jobId).singleResult()).getLockOwner() != null);
+            assertThat(runnable.timingWheelCreated).isTrue();
+            assertThat(managementService.createJobQuery().list()).isEmpty();
+
+            // The timing wheel uses the engine clock, so moving the clock past the due date moves the timer job
+            processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusSeconds(11)));
+            waitFor(() -> managementService.createJobQuery().jobId(jobId).singleResult() != null);
+
+        } finally {
+            runnable.stop();
+        }
+
+        assertThat(managementService.createTimerJobQuery().list()).isEmpty();
+        Job job = managementService.createJobQuery().singleResult();
+        assertThat(job.getId()).isEqualTo(jobId);
+        managementService.deleteJob(jobId);
+    }
+
+    @Test
+    void noLookaheadWithGlobalAcquireLock() throws InterruptedException {
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+        String jobId = scheduleTweetTimer(Date.from(now.plusSeconds(10)));
+
+        CountDownLatch acquireCycles = new CountDownLatch(1);
+        TestAcquireTimerJobsRunnable runnable = createRunnable(new GlobalAcquireLockConfiguration(), acquireCycles);
+        CompletableFuture.runAsync(runnable, executorService);
+
+        try {
+            assertThat(acquireCycles.await(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            runnable.stop();
+        }
+
+        assertThat(runnable.timingWheelCreated).isFalse();
+        TimerJobEntity timerJob = (TimerJobEntity) managementService.createTimerJobQuery().jobId(jobId).singleResult();
+        assertThat(timerJob.getLockOwner()).isNull();
+        managementService.deleteTimerJob(jobId);
+    }
+
+    protected TestAcquireTimerJobsRunnable createRunnable(AcquireJobsRunnableConfiguration configuration, CountDownLatch acquireCycles) {
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        AcquireTimerLifecycleListener lifecycleListener = new AcquireTimerLifecycleListener() {
+
+            @Override
+            public void startAcquiring(String engineName, int maxTimerJobsPerAcquisition) {
+            }
+
+            @Override
+            public void stopAcquiring(String engineName) {
+                if (acquireCycles != null) {
+                    acquireCycles.countDown();
+                }
+            }
+
+            @Override
+            public void acquiredJobs(String engineName, int jobsAcquired, int maxTimerJobsPerAcquisition) {
+            }
+
+            @Override
+            public void startWaiting(String engineName, long millisToWait) {
+            }
+        };
+
+        TestAcquireTimerJobsRunnable runnable = new TestAcquireTimerJobsRunnable(asyncExecutor, lifecycleListener, configuration);
+        runnable.setTimerLookaheadTime(Duration.ofMinutes(1));
+        runnable.setTimerWheelTickDuration(Duration.ofMillis(10));
+        return runnable;
+    }
+
+    protected String scheduleTweetTimer(Date dueDate) {
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        return commandExecutor.execute(commandContext -> {
+            TimerJobEntity timer = createTweetTimer("i'm coding a test", dueDate);
+            CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration().getTimerJobService().scheduleTimerJob(timer);
+            return timer.getId();
+        });
+    }
+
+    protected void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000L;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > end) {
+                throw new AssertionFailedError("Condition not met within 10 seconds");
+            }
+            Thread.sleep(50L);
+        }
+    }
+
+    protected class TestAcquireTimerJobsRunnable extends AcquireTimerJobsRunnable {
+
+        protected volatile boolean timingWheelCreated;
+
+        public TestAcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, AcquireTimerLifecycleListener lifecycleListener,
+                AcquireJobsRunnableConfiguration configuration) {
+            super(asyncExecutor, processEngineConfiguration.getJobServiceConfiguration().getJobManager(), lifecycleListener, configuration, 1);
+        }
+
+        @Override
+        protected void createTimingWheel(String threadName) {
+            timingWheelCreated = true;
+            super.createTimingWheel(threadName);
+        }
+    }
+
+    protected static class GlobalAcquireLockConfiguration implements AcquireJobsRunnableConfiguration {
+
+        @Override
+        public boolean isGlobalAcquireLockEnabled() {
+            return true;
+        }
+
+        @Override
+        public String getGlobalAcquireLockPrefix() {
+            return "";
+        }
+
+        @Override
+        public Duration getLockWaitTime() {
+            return Duration.ofSeconds(5);
+        }
+
+        @Override
+        public Duration getLockPollRate() {
+            return Duration.ofMillis(100);
+        }
+
+        @Override
+        public Duration getLockForceAcquireAfter() {
+            return Duration.ofMinutes(1);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.job.service.impl.asyncexecutor.message.InMemoryPartitionedJobMessageTransport;
+import org.flowable.job.service.impl.asyncexecutor.message.JobMessageExecutor;
+import org.flowable.job.service.impl.asyncexecutor.message.JobMessageTransportJobManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JobMessageTransportTest {
+
+    protected InMemoryPartitionedJobMessageTransport transport;
+    protected ProcessEngine processEngine;
+
+    @BeforeEach
+    public void setUp() {
+        transport = new InMemoryPartitionedJobMessageTransport(4);
+
+        StandaloneInMemProcessEngineConfiguration processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-job-message-transport;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+        processEngineConfiguration.setAsyncExecutorMessageQueueMode(true);
+        processEngineConfiguration.setJobManager(new JobMessageTransportJobManager(transport));
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        transport.start(new JobMessageExecutor(processEngineConfiguration.getJobServiceConfiguration(), transport));
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/engine/test/jobexecutor/JobMessageTransportTest.testExclusiveParallelJobs.bpmn20.xml")
+                .deploy();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        transport.shutdown();
+        processEngine.getRepositoryService().createDeploymentQuery().list()
+                .forEach(deployment -> processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true));
+        processEngine.close();
+    }
+
+    @Test
+    public void testExclusiveParallelJobs() throws InterruptedException {
+        List<ProcessInstance> processInstances = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstances.add(processEngine.getRuntimeService().startProcessInstanceByKey("exclusiveParallelJobs"));
+        }
+
+        long timeout = System.currentTimeMillis() + 10000L;
+        while (processEngine.getManagementService().createJobQuery().count() > 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(100L);
+        }
+
+        assertThat(processEngine.getManagementService().createJobQuery().count()).isZero();
+        assertThat(processEngine.getManagementService().createDeadLetterJobQuery().count()).isZero();
+
+        for (ProcessInstance processInstance : processInstances) {
+            assertThat(processEngine.getTaskService().createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getName())
+                    .isEqualTo("After jobs");
+            assertThat(processEngine.getRuntimeService().getVariables(processInstance.getId()))
+                    .containsOnlyKeys("var1", "var2", "var3");
+        }
+    }
+}
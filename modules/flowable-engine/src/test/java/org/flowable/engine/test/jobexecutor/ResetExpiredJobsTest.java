@@ -154,6 +154,60 @@ public class ResetExpiredJobsTest extends PluggableFlowableTestCase {
         assertThat(managementService.createJobQuery().singleResult()).isNotNull();
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ResetExpiredJobsTest.testResetExpiredJobTimeout.bpmn20.xml")
+    public void testBulkResetExpiredJobs() {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        jobServiceConfiguration.setBulkResetExpiredJobsEnabled(true);
+        try {
+            Date startOfTestTime = new Date();
+            processEngineConfiguration.getClock().setCurrentTime(startOfTestTime);
+
+            String expiredJobId = startProcessInstanceAndLockJob(startOfTestTime);
+            String lockedJobId = startProcessInstanceAndLockJob(new Date(startOfTestTime.getTime() + 60000));
+
+            processEngineConfiguration.getClock().setCurrentTime(new Date(startOfTestTime.getTime() + 1000));
+
+            int expiredJobsPagesSize = processEngineConfiguration.getAsyncExecutorResetExpiredJobsPageSize();
+            List<? extends JobInfoEntity> expiredJobs = managementService.executeCommand(
+                    new FindExpiredJobsCmd(expiredJobsPagesSize, jobServiceConfiguration.getJobEntityManager(), jobServiceConfiguration));
+            assertThat(expiredJobs).extracting(JobInfoEntity::getId).containsExactly(expiredJobId);
+
+            // The job that is still locked is passed as well, but should not be reset
+            List<String> jobIds = new ArrayList<>();
+            jobIds.add(expiredJobId);
+            jobIds.add(lockedJobId);
+            managementService.executeCommand(new ResetExpiredJobsCmd(jobIds, jobServiceConfiguration.getJobEntityManager(), jobServiceConfiguration));
+
+            // The bulk reset keeps the id of the job
+            JobEntity expiredJob = (JobEntity) managementService.createJobQuery().jobId(expiredJobId).singleResult();
+            assertThat(expiredJob.getLockOwner()).isNull();
+            assertThat(expiredJob.getLockExpirationTime()).isNull();
+
+            JobEntity lockedJob = (JobEntity) managementService.createJobQuery().jobId(lockedJobId).singleResult();
+            assertThat(lockedJob.getLockOwner()).isNotNull();
+            assertThat(lockedJob.getLockExpirationTime()).isNotNull();
+
+            assertThat(managementService.executeCommand(
+                    new FindExpiredJobsCmd(expiredJobsPagesSize, jobServiceConfiguration.getJobEntityManager(), jobServiceConfiguration))).isEmpty();
+
+        } finally {
+            jobServiceConfiguration.setBulkResetExpiredJobsEnabled(false);
+        }
+    }
+
+    protected String startProcessInstanceAndLockJob(Date lockExpirationTime) {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("myProcess").getId();
+        Job job = managementService.createJobQuery().processInstanceId(processInstanceId).singleResult();
+        managementService.executeCommand(commandContext -> {
+            JobEntity jobEntity = CommandContextUtil.getJobService(commandContext).findJobById(job.getId());
+            jobEntity.setLockOwner(processEngineConfiguration.getAsyncExecutor().getLockOwner());
+            jobEntity.setLockExpirationTime(lockExpirationTime);
+            return null;
+        });
+        return job.getId();
+    }
+
     @Test
     public void testResetRunnableContinuesUntilNoMoreToReset() {
         int nrOfJobsToCreate = processEngineConfiguration.getAsyncExecutorResetExpiredJobsPageSize() * 3;
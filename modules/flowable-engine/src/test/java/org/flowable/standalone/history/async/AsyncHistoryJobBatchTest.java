@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncHistoryJobsDueRunnable;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncHistoryJobBatchTest extends CustomConfigurationFlowableTestCase {
+
+    public AsyncHistoryJobBatchTest() {
+        super("asyncHistoryJobBatchTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryExecutorJobBatchSize(10);
+        processEngineConfiguration.setAsyncFailedJobWaitTime(100);
+        processEngineConfiguration.setDefaultFailedJobWaitTime(100);
+        processEngineConfiguration.setAsyncHistoryExecutorNumberOfRetries(100);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            deleteDeployment(autoDeletedDeploymentId);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        for (Job job : managementService.createJobQuery().list()) {
+            if (job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY)
+                    || job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED)) {
+                managementService.deleteJob(job.getId());
+            }
+        }
+    }
+
+    @Test
+    public void testBatchedHistoryJobExecution() {
+        DefaultAsyncHistoryJobExecutor asyncHistoryExecutor = (DefaultAsyncHistoryJobExecutor) processEngineConfiguration.getAsyncHistoryExecutor();
+        assertThat(asyncHistoryExecutor.getHistoryJobBatchSize()).isEqualTo(10);
+
+        deployOneTaskTestProcess();
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        for (Task task : taskService.createTaskQuery().list()) {
+            taskService.setAssignee(task.getId(), "kermit");
+            taskService.complete(task.getId());
+        }
+
+        assertThat(managementService.createHistoryJobQuery().count()).isGreaterThan(10);
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000L, 100L);
+        assertThat(asyncHistoryExecutor.getAsyncJobsDueRunnable()).isInstanceOf(AcquireAsyncHistoryJobsDueRunnable.class);
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+
+        for (String processInstanceId : processInstanceIds) {
+            assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult().getEndTime()).isNotNull();
+
+            // start event, sequence flow, user task, sequence flow and end event: each started and ended, but only stored once
+            List<HistoricActivityInstance> activityInstances = historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).list();
+            assertThat(activityInstances).hasSize(5);
+            assertThat(activityInstances).allSatisfy(activityInstance -> assertThat(activityInstance.getEndTime()).isNotNull());
+
+            HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            assertThat(historicTaskInstance.getAssignee()).isEqualTo("kermit");
+            assertThat(historicTaskInstance.getEndTime()).isNotNull();
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.history.async.sink.HistorySink;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class AsyncHistorySinkTest extends CustomConfigurationFlowableTestCase {
+
+    protected static final List<ObjectNode> SINK_EVENTS = new CopyOnWriteArrayList<>();
+
+    public AsyncHistorySinkTest() {
+        super("asyncHistorySinkTest");
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistorySink(SINK_EVENTS::addAll);
+        processEngineConfiguration.setAsyncHistoryDatabaseWriteEnabled(false);
+        processEngineConfiguration.setAsyncHistoryExecutorDefaultAsyncJobAcquireWaitTime(100);
+        processEngineConfiguration.setAsyncExecutorActivate(false);
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception {
+        for (String autoDeletedDeploymentId : deploymentIdsForAutoCleanup) {
+            deleteDeployment(autoDeletedDeploymentId);
+        }
+        deploymentIdsForAutoCleanup.clear();
+
+        for (Job job : managementService.createJobQuery().list()) {
+            if (job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY)
+                    || job.getJobHandlerType().equals(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED)) {
+                managementService.deleteJob(job.getId());
+            }
+        }
+        SINK_EVENTS.clear();
+    }
+
+    @Test
+    public void testHistoryOnlyWrittenToSink() {
+        HistorySink historySink = processEngineConfiguration.getAsyncHistorySink();
+        assertThat(historySink).isNotNull();
+
+        deployOneTaskTestProcess();
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+        taskService.complete(task.getId());
+
+        waitForHistoryJobExecutorToProcessAllJobs(10000L, 100L);
+
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).count()).isZero();
+        assertThat(historyService.createHistoricTaskInstanceQuery().taskId(task.getId()).count()).isZero();
+
+        assertThat(SINK_EVENTS)
+                .extracting(event -> event.path(HistoryJsonTransformer.FIELD_NAME_TYPE).asText())
+                .contains(HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START, HistoryJsonConstants.TYPE_TASK_CREATED, HistoryJsonConstants.TYPE_PROCESS_INSTANCE_END);
+        assertThat(SINK_EVENTS)
+                .filteredOn(event -> HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START.equals(event.path(HistoryJsonTransformer.FIELD_NAME_TYPE).asText()))
+                .extracting(event -> event.path(HistoryJsonTransformer.FIELD_NAME_DATA).path(HistoryJsonConstants.ID).asText())
+                .containsExactly(processInstanceId);
+    }
+
+    @Test
+    public void testDatabaseWriteCanOnlyBeDisabledWithSink() {
+        ProcessEngineConfigurationImpl configuration = new StandaloneInMemProcessEngineConfiguration();
+        configuration.setJdbcUrl("jdbc:h2:mem:flowable-async-history-sink-test;DB_CLOSE_DELAY=1000");
+        configuration.setAsyncHistoryEnabled(true);
+        configuration.setAsyncHistoryDatabaseWriteEnabled(false);
+
+        assertThatThrownBy(configuration::buildProcessEngine)
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("async history sink");
+    }
+
+}
@@ -50,6 +50,13 @@ public interface EventSubscriptionService {
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByScopeAndEventName(String scopeId, String scopeType, String eventName);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
+
+    /**
+     * Returns the ids of the signal event subscriptions returned by {@link #findSignalEventSubscriptionsByEventName(String, String)},
+     * ordered by id and starting after the given id (all when null), with at most maxResults ids.
+     * Doesn't take the entities changed in the current command into account.
+     */
+    List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId, String afterId, int maxResults);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String eventName, String executionId);
     
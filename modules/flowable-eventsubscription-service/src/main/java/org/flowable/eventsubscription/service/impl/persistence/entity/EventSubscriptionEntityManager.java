@@ -82,6 +82,8 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
 
+    List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId, String afterId, int maxResults);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByScopeAndEventName(String scopeId, String scopeType, String eventName);
@@ -124,6 +124,11 @@ public class EventSubscriptionEntityManagerImpl
         return dataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
     }
 
+    @Override
+    public List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId, String afterId, int maxResults) {
+        return dataManager.findSignalEventSubscriptionIdsByEventName(eventName, tenantId, afterId, maxResults);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName) {
         return dataManager.findSignalEventSubscriptionsByProcessInstanceAndEventName(processInstanceId, eventName);
@@ -44,6 +44,8 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(final String eventName, final String tenantId);
 
+    List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId, String afterId, int maxResults);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByScopeAndEventName(final String scopeId, final String scopeType, final String eventName);
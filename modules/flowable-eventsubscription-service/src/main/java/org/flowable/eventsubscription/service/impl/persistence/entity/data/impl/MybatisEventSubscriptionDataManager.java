@@ -19,6 +19,7 @@ import java.util.Map;
 
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
@@ -171,6 +172,21 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return toSignalEventSubscriptionEntityList(result);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findSignalEventSubscriptionIdsByEventName(String eventName, String tenantId, String afterId, int maxResults) {
+        Map<String, String> params = new HashMap<>();
+        params.put("eventName", eventName);
+        if (tenantId != null && !tenantId.equals(EventSubscriptionServiceConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+        params.put("afterId", afterId);
+
+        // Ordered by id (the default order), so the next page can continue after the last id
+        ListQueryParameterObject parameterObject = new ListQueryParameterObject(params, 0, maxResults);
+        return getDbSqlSession().selectList("selectSignalEventSubscriptionIdsByEventName", parameterObject);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
         final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
@@ -84,9 +84,11 @@ public class ExternalJobRestResponseFactory {
     protected AcquiredExternalWorkerJobResponse createAcquiredExternalWorkerJobResponse(AcquiredExternalWorkerJob job, RestUrlBuilder urlBuilder) {
         AcquiredExternalWorkerJobResponse response = createExternalWorkerJobResponse(job, urlBuilder, AcquiredExternalWorkerJobResponse::new);
         Map<String, Object> variables = job.getVariables();
-        List<EngineRestVariable> restVariables = new ArrayList<>(variables.size());
-        for (Map.Entry<String, Object> variable : variables.entrySet()) {
-            restVariables.add(createRestVariable(variable.getKey(), variable.getValue()));
+        List<EngineRestVariable> restVariables = new ArrayList<>(variables != null ? variables.size() : 0);
+        if (variables != null) {
+            for (Map.Entry<String, Object> variable : variables.entrySet()) {
+                restVariables.add(createRestVariable(variable.getKey(), variable.getValue()));
+            }
         }
 
         response.setVariables(restVariables);
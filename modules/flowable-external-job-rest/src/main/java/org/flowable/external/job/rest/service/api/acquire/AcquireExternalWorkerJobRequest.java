@@ -13,6 +13,7 @@
 package org.flowable.external.job.rest.service.api.acquire;
 
 import java.time.Duration;
+import java.util.List;
 
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
@@ -43,6 +44,17 @@ public class AcquireExternalWorkerJobRequest {
     @ApiModelProperty(value = "Only acquire jobs with the given scope type", example = "cmmn")
     protected String scopeType;
 
+    @ApiModelProperty(
+            value = "When no jobs are available, wait at most this time for jobs of the topic to be created before returning. ISO-8601 duration format PnDTnHnMn.nS. By default no waiting is done. The wait time is capped by the maximum wait time configured on the engine.",
+            example = "PT30S", dataType = "string")
+    protected Duration maxWaitTime;
+
+    @ApiModelProperty(value = "Only return the variables with the given names for the acquired jobs. By default all variables are returned.")
+    protected List<String> variableNames;
+
+    @ApiModelProperty(value = "Do not return any variables for the acquired jobs. Cannot be combined with variableNames.", example = "false")
+    protected boolean withoutVariables;
+
     public String getTopic() {
         return topic;
     }
@@ -90,4 +102,28 @@ public class AcquireExternalWorkerJobRequest {
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
     }
+
+    public Duration getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    public void setMaxWaitTime(Duration maxWaitTime) {
+        this.maxWaitTime = maxWaitTime;
+    }
+
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+    public void setVariableNames(List<String> variableNames) {
+        this.variableNames = variableNames;
+    }
+
+    public boolean isWithoutVariables() {
+        return withoutVariables;
+    }
+
+    public void setWithoutVariables(boolean withoutVariables) {
+        this.withoutVariables = withoutVariables;
+    }
 }
@@ -29,6 +29,7 @@ import org.flowable.job.api.AcquiredExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJobAcquireBuilder;
 import org.flowable.job.api.ExternalWorkerJobFailureBuilder;
+import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -81,6 +82,18 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             acquireBuilder.scopeType(request.getScopeType());
         }
 
+        if (request.isWithoutVariables()) {
+            acquireBuilder.withoutVariables();
+        }
+
+        if (request.getVariableNames() != null) {
+            acquireBuilder.variableNames(request.getVariableNames());
+        }
+
+        if (request.getMaxWaitTime() != null) {
+            acquireBuilder.maxWaitTime(request.getMaxWaitTime());
+        }
+
         if (StringUtils.isNotEmpty(request.getWorkerId())) {
             List<AcquiredExternalWorkerJob> acquiredJobs = acquireBuilder
                     .acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries());
@@ -289,7 +302,16 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
 
     protected ExternalWorkerJobAcquireBuilder createExternalWorkerAcquireBuilder() {
         if (managementService != null) {
-            return managementService.createExternalWorkerJobAcquireBuilder();
+            ExternalWorkerJobAcquireBuilder acquireBuilder = managementService.createExternalWorkerJobAcquireBuilder();
+            if (cmmnManagementService != null) {
+                // The acquired jobs include the CMMN jobs, which only wake up the requests waiting in the CMMN engine
+                ExternalWorkerJobAcquireBuilder cmmnAcquireBuilder = cmmnManagementService.createExternalWorkerJobAcquireBuilder();
+                if (acquireBuilder instanceof ExternalWorkerJobAcquireBuilderImpl && cmmnAcquireBuilder instanceof ExternalWorkerJobAcquireBuilderImpl) {
+                    ((ExternalWorkerJobAcquireBuilderImpl) acquireBuilder).addWaitRegistry(
+                            ((ExternalWorkerJobAcquireBuilderImpl) cmmnAcquireBuilder).getJobServiceConfiguration().getExternalWorkerJobWaitRegistry());
+                }
+            }
+            return acquireBuilder;
         } else if (cmmnManagementService != null) {
             return cmmnManagementService.createExternalWorkerJobAcquireBuilder();
         } else {
@@ -151,7 +151,9 @@ public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisio
 
     @Override
     public void setTaskId(String taskId) {
+        String oldTaskId = this.taskId;
         this.taskId = taskId;
+        indexedPropertyChanged(oldTaskId, taskId);
     }
 
     @Override
@@ -13,16 +13,27 @@
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 
 /**
  * @author Joram Barrez
  */
-public class IdentityLinksByTaskIdMatcher extends CachedEntityMatcherAdapter<IdentityLinkEntity> {
+public class IdentityLinksByTaskIdMatcher extends CachedEntityMatcherAdapter<IdentityLinkEntity> implements IndexedCachedEntityMatcher<IdentityLinkEntity> {
 
     @Override
     public boolean isRetained(IdentityLinkEntity entity, Object parameter) {
         return entity.getTaskId() != null && entity.getTaskId().equals(parameter);
     }
 
+    @Override
+    public String getIndexName() {
+        return "taskId";
+    }
+
+    @Override
+    public Object getIndexKey(IdentityLinkEntity entity) {
+        return entity.getTaskId();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.api;
+
+import java.util.List;
+
+/**
+ * Cache for the ids of the groups a user is a member of.
+ * 
+ * The engines consult this cache when they need the groups of a candidate user (e.g. when executing a task query with a candidate user),
+ * to avoid querying the identity management for every query. The IDM engine invalidates entries whenever a membership is created or deleted.
+ */
+public interface GroupMembershipCache {
+
+    /**
+     * @return the cached group ids of the user or null if nothing is cached (or the cached entry has expired)
+     */
+    List<String> getGroupIds(String userId);
+
+    void put(String userId, List<String> groupIds);
+
+    /**
+     * Removes the cached group ids for the given user.
+     */
+    void invalidate(String userId);
+
+    /**
+     * Removes all cached entries, e.g. when a group with all its memberships has been deleted.
+     */
+    void invalidateAll();
+
+}
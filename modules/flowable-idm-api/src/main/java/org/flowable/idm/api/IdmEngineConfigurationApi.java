@@ -21,4 +21,11 @@ public interface IdmEngineConfigurationApi {
 
     IdmManagementService getIdmManagementService();
 
+    /**
+     * @return the cache for the group memberships of users, or null if group membership caching is not enabled
+     */
+    default GroupMembershipCache getGroupMembershipCache() {
+        return null;
+    }
+
 }
@@ -34,6 +34,7 @@ import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.idm.api.GroupMembershipCache;
 import org.flowable.idm.api.IdmEngineConfigurationApi;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.idm.api.IdmManagementService;
@@ -46,6 +47,7 @@ import org.flowable.idm.engine.impl.IdmManagementServiceImpl;
 import org.flowable.idm.engine.impl.SchemaOperationsIdmEngineBuild;
 import org.flowable.idm.engine.impl.authentication.BlankSalt;
 import org.flowable.idm.engine.impl.authentication.ClearTextPasswordEncoder;
+import org.flowable.idm.engine.impl.cache.DefaultGroupMembershipCache;
 import org.flowable.idm.engine.impl.cfg.StandaloneIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.cfg.StandaloneInMemIdmEngineConfiguration;
 import org.flowable.idm.engine.impl.db.EntityDependencyOrder;
@@ -125,6 +127,13 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
     protected PasswordEncoder passwordEncoder;
     protected PasswordSalt passwordSalt;
 
+    // GROUP MEMBERSHIP CACHE //////////////////////////////////////////
+
+    protected boolean enableGroupMembershipCache;
+    protected int groupMembershipCacheSize = 1000;
+    protected long groupMembershipCacheExpirationTime = 60000L; // 1 minute
+    protected GroupMembershipCache groupMembershipCache;
+
     public static IdmEngineConfiguration createIdmEngineConfigurationFromResourceDefault() {
         return createIdmEngineConfigurationFromResource("flowable.idm.cfg.xml", "idmEngineConfiguration");
     }
@@ -194,6 +203,7 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
 
         initSessionFactories();
         initPasswordEncoder();
+        initGroupMembershipCache();
         initServices();
         initDataManagers();
         initEntityManagers();
@@ -328,6 +338,12 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         }
     }
 
+    public void initGroupMembershipCache() {
+        if (groupMembershipCache == null && enableGroupMembershipCache) {
+            groupMembershipCache = new DefaultGroupMembershipCache(groupMembershipCacheSize, groupMembershipCacheExpirationTime, this::getClock);
+        }
+    }
+
     // command executors
     // ////////////////////////////////////////////////////////
 
@@ -792,6 +808,43 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public boolean isEnableGroupMembershipCache() {
+        return enableGroupMembershipCache;
+    }
+
+    public IdmEngineConfiguration setEnableGroupMembershipCache(boolean enableGroupMembershipCache) {
+        this.enableGroupMembershipCache = enableGroupMembershipCache;
+        return this;
+    }
+
+    public int getGroupMembershipCacheSize() {
+        return groupMembershipCacheSize;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCacheSize(int groupMembershipCacheSize) {
+        this.groupMembershipCacheSize = groupMembershipCacheSize;
+        return this;
+    }
+
+    public long getGroupMembershipCacheExpirationTime() {
+        return groupMembershipCacheExpirationTime;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCacheExpirationTime(long groupMembershipCacheExpirationTime) {
+        this.groupMembershipCacheExpirationTime = groupMembershipCacheExpirationTime;
+        return this;
+    }
+
+    @Override
+    public GroupMembershipCache getGroupMembershipCache() {
+        return groupMembershipCache;
+    }
+
+    public IdmEngineConfiguration setGroupMembershipCache(GroupMembershipCache groupMembershipCache) {
+        this.groupMembershipCache = groupMembershipCache;
+        return this;
+    }
+
     @Override
     public IdmEngineConfiguration setSessionFactories(Map<Class<?>, SessionFactory> sessionFactories) {
         this.sessionFactories = sessionFactories;
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.impl.cache;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.flowable.idm.api.GroupMembershipCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link GroupMembershipCache}: keeps the group ids of at most a configured number of users in memory (least recently used entries are
+ * evicted first). Entries expire after the configured expiration time, which bounds how long membership changes that did not go through this
+ * engine (e.g. changes made by another node in a cluster) can stay invisible.
+ */
+public class DefaultGroupMembershipCache implements GroupMembershipCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultGroupMembershipCache.class);
+
+    protected final Supplier<ClockReader> clockReader;
+    protected final Map<String, GroupMembershipCacheEntry> cache;
+    protected final long expirationTime;
+
+    public DefaultGroupMembershipCache(final int cacheSize, long expirationTime, Supplier<ClockReader> clockReader) {
+        this.clockReader = clockReader;
+        this.expirationTime = expirationTime;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, GroupMembershipCacheEntry>(cacheSize + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GroupMembershipCacheEntry> eldest) {
+                boolean removeEldest = size() > cacheSize;
+                if (removeEldest && LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("Group membership cache limit is reached, groups of user {} will be evicted", eldest.getKey());
+                }
+                return removeEldest;
+            }
+
+        });
+    }
+
+    @Override
+    public List<String> getGroupIds(String userId) {
+        GroupMembershipCacheEntry cacheEntry = cache.get(userId);
+        if (cacheEntry == null) {
+            return null;
+        }
+
+        if (getCurrentTime() - cacheEntry.getTimestamp() >= expirationTime) {
+            cache.remove(userId);
+            return null;
+        }
+
+        return cacheEntry.getGroupIds();
+    }
+
+    @Override
+    public void put(String userId, List<String> groupIds) {
+        cache.put(userId, new GroupMembershipCacheEntry(getCurrentTime(), Collections.unmodifiableList(groupIds)));
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        cache.remove(userId);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    protected long getCurrentTime() {
+        return clockReader.get().getCurrentTime().getTime();
+    }
+
+    protected static class GroupMembershipCacheEntry {
+
+        protected final long timestamp;
+        protected final List<String> groupIds;
+
+        public GroupMembershipCacheEntry(long timestamp, List<String> groupIds) {
+            this.timestamp = timestamp;
+            this.groupIds = groupIds;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public List<String> getGroupIds() {
+            return groupIds;
+        }
+    }
+
+}
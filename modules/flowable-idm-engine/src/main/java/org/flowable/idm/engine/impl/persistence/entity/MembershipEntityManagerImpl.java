@@ -13,6 +13,10 @@
 
 package org.flowable.idm.engine.impl.persistence.entity;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.idm.api.GroupMembershipCache;
 import org.flowable.idm.api.event.FlowableIdmEventType;
 import org.flowable.idm.engine.IdmEngineConfiguration;
 import org.flowable.idm.engine.delegate.event.impl.FlowableIdmEventBuilder;
@@ -35,6 +39,7 @@ public class MembershipEntityManagerImpl
         membershipEntity.setUserId(userId);
         membershipEntity.setGroupId(groupId);
         insert(membershipEntity, false);
+        invalidateGroupMembershipCache(userId);
 
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(
@@ -45,6 +50,7 @@ public class MembershipEntityManagerImpl
     @Override
     public void deleteMembership(String userId, String groupId) {
         dataManager.deleteMembership(userId, groupId);
+        invalidateGroupMembershipCache(userId);
         if (getEventDispatcher() != null && getEventDispatcher().isEnabled()) {
             getEventDispatcher().dispatchEvent(FlowableIdmEventBuilder.createMembershipEvent(
                     FlowableIdmEventType.MEMBERSHIP_DELETED, groupId, userId), engineConfiguration.getEngineCfgKey());
@@ -54,11 +60,41 @@ public class MembershipEntityManagerImpl
     @Override
     public void deleteMembershipByGroupId(String groupId) {
         dataManager.deleteMembershipByGroupId(groupId);
+        invalidateGroupMembershipCache(null);
     }
 
     @Override
     public void deleteMembershipByUserId(String userId) {
         dataManager.deleteMembershipByUserId(userId);
+        invalidateGroupMembershipCache(userId);
+    }
+
+    /**
+     * Invalidates the cached groups of the given user, or all cached entries when no user is given. The entries are removed right away,
+     * for the queries later in this transaction, and again when the transaction is committed: a query in another transaction can
+     * cache the memberships from before the change until then.
+     */
+    protected void invalidateGroupMembershipCache(String userId) {
+        GroupMembershipCache groupMembershipCache = engineConfiguration.getGroupMembershipCache();
+        if (groupMembershipCache == null) {
+            return;
+        }
+
+        invalidateGroupMembershipCache(groupMembershipCache, userId);
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    commandContext -> invalidateGroupMembershipCache(groupMembershipCache, userId));
+        }
+    }
+
+    protected void invalidateGroupMembershipCache(GroupMembershipCache groupMembershipCache, String userId) {
+        if (userId != null) {
+            groupMembershipCache.invalidate(userId);
+        } else {
+            groupMembershipCache.invalidateAll();
+        }
     }
 
 }
@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.idm.engine.test.api.identity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.flowable.idm.api.GroupMembershipCache;
+import org.flowable.idm.engine.impl.cache.DefaultGroupMembershipCache;
+import org.flowable.idm.engine.test.PluggableFlowableIdmTestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GroupMembershipCacheTest extends PluggableFlowableIdmTestCase {
+
+    protected GroupMembershipCache originalGroupMembershipCache;
+    protected GroupMembershipCache groupMembershipCache;
+
+    @BeforeEach
+    protected void setUp() {
+        originalGroupMembershipCache = idmEngineConfiguration.getGroupMembershipCache();
+        groupMembershipCache = new DefaultGroupMembershipCache(10, 60000L, idmEngineConfiguration::getClock);
+        idmEngineConfiguration.setGroupMembershipCache(groupMembershipCache);
+
+        createGroup("muppets", "Muppet show characters", "user");
+        createGroup("frogs", "Famous frogs", "user");
+        idmIdentityService.saveUser(idmIdentityService.newUser("kermit"));
+        idmIdentityService.saveUser(idmIdentityService.newUser("fozzie"));
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        idmEngineConfiguration.setGroupMembershipCache(originalGroupMembershipCache);
+        idmEngineConfiguration.getClock().reset();
+
+        idmIdentityService.deleteUser("kermit");
+        idmIdentityService.deleteUser("fozzie");
+        idmIdentityService.deleteGroup("muppets");
+        idmIdentityService.deleteGroup("frogs");
+    }
+
+    @Test
+    public void testCacheEntryInvalidatedOnMembershipChange() {
+        groupMembershipCache.put("kermit", Arrays.asList("muppets"));
+        groupMembershipCache.put("fozzie", Arrays.asList("muppets"));
+
+        idmIdentityService.createMembership("kermit", "frogs");
+        assertThat(groupMembershipCache.getGroupIds("kermit")).isNull();
+        assertThat(groupMembershipCache.getGroupIds("fozzie")).containsExactly("muppets");
+
+        groupMembershipCache.put("kermit", Arrays.asList("muppets", "frogs"));
+        idmIdentityService.deleteMembership("kermit", "frogs");
+        assertThat(groupMembershipCache.getGroupIds("kermit")).isNull();
+        assertThat(groupMembershipCache.getGroupIds("fozzie")).containsExactly("muppets");
+    }
+
+    @Test
+    public void testCacheClearedOnGroupDelete() {
+        idmIdentityService.createMembership("kermit", "frogs");
+        groupMembershipCache.put("kermit", Arrays.asList("frogs"));
+        groupMembershipCache.put("fozzie", Arrays.asList("muppets"));
+
+        idmIdentityService.deleteGroup("frogs");
+        assertThat(groupMembershipCache.getGroupIds("kermit")).isNull();
+        assertThat(groupMembershipCache.getGroupIds("fozzie")).isNull();
+    }
+
+    @Test
+    public void testCacheEntryExpires() {
+        Date now = new Date();
+        idmEngineConfiguration.getClock().setCurrentTime(now);
+        groupMembershipCache.put("kermit", Arrays.asList("muppets"));
+        assertThat(groupMembershipCache.getGroupIds("kermit")).containsExactly("muppets");
+
+        idmEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + 60001L));
+        assertThat(groupMembershipCache.getGroupIds("kermit")).isNull();
+    }
+
+}
@@ -57,6 +57,31 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     ExternalWorkerJobAcquireBuilder forUserOrGroups(String userId, Collection<String> groups);
 
+    /**
+     * Only return the variables with the given names for the acquired jobs, instead of all variables.
+     * An empty collection returns no variables.
+     * Cannot be combined with {@link #withoutVariables()}
+     *
+     * @param variableNames the names of the variables to return
+     */
+    ExternalWorkerJobAcquireBuilder variableNames(Collection<String> variableNames);
+
+    /**
+     * Do not return any variables for the acquired jobs.
+     * Cannot be combined with {@link #variableNames(Collection)}
+     */
+    ExternalWorkerJobAcquireBuilder withoutVariables();
+
+    /**
+     * When no jobs are available, wait up to the given time for jobs of the topic to be created before returning.
+     * The waiting request is woken up as soon as a job for the topic is created, instead of querying for jobs repeatedly.
+     * By default no waiting is done and an empty list is returned immediately.
+     * The wait time is capped by the maximum wait time configured on the engine.
+     *
+     * @param maxWaitTime the maximum time to wait for jobs
+     */
+    ExternalWorkerJobAcquireBuilder maxWaitTime(Duration maxWaitTime);
+
     /**
      * Acquire and lock the given number of jobs for the given worker id.
      * By default it will try to acquire jobs 5 times.
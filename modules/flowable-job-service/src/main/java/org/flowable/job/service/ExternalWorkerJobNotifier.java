@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service;
+
+/**
+ * Notified after a transaction that created external worker jobs has been committed.
+ * The default implementation wakes up the workers waiting in this engine for jobs of the topic.
+ * In a cluster, a custom implementation can forward the notification to the other nodes,
+ * which pass it on to their {@link org.flowable.job.service.impl.externalworker.ExternalWorkerJobWaitRegistry}.
+ * Such an implementation should notify the wait registry of its own node as well.
+ */
+public interface ExternalWorkerJobNotifier {
+
+    /**
+     * Called when new external worker jobs for the given topic are available for acquiring.
+     */
+    void jobsAvailable(String topic);
+
+}
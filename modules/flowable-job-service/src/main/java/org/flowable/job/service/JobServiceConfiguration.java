@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,6 +32,7 @@ import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExcepti
 import org.flowable.job.service.impl.asyncexecutor.DefaultJobManager;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.externalworker.ExternalWorkerJobWaitRegistry;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
@@ -110,6 +112,8 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected AsyncExecutor asyncExecutor;
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
+    protected boolean skipLockedAcquisitionEnabled;
+    protected boolean bulkResetExpiredJobsEnabled;
     
     protected String jobExecutionScope;
     protected Map<String, JobHandler> jobHandlers;
@@ -133,6 +137,10 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected boolean asyncHistoryJsonGroupingEnabled;
     protected boolean asyncHistoryExecutorMessageQueueMode;
     protected int asyncHistoryJsonGroupingThreshold = 10;
+
+    protected ExternalWorkerJobWaitRegistry externalWorkerJobWaitRegistry;
+    protected ExternalWorkerJobNotifier externalWorkerJobNotifier;
+    protected Duration externalWorkerJobMaxWaitTime = Duration.ofMinutes(1);
     
     public JobServiceConfiguration(String engineName) {
         super(engineName);
@@ -145,6 +153,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         initJobManager();
         initDataManagers();
         initEntityManagers();
+        initExternalWorkerJobNotifier();
     }
 
     @Override
@@ -174,6 +183,18 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         jobManager.setJobServiceConfiguration(this);
     }
 
+    // External worker job notifier ///////////////////////////////////////////
+
+    public void initExternalWorkerJobNotifier() {
+        if (externalWorkerJobWaitRegistry == null) {
+            externalWorkerJobWaitRegistry = new ExternalWorkerJobWaitRegistry();
+        }
+
+        if (externalWorkerJobNotifier == null) {
+            externalWorkerJobNotifier = externalWorkerJobWaitRegistry;
+        }
+    }
+
     // Data managers
     ///////////////////////////////////////////////////////////
 
@@ -566,6 +587,24 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isSkipLockedAcquisitionEnabled() {
+        return skipLockedAcquisitionEnabled;
+    }
+
+    public JobServiceConfiguration setSkipLockedAcquisitionEnabled(boolean skipLockedAcquisitionEnabled) {
+        this.skipLockedAcquisitionEnabled = skipLockedAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isBulkResetExpiredJobsEnabled() {
+        return bulkResetExpiredJobsEnabled;
+    }
+
+    public JobServiceConfiguration setBulkResetExpiredJobsEnabled(boolean bulkResetExpiredJobsEnabled) {
+        this.bulkResetExpiredJobsEnabled = bulkResetExpiredJobsEnabled;
+        return this;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
@@ -667,4 +706,31 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
     
+    public ExternalWorkerJobWaitRegistry getExternalWorkerJobWaitRegistry() {
+        return externalWorkerJobWaitRegistry;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobWaitRegistry(ExternalWorkerJobWaitRegistry externalWorkerJobWaitRegistry) {
+        this.externalWorkerJobWaitRegistry = externalWorkerJobWaitRegistry;
+        return this;
+    }
+
+    public ExternalWorkerJobNotifier getExternalWorkerJobNotifier() {
+        return externalWorkerJobNotifier;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobNotifier(ExternalWorkerJobNotifier externalWorkerJobNotifier) {
+        this.externalWorkerJobNotifier = externalWorkerJobNotifier;
+        return this;
+    }
+
+    public Duration getExternalWorkerJobMaxWaitTime() {
+        return externalWorkerJobMaxWaitTime;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobMaxWaitTime(Duration externalWorkerJobMaxWaitTime) {
+        this.externalWorkerJobMaxWaitTime = externalWorkerJobMaxWaitTime;
+        return this;
+    }
+
 }
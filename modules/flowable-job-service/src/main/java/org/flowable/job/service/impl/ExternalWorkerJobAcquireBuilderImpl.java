@@ -13,9 +13,11 @@
 package org.flowable.job.service.impl;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -25,6 +27,7 @@ import org.flowable.job.api.AcquiredExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJobAcquireBuilder;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.cmd.AcquireExternalWorkerJobsCmd;
+import org.flowable.job.service.impl.externalworker.ExternalWorkerJobWaitRegistry;
 
 /**
  * @author Filip Hrisafov
@@ -40,6 +43,10 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     protected String tenantId;
     protected String authorizedUser;
     protected Collection<String> authorizedGroups;
+    protected Duration maxWaitTime;
+    protected Collection<String> variableNames;
+    protected boolean withoutVariables;
+    protected Collection<ExternalWorkerJobWaitRegistry> additionalWaitRegistries = new ArrayList<>();
 
     public ExternalWorkerJobAcquireBuilderImpl(CommandExecutor commandExecutor, JobServiceConfiguration jobServiceConfiguration) {
         this.commandExecutor = commandExecutor;
@@ -109,8 +116,104 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return this;
     }
 
+    @Override
+    public ExternalWorkerJobAcquireBuilder variableNames(Collection<String> variableNames) {
+        if (variableNames == null) {
+            throw new FlowableIllegalArgumentException("variableNames is null");
+        }
+
+        if (withoutVariables) {
+            throw new FlowableIllegalArgumentException("Cannot combine withoutVariables() with variableNames(Collection) in the same query");
+        }
+
+        this.variableNames = variableNames;
+        return this;
+    }
+
+    @Override
+    public ExternalWorkerJobAcquireBuilder withoutVariables() {
+        if (variableNames != null) {
+            throw new FlowableIllegalArgumentException("Cannot combine variableNames(Collection) with withoutVariables() in the same query");
+        }
+
+        this.withoutVariables = true;
+        return this;
+    }
+
+    @Override
+    public ExternalWorkerJobAcquireBuilder maxWaitTime(Duration maxWaitTime) {
+        if (maxWaitTime == null || maxWaitTime.isNegative()) {
+            throw new FlowableIllegalArgumentException("maxWaitTime must not be null or negative");
+        }
+
+        this.maxWaitTime = maxWaitTime;
+        return this;
+    }
+
+    /**
+     * Also wait for the jobs created by another engine, whose jobs are returned by the acquisition as well
+     * (e.g. the CMMN engine when acquiring through the process engine), as those only wake up the waiters of their own engine.
+     */
+    public ExternalWorkerJobAcquireBuilderImpl addWaitRegistry(ExternalWorkerJobWaitRegistry waitRegistry) {
+        if (waitRegistry != null && waitRegistry != jobServiceConfiguration.getExternalWorkerJobWaitRegistry()
+                && !additionalWaitRegistries.contains(waitRegistry)) {
+            additionalWaitRegistries.add(waitRegistry);
+        }
+        return this;
+    }
+
     @Override
     public List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
+        List<ExternalWorkerJobWaitRegistry> waitRegistries = getWaitRegistries();
+        Duration waitTime = getEffectiveMaxWaitTime();
+        if (waitTime == null || waitTime.isZero() || waitRegistries.isEmpty() || topic == null) {
+            return doAcquireAndLock(numberOfTasks, workerId, numberOfRetries);
+        }
+
+        long deadline = System.nanoTime() + waitTime.toNanos();
+        while (true) {
+            // Register before acquiring, so that a job created after the query still wakes up this request
+            ExternalWorkerJobWaitRegistry.Waiter waiter = new ExternalWorkerJobWaitRegistry.Waiter(topic);
+            for (ExternalWorkerJobWaitRegistry waitRegistry : waitRegistries) {
+                waitRegistry.register(waiter);
+            }
+            try {
+                List<AcquiredExternalWorkerJob> acquiredJobs = doAcquireAndLock(numberOfTasks, workerId, numberOfRetries);
+                long remainingNanos = deadline - System.nanoTime();
+                if (!acquiredJobs.isEmpty() || remainingNanos <= 0 || !waiter.await(remainingNanos, TimeUnit.NANOSECONDS)) {
+                    return acquiredJobs;
+                }
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Collections.emptyList();
+
+            } finally {
+                for (ExternalWorkerJobWaitRegistry waitRegistry : waitRegistries) {
+                    waitRegistry.unregister(waiter);
+                }
+            }
+        }
+    }
+
+    protected List<ExternalWorkerJobWaitRegistry> getWaitRegistries() {
+        List<ExternalWorkerJobWaitRegistry> waitRegistries = new ArrayList<>(additionalWaitRegistries.size() + 1);
+        if (jobServiceConfiguration.getExternalWorkerJobWaitRegistry() != null) {
+            waitRegistries.add(jobServiceConfiguration.getExternalWorkerJobWaitRegistry());
+        }
+        waitRegistries.addAll(additionalWaitRegistries);
+        return waitRegistries;
+    }
+
+    protected Duration getEffectiveMaxWaitTime() {
+        Duration serverMaxWaitTime = jobServiceConfiguration.getExternalWorkerJobMaxWaitTime();
+        if (maxWaitTime != null && serverMaxWaitTime != null && maxWaitTime.compareTo(serverMaxWaitTime) > 0) {
+            return serverMaxWaitTime;
+        }
+        return maxWaitTime;
+    }
+
+    protected List<AcquiredExternalWorkerJob> doAcquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
         while (numberOfRetries > 0) {
             try {
                 return commandExecutor.execute(new AcquireExternalWorkerJobsCmd(workerId, numberOfTasks, this, jobServiceConfiguration));
@@ -146,4 +249,20 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     public Collection<String> getAuthorizedGroups() {
         return authorizedGroups;
     }
+
+    public Duration getMaxWaitTime() {
+        return maxWaitTime;
+    }
+
+    public Collection<String> getVariableNames() {
+        return variableNames;
+    }
+
+    public boolean isWithoutVariables() {
+        return withoutVariables;
+    }
+
+    public JobServiceConfiguration getJobServiceConfiguration() {
+        return jobServiceConfiguration;
+    }
 }
@@ -123,6 +123,9 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         if (configuration.isTimerRunnableNeeded() && timerJobRunnable == null) {
             timerJobRunnable = new AcquireTimerJobsRunnable(this, jobServiceConfiguration.getJobManager(),
                 timerLifecycleListener, new AcquireTimerRunnableConfiguration(), configuration.getMoveTimerExecutorPoolSize());
+            timerJobRunnable.setTimerLookaheadTime(configuration.getTimerLookaheadTime());
+            timerJobRunnable.setTimerWheelTickDuration(configuration.getTimerWheelTickDuration());
+            timerJobRunnable.setMaxTimerJobsInWheel(configuration.getMaxTimerJobsInWheel());
         }
 
         JobInfoEntityManager<? extends JobInfoEntity> jobEntityManagerToUse = jobEntityManager != null
@@ -139,12 +142,17 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             String acquireRunnableThreadName = configuration.getAcquireRunnableThreadName();
             String acquireJobsRunnableName = acquireRunnableThreadName != null ?
                     acquireRunnableThreadName : "flowable-" + getJobServiceConfiguration().getEngineName() + "-acquire-async-jobs";
-            asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManagerToUse,
-                asyncJobsDueLifecycleListener, new AcquireAsyncJobsDueRunnableConfiguration());
+            asyncJobsDueRunnable = createAcquireAsyncJobsDueRunnable(acquireJobsRunnableName, jobEntityManagerToUse);
 
         }
     }
 
+    protected AcquireAsyncJobsDueRunnable createAcquireAsyncJobsDueRunnable(String acquireJobsRunnableName,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        return new AcquireAsyncJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManager,
+            asyncJobsDueLifecycleListener, new AcquireAsyncJobsDueRunnableConfiguration());
+    }
+
     protected abstract ResetExpiredJobsRunnable createResetExpiredJobsRunnable(String resetRunnableName);
 
     protected abstract void startAdditionalComponents();
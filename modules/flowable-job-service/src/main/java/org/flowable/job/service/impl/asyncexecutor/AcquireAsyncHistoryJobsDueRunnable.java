@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Acquires history jobs and hands them over in batches of {@link DefaultAsyncHistoryJobExecutor#getHistoryJobBatchSize()} jobs
+ * to the history executor, instead of one by one.
+ */
+public class AcquireAsyncHistoryJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+    protected final DefaultAsyncHistoryJobExecutor asyncHistoryExecutor;
+
+    public AcquireAsyncHistoryJobsDueRunnable(String name, DefaultAsyncHistoryJobExecutor asyncHistoryExecutor,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager, AcquireAsyncJobsDueLifecycleListener lifecycleListener,
+            AcquireJobsRunnableConfiguration configuration) {
+
+        super(name, asyncHistoryExecutor, jobEntityManager, lifecycleListener, configuration);
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+    }
+
+    @Override
+    protected List<JobInfoEntity> offerJobs(List<? extends JobInfoEntity> acquiredJobs) {
+        int batchSize = asyncHistoryExecutor.getHistoryJobBatchSize();
+        if (batchSize <= 1 || acquiredJobs.size() <= 1) {
+            return super.offerJobs(acquiredJobs);
+        }
+
+        // Jobs are executed in the order they were created within a batch, so that e.g. the start of an activity is processed before its end
+        List<JobInfoEntity> sortedJobs = new ArrayList<>(acquiredJobs);
+        sortedJobs.sort(Comparator.comparing(this::getCreateTime, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        List<JobInfoEntity> rejected = new ArrayList<>();
+        for (int i = 0; i < sortedJobs.size(); i += batchSize) {
+            List<JobInfoEntity> batch = new ArrayList<>(sortedJobs.subList(i, Math.min(i + batchSize, sortedJobs.size())));
+            if (!asyncHistoryExecutor.executeAsyncHistoryJobBatch(batch)) {
+                rejected.addAll(batch);
+            }
+        }
+        return rejected;
+    }
+
+    protected Date getCreateTime(JobInfoEntity job) {
+        if (job instanceof HistoryJobEntity) {
+            return ((HistoryJobEntity) job).getCreateTime();
+        }
+        return null;
+    }
+
+}
@@ -12,8 +12,11 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
@@ -87,6 +90,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected CommandExecutor commandExecutor;
 
+    protected Duration timerLookaheadTime;
+    protected Duration timerWheelTickDuration = Duration.ofMillis(100);
+    protected int maxTimerJobsInWheel = 10000;
+    protected TimerJobTimingWheel timingWheel;
+
     public AcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager, int moveExecutorPoolSize) {
         this(asyncExecutor, jobManager, null, AcquireJobsRunnableConfiguration.DEFAULT, moveExecutorPoolSize);
     }
@@ -114,6 +122,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         this.commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
 
+        // With the global acquire lock, the timer jobs are acquired without lookahead, so there is no need for the wheel
+        if (isTimerLookaheadEnabled() && !configuration.isGlobalAcquireLockEnabled()) {
+            createTimingWheel(threadName);
+        }
+
         long millisToWait = 0L;
         while (!isInterrupted) {
             millisToWait = executeAcquireAndMoveCycle();
@@ -124,6 +137,12 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         }
 
+        if (timingWheel != null) {
+            // The timer jobs still in the wheel are locked by this node, release them for other nodes
+            unlockTimerJobs(timingWheel.stop());
+            timingWheel = null;
+        }
+
         if (moveTimerJobsExecutorService != null) {
             moveTimerJobsExecutorService.shutdown();
         }
@@ -148,6 +167,20 @@ public class AcquireTimerJobsRunnable implements Runnable {
         this.moveTimerJobsExecutorService = executor;
     }
 
+    protected void createTimingWheel(String threadName) {
+        long tickDurationInMillis = Math.max(timerWheelTickDuration.toMillis(), 1L);
+        // One revolution of the wheel covers the lookahead time, so timer jobs normally don't need more than one round
+        int numberOfBuckets = (int) Math.min(Math.max(timerLookaheadTime.toMillis() / tickDurationInMillis, 1L), 1 << 16);
+        this.timingWheel = new TimerJobTimingWheel(tickDurationInMillis, numberOfBuckets, expiredTimerJobs -> {
+            moveTimerJobsExecutorService.execute(() -> executeMoveTimerJobsToExecutableJobs(expiredTimerJobs));
+        }, asyncExecutor.getJobServiceConfiguration().getClock());
+        timingWheel.start(threadName + "-wheel");
+    }
+
+    protected boolean isTimerLookaheadEnabled() {
+        return timerLookaheadTime != null && !timerLookaheadTime.isZero() && !timerLookaheadTime.isNegative();
+    }
+
     protected long executeAcquireAndMoveCycle() {
         lifecycleListener.startAcquiring(getEngineName(), asyncExecutor.getMaxTimerJobsPerAcquisition());
 
@@ -174,13 +207,21 @@ public class AcquireTimerJobsRunnable implements Runnable {
                     }
                 }
 
+            } else if (timingWheel != null && timingWheel.size() < maxTimerJobsInWheel) {
+                timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, timerLookaheadTime));
+
             } else {
                 timerJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
 
             }
 
-            if (!timerJobs.isEmpty()) {
-                List<TimerJobEntity> finalTimerJobs = timerJobs;
+            List<TimerJobEntity> dueTimerJobs = timerJobs;
+            if (timingWheel != null && !globalAcquireLockEnabled && !timerJobs.isEmpty()) {
+                dueTimerJobs = scheduleFutureTimerJobs(timerJobs);
+            }
+
+            if (!dueTimerJobs.isEmpty()) {
+                List<TimerJobEntity> finalTimerJobs = dueTimerJobs;
                 moveTimerJobsExecutorService.execute(() -> {
                     executeMoveTimerJobsToExecutableJobs(finalTimerJobs);
                 });
@@ -220,6 +261,24 @@ public class AcquireTimerJobsRunnable implements Runnable {
         return millisToWait;
     }
 
+    /**
+     * Puts the timer jobs that are not due yet in the timing wheel and returns the timer jobs that are already due.
+     */
+    protected List<TimerJobEntity> scheduleFutureTimerJobs(List<TimerJobEntity> timerJobs) {
+        long now = asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+        List<TimerJobEntity> dueTimerJobs = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            Date dueDate = timerJob.getDuedate();
+            long delayInMillis = dueDate != null ? dueDate.getTime() - now : 0L;
+            if (delayInMillis > 0) {
+                timingWheel.schedule(timerJob, delayInMillis);
+            } else {
+                dueTimerJobs.add(timerJob);
+            }
+        }
+        return dueTimerJobs;
+    }
+
     protected void executeMoveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
         try {
             if (configuration.isGlobalAcquireLockEnabled()) {
@@ -311,4 +370,28 @@ public class AcquireTimerJobsRunnable implements Runnable {
         this.configuration = configuration;
     }
 
+    public Duration getTimerLookaheadTime() {
+        return timerLookaheadTime;
+    }
+
+    public void setTimerLookaheadTime(Duration timerLookaheadTime) {
+        this.timerLookaheadTime = timerLookaheadTime;
+    }
+
+    public Duration getTimerWheelTickDuration() {
+        return timerWheelTickDuration;
+    }
+
+    public void setTimerWheelTickDuration(Duration timerWheelTickDuration) {
+        this.timerWheelTickDuration = timerWheelTickDuration;
+    }
+
+    public int getMaxTimerJobsInWheel() {
+        return maxTimerJobsInWheel;
+    }
+
+    public void setMaxTimerJobsInWheel(int maxTimerJobsInWheel) {
+        this.maxTimerJobsInWheel = maxTimerJobsInWheel;
+    }
+
 }
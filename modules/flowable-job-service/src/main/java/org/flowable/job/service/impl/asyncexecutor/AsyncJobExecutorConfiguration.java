@@ -97,6 +97,23 @@ public class AsyncJobExecutorConfiguration {
      * During this period of time, no other async executor will try to acquire and lock this job.
      */
     private Duration timerLockTime = Duration.ofHours(1);
+    /**
+     * When set, the timer acquisition also acquires the timer jobs that become due within this time.
+     * These timer jobs are kept in memory in a timing wheel and are moved to executable jobs when they are due,
+     * instead of when the next acquisition cycle happens. Not used when the global acquire lock is enabled.
+     * Null (the default) disables the lookahead.
+     */
+    private Duration timerLookaheadTime;
+    /**
+     * The duration of one tick of the timing wheel used for the timer lookahead.
+     * This is the precision with which looked ahead timer jobs are moved to executable jobs.
+     */
+    private Duration timerWheelTickDuration = Duration.ofMillis(100);
+    /**
+     * The maximum number of looked ahead timer jobs that are kept in memory.
+     * No further lookahead is done while the timing wheel contains this number of timer jobs.
+     */
+    private int maxTimerJobsInWheel = 10000;
     /**
      * The amount of time an async job is locked when acquired.
      * During this period of time, no other async executor will try to acquire and lock this job.
@@ -304,6 +321,30 @@ public class AsyncJobExecutorConfiguration {
         this.timerLockTime = Duration.ofMillis(timerLockTimeInMillis);
     }
 
+    public Duration getTimerLookaheadTime() {
+        return timerLookaheadTime;
+    }
+
+    public void setTimerLookaheadTime(Duration timerLookaheadTime) {
+        this.timerLookaheadTime = timerLookaheadTime;
+    }
+
+    public Duration getTimerWheelTickDuration() {
+        return timerWheelTickDuration;
+    }
+
+    public void setTimerWheelTickDuration(Duration timerWheelTickDuration) {
+        this.timerWheelTickDuration = timerWheelTickDuration;
+    }
+
+    public int getMaxTimerJobsInWheel() {
+        return maxTimerJobsInWheel;
+    }
+
+    public void setMaxTimerJobsInWheel(int maxTimerJobsInWheel) {
+        this.maxTimerJobsInWheel = maxTimerJobsInWheel;
+    }
+
     public Duration getAsyncJobLockTime() {
         return asyncJobLockTime;
     }
@@ -12,7 +12,20 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
 public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
+
+    /**
+     * The number of acquired history jobs that are executed together in one transaction.
+     * The default of 1 executes every history job in its own transaction.
+     */
+    protected int historyJobBatchSize = 1;
     
     public DefaultAsyncHistoryJobExecutor() {
         setTimerRunnableNeeded(false);
@@ -45,4 +58,50 @@ public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
     protected ResetExpiredJobsRunnable createResetExpiredJobsRunnable(String resetRunnableName) {
         return new ResetExpiredJobsRunnable(resetRunnableName, this, jobServiceConfiguration.getHistoryJobEntityManager());
     }
+
+    @Override
+    protected AcquireAsyncJobsDueRunnable createAcquireAsyncJobsDueRunnable(String acquireJobsRunnableName,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        if (historyJobBatchSize > 1 && executeAsyncRunnableFactory == null) {
+            return new AcquireAsyncHistoryJobsDueRunnable(acquireJobsRunnableName, this, jobEntityManager,
+                    asyncJobsDueLifecycleListener, new AcquireAsyncJobsDueRunnableConfiguration());
+        }
+        return super.createAcquireAsyncJobsDueRunnable(acquireJobsRunnableName, jobEntityManager);
+    }
+
+    /**
+     * Executes the given history jobs together in one transaction.
+     * 
+     * @return false when the jobs were rejected by the task executor, true otherwise
+     */
+    public boolean executeAsyncHistoryJobBatch(List<? extends JobInfo> jobs) {
+        if (isMessageQueueMode) {
+            return true;
+        }
+
+        if (!isActive) {
+            temporaryJobQueue.addAll(jobs);
+            return true;
+        }
+
+        try {
+            taskExecutor.execute(new ExecuteAsyncHistoryJobBatchRunnable(jobs, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler));
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            for (JobInfo job : jobs) {
+                sendRejectedEvent(job);
+                unacquireJobAfterRejection(job);
+            }
+            return false;
+        }
+    }
+
+    public int getHistoryJobBatchSize() {
+        return historyJobBatchSize;
+    }
+
+    public void setHistoryJobBatchSize(int historyJobBatchSize) {
+        this.historyJobBatchSize = historyJobBatchSize;
+    }
 }
@@ -127,7 +127,7 @@ public class DefaultJobManager implements JobManager {
 
     protected void sendTimerScheduledEvent(TimerJobEntity timerJob) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled() && eventDispatcher.hasListeners(FlowableEngineEventType.TIMER_SCHEDULED, jobServiceConfiguration.getEngineName())) {
             eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(
                     FlowableEngineEventType.TIMER_SCHEDULED, timerJob), jobServiceConfiguration.getEngineName());
         }
@@ -263,7 +263,7 @@ public class DefaultJobManager implements JobManager {
 
     protected void sendMoveToDeadletterEvent(JobInfo job) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled() && eventDispatcher.hasListeners(FlowableEngineEventType.JOB_MOVED_TO_DEADLETTER, jobServiceConfiguration.getEngineName())) {
             eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(
                 FlowableEngineEventType.JOB_MOVED_TO_DEADLETTER, job), jobServiceConfiguration.getEngineName());
         }
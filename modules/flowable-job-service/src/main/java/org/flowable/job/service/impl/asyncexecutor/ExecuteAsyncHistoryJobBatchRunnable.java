@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncHistoryJobBatchCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction (see {@link ExecuteAsyncHistoryJobBatchCmd}).
+ * 
+ * When the batch fails, its transaction is rolled back and every job of the batch is executed on its own,
+ * so the regular failure handling (e.g. unacquiring and retry decrementing) is applied to the failing job only.
+ */
+public class ExecuteAsyncHistoryJobBatchRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncHistoryJobBatchRunnable.class);
+
+    protected List<? extends JobInfo> jobs;
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
+
+    public ExecuteAsyncHistoryJobBatchRunnable(List<? extends JobInfo> jobs, JobServiceConfiguration jobServiceConfiguration,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager, AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler) {
+
+        this.jobs = jobs;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+        this.jobEntityManager = jobEntityManager;
+        this.asyncRunnableExecutionExceptionHandler = asyncRunnableExecutionExceptionHandler;
+    }
+
+    @Override
+    public void run() {
+        List<String> jobIds = new ArrayList<>(jobs.size());
+        for (JobInfo job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        try {
+            jobServiceConfiguration.getCommandExecutor().execute(new ExecuteAsyncHistoryJobBatchCmd(jobIds, jobServiceConfiguration));
+
+        } catch (Throwable exception) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Could not execute batch of {} history jobs, executing them one by one. Caught exception: {}", jobIds.size(), exception.getMessage());
+            }
+
+            for (JobInfo job : jobs) {
+                new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobEntityManager, asyncRunnableExecutionExceptionHandler).run();
+            }
+        }
+    }
+
+    public List<? extends JobInfo> getJobs() {
+        return jobs;
+    }
+
+}
@@ -106,7 +106,7 @@ public class ExecuteAsyncRunnable implements Runnable {
 
         if (job instanceof AbstractRuntimeJobEntity) {
 
-            boolean lockingNeeded = ((AbstractRuntimeJobEntity) job).isExclusive();
+            boolean lockingNeeded = isExclusiveLockingNeeded((AbstractRuntimeJobEntity) job);
             boolean executeJob = true;
             if (lockingNeeded) {
                 executeJob = lockJob();
@@ -122,6 +122,13 @@ public class ExecuteAsyncRunnable implements Runnable {
 
     }
 
+    /**
+     * Whether the process instance (or case instance) of the job needs to be locked before executing it.
+     */
+    protected boolean isExclusiveLockingNeeded(AbstractRuntimeJobEntity job) {
+        return job.isExclusive();
+    }
+
     protected void executeJob(final boolean unlock) {
         try {
             jobServiceConfiguration.getCommandExecutor().execute(
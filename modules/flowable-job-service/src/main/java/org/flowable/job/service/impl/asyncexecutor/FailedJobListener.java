@@ -56,7 +56,7 @@ public class FailedJobListener implements CommandContextCloseListener {
     @Override
     public void closed(CommandContext context) {
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled() && eventDispatcher.hasListeners(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, jobServiceConfiguration.getEngineName())) {
             eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job),
                     jobServiceConfiguration.getEngineName());
         }
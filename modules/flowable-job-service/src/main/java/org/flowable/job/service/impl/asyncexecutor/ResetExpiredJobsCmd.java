@@ -17,6 +17,7 @@ import java.util.Collection;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.message.AbstractMessageBasedJobManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 
@@ -39,6 +40,11 @@ public class ResetExpiredJobsCmd implements Command<Void> {
 
     @Override
     public Void execute(CommandContext commandContext) {
+        if (isBulkResetPossible()) {
+            jobEntityManager.bulkResetExpiredJobs(jobIds);
+            return null;
+        }
+
         for (String jobId : jobIds) {
             JobInfoEntity job = jobEntityManager.findById(jobId);
             if (job !=  null) {
@@ -48,4 +54,10 @@ public class ResetExpiredJobsCmd implements Command<Void> {
         return null;
     }
 
+    protected boolean isBulkResetPossible() {
+        // A message based job manager needs to send a message for every unacquired job
+        return jobServiceConfiguration.isBulkResetExpiredJobsEnabled()
+                && !(jobServiceConfiguration.getJobManager() instanceof AbstractMessageBasedJobManager);
+    }
+
 }
@@ -0,0 +1,223 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.flowable.common.engine.impl.util.DefaultClockImpl;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timing wheel holding timer jobs that have been acquired (locked) before they are due.
+ *
+ * The wheel is divided in a number of buckets, each covering one tick. A dedicated thread advances the wheel every tick
+ * and passes the timer jobs of the current bucket that are due to the expired timer jobs consumer, all at once.
+ * Timer jobs that are due later than one full revolution of the wheel are kept in their bucket for the needed number of rounds.
+ *
+ * Scheduling and expiring a timer job are O(1), independent of the number of timer jobs in the wheel.
+ *
+ * The time is read from the given {@link ClockReader}, which should be the clock the due dates of the timer jobs are compared with.
+ */
+public class TimerJobTimingWheel implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerJobTimingWheel.class);
+
+    protected final long tickDurationInMillis;
+    protected final List<TimingWheelEntry>[] buckets;
+    protected final int mask;
+    protected final Consumer<List<TimerJobEntity>> expiredTimerJobsConsumer;
+    protected final ClockReader clockReader;
+
+    protected long startTime;
+    protected long currentTick;
+    protected int size;
+
+    protected volatile boolean running;
+    protected Thread workerThread;
+
+    public TimerJobTimingWheel(long tickDurationInMillis, int numberOfBuckets, Consumer<List<TimerJobEntity>> expiredTimerJobsConsumer) {
+        this(tickDurationInMillis, numberOfBuckets, expiredTimerJobsConsumer, new DefaultClockImpl());
+    }
+
+    @SuppressWarnings("unchecked")
+    public TimerJobTimingWheel(long tickDurationInMillis, int numberOfBuckets, Consumer<List<TimerJobEntity>> expiredTimerJobsConsumer,
+            ClockReader clockReader) {
+        if (tickDurationInMillis <= 0) {
+            throw new FlowableIllegalArgumentException("tickDurationInMillis must be greater than 0");
+        }
+        if (numberOfBuckets <= 0) {
+            throw new FlowableIllegalArgumentException("numberOfBuckets must be greater than 0");
+        }
+
+        this.tickDurationInMillis = tickDurationInMillis;
+        this.expiredTimerJobsConsumer = expiredTimerJobsConsumer;
+        this.clockReader = clockReader;
+
+        // A power of two allows calculating the bucket index with a mask
+        int normalizedNumberOfBuckets = Integer.highestOneBit(numberOfBuckets);
+        if (normalizedNumberOfBuckets < numberOfBuckets) {
+            normalizedNumberOfBuckets <<= 1;
+        }
+        this.buckets = new List[normalizedNumberOfBuckets];
+        for (int i = 0; i < normalizedNumberOfBuckets; i++) {
+            buckets[i] = new LinkedList<>();
+        }
+        this.mask = normalizedNumberOfBuckets - 1;
+    }
+
+    public synchronized void start(String threadName) {
+        if (running) {
+            return;
+        }
+
+        running = true;
+        startTime = getCurrentTimeInMillis();
+        currentTick = 0;
+
+        workerThread = new Thread(this, threadName);
+        workerThread.setDaemon(true);
+        workerThread.start();
+    }
+
+    /**
+     * Adds the timer job to the wheel. It will be passed to the expired timer jobs consumer once the given delay has passed.
+     */
+    public synchronized void schedule(TimerJobEntity timerJob, long delayInMillis) {
+        long deadline = getCurrentTimeInMillis() - startTime + Math.max(delayInMillis, 0L);
+        long deadlineTick = deadline / tickDurationInMillis;
+        long remainingRounds = Math.max(deadlineTick - currentTick, 0L) / buckets.length;
+
+        // Timer jobs that are already due end up in the bucket of the current tick
+        long tick = Math.max(deadlineTick, currentTick);
+        buckets[(int) (tick & mask)].add(new TimingWheelEntry(timerJob, remainingRounds));
+        size++;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            long tickDeadline = tickDurationInMillis * (getCurrentTick() + 1);
+            long sleepTime = tickDeadline - (getCurrentTimeInMillis() - startTime);
+            if (sleepTime > 0) {
+                try {
+                    // The clock can be moved forward (e.g. in tests), so it is read again after at most one tick
+                    Thread.sleep(Math.min(sleepTime, tickDurationInMillis));
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        break;
+                    }
+                }
+                continue;
+            }
+
+            List<TimerJobEntity> expiredTimerJobs = expireCurrentBucket();
+            if (!expiredTimerJobs.isEmpty()) {
+                try {
+                    expiredTimerJobsConsumer.accept(expiredTimerJobs);
+                } catch (Throwable t) {
+                    LOGGER.warn("Exception while handling {} expired timer jobs", expiredTimerJobs.size(), t);
+                }
+            }
+        }
+    }
+
+    protected long getCurrentTimeInMillis() {
+        return clockReader.getCurrentTime().getTime();
+    }
+
+    protected synchronized long getCurrentTick() {
+        return currentTick;
+    }
+
+    protected synchronized List<TimerJobEntity> expireCurrentBucket() {
+        List<TimerJobEntity> expiredTimerJobs = new ArrayList<>();
+        Iterator<TimingWheelEntry> iterator = buckets[(int) (currentTick & mask)].iterator();
+        while (iterator.hasNext()) {
+            TimingWheelEntry entry = iterator.next();
+            if (entry.remainingRounds <= 0) {
+                iterator.remove();
+                size--;
+                expiredTimerJobs.add(entry.timerJob);
+            } else {
+                entry.remainingRounds--;
+            }
+        }
+        currentTick++;
+        return expiredTimerJobs;
+    }
+
+    /**
+     * Stops the wheel and returns the timer jobs that were not yet expired.
+     */
+    public List<TimerJobEntity> stop() {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = workerThread;
+            workerThread = null;
+        }
+
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(tickDurationInMillis * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (this) {
+            List<TimerJobEntity> pendingTimerJobs = new ArrayList<>(size);
+            for (List<TimingWheelEntry> bucket : buckets) {
+                for (TimingWheelEntry entry : bucket) {
+                    pendingTimerJobs.add(entry.timerJob);
+                }
+                bucket.clear();
+            }
+            size = 0;
+            return pendingTimerJobs;
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getTickDurationInMillis() {
+        return tickDurationInMillis;
+    }
+
+    protected static class TimingWheelEntry {
+
+        protected final TimerJobEntity timerJob;
+        protected long remainingRounds;
+
+        public TimingWheelEntry(TimerJobEntity timerJob, long remainingRounds) {
+            this.timerJob = timerJob;
+            this.remainingRounds = remainingRounds;
+        }
+    }
+
+}
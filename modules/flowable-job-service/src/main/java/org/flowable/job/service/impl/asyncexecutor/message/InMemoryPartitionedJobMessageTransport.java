@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.message;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Experimental.
+ * 
+ * In-JVM stand-in for a partitioned log broker, e.g. for testing a {@link JobMessageTransportJobManager} setup without a broker.
+ * 
+ * Every message is assigned to a partition based on the hash of its partition key, and every partition is consumed by one thread,
+ * so the messages of one partition key are consumed in order and never concurrently. Messages are only kept in memory.
+ */
+public class InMemoryPartitionedJobMessageTransport implements JobMessageTransport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryPartitionedJobMessageTransport.class);
+
+    protected int numberOfPartitions;
+    protected long shutdownTimeoutInMillis = 60000L;
+
+    protected volatile ExecutorService[] partitions;
+    protected volatile JobMessageConsumer consumer;
+
+    public InMemoryPartitionedJobMessageTransport(int numberOfPartitions) {
+        if (numberOfPartitions <= 0) {
+            throw new FlowableIllegalArgumentException("numberOfPartitions has to be larger than 0");
+        }
+        this.numberOfPartitions = numberOfPartitions;
+    }
+
+    @Override
+    public synchronized void start(JobMessageConsumer consumer) {
+        if (partitions != null) {
+            throw new FlowableException("The transport is already started");
+        }
+
+        this.consumer = consumer;
+        this.partitions = new ExecutorService[numberOfPartitions];
+        for (int i = 0; i < numberOfPartitions; i++) {
+            partitions[i] = Executors.newSingleThreadExecutor();
+        }
+    }
+
+    @Override
+    public void send(JobMessage message) {
+        ExecutorService[] currentPartitions = partitions;
+        if (currentPartitions == null) {
+            throw new FlowableException("The transport is not started, could not send " + message);
+        }
+
+        currentPartitions[getPartition(message)].execute(() -> consumer.consume(message));
+    }
+
+    protected int getPartition(JobMessage message) {
+        String partitionKey = message.getPartitionKey() != null ? message.getPartitionKey() : message.getJobId();
+        return Math.floorMod(partitionKey.hashCode(), numberOfPartitions);
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (partitions == null) {
+            return;
+        }
+
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+
+        try {
+            for (ExecutorService partition : partitions) {
+                if (!partition.awaitTermination(shutdownTimeoutInMillis, TimeUnit.MILLISECONDS)) {
+                    LOGGER.warn("Timeout during shutdown of job message partition. The current running messages could not end within {} ms after shutdown operation.",
+                            shutdownTimeoutInMillis);
+                    partition.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while shutting down the job message partitions", e);
+        }
+
+        partitions = null;
+    }
+
+    @Override
+    public boolean isOrderedByPartitionKey() {
+        return true;
+    }
+
+    public int getNumberOfPartitions() {
+        return numberOfPartitions;
+    }
+
+    public long getShutdownTimeoutInMillis() {
+        return shutdownTimeoutInMillis;
+    }
+
+    public void setShutdownTimeoutInMillis(long shutdownTimeoutInMillis) {
+        this.shutdownTimeoutInMillis = shutdownTimeoutInMillis;
+    }
+
+}
@@ -0,0 +1,196 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.message;
+
+import java.io.Serializable;
+
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+
+/**
+ * Experimental.
+ * 
+ * The payload sent through a {@link JobMessageTransport} for a job that is ready to be executed.
+ * 
+ * Besides the job id, it carries the job data that is needed to decide how to execute the job,
+ * so the receiving side doesn't need to fetch the job before executing it.
+ * The partition key groups the jobs of one process instance (or case instance), so a partitioned transport can execute them in order.
+ */
+public class JobMessage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String jobId;
+    protected boolean historyJob;
+    protected String jobHandlerType;
+    protected boolean exclusive;
+    protected String executionId;
+    protected String processInstanceId;
+    protected String processDefinitionId;
+    protected String scopeId;
+    protected String subScopeId;
+    protected String scopeType;
+    protected String scopeDefinitionId;
+    protected String tenantId;
+    protected String partitionKey;
+
+    public JobMessage() {
+
+    }
+
+    public static JobMessage create(JobInfo job) {
+        JobMessage message = new JobMessage();
+        message.setJobId(job.getId());
+        message.setJobHandlerType(job.getJobHandlerType());
+        message.setTenantId(job.getTenantId());
+
+        if (job instanceof HistoryJob) {
+            message.setHistoryJob(true);
+            message.setPartitionKey(job.getId());
+
+        } else if (job instanceof Job) {
+            Job runtimeJob = (Job) job;
+            message.setExclusive(runtimeJob.isExclusive());
+            message.setExecutionId(runtimeJob.getExecutionId());
+            message.setProcessInstanceId(runtimeJob.getProcessInstanceId());
+            message.setProcessDefinitionId(runtimeJob.getProcessDefinitionId());
+            message.setScopeId(runtimeJob.getScopeId());
+            message.setSubScopeId(runtimeJob.getSubScopeId());
+            message.setScopeType(runtimeJob.getScopeType());
+            message.setScopeDefinitionId(runtimeJob.getScopeDefinitionId());
+
+            if (runtimeJob.getProcessInstanceId() != null) {
+                message.setPartitionKey(runtimeJob.getProcessInstanceId());
+            } else if (runtimeJob.getScopeId() != null) {
+                message.setPartitionKey(runtimeJob.getScopeId());
+            } else {
+                message.setPartitionKey(job.getId());
+            }
+
+        } else {
+            message.setPartitionKey(job.getId());
+        }
+
+        return message;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public boolean isHistoryJob() {
+        return historyJob;
+    }
+
+    public void setHistoryJob(boolean historyJob) {
+        this.historyJob = historyJob;
+    }
+
+    public String getJobHandlerType() {
+        return jobHandlerType;
+    }
+
+    public void setJobHandlerType(String jobHandlerType) {
+        this.jobHandlerType = jobHandlerType;
+    }
+
+    public boolean isExclusive() {
+        return exclusive;
+    }
+
+    public void setExclusive(boolean exclusive) {
+        this.exclusive = exclusive;
+    }
+
+    public String getExecutionId() {
+        return executionId;
+    }
+
+    public void setExecutionId(String executionId) {
+        this.executionId = executionId;
+    }
+
+    public String getProcessInstanceId() {
+        return processInstanceId;
+    }
+
+    public void setProcessInstanceId(String processInstanceId) {
+        this.processInstanceId = processInstanceId;
+    }
+
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public void setProcessDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+    }
+
+    public String getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(String scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    public String getSubScopeId() {
+        return subScopeId;
+    }
+
+    public void setSubScopeId(String subScopeId) {
+        this.subScopeId = subScopeId;
+    }
+
+    public String getScopeType() {
+        return scopeType;
+    }
+
+    public void setScopeType(String scopeType) {
+        this.scopeType = scopeType;
+    }
+
+    public String getScopeDefinitionId() {
+        return scopeDefinitionId;
+    }
+
+    public void setScopeDefinitionId(String scopeDefinitionId) {
+        this.scopeDefinitionId = scopeDefinitionId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public String getPartitionKey() {
+        return partitionKey;
+    }
+
+    public void setPartitionKey(String partitionKey) {
+        this.partitionKey = partitionKey;
+    }
+
+    @Override
+    public String toString() {
+        return "JobMessage[jobId=" + jobId + ", partitionKey=" + partitionKey + "]";
+    }
+}
@@ -0,0 +1,125 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.message;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Experimental.
+ * 
+ * Executes the jobs of the {@link JobMessage}s received from a {@link JobMessageTransport}.
+ * 
+ * The job is built from the message payload instead of being fetched first. It is still fetched in the transaction executing it,
+ * as it could have been deleted in the meantime.
+ * When the transport the executor consumes from delivers the messages of a partition key in order
+ * ({@link JobMessageTransport#isOrderedByPartitionKey()}), exclusive jobs are executed without locking their process instance,
+ * as no other job of the same process instance runs at the same time.
+ */
+public class JobMessageExecutor implements JobMessageConsumer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobMessageExecutor.class);
+
+    protected JobServiceConfiguration jobServiceConfiguration;
+    protected JobMessageTransport transport;
+
+    public JobMessageExecutor() {
+
+    }
+
+    public JobMessageExecutor(JobServiceConfiguration jobServiceConfiguration, JobMessageTransport transport) {
+        this.jobServiceConfiguration = jobServiceConfiguration;
+        this.transport = transport;
+    }
+
+    @Override
+    public void consume(JobMessage message) {
+        if (jobServiceConfiguration == null) {
+            throw new FlowableException("Programmatic error: this class needs a JobServiceConfiguration instance");
+        }
+
+        try {
+            createRunnable(message).run();
+        } catch (Exception e) {
+            LOGGER.error("Exception when handling job message {}", message, e);
+        }
+    }
+
+    protected Runnable createRunnable(JobMessage message) {
+        if (message.isHistoryJob()) {
+            return new ExecuteAsyncRunnable(message.getJobId(), jobServiceConfiguration, jobServiceConfiguration.getHistoryJobEntityManager(), null);
+        }
+
+        JobEntity job = createJob(message);
+        if (isOrderedByPartitionKey()) {
+            return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobServiceConfiguration.getJobEntityManager(), null) {
+
+                @Override
+                protected boolean isExclusiveLockingNeeded(AbstractRuntimeJobEntity job) {
+                    return false;
+                }
+
+                @Override
+                protected void unlockJobIfNeeded() {
+                    // the process instance was never locked
+                }
+            };
+        }
+        return new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobServiceConfiguration.getJobEntityManager(), null);
+    }
+
+    protected JobEntity createJob(JobMessage message) {
+        JobEntityImpl job = new JobEntityImpl();
+        job.setId(message.getJobId());
+        job.setJobType(Job.JOB_TYPE_MESSAGE);
+        job.setJobHandlerType(message.getJobHandlerType());
+        job.setExclusive(message.isExclusive());
+        job.setExecutionId(message.getExecutionId());
+        job.setProcessInstanceId(message.getProcessInstanceId());
+        job.setProcessDefinitionId(message.getProcessDefinitionId());
+        job.setScopeId(message.getScopeId());
+        job.setSubScopeId(message.getSubScopeId());
+        job.setScopeType(message.getScopeType());
+        job.setScopeDefinitionId(message.getScopeDefinitionId());
+        job.setTenantId(message.getTenantId());
+        return job;
+    }
+
+    public JobServiceConfiguration getJobServiceConfiguration() {
+        return jobServiceConfiguration;
+    }
+
+    public void setJobServiceConfiguration(JobServiceConfiguration jobServiceConfiguration) {
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    public JobMessageTransport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(JobMessageTransport transport) {
+        this.transport = transport;
+    }
+
+    public boolean isOrderedByPartitionKey() {
+        return transport != null && transport.isOrderedByPartitionKey();
+    }
+
+}
@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.message;
+
+/**
+ * Experimental.
+ * 
+ * Broker agnostic transport for the {@link JobMessage}s sent by the {@link JobMessageTransportJobManager}.
+ * An implementation maps it on a message broker (e.g. a partitioned log, using the partition key as message key)
+ * and hands every received message to the {@link JobMessageConsumer} it was started with.
+ */
+public interface JobMessageTransport {
+
+    /**
+     * Sends the message. Called after the transaction that made the job executable has committed.
+     */
+    void send(JobMessage message);
+
+    /**
+     * Starts delivering the received messages to the given consumer.
+     */
+    void start(JobMessageConsumer consumer);
+
+    /**
+     * Stops delivering messages.
+     */
+    void shutdown();
+
+    /**
+     * Whether messages with the same {@link JobMessage#getPartitionKey()} are consumed one after the other, in the order they were sent,
+     * by only one consumer at a time. When true, the {@link JobMessageExecutor} doesn't need to lock the process instance of exclusive jobs.
+     */
+    boolean isOrderedByPartitionKey();
+
+}
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.message;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+
+/**
+ * Experimental.
+ * 
+ * A {@link AbstractMessageBasedJobManager} sending a {@link JobMessage} through a {@link JobMessageTransport} for every executable job.
+ * Use it together with the async executor in message queue mode and a {@link JobMessageExecutor} consuming the messages.
+ */
+public class JobMessageTransportJobManager extends AbstractMessageBasedJobManager {
+
+    protected JobMessageTransport jobMessageTransport;
+
+    public JobMessageTransportJobManager() {
+
+    }
+
+    public JobMessageTransportJobManager(JobMessageTransport jobMessageTransport) {
+        this.jobMessageTransport = jobMessageTransport;
+    }
+
+    public JobMessageTransportJobManager(JobServiceConfiguration jobServiceConfiguration, JobMessageTransport jobMessageTransport) {
+        super(jobServiceConfiguration);
+        this.jobMessageTransport = jobMessageTransport;
+    }
+
+    @Override
+    protected void sendMessage(JobInfo job) {
+        if (jobMessageTransport == null) {
+            throw new FlowableException("Programmatic error: this class needs a JobMessageTransport instance");
+        }
+        jobMessageTransport.send(JobMessage.create(job));
+    }
+
+    public JobMessageTransport getJobMessageTransport() {
+        return jobMessageTransport;
+    }
+
+    public void setJobMessageTransport(JobMessageTransport jobMessageTransport) {
+        this.jobMessageTransport = jobMessageTransport;
+    }
+
+}
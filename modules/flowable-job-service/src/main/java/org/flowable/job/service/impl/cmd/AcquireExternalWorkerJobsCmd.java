@@ -14,7 +14,10 @@ package org.flowable.job.service.impl.cmd;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.GregorianCalendar;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -76,24 +79,45 @@ public class AcquireExternalWorkerJobsCmd implements Command<List<AcquiredExtern
 
         for (ExternalWorkerJobEntity job : jobs) {
             lockJob(commandContext, job, lockTimeInMillis);
-            Map<String, Object> variables = null;
-            if (internalJobManager != null) {
-                VariableScope variableScope = internalJobManager.resolveVariableScope(job);
-                if (variableScope != null) {
-                    variables = variableScope.getVariables();
-                }
-
-                if (job.isExclusive()) {
-                    internalJobManager.lockJobScope(job);
-                }
+            if (internalJobManager != null && job.isExclusive()) {
+                internalJobManager.lockJobScope(job);
             }
+        }
 
-            acquiredJobs.add(new AcquiredExternalWorkerJobImpl(job, variables));
+        Map<String, Map<String, Object>> variablesByJobId = resolveVariables(jobs, internalJobManager);
+        for (ExternalWorkerJobEntity job : jobs) {
+            acquiredJobs.add(new AcquiredExternalWorkerJobImpl(job, variablesByJobId.get(job.getId())));
         }
 
         return acquiredJobs;
     }
 
+    protected Map<String, Map<String, Object>> resolveVariables(List<ExternalWorkerJobEntity> jobs, InternalJobManager internalJobManager) {
+        Map<String, Map<String, Object>> variablesByJobId = new HashMap<>();
+        Collection<String> variableNames = builder.getVariableNames();
+        if (builder.isWithoutVariables() || jobs.isEmpty() || (variableNames != null && variableNames.isEmpty())) {
+            for (ExternalWorkerJobEntity job : jobs) {
+                variablesByJobId.put(job.getId(), Collections.emptyMap());
+            }
+
+        } else if (internalJobManager != null) {
+            if (variableNames != null) {
+                // Only the requested variables are loaded, for all jobs at once
+                variablesByJobId.putAll(internalJobManager.resolveVariables(jobs, variableNames));
+
+            } else {
+                for (ExternalWorkerJobEntity job : jobs) {
+                    VariableScope variableScope = internalJobManager.resolveVariableScope(job);
+                    if (variableScope != null) {
+                        variablesByJobId.put(job.getId(), variableScope.getVariables());
+                    }
+                }
+            }
+        }
+
+        return variablesByJobId;
+    }
+
     protected void lockJob(CommandContext commandContext, JobInfoEntity job, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(jobServiceConfiguration.getClock().getCurrentTime());
@@ -12,7 +12,9 @@
  */
 package org.flowable.job.service.impl.cmd;
 
+import java.time.Duration;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -30,20 +32,41 @@ import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 public class AcquireTimerJobsCmd implements Command<List<TimerJobEntity>> {
 
     protected AsyncExecutor asyncExecutor;
+    protected Duration lookaheadTime;
 
     public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor) {
         this.asyncExecutor = asyncExecutor;
     }
 
+    /**
+     * Also acquires the timer jobs that will become due within the given lookahead time.
+     * Those timer jobs are locked until the end of the lookahead time plus the regular timer lock time.
+     */
+    public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, Duration lookaheadTime) {
+        this.asyncExecutor = asyncExecutor;
+        this.lookaheadTime = lookaheadTime;
+    }
+
     @Override
     public List<TimerJobEntity> execute(CommandContext commandContext) {
         JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
         List<String> enabledCategories = jobServiceConfiguration.getEnabledJobCategories();
-        List<TimerJobEntity> timerJobs = jobServiceConfiguration.getTimerJobEntityManager()
-            .findJobsToExecute(enabledCategories, new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+        Page page = new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition());
+        
+        List<TimerJobEntity> timerJobs;
+        int lockTimeInMillis = asyncExecutor.getTimerLockTimeInMillis();
+        if (lookaheadTime != null && !lookaheadTime.isZero()) {
+            Date maxDueDate = new Date(jobServiceConfiguration.getClock().getCurrentTime().getTime() + lookaheadTime.toMillis());
+            timerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsToExecute(enabledCategories, maxDueDate, page);
+            lockTimeInMillis += (int) lookaheadTime.toMillis();
+            
+        } else {
+            timerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsToExecute(enabledCategories, page);
+            
+        }
 
         for (TimerJobEntity job : timerJobs) {
-            lockJob(commandContext, job, asyncExecutor.getTimerLockTimeInMillis(), jobServiceConfiguration);
+            lockJob(commandContext, job, lockTimeInMillis, jobServiceConfiguration);
         }
 
         return timerJobs;
@@ -0,0 +1,53 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+
+/**
+ * Executes a number of history jobs in one transaction.
+ * 
+ * As all jobs share the same command context, history entities that are created by one job and changed by another one
+ * (e.g. an activity instance that is started and ended) are only written once. The resulting inserts are flushed together,
+ * which allows using bulk inserts.
+ */
+public class ExecuteAsyncHistoryJobBatchCmd implements Command<Void> {
+
+    protected List<String> historyJobIds;
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public ExecuteAsyncHistoryJobBatchCmd(List<String> historyJobIds, JobServiceConfiguration jobServiceConfiguration) {
+        this.historyJobIds = historyJobIds;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (historyJobIds == null || historyJobIds.isEmpty()) {
+            throw new FlowableIllegalArgumentException("historyJobIds is null or empty");
+        }
+
+        for (String historyJobId : historyJobIds) {
+            new ExecuteAsyncRunnableJobCmd(historyJobId, jobServiceConfiguration.getHistoryJobEntityManager(), jobServiceConfiguration, false)
+                    .execute(commandContext);
+        }
+
+        return null;
+    }
+
+}
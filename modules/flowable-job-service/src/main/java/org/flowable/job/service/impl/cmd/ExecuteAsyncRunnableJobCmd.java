@@ -88,7 +88,7 @@ public class ExecuteAsyncRunnableJobCmd implements Command<Object>, Serializable
         jobServiceConfiguration.getJobManager().execute(job);
 
         FlowableEventDispatcher eventDispatcher = jobServiceConfiguration.getEventDispatcher();
-        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (eventDispatcher != null && eventDispatcher.isEnabled() && eventDispatcher.hasListeners(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, jobServiceConfiguration.getEngineName())) {
             eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job),
                     jobServiceConfiguration.getEngineName());
         }
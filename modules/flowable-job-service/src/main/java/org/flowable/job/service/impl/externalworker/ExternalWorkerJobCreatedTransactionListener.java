@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.externalworker;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.ExternalWorkerJobNotifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tells the {@link ExternalWorkerJobNotifier} that an external worker job for the topic was committed.
+ */
+public class ExternalWorkerJobCreatedTransactionListener implements TransactionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExternalWorkerJobCreatedTransactionListener.class);
+
+    protected final ExternalWorkerJobNotifier notifier;
+    protected final String topic;
+
+    public ExternalWorkerJobCreatedTransactionListener(ExternalWorkerJobNotifier notifier, String topic) {
+        this.notifier = notifier;
+        this.topic = topic;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        try {
+            notifier.jobsAvailable(topic);
+        } catch (RuntimeException e) {
+            // The job is already committed, waiting workers will still pick it up once their wait time elapses
+            LOGGER.warn("Failed to notify waiting external workers about new jobs for topic {}", topic, e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.externalworker;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.service.ExternalWorkerJobNotifier;
+
+/**
+ * Keeps track of the external worker acquire requests that are waiting for jobs of a topic,
+ * so that they can be woken up as soon as such jobs are created instead of querying the database repeatedly.
+ */
+public class ExternalWorkerJobWaitRegistry implements ExternalWorkerJobNotifier {
+
+    protected final ConcurrentMap<String, Set<Waiter>> waitersByTopic = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a waiter for the given topic. The waiter must be registered before looking for jobs,
+     * otherwise a job created in between would not wake it up.
+     * The waiter has to be {@link #unregister(Waiter) unregistered} once it is no longer used.
+     */
+    public Waiter register(String topic) {
+        Waiter waiter = new Waiter(topic);
+        register(waiter);
+        return waiter;
+    }
+
+    /**
+     * Registers an existing waiter, e.g. to let a waiter be woken up by the jobs created in several engines.
+     */
+    public void register(Waiter waiter) {
+        waitersByTopic.computeIfAbsent(waiter.getTopic(), key -> ConcurrentHashMap.newKeySet()).add(waiter);
+    }
+
+    public void unregister(Waiter waiter) {
+        waitersByTopic.computeIfPresent(waiter.getTopic(), (topic, waiters) -> {
+            waiters.remove(waiter);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    @Override
+    public void jobsAvailable(String topic) {
+        Set<Waiter> waiters = waitersByTopic.get(topic);
+        if (waiters != null) {
+            // All waiters are woken up, as they might be acquiring with different tenant or scope type filters
+            for (Waiter waiter : waiters) {
+                waiter.wakeUp();
+            }
+        }
+    }
+
+    public int getNumberOfWaiters(String topic) {
+        Set<Waiter> waiters = waitersByTopic.get(topic);
+        return waiters != null ? waiters.size() : 0;
+    }
+
+    public static class Waiter {
+
+        protected final String topic;
+        protected final CountDownLatch latch = new CountDownLatch(1);
+
+        public Waiter(String topic) {
+            this.topic = topic;
+        }
+
+        /**
+         * @return true if jobs became available, false if the wait time elapsed
+         */
+        public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            return latch.await(timeout, unit);
+        }
+
+        public void wakeUp() {
+            latch.countDown();
+        }
+
+        public String getTopic() {
+            return topic;
+        }
+    }
+}
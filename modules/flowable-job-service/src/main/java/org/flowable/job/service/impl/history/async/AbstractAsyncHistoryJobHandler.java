@@ -21,6 +21,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.HistoryJobHandler;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.sink.HistorySink;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.slf4j.Logger;
@@ -37,6 +38,9 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
     
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected String jobType;
+
+    protected HistorySink historySink;
+    protected boolean writeHistoryToDatabase = true;
     
     public AbstractAsyncHistoryJobHandler(String jobType) {
         this.jobType = jobType;
@@ -63,13 +67,18 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
                 throw new FlowableException("Could not deserialize async history json for job (id=" + job.getId() + ")", e);
             }
 
-            if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
+            if (historySink != null && !writeHistoryToDatabase) {
+                writeToHistorySink(toObjectNodes(historyNode));
+
+            } else if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
+                List<ObjectNode> processedNodes = new ArrayList<>();
                 List<ObjectNode> failedNodes = null;
                 Exception exception = null;
                 ArrayNode arrayNode = (ArrayNode) historyNode;
                 for (JsonNode jsonNode : arrayNode) {
                     try {
                         processHistoryJson(commandContext, job, jsonNode);
+                        processedNodes.add((ObjectNode) jsonNode);
 
                     } catch (Exception ex) {
                         if (failedNodes == null) {
@@ -84,6 +93,8 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
                     }
                 }
 
+                writeToHistorySink(processedNodes);
+
                 if (failedNodes != null && !failedNodes.isEmpty()) {
                     List<HistoryJobEntity> newHistoryJobs = getAsyncHistoryListener(commandContext)
                             .historyDataGenerated(jobServiceConfiguration, failedNodes);
@@ -110,6 +121,7 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
             } else {
                 try {
                     processHistoryJson(commandContext, job, historyNode);
+                    writeToHistorySink(toObjectNodes(historyNode));
 
                 } catch (AsyncHistoryJobNotApplicableException e) {
                     throw e;
@@ -129,6 +141,26 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         }
     }
 
+    protected void writeToHistorySink(List<ObjectNode> historyNodes) {
+        if (historySink != null && !historyNodes.isEmpty()) {
+            historySink.write(historyNodes);
+        }
+    }
+
+    protected List<ObjectNode> toObjectNodes(JsonNode historyNode) {
+        List<ObjectNode> objectNodes = new ArrayList<>();
+        if (historyNode.isArray()) {
+            for (JsonNode jsonNode : historyNode) {
+                if (jsonNode.isObject()) {
+                    objectNodes.add((ObjectNode) jsonNode);
+                }
+            }
+        } else if (historyNode.isObject()) {
+            objectNodes.add((ObjectNode) historyNode);
+        }
+        return objectNodes;
+    }
+
     protected AsyncHistoryListener getAsyncHistoryListener(CommandContext commandContext) {
         return commandContext.getSession(AsyncHistorySession.class).getAsyncHistoryListener();
     }
@@ -146,5 +178,24 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
     public void setAsyncHistoryJsonGroupingEnabled(boolean isAsyncHistoryJsonGroupingEnabled) {
         this.isAsyncHistoryJsonGroupingEnabled = isAsyncHistoryJsonGroupingEnabled;
     }
+
+    public HistorySink getHistorySink() {
+        return historySink;
+    }
+
+    public void setHistorySink(HistorySink historySink) {
+        this.historySink = historySink;
+    }
+
+    public boolean isWriteHistoryToDatabase() {
+        return writeHistoryToDatabase;
+    }
+
+    /**
+     * When set to false, the history data is only passed to the {@link HistorySink} and is not stored in the history tables.
+     */
+    public void setWriteHistoryToDatabase(boolean writeHistoryToDatabase) {
+        this.writeHistoryToDatabase = writeHistoryToDatabase;
+    }
     
 }
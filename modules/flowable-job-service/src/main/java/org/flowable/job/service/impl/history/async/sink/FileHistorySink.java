@@ -0,0 +1,139 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.sink;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A {@link HistorySink} that appends the history events as newline delimited json (one event per line) to files in a local directory.
+ * 
+ * A new file is started once the current file exceeds the {@link #getMaxFileSize() maximum file size}.
+ * When compression is enabled, every batch is written as a separate gzip member, which keeps the files readable by any gzip reader.
+ */
+public class FileHistorySink implements HistorySink {
+
+    public static final long DEFAULT_MAX_FILE_SIZE = 64L * 1024L * 1024L;
+
+    protected File directory;
+    protected String filePrefix = "flowable-history";
+    protected long maxFileSize = DEFAULT_MAX_FILE_SIZE;
+    protected boolean compressionEnabled = true;
+    protected ObjectMapper objectMapper;
+
+    protected File currentFile;
+    protected int fileCounter;
+
+    public FileHistorySink(File directory, ObjectMapper objectMapper) {
+        if (directory == null) {
+            throw new FlowableIllegalArgumentException("directory is null");
+        }
+        if (objectMapper == null) {
+            throw new FlowableIllegalArgumentException("objectMapper is null");
+        }
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void write(List<ObjectNode> historyEvents) {
+        if (historyEvents == null || historyEvents.isEmpty()) {
+            return;
+        }
+
+        File file = getFileToWrite();
+        try (OutputStream outputStream = createOutputStream(file)) {
+            for (ObjectNode historyEvent : historyEvents) {
+                outputStream.write(objectMapper.writeValueAsBytes(historyEvent));
+                outputStream.write('\n');
+            }
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not write history events to " + file.getAbsolutePath(), e);
+        }
+    }
+
+    protected File getFileToWrite() {
+        if (currentFile == null || currentFile.length() >= maxFileSize) {
+            if (!directory.exists() && !directory.mkdirs()) {
+                throw new FlowableException("Could not create history sink directory " + directory.getAbsolutePath());
+            }
+            currentFile = createNewFile();
+        }
+        return currentFile;
+    }
+
+    protected File createNewFile() {
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date());
+        String extension = compressionEnabled ? ".ndjson.gz" : ".ndjson";
+        File file;
+        do {
+            file = new File(directory, filePrefix + "-" + timestamp + "-" + (fileCounter++) + extension);
+        } while (file.exists());
+        return file;
+    }
+
+    protected OutputStream createOutputStream(File file) throws IOException {
+        OutputStream outputStream = new FileOutputStream(file, true);
+        if (compressionEnabled) {
+            outputStream = new GZIPOutputStream(outputStream);
+        }
+        return new BufferedOutputStream(outputStream);
+    }
+
+    public File getCurrentFile() {
+        return currentFile;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public String getFilePrefix() {
+        return filePrefix;
+    }
+
+    public void setFilePrefix(String filePrefix) {
+        this.filePrefix = filePrefix;
+    }
+
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    public void setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+}
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.sink;
+
+import java.util.List;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Receives the history events handled by the async history job handlers, e.g. to store them outside of the relational database.
+ * 
+ * Every event is the history json as produced by the engine: an object with a 'type' and a 'data' field
+ * (see {@link org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer}).
+ * 
+ * The events are written from within the transaction of the history job. When that transaction fails afterwards,
+ * the job is retried and the same events will be written again, hence why implementations need to tolerate duplicates.
+ */
+public interface HistorySink {
+
+    /**
+     * Writes a batch of history events. Throwing an exception fails the history job, which will be retried later.
+     */
+    void write(List<ObjectNode> historyEvents);
+
+}
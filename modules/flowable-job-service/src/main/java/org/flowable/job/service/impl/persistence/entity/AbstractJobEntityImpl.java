@@ -123,7 +123,9 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
 
     @Override
     public void setExecutionId(String executionId) {
+        String oldExecutionId = this.executionId;
         this.executionId = executionId;
+        indexedPropertyChanged(oldExecutionId, executionId);
     }
 
     @Override
@@ -15,10 +15,15 @@ package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.job.api.ExternalWorkerJob;
+import org.flowable.job.service.ExternalWorkerJobNotifier;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
 import org.flowable.job.service.impl.ExternalWorkerJobQueryImpl;
+import org.flowable.job.service.impl.externalworker.ExternalWorkerJobCreatedTransactionListener;
 import org.flowable.job.service.impl.persistence.entity.data.ExternalWorkerJobDataManager;
 
 /**
@@ -55,9 +60,20 @@ public class ExternalWorkerJobEntityManagerImpl
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
         super.insert(jobEntity, fireCreateEvent);
+        notifyJobCreated(jobEntity);
         return true;
     }
 
+    protected void notifyJobCreated(ExternalWorkerJobEntity jobEntity) {
+        ExternalWorkerJobNotifier notifier = serviceConfiguration.getExternalWorkerJobNotifier();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (notifier != null && transactionContext != null && jobEntity.getJobHandlerConfiguration() != null) {
+            // The topic of an external worker job is stored in the job handler configuration
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    new ExternalWorkerJobCreatedTransactionListener(notifier, jobEntity.getJobHandlerConfiguration()));
+        }
+    }
+
     @Override
     public ExternalWorkerJobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -48,6 +49,11 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     void resetExpiredJob(String jobId);
 
+    /**
+     * Resets the given expired jobs in bulk, without changing their ids. Jobs that were locked again in the meantime are left untouched.
+     */
+    void bulkResetExpiredJobs(Collection<String> jobIds);
+
     /**
      * Changes the tenantId for all jobs related to a given DeploymentEntity.
      */
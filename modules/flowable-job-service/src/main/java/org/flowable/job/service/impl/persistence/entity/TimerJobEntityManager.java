@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -34,6 +36,12 @@ public interface TimerJobEntityManager extends JobInfoEntityManager<TimerJobEnti
      */
     boolean insertTimerJobEntity(TimerJobEntity timerJobEntity);
 
+    /**
+     * Same as {@link #findJobsToExecute(List, Page)}, but returns the timer jobs that are due before the given date
+     * instead of the ones that are due now.
+     */
+    List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Date maxDueDate, Page page);
+
     /**
      * Find the timer job with the given correlation id.
      */
@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.calendar.BusinessCalendar;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
@@ -64,6 +65,11 @@ public class TimerJobEntityManagerImpl
         return dataManager.findJobByCorrelationId(correlationId);
     }
 
+    @Override
+    public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Date maxDueDate, Page page) {
+        return dataManager.findJobsToExecute(enabledCategories, maxDueDate, page);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return dataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
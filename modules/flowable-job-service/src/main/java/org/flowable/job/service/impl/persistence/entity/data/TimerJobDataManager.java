@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -26,6 +28,8 @@ public interface TimerJobDataManager extends JobInfoDataManager<TimerJobEntity>
 
     TimerJobEntity findJobByCorrelationId(String correlationId);
 
+    List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Date maxDueDate, Page page);
+
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId);
 
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionKeyNoTenantId(String jobHandlerType, String processDefinitionKey);
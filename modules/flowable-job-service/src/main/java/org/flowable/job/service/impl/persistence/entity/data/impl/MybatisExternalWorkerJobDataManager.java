@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -138,6 +139,16 @@ public class MybatisExternalWorkerJobDataManager extends AbstractDataManager<Ext
         getDbSqlSession().update("resetExpiredExternalWorkerJob", params);
     }
 
+    @Override
+    public void bulkResetExpiredJobs(Collection<String> jobIds) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("now", jobServiceConfiguration.getClock().getCurrentTime());
+        for (List<String> jobIdsPartition : createSafeInValuesList(jobIds)) {
+            params.put("jobIds", jobIdsPartition);
+            getDbSqlSession().update("bulkResetExpiredExternalWorkerJobs", params);
+        }
+    }
+
     @Override
     public void deleteJobsByExecutionId(String executionId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
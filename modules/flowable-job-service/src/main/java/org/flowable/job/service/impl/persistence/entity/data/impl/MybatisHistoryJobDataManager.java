@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -127,6 +128,16 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         getDbSqlSession().update("resetExpiredHistoryJob", params);
     }
 
+    @Override
+    public void bulkResetExpiredJobs(Collection<String> jobIds) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("now", jobServiceConfiguration.getClock().getCurrentTime());
+        for (List<String> jobIdsPartition : createSafeInValuesList(jobIds)) {
+            params.put("jobIds", jobIdsPartition);
+            getDbSqlSession().update("bulkResetExpiredHistoryJobs", params);
+        }
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return jobServiceConfiguration.getIdGenerator();
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -66,6 +67,9 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         if (enabledCategories != null && enabledCategories.size() > 0) {
             params.put("enabledCategories", enabledCategories);
         }
+        if (jobServiceConfiguration.isSkipLockedAcquisitionEnabled()) {
+            params.put("skipLocked", true);
+        }
         return getDbSqlSession().selectList("selectJobsToExecute", params, page);
     }
 
@@ -148,6 +152,16 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         params.put("now", jobServiceConfiguration.getClock().getCurrentTime());
         getDbSqlSession().update("resetExpiredJob", params);
     }
+
+    @Override
+    public void bulkResetExpiredJobs(Collection<String> jobIds) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("now", jobServiceConfiguration.getClock().getCurrentTime());
+        for (List<String> jobIdsPartition : createSafeInValuesList(jobIds)) {
+            params.put("jobIds", jobIdsPartition);
+            getDbSqlSession().update("bulkResetExpiredJobs", params);
+        }
+    }
     
     @Override
     public void deleteJobsByExecutionId(String executionId) {
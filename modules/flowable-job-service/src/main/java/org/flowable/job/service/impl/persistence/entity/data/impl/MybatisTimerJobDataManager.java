@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -101,18 +102,35 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     }
 
     @Override
-    @SuppressWarnings("unchecked")
+    public void bulkResetExpiredJobs(Collection<String> jobIds) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("now", jobServiceConfiguration.getClock().getCurrentTime());
+        for (List<String> jobIdsPartition : createSafeInValuesList(jobIds)) {
+            params.put("jobIds", jobIdsPartition);
+            getDbSqlSession().update("bulkResetExpiredTimerJobs", params);
+        }
+    }
+
+    @Override
     public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Page page) {
+        return findJobsToExecute(enabledCategories, jobServiceConfiguration.getClock().getCurrentTime(), page);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Date maxDueDate, Page page) {
         Map<String, Object> params = new HashMap<>(2);
         String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
         params.put("jobExecutionScope", jobExecutionScope);
         
-        Date now = jobServiceConfiguration.getClock().getCurrentTime();
-        params.put("now", now);
+        params.put("now", maxDueDate);
         
         if (enabledCategories != null && enabledCategories.size() > 0) {
             params.put("enabledCategories", enabledCategories);
         }
+        if (jobServiceConfiguration.isSkipLockedAcquisitionEnabled()) {
+            params.put("skipLocked", true);
+        }
         return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
     }
 
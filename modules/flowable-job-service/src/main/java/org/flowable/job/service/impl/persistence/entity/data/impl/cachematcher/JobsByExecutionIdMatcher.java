@@ -13,16 +13,27 @@
 package org.flowable.job.service.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
 /**
  * @author Joram Barrez
  */
-public class JobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<JobEntity> {
+public class JobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<JobEntity> implements IndexedCachedEntityMatcher<JobEntity> {
 
     @Override
     public boolean isRetained(JobEntity jobEntity, Object parameter) {
         return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals(parameter);
     }
 
+    @Override
+    public String getIndexName() {
+        return "executionId";
+    }
+
+    @Override
+    public Object getIndexKey(JobEntity entity) {
+        return entity.getExecutionId();
+    }
+
 }
\ No newline at end of file
@@ -174,6 +174,10 @@ create index ACT_IDX_TIMER_JOB_EXCEPTION_STACK_ID on ACT_RU_TIMER_JOB(EXCEPTION_
 create index ACT_IDX_TIMER_JOB_CUSTOM_VALUES_ID on ACT_RU_TIMER_JOB(CUSTOM_VALUES_ID_);
 create index ACT_IDX_TIMER_JOB_CORRELATION_ID on ACT_RU_TIMER_JOB(CORRELATION_ID_);
 create index ACT_IDX_TIMER_JOB_DUEDATE on ACT_RU_TIMER_JOB(DUEDATE_);
+create index ACT_IDX_JOB_ACQUIRE on ACT_RU_JOB(SCOPE_TYPE_, ID_) where LOCK_EXP_TIME_ is null;
+create index ACT_IDX_JOB_LOCK_EXP on ACT_RU_JOB(LOCK_EXP_TIME_) where LOCK_EXP_TIME_ is not null;
+create index ACT_IDX_TJOB_ACQUIRE on ACT_RU_TIMER_JOB(SCOPE_TYPE_, DUEDATE_) where LOCK_OWNER_ is null;
+create index ACT_IDX_TJOB_LOCK_EXP on ACT_RU_TIMER_JOB(LOCK_EXP_TIME_) where LOCK_EXP_TIME_ is not null;
 
 create index ACT_IDX_SUSPENDED_JOB_EXCEPTION_STACK_ID on ACT_RU_SUSPENDED_JOB(EXCEPTION_STACK_ID_);
 create index ACT_IDX_SUSPENDED_JOB_CUSTOM_VALUES_ID on ACT_RU_SUSPENDED_JOB(CUSTOM_VALUES_ID_);
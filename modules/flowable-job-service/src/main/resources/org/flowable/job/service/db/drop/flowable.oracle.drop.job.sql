@@ -17,11 +17,14 @@ drop index ACT_IDX_EJOB_SCOPE_DEF;
 drop index ACT_IDX_JOB_EXCEPTION;
 drop index ACT_IDX_JOB_CUSTOM_VAL_ID;
 drop index ACT_IDX_JOB_CORRELATION_ID;
+drop index ACT_IDX_JOB_ACQUIRE;
 
 drop index ACT_IDX_TJOB_EXCEPTION;
 drop index ACT_IDX_TJOB_CUSTOM_VAL_ID;
 drop index ACT_IDX_TJOB_CORRELATION_ID;
 drop index ACT_IDX_TJOB_DUEDATE; 
+drop index ACT_IDX_TJOB_ACQUIRE;
+drop index ACT_IDX_TJOB_LOCK_EXP;
 
 drop index ACT_IDX_SJOB_EXCEPTION;
 drop index ACT_IDX_SJOB_CUSTOM_VAL_ID;
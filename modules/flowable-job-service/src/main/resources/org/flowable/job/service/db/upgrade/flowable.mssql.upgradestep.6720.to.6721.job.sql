@@ -0,0 +1,6 @@
+create index ACT_IDX_JOB_ACQUIRE on ACT_RU_JOB(SCOPE_TYPE_, ID_) where LOCK_EXP_TIME_ is null;
+create index ACT_IDX_JOB_LOCK_EXP on ACT_RU_JOB(LOCK_EXP_TIME_) where LOCK_EXP_TIME_ is not null;
+create index ACT_IDX_TJOB_ACQUIRE on ACT_RU_TIMER_JOB(SCOPE_TYPE_, DUEDATE_) where LOCK_OWNER_ is null;
+create index ACT_IDX_TJOB_LOCK_EXP on ACT_RU_TIMER_JOB(LOCK_EXP_TIME_) where LOCK_EXP_TIME_ is not null;
+
+update ACT_GE_PROPERTY set VALUE_ = '6.7.2.1' where NAME_ = 'job.schema.version';
@@ -0,0 +1,5 @@
+create index ACT_IDX_JOB_ACQUIRE on ACT_RU_JOB(LOCK_EXP_TIME_, SCOPE_TYPE_, ID_);
+create index ACT_IDX_TJOB_ACQUIRE on ACT_RU_TIMER_JOB(LOCK_OWNER_, SCOPE_TYPE_, DUEDATE_);
+create index ACT_IDX_TJOB_LOCK_EXP on ACT_RU_TIMER_JOB(LOCK_EXP_TIME_);
+
+update ACT_GE_PROPERTY set VALUE_ = '6.7.2.1' where NAME_ = 'job.schema.version';
@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityImpl;
+import org.junit.jupiter.api.Test;
+
+class TimerJobTimingWheelTest {
+
+    @Test
+    void expireTimerJobsInDueOrder() throws InterruptedException {
+        List<String> expiredJobIds = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+        TimerJobTimingWheel timingWheel = new TimerJobTimingWheel(10, 8, timerJobs -> {
+            for (TimerJobEntity timerJob : timerJobs) {
+                expiredJobIds.add(timerJob.getId());
+                latch.countDown();
+            }
+        });
+        timingWheel.start("timing-wheel-test");
+
+        try {
+            // The last timer job is due after more than one revolution of the wheel
+            timingWheel.schedule(createTimerJob("late"), 200);
+            timingWheel.schedule(createTimerJob("early"), 20);
+            timingWheel.schedule(createTimerJob("immediate"), 0);
+            assertThat(timingWheel.size()).isEqualTo(3);
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(expiredJobIds).containsExactly("immediate", "early", "late");
+            assertThat(timingWheel.size()).isZero();
+
+        } finally {
+            timingWheel.stop();
+        }
+    }
+
+    @Test
+    void stopReturnsPendingTimerJobs() {
+        List<TimerJobEntity> expiredTimerJobs = new CopyOnWriteArrayList<>();
+        TimerJobTimingWheel timingWheel = new TimerJobTimingWheel(10, 5, expiredTimerJobs::addAll);
+        timingWheel.start("timing-wheel-test");
+
+        timingWheel.schedule(createTimerJob("job1"), 60_000);
+        timingWheel.schedule(createTimerJob("job2"), 120_000);
+
+        List<TimerJobEntity> pendingTimerJobs = timingWheel.stop();
+        assertThat(pendingTimerJobs).extracting(TimerJobEntity::getId).containsExactlyInAnyOrder("job1", "job2");
+        assertThat(expiredTimerJobs).isEmpty();
+        assertThat(timingWheel.isRunning()).isFalse();
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    protected TimerJobEntity createTimerJob(String id) {
+        TimerJobEntity timerJob = new TimerJobEntityImpl();
+        timerJob.setId(id);
+        return timerJob;
+    }
+}
@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityImpl;
+import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
+import org.junit.jupiter.api.Test;
+
+class InMemoryPartitionedJobMessageTransportTest {
+
+    @Test
+    void consumeMessagesOfPartitionKeyInOrderOnOneThread() throws InterruptedException {
+        int messagesPerKey = 20;
+        Map<String, List<String>> consumedJobIds = new ConcurrentHashMap<>();
+        Map<String, List<String>> consumingThreads = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(3 * messagesPerKey);
+
+        InMemoryPartitionedJobMessageTransport transport = new InMemoryPartitionedJobMessageTransport(4);
+        transport.start(message -> {
+            consumedJobIds.computeIfAbsent(message.getPartitionKey(), key -> new CopyOnWriteArrayList<>()).add(message.getJobId());
+            consumingThreads.computeIfAbsent(message.getPartitionKey(), key -> new CopyOnWriteArrayList<>()).add(Thread.currentThread().getName());
+            latch.countDown();
+        });
+
+        try {
+            for (int i = 0; i < messagesPerKey; i++) {
+                for (String processInstanceId : new String[] { "pi1", "pi2", "pi3" }) {
+                    transport.send(JobMessage.create(createJob(processInstanceId + "-" + i, processInstanceId)));
+                }
+            }
+
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            transport.shutdown();
+        }
+
+        assertThat(consumedJobIds).containsOnlyKeys("pi1", "pi2", "pi3");
+        for (Map.Entry<String, List<String>> entry : consumedJobIds.entrySet()) {
+            assertThat(entry.getValue()).hasSize(messagesPerKey);
+            for (int i = 0; i < messagesPerKey; i++) {
+                assertThat(entry.getValue().get(i)).isEqualTo(entry.getKey() + "-" + i);
+            }
+            assertThat(consumingThreads.get(entry.getKey())).containsOnly(consumingThreads.get(entry.getKey()).get(0));
+        }
+    }
+
+    @Test
+    void createMessageFromJob() {
+        JobEntityImpl job = createJob("job1", "pi1");
+        job.setExclusive(true);
+        job.setJobHandlerType("async-continuation");
+        job.setTenantId("acme");
+
+        JobMessage message = JobMessage.create(job);
+        assertThat(message.getJobId()).isEqualTo("job1");
+        assertThat(message.isHistoryJob()).isFalse();
+        assertThat(message.isExclusive()).isTrue();
+        assertThat(message.getJobHandlerType()).isEqualTo("async-continuation");
+        assertThat(message.getTenantId()).isEqualTo("acme");
+        assertThat(message.getPartitionKey()).isEqualTo("pi1");
+
+        JobEntityImpl caseJob = new JobEntityImpl();
+        caseJob.setId("job2");
+        caseJob.setScopeId("case1");
+        assertThat(JobMessage.create(caseJob).getPartitionKey()).isEqualTo("case1");
+
+        HistoryJobEntityImpl historyJob = new HistoryJobEntityImpl();
+        historyJob.setId("job3");
+        JobMessage historyMessage = JobMessage.create(historyJob);
+        assertThat(historyMessage.isHistoryJob()).isTrue();
+        assertThat(historyMessage.getPartitionKey()).isEqualTo("job3");
+    }
+
+    protected JobEntityImpl createJob(String id, String processInstanceId) {
+        JobEntityImpl job = new JobEntityImpl();
+        job.setId(id);
+        job.setProcessInstanceId(processInstanceId);
+        return job;
+    }
+}
@@ -0,0 +1,98 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.sink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+class FileHistorySinkTest {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    File directory;
+
+    @Test
+    void writeCompressedBatchesToSameFile() throws IOException {
+        FileHistorySink historySink = new FileHistorySink(directory, objectMapper);
+
+        historySink.write(Arrays.asList(createEvent("process-instance-start", "1"), createEvent("activity-start", "2")));
+        historySink.write(Arrays.asList(createEvent("activity-end", "3")));
+
+        File[] files = directory.listFiles();
+        assertThat(files).hasSize(1);
+        assertThat(files[0].getName()).startsWith("flowable-history-").endsWith(".ndjson.gz");
+
+        try (InputStream inputStream = new GZIPInputStream(new FileInputStream(files[0]))) {
+            assertThat(readEventTypes(inputStream)).containsExactly("process-instance-start", "activity-start", "activity-end");
+        }
+    }
+
+    @Test
+    void rotateFileWhenMaxSizeIsReached() throws IOException {
+        FileHistorySink historySink = new FileHistorySink(directory, objectMapper);
+        historySink.setCompressionEnabled(false);
+        historySink.setMaxFileSize(1);
+
+        historySink.write(Arrays.asList(createEvent("activity-start", "1")));
+        File firstFile = historySink.getCurrentFile();
+        historySink.write(Arrays.asList(createEvent("activity-end", "1")));
+
+        assertThat(historySink.getCurrentFile()).isNotEqualTo(firstFile);
+        assertThat(directory.listFiles()).hasSize(2);
+
+        try (InputStream inputStream = new FileInputStream(firstFile)) {
+            assertThat(readEventTypes(inputStream)).containsExactly("activity-start");
+        }
+        try (InputStream inputStream = new FileInputStream(historySink.getCurrentFile())) {
+            assertThat(readEventTypes(inputStream)).containsExactly("activity-end");
+        }
+    }
+
+    protected ObjectNode createEvent(String type, String id) {
+        ObjectNode event = objectMapper.createObjectNode();
+        event.put("type", type);
+        event.putObject("data").put("id", id);
+        return event;
+    }
+
+    protected List<String> readEventTypes(InputStream inputStream) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        return reader.lines()
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line).path("type").asText();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .collect(Collectors.toList());
+    }
+}
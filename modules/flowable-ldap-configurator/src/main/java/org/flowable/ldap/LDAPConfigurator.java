@@ -58,6 +58,10 @@ public class LDAPConfigurator extends IdmEngineConfigurator {
         }
         
         super.configure(engineConfiguration);
+
+        if (ldapGroupCache != null) {
+            ldapGroupCache.setGroupMembershipCache(idmEngineConfiguration.getGroupMembershipCache());
+        }
         
         getIdmEngineConfiguration(engineConfiguration)
                 .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache, idmEngineConfiguration));
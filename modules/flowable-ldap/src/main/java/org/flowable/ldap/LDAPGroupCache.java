@@ -20,6 +20,7 @@ import java.util.function.Supplier;
 
 import org.flowable.common.engine.impl.runtime.ClockReader;
 import org.flowable.idm.api.Group;
+import org.flowable.idm.api.GroupMembershipCache;
 
 /**
  * Simple cache for groups a user belongs to, which avoid hitting the LDAP system too much. Groups are fetched internally by the engine for example when doing queries, eg when fetching tasks for a
@@ -29,6 +30,9 @@ import org.flowable.idm.api.Group;
  * 
  * Experimental: can have a listener for cache events, and instance of {@link LDAPGroupCacheListener}.
  * 
+ * When a {@link GroupMembershipCache} is set, the entries of that cache are invalidated together with the entries of this cache,
+ * so that the engine does not keep on using group memberships that are no longer valid according to this cache.
+ * 
  * @author Joram Barrez
  */
 public class LDAPGroupCache {
@@ -39,6 +43,8 @@ public class LDAPGroupCache {
 
     protected LDAPGroupCacheListener ldapCacheListener;
 
+    protected GroupMembershipCache groupMembershipCache;
+
     public LDAPGroupCache(final int cacheSize, final long expirationTime, final ClockReader clockReader) {
         this(cacheSize, expirationTime, () -> clockReader);
     }
@@ -86,6 +92,10 @@ public class LDAPGroupCache {
 
                 this.groupCache.remove(userId);
 
+                if (groupMembershipCache != null) {
+                    groupMembershipCache.invalidate(userId);
+                }
+
                 if (ldapCacheListener != null) {
                     ldapCacheListener.cacheExpired(userId);
                     ldapCacheListener.cacheEviction(userId);
@@ -103,6 +113,10 @@ public class LDAPGroupCache {
 
     public void clear() {
         groupCache.clear();
+
+        if (groupMembershipCache != null) {
+            groupMembershipCache.invalidateAll();
+        }
     }
 
     public Map<String, LDAPGroupCacheEntry> getGroupCache() {
@@ -129,6 +143,14 @@ public class LDAPGroupCache {
         this.ldapCacheListener = ldapCacheListener;
     }
 
+    public GroupMembershipCache getGroupMembershipCache() {
+        return groupMembershipCache;
+    }
+
+    public void setGroupMembershipCache(GroupMembershipCache groupMembershipCache) {
+        this.groupMembershipCache = groupMembershipCache;
+    }
+
     // Helper classes ////////////////////////////////////
 
     static class LDAPGroupCacheEntry {
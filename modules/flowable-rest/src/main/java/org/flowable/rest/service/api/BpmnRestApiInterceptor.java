@@ -28,11 +28,13 @@ import org.flowable.engine.repository.Model;
 import org.flowable.engine.repository.ModelQuery;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.repository.ProcessDefinitionQuery;
+import org.flowable.engine.runtime.BulkProcessInstanceBuilder;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ExecutionQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
+import org.flowable.engine.task.BulkTaskActionBuilder;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionQuery;
 import org.flowable.idm.api.Group;
@@ -57,6 +59,7 @@ import org.flowable.rest.service.api.identity.GroupRequest;
 import org.flowable.rest.service.api.identity.UserRequest;
 import org.flowable.rest.service.api.repository.ModelRequest;
 import org.flowable.rest.service.api.runtime.VariableInstanceQueryRequest;
+import org.flowable.rest.service.api.runtime.process.BulkProcessInstanceCreateRequest;
 import org.flowable.rest.service.api.runtime.process.ExecutionActionRequest;
 import org.flowable.rest.service.api.runtime.process.ExecutionChangeActivityStateRequest;
 import org.flowable.rest.service.api.runtime.process.ExecutionQueryRequest;
@@ -65,6 +68,7 @@ import org.flowable.rest.service.api.runtime.process.ProcessInstanceCreateReques
 import org.flowable.rest.service.api.runtime.process.ProcessInstanceQueryRequest;
 import org.flowable.rest.service.api.runtime.process.ProcessInstanceUpdateRequest;
 import org.flowable.rest.service.api.runtime.process.SignalEventReceivedRequest;
+import org.flowable.rest.service.api.runtime.task.BulkTaskActionRequest;
 import org.flowable.rest.service.api.runtime.task.TaskActionRequest;
 import org.flowable.rest.service.api.runtime.task.TaskQueryRequest;
 import org.flowable.rest.service.api.runtime.task.TaskRequest;
@@ -93,6 +97,10 @@ public interface BpmnRestApiInterceptor {
     void deleteTask(Task task);
     
     void executeTaskAction(Task task, TaskActionRequest actionRequest);
+
+    default void executeBulkTaskAction(BulkTaskActionBuilder bulkTaskActionBuilder, BulkTaskActionRequest actionRequest) {
+        // Nothing to check by default
+    }
     
     void accessExecutionInfoById(Execution execution);
 
@@ -106,6 +114,10 @@ public interface BpmnRestApiInterceptor {
     
     void createProcessInstance(ProcessInstanceBuilder processInstanceBuilder, ProcessInstanceCreateRequest request);
 
+    default void createProcessInstances(BulkProcessInstanceBuilder bulkProcessInstanceBuilder, BulkProcessInstanceCreateRequest request) {
+        // Nothing to check by default
+    }
+
     void updateProcessInstance(ProcessInstance processInstance, ProcessInstanceUpdateRequest updateRequest);
 
     void deleteProcessInstance(ProcessInstance processInstance);
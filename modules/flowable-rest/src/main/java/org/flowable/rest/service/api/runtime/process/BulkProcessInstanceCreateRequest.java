@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.runtime.process;
+
+import java.util.List;
+
+import org.flowable.rest.service.api.engine.variable.RestVariable;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+@ApiModel(description = "Only one of processDefinitionId or processDefinitionKey can be used in the request body")
+public class BulkProcessInstanceCreateRequest {
+
+    protected String processDefinitionId;
+    protected String processDefinitionKey;
+    protected String tenantId;
+    protected List<RestVariable> variables;
+    protected List<ProcessInstanceEntry> processInstances;
+    protected Integer chunkSize;
+
+    @ApiModelProperty(example = "oneTaskProcess:1:158")
+    public String getProcessDefinitionId() {
+        return processDefinitionId;
+    }
+
+    public void setProcessDefinitionId(String processDefinitionId) {
+        this.processDefinitionId = processDefinitionId;
+    }
+
+    @ApiModelProperty(example = "oneTaskProcess")
+    public String getProcessDefinitionKey() {
+        return processDefinitionKey;
+    }
+
+    public void setProcessDefinitionKey(String processDefinitionKey) {
+        this.processDefinitionKey = processDefinitionKey;
+    }
+
+    @ApiModelProperty(example = "tenant1")
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    @ApiModelProperty(value = "Variables passed to every process instance. Variables of a specific process instance take precedence.")
+    @JsonTypeInfo(use = Id.CLASS, defaultImpl = RestVariable.class)
+    public List<RestVariable> getVariables() {
+        return variables;
+    }
+
+    public void setVariables(List<RestVariable> variables) {
+        this.variables = variables;
+    }
+
+    @ApiModelProperty(value = "The process instances to start.")
+    public List<ProcessInstanceEntry> getProcessInstances() {
+        return processInstances;
+    }
+
+    public void setProcessInstances(List<ProcessInstanceEntry> processInstances) {
+        this.processInstances = processInstances;
+    }
+
+    @ApiModelProperty(value = "The maximum number of process instances started in one transaction.", example = "100")
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(Integer chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public static class ProcessInstanceEntry {
+
+        protected String businessKey;
+        protected List<RestVariable> variables;
+
+        @ApiModelProperty(example = "myBusinessKey")
+        public String getBusinessKey() {
+            return businessKey;
+        }
+
+        public void setBusinessKey(String businessKey) {
+            this.businessKey = businessKey;
+        }
+
+        @JsonTypeInfo(use = Id.CLASS, defaultImpl = RestVariable.class)
+        public List<RestVariable> getVariables() {
+            return variables;
+        }
+
+        public void setVariables(List<RestVariable> variables) {
+            this.variables = variables;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.flowable.common.rest.api.RequestUtil;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.RepositoryService;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.BulkProcessInstanceBuilder;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.rest.service.api.engine.variable.RestVariable;
@@ -355,4 +356,82 @@ public class ProcessInstanceCollectionResource extends BaseProcessInstanceResour
             throw new FlowableIllegalArgumentException(e.getMessage(), e);
         }
     }
+
+    @ApiOperation(value = "Start multiple process instances", tags = { "Process Instances" },
+            notes = "Starts a process instance for every entry in *processInstances*, all of the same process definition. "
+            + "Only one of *processDefinitionId* or *processDefinitionKey* can be used in the request body. \n\n"
+            + "The process instances are started in chunks of *chunkSize* process instances, each chunk in its own transaction. "
+            + "When starting a chunk fails, the process instances of the previous chunks stay started.\n\n")
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Indicates the process instances were created."),
+            @ApiResponse(code = 400, message = "Indicates either the process-definition was not found (based on id or key), no process instances were given or an invalid variable has been passed. Status description contains additional information about the error.")
+    })
+    @PostMapping(value = "/runtime/process-instances/bulk", produces = "application/json")
+    public List<ProcessInstanceResponse> createProcessInstances(@RequestBody BulkProcessInstanceCreateRequest request, HttpServletResponse response) {
+        if (request.getProcessDefinitionId() == null && request.getProcessDefinitionKey() == null) {
+            throw new FlowableIllegalArgumentException("Either processDefinitionId or processDefinitionKey is required.");
+        }
+
+        if (request.getProcessDefinitionId() != null && request.getProcessDefinitionKey() != null) {
+            throw new FlowableIllegalArgumentException("Only one of processDefinitionId or processDefinitionKey should be set.");
+        }
+
+        if (request.getTenantId() != null && request.getProcessDefinitionId() != null) {
+            throw new FlowableIllegalArgumentException("TenantId can only be used with processDefinitionKey.");
+        }
+
+        if (request.getProcessInstances() == null || request.getProcessInstances().isEmpty()) {
+            throw new FlowableIllegalArgumentException("At least one process instance is required.");
+        }
+
+        BulkProcessInstanceBuilder bulkProcessInstanceBuilder = runtimeService.createBulkProcessInstanceBuilder();
+        if (request.getProcessDefinitionId() != null) {
+            bulkProcessInstanceBuilder.processDefinitionId(request.getProcessDefinitionId());
+        }
+        if (request.getProcessDefinitionKey() != null) {
+            bulkProcessInstanceBuilder.processDefinitionKey(request.getProcessDefinitionKey());
+        }
+        if (request.getTenantId() != null) {
+            bulkProcessInstanceBuilder.tenantId(request.getTenantId());
+        }
+        if (request.getChunkSize() != null) {
+            bulkProcessInstanceBuilder.chunkSize(request.getChunkSize());
+        }
+
+        Map<String, Object> sharedVariables = convertVariables(request.getVariables());
+        if (sharedVariables != null) {
+            bulkProcessInstanceBuilder.variables(sharedVariables);
+        }
+        for (BulkProcessInstanceCreateRequest.ProcessInstanceEntry processInstanceEntry : request.getProcessInstances()) {
+            bulkProcessInstanceBuilder.addProcessInstance(processInstanceEntry.getBusinessKey(), convertVariables(processInstanceEntry.getVariables()));
+        }
+
+        if (restApiInterceptor != null) {
+            restApiInterceptor.createProcessInstances(bulkProcessInstanceBuilder, request);
+        }
+
+        try {
+            List<ProcessInstance> processInstances = bulkProcessInstanceBuilder.start();
+            response.setStatus(HttpStatus.CREATED.value());
+            return restResponseFactory.createProcessInstanceResponseList(processInstances);
+
+        } catch (FlowableObjectNotFoundException e) {
+            throw new FlowableIllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    protected Map<String, Object> convertVariables(List<RestVariable> restVariables) {
+        if (restVariables == null || restVariables.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> variables = new HashMap<>();
+        for (RestVariable variable : restVariables) {
+            if (variable.getName() == null) {
+                throw new FlowableIllegalArgumentException("Variable name is required.");
+            }
+            variables.put(variable.getName(), restResponseFactory.getVariableValue(variable));
+        }
+        return variables;
+    }
 }
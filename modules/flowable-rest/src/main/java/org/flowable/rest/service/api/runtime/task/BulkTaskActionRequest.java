@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.runtime.task;
+
+import java.util.List;
+
+import org.flowable.rest.service.api.RestActionRequest;
+import org.flowable.rest.service.api.engine.variable.RestVariable;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeInfo.Id;
+
+import io.swagger.annotations.ApiModelProperty;
+
+public class BulkTaskActionRequest extends RestActionRequest {
+
+    public static final String ACTION_COMPLETE = "complete";
+    public static final String ACTION_CLAIM = "claim";
+
+    protected List<String> taskIds;
+    protected String assignee;
+    protected List<RestVariable> variables;
+    protected Integer batchSize;
+    protected String batchName;
+
+    @ApiModelProperty(value = "Ids of the tasks to perform the action on", required = true)
+    public List<String> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(List<String> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    @ApiModelProperty(value = "If action is claim, the user the tasks are claimed for", example = "userWhoClaims")
+    public String getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(String assignee) {
+        this.assignee = assignee;
+    }
+
+    @ApiModelProperty(value = "If action is complete, the variables set on every completed task")
+    @JsonTypeInfo(use = Id.CLASS, defaultImpl = RestVariable.class)
+    public List<RestVariable> getVariables() {
+        return variables;
+    }
+
+    public void setVariables(List<RestVariable> variables) {
+        this.variables = variables;
+    }
+
+    @ApiModelProperty(value = "Number of tasks handled by a single batch part", example = "100")
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(Integer batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ApiModelProperty(value = "Optional name used as search key of the created batch")
+    public String getBatchName() {
+        return batchName;
+    }
+
+    public void setBatchName(String batchName) {
+        this.batchName = batchName;
+    }
+
+    @Override
+    @ApiModelProperty(value = "Action to perform: Either complete or claim", example = "complete", required = true)
+    public String getAction() {
+        return super.getAction();
+    }
+}
@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.runtime.task;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.task.BulkTaskActionBuilder;
+import org.flowable.rest.service.api.engine.variable.RestVariable;
+import org.flowable.rest.service.api.management.BatchResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import io.swagger.annotations.Authorization;
+
+@RestController
+@Api(tags = { "Tasks" }, description = "Manage Tasks", authorizations = { @Authorization(value = "basicAuth") })
+public class TaskBulkActionResource extends TaskBaseResource {
+
+    @Autowired
+    protected ManagementService managementService;
+
+    @ApiOperation(value = "Complete or claim tasks in bulk", tags = { "Tasks" }, nickname = "executeBulkTaskAction",
+            notes = "The tasks are handled asynchronously by the async executor. The returned batch can be used to follow the progress of the action.")
+    @ApiResponses(value = {
+            @ApiResponse(code = 201, message = "Indicates the batch executing the action was created and is returned"),
+            @ApiResponse(code = 400, message = "When the body contains an invalid value or when the assignee is missing when claiming.")
+    })
+    @PostMapping(value = "/runtime/tasks/bulk-actions", produces = "application/json")
+    public BatchResponse executeBulkTaskAction(@RequestBody BulkTaskActionRequest actionRequest, HttpServletResponse response) {
+        if (actionRequest == null) {
+            throw new FlowableIllegalArgumentException("A request body was expected when executing a bulk task action.");
+        }
+
+        if (actionRequest.getTaskIds() == null || actionRequest.getTaskIds().isEmpty()) {
+            throw new FlowableIllegalArgumentException("At least one task id is required.");
+        }
+
+        BulkTaskActionBuilder bulkTaskActionBuilder = taskService.createBulkTaskActionBuilder()
+                .taskIds(actionRequest.getTaskIds())
+                .batchName(actionRequest.getBatchName());
+        if (actionRequest.getBatchSize() != null) {
+            bulkTaskActionBuilder.batchSize(actionRequest.getBatchSize());
+        }
+
+        if (restApiInterceptor != null) {
+            restApiInterceptor.executeBulkTaskAction(bulkTaskActionBuilder, actionRequest);
+        }
+
+        String batchId;
+        if (BulkTaskActionRequest.ACTION_COMPLETE.equals(actionRequest.getAction())) {
+            Map<String, Object> variables = convertVariables(actionRequest);
+            if (variables != null) {
+                bulkTaskActionBuilder.variables(variables);
+            }
+            batchId = bulkTaskActionBuilder.complete();
+
+        } else if (BulkTaskActionRequest.ACTION_CLAIM.equals(actionRequest.getAction())) {
+            if (actionRequest.getAssignee() == null) {
+                throw new FlowableIllegalArgumentException("An assignee is required when claiming tasks in bulk.");
+            }
+            batchId = bulkTaskActionBuilder.claim(actionRequest.getAssignee());
+
+        } else {
+            throw new FlowableIllegalArgumentException("Invalid action: '" + actionRequest.getAction() + "'.");
+        }
+
+        Batch batch = managementService.createBatchQuery().batchId(batchId).singleResult();
+        response.setStatus(HttpStatus.CREATED.value());
+        return restResponseFactory.createBatchResponse(batch);
+    }
+
+    protected Map<String, Object> convertVariables(BulkTaskActionRequest actionRequest) {
+        if (actionRequest.getVariables() == null || actionRequest.getVariables().isEmpty()) {
+            return null;
+        }
+
+        Map<String, Object> variables = new HashMap<>();
+        for (RestVariable variable : actionRequest.getVariables()) {
+            if (variable.getName() == null) {
+                throw new FlowableIllegalArgumentException("Variable name is required.");
+            }
+            variables.put(variable.getName(), restResponseFactory.getVariableValue(variable));
+        }
+        return variables;
+    }
+}
@@ -24,7 +24,9 @@ import javax.sql.DataSource;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.util.StringUtils;
@@ -41,6 +43,7 @@ public abstract class AbstractEngineAutoConfiguration {
 
     protected final FlowableProperties flowableProperties;
     protected ResourcePatternResolver resourcePatternResolver;
+    protected ObjectProvider<DataSource> readOnlyDataSourceProvider;
 
     public AbstractEngineAutoConfiguration(FlowableProperties flowableProperties) {
         this.flowableProperties = flowableProperties;
@@ -51,10 +54,25 @@ public abstract class AbstractEngineAutoConfiguration {
         this.resourcePatternResolver = resourcePatternResolver;
     }
 
+    /**
+     * An optional {@code flowableReadOnlyDataSource} bean (e.g. pointing to a read replica) used by the engines for their queries.
+     * The main data source then needs to be marked as primary.
+     */
+    @Autowired
+    public void setReadOnlyDataSourceProvider(@Qualifier("flowableReadOnlyDataSource") ObjectProvider<DataSource> readOnlyDataSourceProvider) {
+        this.readOnlyDataSourceProvider = readOnlyDataSourceProvider;
+    }
+
     protected void configureEngine(AbstractEngineConfiguration engineConfiguration, DataSource dataSource) {
 
         engineConfiguration.setDataSource(dataSource);
 
+        DataSource readOnlyDataSource = readOnlyDataSourceProvider != null ? readOnlyDataSourceProvider.getIfAvailable() : null;
+        if (readOnlyDataSource != null && readOnlyDataSource != dataSource) {
+            engineConfiguration.setReadOnlyDataSource(readOnlyDataSource);
+            engineConfiguration.setReadOnlyDataSourceReadYourWrites(flowableProperties.isReadOnlyDataSourceReadYourWrites());
+        }
+
         engineConfiguration.setDatabaseSchema(defaultText(flowableProperties.getDatabaseSchema(), engineConfiguration.getDatabaseSchema()));
         engineConfiguration.setDatabaseSchemaUpdate(defaultText(flowableProperties.getDatabaseSchemaUpdate(), engineConfiguration
             .getDatabaseSchemaUpdate()));
@@ -125,6 +125,12 @@ public class FlowableProperties {
      */
     private Duration schemaLockWaitTime = Duration.ofMinutes(5);
 
+    /**
+     * Whether queries fall back to the primary data source once the current command has written changes.
+     * Only used when a {@code flowableReadOnlyDataSource} bean is defined.
+     */
+    private boolean readOnlyDataSourceReadYourWrites = true;
+
     private boolean enableHistoryCleaning = false;
     private String historyCleaningCycle = "0 0 1 * * ?";
     @DurationUnit(ChronoUnit.DAYS)
@@ -354,6 +360,14 @@ public class FlowableProperties {
         this.schemaLockWaitTime = schemaLockWaitTime;
     }
 
+    public boolean isReadOnlyDataSourceReadYourWrites() {
+        return readOnlyDataSourceReadYourWrites;
+    }
+
+    public void setReadOnlyDataSourceReadYourWrites(boolean readOnlyDataSourceReadYourWrites) {
+        this.readOnlyDataSourceReadYourWrites = readOnlyDataSourceReadYourWrites;
+    }
+
     public boolean isEnableHistoryCleaning() {
         return enableHistoryCleaning;
     }
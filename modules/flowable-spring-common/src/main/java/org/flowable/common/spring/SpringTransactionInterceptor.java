@@ -49,7 +49,7 @@ public class SpringTransactionInterceptor extends AbstractCommandInterceptor {
 
         int transactionPropagation = getPropagation(config);
         if (transactionPropagation == TransactionTemplate.PROPAGATION_REQUIRED && TransactionSynchronizationManager.isActualTransactionActive()) {
-            return next.execute(config, command, commandExecutor);
+            return next.execute(config.existingTransactionJoined(), command, commandExecutor);
 
         } else {
             TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
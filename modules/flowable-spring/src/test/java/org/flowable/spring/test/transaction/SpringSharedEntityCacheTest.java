@@ -0,0 +1,74 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.spring.test.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.idm.api.User;
+import org.flowable.idm.engine.impl.persistence.entity.UserEntityImpl;
+import org.flowable.spring.impl.test.SpringFlowableTestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ContextConfiguration("classpath:org/flowable/spring/test/transaction/SpringSharedEntityCacheTest-context.xml")
+public class SpringSharedEntityCacheTest extends SpringFlowableTestCase {
+
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    protected void setUp() {
+        User user = identityService.newUser("kermit");
+        user.setFirstName("Kermit");
+        identityService.saveUser(user);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        identityService.deleteUser("kermit");
+        processEngineConfiguration.getSharedEntityCache().clear();
+    }
+
+    @Test
+    public void testEntityReadBeforeSpringTransactionCommitIsInvalidated() {
+        assertThat(getCachedUserFirstName()).isEqualTo("Kermit");
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = identityService.createUserQuery().userId("kermit").singleResult();
+            user.setFirstName("Gonzo");
+            identityService.saveUser(user);
+
+            // The command is closed, but the Spring transaction isn't committed yet.
+            // A reader in another transaction still sees the old state and puts it in the shared entity cache.
+            String firstName = CompletableFuture.supplyAsync(this::getCachedUserFirstName).join();
+            assertThat(firstName).isEqualTo("Kermit");
+        });
+
+        assertThat(getCachedUserFirstName()).isEqualTo("Gonzo");
+    }
+
+    protected String getCachedUserFirstName() {
+        return managementService.executeCommand(commandContext -> commandContext.getSession(DbSqlSession.class)
+                .selectById(UserEntityImpl.class, "kermit").getFirstName());
+    }
+
+}
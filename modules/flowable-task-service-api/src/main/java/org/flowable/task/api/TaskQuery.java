@@ -45,4 +45,16 @@ public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
      * Only selects tasks which are active (ie. not suspended)
      */
     TaskQuery active();
+
+    /**
+     * Include the local task variables with the given names in the task query result.
+     * The variables are fetched with a separate query for the tasks of the result page, instead of joining them into the task query.
+     */
+    TaskQuery includeTaskLocalVariables(Collection<String> variableNames);
+
+    /**
+     * Include the global process variables with the given names in the task query result.
+     * The variables are fetched with a separate query for the tasks of the result page, instead of joining them into the task query.
+     */
+    TaskQuery includeProcessVariables(Collection<String> variableNames);
 }
@@ -18,6 +18,7 @@ import java.util.Map;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
+import org.flowable.idm.api.GroupMembershipCache;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.api.TaskQueryInterceptor;
 import org.flowable.task.api.history.HistoricTaskQueryInterceptor;
@@ -48,6 +49,7 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
     protected HistoricTaskService historicTaskService = new HistoricTaskServiceImpl(this);
     
     protected IdmIdentityService idmIdentityService;
+    protected GroupMembershipCache groupMembershipCache;
 
     // DATA MANAGERS ///////////////////////////////////////////////////
 
@@ -67,6 +69,7 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
     
     protected boolean enableTaskRelationshipCounts;
     protected boolean enableLocalization;
+    protected boolean enableSeparateIncludedVariablesFetch;
     
     protected TaskQueryInterceptor taskQueryInterceptor;
     protected HistoricTaskQueryInterceptor historicTaskQueryInterceptor;
@@ -148,6 +151,14 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         this.idmIdentityService = idmIdentityService;
     }
 
+    public GroupMembershipCache getGroupMembershipCache() {
+        return groupMembershipCache;
+    }
+
+    public void setGroupMembershipCache(GroupMembershipCache groupMembershipCache) {
+        this.groupMembershipCache = groupMembershipCache;
+    }
+
     public TaskServiceConfiguration getTaskServiceConfiguration() {
         return this;
     }
@@ -247,6 +258,15 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isEnableSeparateIncludedVariablesFetch() {
+        return enableSeparateIncludedVariablesFetch;
+    }
+
+    public TaskServiceConfiguration setEnableSeparateIncludedVariablesFetch(boolean enableSeparateIncludedVariablesFetch) {
+        this.enableSeparateIncludedVariablesFetch = enableSeparateIncludedVariablesFetch;
+        return this;
+    }
+
     public TaskQueryInterceptor getTaskQueryInterceptor() {
         return taskQueryInterceptor;
     }
@@ -27,6 +27,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.idm.api.Group;
+import org.flowable.idm.api.GroupMembershipCache;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.flowable.task.api.history.HistoricTaskInstanceQuery;
@@ -1930,14 +1931,28 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     }
 
     protected Collection<String> getGroupsForCandidateUser(String candidateUser) {
-        Collection<String> groupIds = new ArrayList<>();
         IdmIdentityService idmIdentityService = taskServiceConfiguration.getIdmIdentityService();
-        if (idmIdentityService != null) {
-            List<Group> groups = idmIdentityService.createGroupQuery().groupMember(candidateUser).list();
-            for (Group group : groups) {
-                groupIds.add(group.getId());
+        if (idmIdentityService == null) {
+            return new ArrayList<>();
+        }
+
+        GroupMembershipCache groupMembershipCache = taskServiceConfiguration.getGroupMembershipCache();
+        if (groupMembershipCache != null) {
+            List<String> cachedGroupIds = groupMembershipCache.getGroupIds(candidateUser);
+            if (cachedGroupIds != null) {
+                return cachedGroupIds;
             }
         }
+
+        List<String> groupIds = new ArrayList<>();
+        List<Group> groups = idmIdentityService.createGroupQuery().groupMember(candidateUser).list();
+        for (Group group : groups) {
+            groupIds.add(group.getId());
+        }
+
+        if (groupMembershipCache != null) {
+            groupMembershipCache.put(candidateUser, groupIds);
+        }
         return groupIds;
     }
 
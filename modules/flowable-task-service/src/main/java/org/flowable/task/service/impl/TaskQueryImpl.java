@@ -15,18 +15,24 @@ package org.flowable.task.service.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.idm.api.Group;
+import org.flowable.idm.api.GroupMembershipCache;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.api.DelegationState;
 import org.flowable.task.api.Task;
@@ -34,6 +40,8 @@ import org.flowable.task.api.TaskQuery;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.flowable.task.service.impl.util.TaskVariableUtils;
+import org.flowable.variable.service.InternalVariableInstanceQuery;
+import org.flowable.variable.service.VariableService;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
 import org.flowable.variable.service.impl.QueryVariableValue;
@@ -53,6 +61,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected IdmIdentityService idmIdentityService;
 
     protected String taskId;
+    protected String taskIdGreaterThan;
     protected String name;
     protected String nameLike;
     protected String nameLikeIgnoreCase;
@@ -136,6 +145,8 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected boolean excludeSubtasks;
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
+    protected Collection<String> taskLocalVariableNames;
+    protected Collection<String> processVariableNames;
     protected boolean includeCaseVariables;
     protected boolean includeIdentityLinks;
     protected String userIdForCandidateAndAssignee;
@@ -190,6 +201,15 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    /**
+     * Only selects the tasks with an id greater than the given one. Used internally to page through tasks ordered by id
+     * while they are changed, hence not part of the {@link TaskQuery} API.
+     */
+    public TaskQueryImpl taskIdGreaterThan(String taskIdGreaterThan) {
+        this.taskIdGreaterThan = taskIdGreaterThan;
+        return this;
+    }
+
     @Override
     public TaskQueryImpl taskName(String name) {
         if (name == null) {
@@ -1682,6 +1702,26 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    @Override
+    public TaskQuery includeTaskLocalVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeTaskLocalVariables = true;
+        this.taskLocalVariableNames = variableNames;
+        return this;
+    }
+
+    @Override
+    public TaskQuery includeProcessVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            throw new FlowableIllegalArgumentException("variableNames is null or empty");
+        }
+        this.includeProcessVariables = true;
+        this.processVariableNames = variableNames;
+        return this;
+    }
+
     @Override
     public TaskQuery includeCaseVariables() {
         this.includeCaseVariables = true;
@@ -1724,15 +1764,29 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     }
 
     protected Collection<String> getGroupsForCandidateUser(String candidateUser) {
-        Collection<String> groupIds = new ArrayList<>();
-        if (idmIdentityService != null) {
-            List<Group> groups = idmIdentityService.createGroupQuery()
-                    .groupMember(candidateUser)
-                    .list();
-            for (Group group : groups) {
-                groupIds.add(group.getId());
+        if (idmIdentityService == null) {
+            return new ArrayList<>();
+        }
+
+        GroupMembershipCache groupMembershipCache = taskServiceConfiguration.getGroupMembershipCache();
+        if (groupMembershipCache != null) {
+            List<String> cachedGroupIds = groupMembershipCache.getGroupIds(candidateUser);
+            if (cachedGroupIds != null) {
+                return cachedGroupIds;
             }
         }
+
+        List<String> groupIds = new ArrayList<>();
+        List<Group> groups = idmIdentityService.createGroupQuery()
+                .groupMember(candidateUser)
+                .list();
+        for (Group group : groups) {
+            groupIds.add(group.getId());
+        }
+
+        if (groupMembershipCache != null) {
+            groupMembershipCache.put(candidateUser, groupIds);
+        }
         return groupIds;
     }
 
@@ -1874,7 +1928,18 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
                     .beforeTaskQueryExecute(this);
         }
 
-        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
+        if (isFetchIncludedVariablesSeparately()) {
+            if (includeIdentityLinks) {
+                tasks = taskServiceConfiguration.getTaskEntityManager()
+                        .findTasksWithRelatedEntitiesByQueryCriteria(this);
+            } else {
+                tasks = taskServiceConfiguration.getTaskEntityManager()
+                        .findTasksByQueryCriteria(this);
+            }
+
+            addIncludedVariables(tasks);
+
+        } else if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
             tasks = taskServiceConfiguration.getTaskEntityManager()
                     .findTasksWithRelatedEntitiesByQueryCriteria(this);
 
@@ -1928,8 +1993,91 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         }
     }
 
+    /**
+     * Adds the included variables of the given page of tasks with one query per variable type (chunked for large pages),
+     * instead of multiplying the task rows by joining the variables.
+     */
+    protected void addIncludedVariables(List<Task> tasks) {
+        if (tasks == null || tasks.isEmpty()) {
+            return;
+        }
+
+        VariableService variableService = variableServiceConfiguration.getVariableService();
+        if (includeTaskLocalVariables) {
+            Map<String, List<TaskEntity>> tasksById = new HashMap<>();
+            for (Task task : tasks) {
+                tasksById.computeIfAbsent(task.getId(), key -> new ArrayList<>()).add((TaskEntity) task);
+            }
+            for (List<String> taskIds : CollectionUtil.partition(tasksById.keySet(), AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+                InternalVariableInstanceQuery query = variableService.createInternalVariableInstanceQuery().taskIds(taskIds);
+                addQueryVariables(query, taskLocalVariableNames, tasksById, VariableInstanceEntity::getTaskId);
+            }
+        }
+
+        if (includeProcessVariables) {
+            Map<String, List<TaskEntity>> tasksByProcessInstanceId = new HashMap<>();
+            for (Task task : tasks) {
+                if (task.getProcessInstanceId() != null) {
+                    tasksByProcessInstanceId.computeIfAbsent(task.getProcessInstanceId(), key -> new ArrayList<>()).add((TaskEntity) task);
+                }
+            }
+            for (List<String> processInstanceIds : CollectionUtil.partition(tasksByProcessInstanceId.keySet(), AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+                InternalVariableInstanceQuery query = variableService.createInternalVariableInstanceQuery().executionIds(processInstanceIds).withoutTaskId();
+                addQueryVariables(query, processVariableNames, tasksByProcessInstanceId, VariableInstanceEntity::getExecutionId);
+            }
+        }
+
+        if (includeCaseVariables) {
+            Map<String, List<TaskEntity>> tasksByCaseInstanceId = new HashMap<>();
+            for (Task task : tasks) {
+                if (TaskVariableUtils.isCaseRelated(task)) {
+                    tasksByCaseInstanceId.computeIfAbsent(task.getScopeId(), key -> new ArrayList<>()).add((TaskEntity) task);
+                }
+            }
+            for (List<String> caseInstanceIds : CollectionUtil.partition(tasksByCaseInstanceId.keySet(), AbstractDataManager.MAX_ENTRIES_IN_CLAUSE)) {
+                InternalVariableInstanceQuery query = variableService.createInternalVariableInstanceQuery()
+                        .scopeIds(caseInstanceIds)
+                        .scopeType(ScopeTypes.CMMN)
+                        .withoutTaskId();
+                addQueryVariables(query, null, tasksByCaseInstanceId, VariableInstanceEntity::getScopeId);
+            }
+        }
+    }
+
+    protected void addQueryVariables(InternalVariableInstanceQuery query, Collection<String> variableNames,
+            Map<String, List<TaskEntity>> tasksByReferenceId, Function<VariableInstanceEntity, String> referenceIdProvider) {
+
+        if (variableNames != null) {
+            query.names(variableNames);
+        }
+
+        for (VariableInstanceEntity variable : query.list()) {
+            List<TaskEntity> referencingTasks = tasksByReferenceId.get(referenceIdProvider.apply(variable));
+            if (referencingTasks != null) {
+                for (TaskEntity task : referencingTasks) {
+                    task.getQueryVariables().add(variable);
+                }
+            }
+        }
+    }
+
+    public boolean isFetchIncludedVariablesSeparately() {
+        return (includeTaskLocalVariables || includeProcessVariables || includeCaseVariables)
+                && (taskLocalVariableNames != null || processVariableNames != null
+                        || (taskServiceConfiguration != null && taskServiceConfiguration.isEnableSeparateIncludedVariablesFetch()));
+    }
+
+    public boolean isJoinIncludedVariables() {
+        return (includeTaskLocalVariables || includeProcessVariables || includeCaseVariables) && !isFetchIncludedVariablesSeparately();
+    }
+
     @Override
     public void enhanceCachedValue(TaskEntity task) {
+        if (isFetchIncludedVariablesSeparately()) {
+            // Done for all tasks of the result at once in addIncludedVariables
+            return;
+        }
+
         if (includeProcessVariables && task.getProcessInstanceId() != null) {
             task.getQueryVariables()
                     .addAll(variableServiceConfiguration.getVariableService()
@@ -2056,6 +2204,10 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return taskId;
     }
 
+    public String getTaskIdGreaterThan() {
+        return taskIdGreaterThan;
+    }
+
     @Override
     public String getId() {
         return taskId;
@@ -2273,6 +2425,14 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return includeIdentityLinks;
     }
 
+    public Collection<String> getTaskLocalVariableNames() {
+        return taskLocalVariableNames;
+    }
+
+    public Collection<String> getProcessVariableNames() {
+        return processVariableNames;
+    }
+
     public boolean isBothCandidateAndAssigned() {
         return bothCandidateAndAssigned;
     }
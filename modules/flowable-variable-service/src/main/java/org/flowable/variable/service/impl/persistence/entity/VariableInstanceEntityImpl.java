@@ -88,7 +88,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     
     @Override
     public void setExecutionId(String executionId) {
+        String oldExecutionId = this.executionId;
         this.executionId = executionId;
+        indexedPropertyChanged(oldExecutionId, executionId);
     }
 
     @Override
@@ -198,7 +200,9 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTaskId(String taskId) {
+        String oldTaskId = this.taskId;
         this.taskId = taskId;
+        indexedPropertyChanged(oldTaskId, taskId);
     }
 
     @Override
@@ -877,8 +877,8 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         // Dispatch event, if needed
         if (variableServiceConfiguration.isEventDispatcherEnabled()) {
-            variableServiceConfiguration.getEventDispatcher().dispatchEvent(
-                    FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_UPDATED, variableInstance, value,
+            variableServiceConfiguration.getEventDispatcher().dispatchEvent(FlowableEngineEventType.VARIABLE_UPDATED,
+                    () -> FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_UPDATED, variableInstance, value,
                             variableInstance.getType()), variableServiceConfiguration.getEngineName());
         }
         
@@ -918,8 +918,8 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         }
 
         if (variableServiceConfiguration.isEventDispatcherEnabled()) {
-            variableServiceConfiguration.getEventDispatcher().dispatchEvent(
-                    FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_CREATED, variableInstance, value,
+            variableServiceConfiguration.getEventDispatcher().dispatchEvent(FlowableEngineEventType.VARIABLE_CREATED,
+                    () -> FlowableVariableEventBuilder.createVariableEvent(FlowableEngineEventType.VARIABLE_CREATED, variableInstance, value,
                             variableInstance.getType()), variableServiceConfiguration.getEngineName());
         }
         
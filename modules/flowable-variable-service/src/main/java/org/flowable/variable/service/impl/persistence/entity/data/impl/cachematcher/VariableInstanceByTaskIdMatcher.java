@@ -13,12 +13,13 @@
 package org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.common.engine.impl.persistence.cache.IndexedCachedEntityMatcher;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
  */
-public class VariableInstanceByTaskIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> {
+public class VariableInstanceByTaskIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> implements IndexedCachedEntityMatcher<VariableInstanceEntity> {
 
     @Override
     public boolean isRetained(VariableInstanceEntity variableInstanceEntity, Object parameter) {
@@ -26,4 +27,14 @@ public class VariableInstanceByTaskIdMatcher extends CachedEntityMatcherAdapter<
                 && variableInstanceEntity.getTaskId().equals(parameter);
     }
 
+    @Override
+    public String getIndexName() {
+        return "taskId";
+    }
+
+    @Override
+    public Object getIndexKey(VariableInstanceEntity entity) {
+        return entity.getTaskId();
+    }
+
 }
\ No newline at end of file
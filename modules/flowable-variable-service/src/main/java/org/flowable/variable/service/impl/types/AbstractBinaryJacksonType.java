@@ -0,0 +1,148 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.HasVariableServiceConfiguration;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.VariableServiceConfiguration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Base class for variable types that store their value in the byte array of the variable, encoded with a Jackson {@link ObjectMapper}.
+ * <p>
+ * The {@link com.fasterxml.jackson.core.JsonFactory} of the object mapper determines the encoding:
+ * when it is a binary factory (e.g. the Smile or CBOR factory of the Jackson dataformat modules) the values are stored in that compact
+ * binary format and decoded without any text parsing. With a regular object mapper the values are stored as UTF-8 JSON.
+ * <p>
+ * Encoded values that are larger than the compression threshold are additionally GZIP compressed.
+ * The first byte of the stored value indicates whether the remaining bytes are compressed or not,
+ * which means that changing the threshold does not affect the values that are already stored.
+ *
+ * @see BinaryJsonType
+ * @see BinaryObjectType
+ */
+public abstract class AbstractBinaryJacksonType implements VariableType {
+
+    public static final int NO_COMPRESSION = -1;
+
+    protected static final byte FORMAT_PLAIN = 0;
+    protected static final byte FORMAT_GZIP = 1;
+
+    protected final ObjectMapper objectMapper;
+    protected final int compressionThreshold;
+    protected final boolean trackObjects;
+
+    /**
+     * @param objectMapper the object mapper used to encode and decode the values
+     * @param compressionThreshold the size in bytes above which encoded values are compressed, {@link #NO_COMPRESSION} to never compress
+     * @param trackObjects whether changes to the returned values should be detected and persisted at the end of the command
+     */
+    protected AbstractBinaryJacksonType(ObjectMapper objectMapper, int compressionThreshold, boolean trackObjects) {
+        this.objectMapper = objectMapper;
+        this.compressionThreshold = compressionThreshold;
+        this.trackObjects = trackObjects;
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    protected byte[] encode(byte[] bytes) {
+        if (compressionThreshold != NO_COMPRESSION && bytes.length > compressionThreshold) {
+            try (ByteArrayOutputStream baos = new ByteArrayOutputStream(bytes.length / 2 + 1)) {
+                baos.write(FORMAT_GZIP);
+                try (GZIPOutputStream gos = new GZIPOutputStream(baos)) {
+                    gos.write(bytes);
+                }
+                return baos.toByteArray();
+            } catch (IOException e) {
+                throw new FlowableException("Error while compressing variable value", e);
+            }
+        }
+
+        byte[] encodedBytes = new byte[bytes.length + 1];
+        encodedBytes[0] = FORMAT_PLAIN;
+        System.arraycopy(bytes, 0, encodedBytes, 1, bytes.length);
+        return encodedBytes;
+    }
+
+    protected byte[] decode(byte[] encodedBytes, ValueFields valueFields) {
+        if (encodedBytes[0] == FORMAT_GZIP) {
+            try (GZIPInputStream gis = new GZIPInputStream(new ByteArrayInputStream(encodedBytes, 1, encodedBytes.length - 1))) {
+                return IoUtil.readInputStream(gis, valueFields.getName());
+            } catch (IOException e) {
+                throw new FlowableException("Error while decompressing variable '" + valueFields.getName() + "'", e);
+            }
+
+        } else if (encodedBytes[0] == FORMAT_PLAIN) {
+            return Arrays.copyOfRange(encodedBytes, 1, encodedBytes.length);
+
+        } else {
+            throw new FlowableException("Unknown format " + encodedBytes[0] + " of variable '" + valueFields.getName() + "'");
+        }
+    }
+
+    protected VariableServiceConfiguration getVariableServiceConfiguration(ValueFields valueFields) {
+        String engineType = getEngineType(valueFields.getScopeType());
+        Map<String, AbstractEngineConfiguration> engineConfigurationMap = Context.getCommandContext().getEngineConfigurations();
+        AbstractEngineConfiguration engineConfiguration = engineConfigurationMap.get(engineType);
+        if (engineConfiguration == null) {
+            for (AbstractEngineConfiguration possibleEngineConfiguration : engineConfigurationMap.values()) {
+                if (possibleEngineConfiguration instanceof HasVariableServiceConfiguration) {
+                    engineConfiguration = possibleEngineConfiguration;
+                }
+            }
+        }
+
+        if (engineConfiguration == null) {
+            return null;
+        }
+
+        return (VariableServiceConfiguration) engineConfiguration.getServiceConfigurations().get(EngineConfigurationConstants.KEY_VARIABLE_SERVICE_CONFIG);
+    }
+
+    protected String getEngineType(String scopeType) {
+        if (StringUtils.isNotEmpty(scopeType)) {
+            return scopeType;
+        } else {
+            return ScopeTypes.BPMN;
+        }
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+}
@@ -0,0 +1,125 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Variable type for {@link JsonNode} values that stores the value in the byte array of the variable, encoded with the (typically binary)
+ * format of the given {@link ObjectMapper}. Unlike the {@link JsonType} the value is never stored as text,
+ * so there is no text parsing when the variable is read.
+ * <p>
+ * This type is not registered by default. When added before the {@link JsonType} (e.g. through the custom pre variable types of the engine configuration)
+ * it is used for all new {@link JsonNode} variables, while existing json variables can still be read with the {@link JsonType}.
+ */
+public class BinaryJsonType extends AbstractBinaryJacksonType implements MutableVariableType<JsonNode, JsonNode> {
+
+    public static final String TYPE_NAME = "binaryJson";
+
+    public BinaryJsonType(ObjectMapper objectMapper, int compressionThreshold, boolean trackObjects) {
+        super(objectMapper, compressionThreshold, trackObjects);
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        if (valueFields.getCachedValue() != null) {
+            return valueFields.getCachedValue();
+        }
+
+        byte[] bytes = valueFields.getBytes();
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        JsonNode jsonValue = deserialize(bytes, valueFields);
+        valueFields.setCachedValue(jsonValue);
+        traceValue(jsonValue, valueFields);
+        return jsonValue;
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        if (value == null) {
+            valueFields.setBytes(null);
+            valueFields.setCachedValue(null);
+        } else {
+            JsonNode jsonNode = (JsonNode) value;
+            valueFields.setBytes(serialize(jsonNode, valueFields));
+            valueFields.setCachedValue(jsonNode);
+            traceValue(jsonNode, valueFields);
+        }
+    }
+
+    @Override
+    public boolean updateValueIfChanged(JsonNode originalNode, JsonNode originalCopyNode, VariableInstanceEntity variableInstanceEntity) {
+        if (!Objects.equals(originalNode, originalCopyNode)) {
+            variableInstanceEntity.setBytes(serialize(originalNode, variableInstanceEntity));
+            return true;
+        }
+        return false;
+    }
+
+    public byte[] serialize(JsonNode value, ValueFields valueFields) {
+        try {
+            return encode(objectMapper.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new FlowableException("Couldn't serialize json value in variable '" + valueFields.getName() + "'", e);
+        }
+    }
+
+    public JsonNode deserialize(byte[] bytes, ValueFields valueFields) {
+        try {
+            return objectMapper.readTree(decode(bytes, valueFields));
+        } catch (IOException e) {
+            throw new FlowableException("Couldn't deserialize json value in variable '" + valueFields.getName() + "'", e);
+        }
+    }
+
+    protected void traceValue(JsonNode value, ValueFields valueFields) {
+        if (trackObjects && valueFields instanceof VariableInstanceEntity) {
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext != null) {
+                VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration(valueFields);
+                if (variableServiceConfiguration != null) {
+                    commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
+                        new TraceableObject<>(this, value, value.deepCopy(), (VariableInstanceEntity) valueFields)
+                    ));
+
+                    variableServiceConfiguration.getInternalHistoryVariableManager().initAsyncHistoryCommandContextCloseListener();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        // Null values are left to the null type, this type is registered before it
+        return value instanceof JsonNode;
+    }
+}
@@ -0,0 +1,155 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.types;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Variable type for objects of a set of registered classes that are (de)serialized with the given {@link ObjectMapper},
+ * instead of with Java serialization as done by the {@link SerializableType}.
+ * With a binary object mapper (e.g. Smile or CBOR) the stored values are considerably smaller,
+ * and they do not depend on the Java serialization compatibility of the classes.
+ * <p>
+ * Only values of which the class is exactly one of the registered classes are stored with this type.
+ * The name of the class is stored in the second text field of the variable, so the values can be read back without any type information in the encoded bytes.
+ * <p>
+ * This type is not registered by default, it needs to be added before the {@link SerializableType} (e.g. through the custom pre variable types of the engine configuration).
+ */
+public class BinaryObjectType extends AbstractBinaryJacksonType implements MutableVariableType<Object, byte[]> {
+
+    public static final String TYPE_NAME = "binaryObject";
+
+    protected final Set<Class<?>> registeredClasses;
+
+    public BinaryObjectType(ObjectMapper objectMapper, int compressionThreshold, boolean trackObjects, Collection<Class<?>> registeredClasses) {
+        super(objectMapper, compressionThreshold, trackObjects);
+        this.registeredClasses = new HashSet<>(registeredClasses);
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public Object getValue(ValueFields valueFields) {
+        Object cachedObject = valueFields.getCachedValue();
+        if (cachedObject != null) {
+            return cachedObject;
+        }
+
+        byte[] bytes = valueFields.getBytes();
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        Object value = deserialize(bytes, valueFields);
+        valueFields.setCachedValue(value);
+        traceValue(value, bytes, valueFields);
+        return value;
+    }
+
+    @Override
+    public void setValue(Object value, ValueFields valueFields) {
+        if (value == null) {
+            valueFields.setTextValue2(null);
+            valueFields.setBytes(null);
+            valueFields.setCachedValue(null);
+        } else {
+            byte[] bytes = serialize(value, valueFields);
+            valueFields.setTextValue2(value.getClass().getName());
+            valueFields.setBytes(bytes);
+            valueFields.setCachedValue(value);
+            traceValue(value, bytes, valueFields);
+        }
+    }
+
+    @Override
+    public boolean updateValueIfChanged(Object tracedObject, byte[] originalBytes, VariableInstanceEntity variableInstanceEntity) {
+        byte[] bytes = serialize(tracedObject, variableInstanceEntity);
+        if (!Arrays.equals(originalBytes, bytes)) {
+            variableInstanceEntity.setBytes(bytes);
+            return true;
+        }
+        return false;
+    }
+
+    public byte[] serialize(Object value, ValueFields valueFields) {
+        try {
+            return encode(objectMapper.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new FlowableException("Couldn't serialize value '" + value + "' in variable '" + valueFields.getName() + "'", e);
+        }
+    }
+
+    public Object deserialize(byte[] bytes, ValueFields valueFields) {
+        String className = valueFields.getTextValue2();
+        if (className == null) {
+            throw new FlowableException("No class stored for variable '" + valueFields.getName() + "'");
+        }
+
+        try {
+            return objectMapper.readValue(decode(bytes, valueFields), getRegisteredClass(className, valueFields));
+        } catch (IOException e) {
+            throw new FlowableException("Couldn't deserialize object of class " + className + " in variable '" + valueFields.getName() + "'", e);
+        }
+    }
+
+    protected Class<?> getRegisteredClass(String className, ValueFields valueFields) {
+        // Only the registered classes are deserialized, the stored class name is never loaded as such
+        for (Class<?> registeredClass : registeredClasses) {
+            if (registeredClass.getName().equals(className)) {
+                return registeredClass;
+            }
+        }
+        throw new FlowableException("Class " + className + " of variable '" + valueFields.getName() + "' is not registered for the " + TYPE_NAME + " type");
+    }
+
+    protected void traceValue(Object value, byte[] valueBytes, ValueFields valueFields) {
+        if (trackObjects && valueFields instanceof VariableInstanceEntity) {
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext != null) {
+                VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration(valueFields);
+                if (variableServiceConfiguration != null) {
+                    commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
+                        new TraceableObject<>(this, value, valueBytes, (VariableInstanceEntity) valueFields)
+                    ));
+
+                    variableServiceConfiguration.getInternalHistoryVariableManager().initAsyncHistoryCommandContextCloseListener();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isAbleToStore(Object value) {
+        return value != null && registeredClasses.contains(value.getClass());
+    }
+
+    public Set<Class<?>> getRegisteredClasses() {
+        return registeredClasses;
+    }
+}